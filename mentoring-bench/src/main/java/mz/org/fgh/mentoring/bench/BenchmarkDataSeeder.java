@@ -0,0 +1,90 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import mz.org.fgh.mentoring.core.report.ReportDataSeeder;
+
+/**
+ * Seeds a benchmark database: the report data set of {@link ReportDataSeeder},
+ * at about two mentorships per session, plus what the metadata of a tutor is
+ * built from (partners, tutor locations and programmatic areas, form targets
+ * and the tutoreds each tutor registered).
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class BenchmarkDataSeeder {
+
+	private static final String MISAU_PARTNER = "398f0ffeb8fe11edafa10242ac120002";
+
+	private static final String CREATED_BY = "682eb67387a84d54b9adf93247aefb55";
+
+	private static final String[] METADATA = {
+
+	        "INSERT INTO PARTNERS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, NAME, DESCRIPTION) "
+	                + "SELECT NOW(), '" + CREATED_BY + "', 'ACTIVE', '" + MISAU_PARTNER + "', 'MISAU', 'MISAU' FROM DUAL "
+	                + "WHERE NOT EXISTS (SELECT 1 FROM PARTNERS WHERE UUID = '" + MISAU_PARTNER + "')",
+
+	        "INSERT INTO PARTNERS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, NAME, DESCRIPTION) "
+	                + "SELECT NOW(), '" + CREATED_BY + "', 'ACTIVE', REPLACE(UUID(), '-', ''), 'FGH', 'FGH' FROM DUAL "
+	                + "WHERE NOT EXISTS (SELECT 1 FROM PARTNERS WHERE NAME = 'FGH')",
+
+	        "UPDATE TUTORS SET PARTNER_ID = (SELECT ID FROM PARTNERS WHERE NAME = 'FGH') WHERE PARTNER_ID IS NULL",
+
+	        "UPDATE FORMS SET PARTNER_ID = (SELECT ID FROM PARTNERS WHERE UUID = '" + MISAU_PARTNER
+	                + "') WHERE PARTNER_ID IS NULL",
+
+	        "INSERT INTO QUESTION_CATEGORIES (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, CATEGORY) "
+	                + "SELECT NOW(), '" + CREATED_BY + "', 'ACTIVE', REPLACE(UUID(), '-', ''), 'GERAL' FROM DUAL "
+	                + "WHERE NOT EXISTS (SELECT 1 FROM QUESTION_CATEGORIES)",
+
+	        "UPDATE QUESTIONS SET QUESTION_CATEGORY_ID = (SELECT MIN(ID) FROM QUESTION_CATEGORIES) "
+	                + "WHERE QUESTION_CATEGORY_ID IS NULL",
+
+	        "INSERT INTO TUTOR_LOCATIONS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, TUTOR_ID, LOCATION_ID) "
+	                + "SELECT NOW(), '" + CREATED_BY + "', 'ACTIVE', REPLACE(UUID(), '-', ''), l.TUTOR_ID, l.HEALTH_FACILITY_ID "
+	                + "FROM (SELECT DISTINCT TUTOR_ID, HEALTH_FACILITY_ID FROM MENTORSHIPS) l "
+	                + "WHERE NOT EXISTS (SELECT 1 FROM TUTOR_LOCATIONS tl WHERE tl.TUTOR_ID = l.TUTOR_ID AND tl.LOCATION_ID = l.HEALTH_FACILITY_ID)",
+
+	        "INSERT IGNORE INTO TUTOR_PROGRAMMATIC_AREA (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, TUTOR_ID, PROGRAMMATIC_AREA_ID) "
+	                + "SELECT NOW(), '" + CREATED_BY + "', 'ACTIVE', REPLACE(UUID(), '-', ''), a.TUTOR_ID, a.PROGRAMMATIC_AREA_ID "
+	                + "FROM (SELECT DISTINCT m.TUTOR_ID, f.PROGRAMMATIC_AREA_ID FROM MENTORSHIPS m INNER JOIN FORMS f ON f.ID = m.FORM_ID) a",
+
+	        "INSERT IGNORE INTO FORM_TARGETS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, TARGET, CAREER_ID, FORM_ID) "
+	                + "SELECT NOW(), '" + CREATED_BY + "', 'ACTIVE', REPLACE(UUID(), '-', ''), 10, c.ID, f.ID "
+	                + "FROM FORMS f CROSS JOIN (SELECT ID FROM CARRERS ORDER BY ID LIMIT 10) c",
+
+	        // the tutoreds are listed to the tutor who registered them
+	        "UPDATE TUTOREDS td INNER JOIN (SELECT TUTORED_ID, MIN(TUTOR_ID) AS TUTOR_ID FROM MENTORSHIPS GROUP BY TUTORED_ID) m "
+	                + "ON m.TUTORED_ID = td.ID INNER JOIN TUTORS t ON t.ID = m.TUTOR_ID SET td.CREATED_BY = t.UUID "
+	                + "WHERE td.CREATED_BY = '" + CREATED_BY + "'" };
+
+	private final long seed;
+
+	public BenchmarkDataSeeder(final long seed) {
+		this.seed = seed;
+	}
+
+	public void seed(final Connection connection, final int mentorships, final LocalDate today) throws SQLException {
+
+		new ReportDataSeeder(this.seed, today).seed(connection, Math.max(mentorships / 2, 1),
+		        Math.max(mentorships / 5, 1));
+
+		// V24 points the partner foreign keys of FORMS and TUTORS at their own tables
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("SET foreign_key_checks = 0");
+
+			for (final String sql : METADATA) {
+				statement.executeUpdate(sql);
+			}
+
+			statement.execute("SET foreign_key_checks = 1");
+		}
+	}
+}
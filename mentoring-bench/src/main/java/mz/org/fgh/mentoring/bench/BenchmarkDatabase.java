@@ -0,0 +1,163 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.bench.config.ApplicationContextBench;
+import mz.org.fgh.mentoring.core.form.dao.FormDAO;
+import mz.org.fgh.mentoring.core.form.model.Form;
+import mz.org.fgh.mentoring.core.location.dao.DistrictDAO;
+import mz.org.fgh.mentoring.core.location.dao.HealthFacilityDAO;
+import mz.org.fgh.mentoring.core.location.model.District;
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+
+/**
+ * The database every benchmark runs against, one catalog per data set size
+ * (mentoring_bench_10000 and so on). A catalog is loaded by
+ * {@link SyntheticDataGenerator} the first time it is used and reused
+ * afterwards, so only the first run of a size pays for the seeding.
+ *
+ * The report parameters are picked from the data: the busiest tutor, one of
+ * its health facilities and its district, the HTS form and the last twelve
+ * months.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+	@Param({ "10000", "100000", "1000000" })
+	private int mentorships;
+
+	private AnnotationConfigApplicationContext context;
+
+	private DataSource dataSource;
+
+	private final LocalDate endDate = LocalDate.now();
+
+	private final LocalDate startDate = this.endDate.minusMonths(12);
+
+	private District district;
+
+	private HealthFacility healthFacility;
+
+	private Form form;
+
+	private Form indicatorForm;
+
+	private Tutor tutor;
+
+	private String tutoredUuid;
+
+	@Setup(Level.Trial)
+	public void setUp() throws SQLException {
+
+		System.setProperty("db.catalog", "mentoring_bench_" + this.mentorships);
+
+		this.context = new AnnotationConfigApplicationContext(ApplicationContextBench.class);
+		this.dataSource = this.context.getBean(DataSource.class);
+
+		SyntheticDataGenerator.populate(this.context, this.mentorships, this.endDate);
+
+		try (Connection connection = this.dataSource.getConnection()) {
+
+			this.tutor = this.getBean(TutorDAO.class).findById(this.longValue(connection,
+			        "SELECT TUTOR_ID FROM MENTORSHIPS GROUP BY TUTOR_ID ORDER BY COUNT(*) DESC, TUTOR_ID LIMIT 1"));
+			this.healthFacility = this.getBean(HealthFacilityDAO.class).findById(this.longValue(connection,
+			        "SELECT HEALTH_FACILITY_ID FROM MENTORSHIPS WHERE TUTOR_ID = " + this.tutor.getId() + " LIMIT 1"));
+			this.district = this.getBean(DistrictDAO.class).findById(this.longValue(connection,
+			        "SELECT DISTRICT_ID FROM HEALTH_FACILITIES WHERE ID = " + this.healthFacility.getId()));
+			this.form = this.getBean(FormDAO.class)
+			        .findById(this.longValue(connection, "SELECT ID FROM FORMS WHERE CODE = 'MT00000045'"));
+			this.indicatorForm = this.getBean(FormDAO.class).findById(this.longValue(connection,
+			        "SELECT ID FROM FORMS WHERE FORM_TYPE = 'INDICATORS' ORDER BY ID LIMIT 1"));
+			this.tutoredUuid = this.stringValue(connection,
+			        "SELECT t.UUID FROM MENTORSHIPS m INNER JOIN TUTOREDS t ON t.ID = m.TUTORED_ID WHERE m.FORM_ID = "
+			                + this.form.getId() + " LIMIT 1");
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.context.close();
+	}
+
+	public <T> T getBean(final Class<T> type) {
+		return this.context.getBean(type);
+	}
+
+	public DataSource getDataSource() {
+		return this.dataSource;
+	}
+
+	public UserContext getUserContext() {
+		return SyntheticDataGenerator.getUserContext();
+	}
+
+	public int getMentorships() {
+		return this.mentorships;
+	}
+
+	public LocalDate getStartDate() {
+		return this.startDate;
+	}
+
+	public LocalDate getEndDate() {
+		return this.endDate;
+	}
+
+	public District getDistrict() {
+		return this.district;
+	}
+
+	public HealthFacility getHealthFacility() {
+		return this.healthFacility;
+	}
+
+	public Form getForm() {
+		return this.form;
+	}
+
+	public Form getIndicatorForm() {
+		return this.indicatorForm;
+	}
+
+	public Tutor getTutor() {
+		return this.tutor;
+	}
+
+	public String getTutoredUuid() {
+		return this.tutoredUuid;
+	}
+
+	private Long longValue(final Connection connection, final String sql) throws SQLException {
+		return Long.valueOf(this.stringValue(connection, sql));
+	}
+
+	private String stringValue(final Connection connection, final String sql) throws SQLException {
+		try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.bench.config.ApplicationContextBench;
+import mz.org.fgh.mentoring.core.indicator.service.IndicatorMonthlyRollupService;
+import mz.org.fgh.mentoring.core.search.NameSearchIndexLoader;
+import mz.org.fgh.mentoring.core.session.service.SessionCounterService;
+
+/**
+ * Loads a production sized data set into a database: migrates it with Flyway,
+ * seeds it with {@link BenchmarkDataSeeder} when it has no sessions yet and
+ * builds the session counters, the indicator rollup and the name search index
+ * from the seeded rows.
+ *
+ * From the command line, with the number of mentorships as the argument:
+ *
+ * java -cp mentoring-bench/target/benchmarks.jar
+ * mz.org.fgh.mentoring.bench.SyntheticDataGenerator 1000000
+ *
+ * The catalog is mentoring_synthetic unless -Ddb.catalog says otherwise, and
+ * -Ddb.url, -Ddb.username and -Ddb.password point it at another server.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class SyntheticDataGenerator {
+
+	private static Logger logger = Logger.getLogger(SyntheticDataGenerator.class.getName());
+
+	public static final String USER_UUID = "682eb67387a84d54b9adf93247aefb55";
+
+	private static final long SEED = 20190101L;
+
+	private static final int MENTORSHIPS = 1000000;
+
+	private static final String[] TABLES = { "SESSIONS", "MENTORSHIPS", "ANSWERS", "INDICATORS", "TUTORS",
+	        "TUTOREDS", "HEALTH_FACILITIES" };
+
+	public static void main(final String[] args) throws SQLException {
+
+		final int mentorships = args.length > 0 ? Integer.parseInt(args[0]) : MENTORSHIPS;
+
+		System.setProperty("db.catalog", System.getProperty("db.catalog", "mentoring_synthetic"));
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+		        ApplicationContextBench.class)) {
+
+			final long start = System.currentTimeMillis();
+			populate(context, mentorships, LocalDate.now());
+
+			logger.info("Loaded in " + (System.currentTimeMillis() - start) / 1000 + "s");
+
+			try (Connection connection = context.getBean(DataSource.class).getConnection();
+			        Statement statement = connection.createStatement()) {
+				for (final String table : TABLES) {
+					try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+						resultSet.next();
+						logger.info(table + ": " + resultSet.getLong(1));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Migrates the database of the context and, unless it already has sessions,
+	 * seeds it with the given number of mentorships.
+	 */
+	public static void populate(final ApplicationContext context, final int mentorships, final LocalDate today)
+	        throws SQLException {
+
+		final DataSource dataSource = context.getBean(DataSource.class);
+
+		migrate(dataSource);
+
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+		        ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM SESSIONS")) {
+
+			resultSet.next();
+
+			if (resultSet.getLong(1) > 0) {
+				return;
+			}
+
+			new BenchmarkDataSeeder(SEED).seed(connection, mentorships, today);
+		}
+
+		context.getBean(SessionCounterService.class).reconcileCounters(getUserContext());
+		context.getBean(IndicatorMonthlyRollupService.class).rebuildRollup(getUserContext());
+		context.getBean(NameSearchIndexLoader.class).refresh();
+	}
+
+	public static UserContext getUserContext() {
+		final UserContext userContext = new UserContext();
+		userContext.setUuid(USER_UUID);
+		userContext.setId(1L);
+
+		return userContext;
+	}
+
+	private static void migrate(final DataSource dataSource) {
+		final Flyway flyway = new Flyway();
+
+		flyway.setBaselineOnMigrate(Boolean.TRUE);
+		flyway.setLocations("classpath:/db/migration");
+		flyway.setValidateOnMigrate(Boolean.FALSE);
+		flyway.setDataSource(dataSource);
+		flyway.setTable("schema_version");
+
+		flyway.migrate();
+	}
+}
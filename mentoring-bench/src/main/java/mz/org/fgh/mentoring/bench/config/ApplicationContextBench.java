@@ -0,0 +1,38 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench.config;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import mz.org.fgh.mentoring.core.config.DataSourceBean;
+import mz.org.fgh.mentoring.core.config.EmailBean;
+import mz.org.fgh.mentoring.core.config.EntityManagerBean;
+import mz.org.fgh.mentoring.integ.resources.util.MetadataCache;
+import mz.org.fgh.mentoring.integ.resources.util.MetadataResourceImpl;
+
+/**
+ * The core services plus the metadata resource, without the web layer, the
+ * schedulers and the Flyway bean: the schema is migrated by
+ * {@link mz.org.fgh.mentoring.bench.BenchmarkDatabase}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Configuration
+@ComponentScan(basePackages = { "mz.co.mozview.frameworks.core", "mz.org.fgh.mentoring.core" })
+@Import({ DataSourceBean.class, EntityManagerBean.class, EmailBean.class, MetadataCache.class,
+        MetadataResourceImpl.class })
+@EnableAspectJAutoProxy
+@EnableTransactionManagement
+@PropertySource("classpath:db-bench.properties")
+@EnableJpaRepositories(basePackages = "mz.org.fgh.mentoring.core", repositoryImplementationPostfix = "Helper")
+public class ApplicationContextBench {
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench.mentorship;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mz.co.mozview.frameworks.core.model.GenericEntity;
+import mz.org.fgh.mentoring.core.answer.model.AnswerHelper;
+import mz.org.fgh.mentoring.core.form.model.Form;
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.mentorship.model.Door;
+import mz.org.fgh.mentoring.core.mentorship.model.IterationType;
+import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.mentorship.model.TimeOfDay;
+import mz.org.fgh.mentoring.core.question.model.Question;
+import mz.org.fgh.mentoring.core.session.model.Session;
+import mz.org.fgh.mentoring.core.session.model.SessionStatus;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+import mz.org.fgh.mentoring.core.tutored.model.Tutored;
+import mz.org.fgh.mentoring.integ.resources.mentorship.MentorshipBeanResource;
+import mz.org.fgh.mentoring.integ.resources.mentorship.MentorshipHelper;
+import mz.org.fgh.mentoring.integ.resources.mentorship.dto.SessionDTO;
+import mz.org.fgh.mentoring.integ.resources.util.SyncWireFormat;
+
+/**
+ * Reading a tablet upload of the same shape as
+ * {@link SynchronizeMentorshipsBenchmark} as XML and in the
+ * {@link SyncWireFormat}. The size of the payload read is reported next to the
+ * time, as the bytes counter of each benchmark.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SyncPayloadBenchmark {
+
+	private static final int MENTORSHIPS_PER_SESSION = 2;
+
+	private static final int ANSWERS_PER_MENTORSHIP = 10;
+
+	@Param({ "50" })
+	private int sessions;
+
+	private JAXBContext context;
+
+	private byte[] xml;
+
+	private byte[] sync;
+
+	private long uuids;
+
+	@Setup(Level.Trial)
+	public void setUp() throws JAXBException, IOException {
+
+		this.context = JAXBContext.newInstance(MentorshipBeanResource.class);
+
+		final MentorshipBeanResource resource = new MentorshipBeanResource();
+
+		for (int i = 0; i < this.sessions; i++) {
+			resource.addSessionDTO(this.session());
+		}
+
+		final ByteArrayOutputStream xmlPayload = new ByteArrayOutputStream();
+		this.context.createMarshaller().marshal(resource, xmlPayload);
+		this.xml = xmlPayload.toByteArray();
+
+		final ByteArrayOutputStream syncPayload = new ByteArrayOutputStream();
+		SyncWireFormat.write(this.context, resource, syncPayload);
+		this.sync = syncPayload.toByteArray();
+	}
+
+	@Benchmark
+	public Object readXml(final PayloadSize payloadSize) throws JAXBException {
+		payloadSize.bytes = this.xml.length;
+		return this.context.createUnmarshaller().unmarshal(new ByteArrayInputStream(this.xml));
+	}
+
+	@Benchmark
+	public Object readSync(final PayloadSize payloadSize) throws IOException {
+		payloadSize.bytes = this.sync.length;
+		return SyncWireFormat.read(this.context, MentorshipBeanResource.class, new ByteArrayInputStream(this.sync));
+	}
+
+	private SessionDTO session() {
+
+		final LocalDate performedDate = LocalDate.now().minusDays(this.uuids % 28);
+		final LocalDateTime startDate = performedDate.atTime(8, 0);
+
+		final Session session = new Session();
+		session.setUuid(this.nextUuid());
+		session.setStartDate(startDate);
+		session.setEndDate(startDate.plusHours(2));
+		session.setPerformedDate(performedDate);
+		session.setStatus(SessionStatus.COMPLETE);
+
+		final SessionDTO sessionDTO = new SessionDTO();
+		sessionDTO.setSession(session);
+
+		for (int i = 0; i < MENTORSHIPS_PER_SESSION; i++) {
+			sessionDTO.addMentorships(this.mentorship(startDate, performedDate, i));
+		}
+
+		return sessionDTO;
+	}
+
+	private MentorshipHelper mentorship(final LocalDateTime startDate, final LocalDate performedDate,
+	        final int iteration) {
+
+		final Mentorship mentorship = new Mentorship();
+		mentorship.setUuid(this.nextUuid());
+		mentorship.setStartDate(startDate);
+		mentorship.setEndDate(startDate.plusHours(1));
+		mentorship.setPerformedDate(performedDate);
+		mentorship.setTutor(this.reference(new Tutor(), "tutor"));
+		mentorship.setTutored(this.reference(new Tutored(), "tutored" + this.uuids % 100));
+		mentorship.setForm(this.reference(new Form(), "form"));
+		mentorship.setHealthFacility(this.reference(new HealthFacility(), "health-facility"));
+		mentorship.setIterationType(IterationType.PATIENT);
+		mentorship.setIterationNumber(iteration + 1);
+		mentorship.setTimeOfDay(TimeOfDay.DAY);
+		mentorship.setDoor(Door.P1);
+
+		final MentorshipHelper mentorshipHelper = new MentorshipHelper();
+		mentorshipHelper.setMentorship(mentorship);
+
+		for (int i = 0; i < ANSWERS_PER_MENTORSHIP; i++) {
+
+			final AnswerHelper answerHelper = new AnswerHelper();
+			answerHelper.setQuestion(this.reference(new Question(), "question" + i));
+			answerHelper.setValue("SIM");
+
+			mentorshipHelper.addAnswerHelper(answerHelper);
+		}
+
+		return mentorshipHelper;
+	}
+
+	private <T extends GenericEntity> T reference(final T entity, final String name) {
+		entity.setUuid(String.format("%032x", name.hashCode() & 0xFFFFFFFFL));
+		return entity;
+	}
+
+	private String nextUuid() {
+		return String.format("b%031x", ++this.uuids);
+	}
+
+	/**
+	 * The size of the payload a benchmark reads, reported as is rather than
+	 * summed per operation.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class PayloadSize {
+
+		public long bytes;
+	}
+}
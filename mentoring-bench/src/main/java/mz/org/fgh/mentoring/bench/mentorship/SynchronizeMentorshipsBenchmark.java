@@ -0,0 +1,222 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench.mentorship;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.model.GenericEntity;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.bench.BenchmarkDatabase;
+import mz.org.fgh.mentoring.core.answer.model.TextAnswer;
+import mz.org.fgh.mentoring.core.form.model.Form;
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.mentorship.model.Door;
+import mz.org.fgh.mentoring.core.mentorship.model.IterationType;
+import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.mentorship.model.TimeOfDay;
+import mz.org.fgh.mentoring.core.mentorship.service.MentorshipService;
+import mz.org.fgh.mentoring.core.question.model.Question;
+import mz.org.fgh.mentoring.core.session.model.Session;
+import mz.org.fgh.mentoring.core.session.model.SessionStatus;
+import mz.org.fgh.mentoring.core.session.service.SessionCounterService;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+import mz.org.fgh.mentoring.core.tutored.model.Tutored;
+
+/**
+ * One tablet upload through
+ * {@link MentorshipService#synchronizeMentorships(UserContext, List)}: a batch
+ * of sessions of the busiest tutor, each with two mentorships of ten text
+ * answers, referring to metadata that already exists.
+ *
+ * Every invocation uploads new sessions; they are created by their own user and
+ * deleted at the end of the trial, so the report benchmarks keep the seeded
+ * data set.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SynchronizeMentorshipsBenchmark {
+
+	private static final String SYNC_USER_UUID = "5a6e7c1bbe9c4f0d8b2a1c3e4f5a6b7c";
+
+	private static final int MENTORSHIPS_PER_SESSION = 2;
+
+	private static final int ANSWERS_PER_MENTORSHIP = 10;
+
+	private static final String[] CLEAN_UP = {
+	        "DELETE FROM ANSWERS WHERE CREATED_BY = '" + SYNC_USER_UUID + "'",
+	        "DELETE FROM MENTORSHIP_ANSWER_FACTS WHERE CREATED_BY = '" + SYNC_USER_UUID + "'",
+	        "DELETE FROM MENTORSHIPS WHERE CREATED_BY = '" + SYNC_USER_UUID + "'",
+	        "DELETE FROM SESSIONS WHERE CREATED_BY = '" + SYNC_USER_UUID + "'" };
+
+	@Param({ "50" })
+	private int sessions;
+
+	private MentorshipService mentorshipService;
+
+	private UserContext userContext;
+
+	private String tutorUuid;
+
+	private String healthFacilityUuid;
+
+	private String formUuid;
+
+	private final List<String> tutoredUuids = new ArrayList<>();
+
+	private final List<String> questionUuids = new ArrayList<>();
+
+	private long uploads;
+
+	private List<Session> upload;
+
+	@Setup(Level.Trial)
+	public void setUp(final BenchmarkDatabase database) throws SQLException {
+
+		this.mentorshipService = database.getBean(MentorshipService.class);
+
+		this.userContext = new UserContext();
+		this.userContext.setUuid(SYNC_USER_UUID);
+		this.userContext.setId(1L);
+
+		this.tutorUuid = database.getTutor().getUuid();
+		this.healthFacilityUuid = database.getHealthFacility().getUuid();
+		this.formUuid = database.getForm().getUuid();
+
+		try (Connection connection = database.getDataSource().getConnection();
+		        Statement statement = connection.createStatement()) {
+
+			this.collect(statement, "SELECT DISTINCT t.UUID FROM MENTORSHIPS m INNER JOIN TUTOREDS t ON t.ID = m.TUTORED_ID "
+			        + "WHERE m.TUTOR_ID = " + database.getTutor().getId() + " ORDER BY t.UUID LIMIT 100", this.tutoredUuids);
+
+			this.collect(statement, "SELECT q.UUID FROM FORMS_QUESTIONS fq INNER JOIN QUESTIONS q ON q.ID = fq.QUESTION_ID "
+			        + "WHERE fq.FORM_ID = " + database.getForm().getId() + " ORDER BY fq.SEQUENCE LIMIT "
+			        + ANSWERS_PER_MENTORSHIP, this.questionUuids);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void prepareUpload() {
+
+		this.upload = new ArrayList<>();
+
+		for (int i = 0; i < this.sessions; i++) {
+			this.upload.add(this.session());
+		}
+	}
+
+	@Benchmark
+	public List<Session> synchronizeMentorships() throws BusinessException {
+		return this.mentorshipService.synchronizeMentorships(this.userContext, this.upload);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown(final BenchmarkDatabase database) throws SQLException {
+
+		try (Connection connection = database.getDataSource().getConnection();
+		        Statement statement = connection.createStatement()) {
+
+			for (final String sql : CLEAN_UP) {
+				statement.executeUpdate(sql);
+			}
+		}
+
+		database.getBean(SessionCounterService.class).reconcileCounters(database.getUserContext());
+	}
+
+	private Session session() {
+
+		final LocalDate performedDate = LocalDate.now().minusDays(this.uploads % 28);
+		final LocalDateTime startDate = performedDate.atTime(8, 0);
+
+		final Session session = new Session();
+		session.setUuid(this.nextUuid());
+		session.setStartDate(startDate);
+		session.setEndDate(startDate.plusHours(2));
+		session.setPerformedDate(performedDate);
+		session.setStatus(SessionStatus.COMPLETE);
+
+		for (int i = 0; i < MENTORSHIPS_PER_SESSION; i++) {
+			session.addMentorship(this.mentorship(startDate, performedDate, i));
+		}
+
+		return session;
+	}
+
+	private Mentorship mentorship(final LocalDateTime startDate, final LocalDate performedDate, final int iteration) {
+
+		final Mentorship mentorship = new Mentorship();
+		mentorship.setUuid(this.nextUuid());
+		mentorship.setStartDate(startDate);
+		mentorship.setEndDate(startDate.plusHours(1));
+		mentorship.setPerformedDate(performedDate);
+		mentorship.setTutor(this.reference(new Tutor(), this.tutorUuid));
+		mentorship.setTutored(this.reference(new Tutored(),
+		        this.tutoredUuids.get((int) (this.uploads % this.tutoredUuids.size()))));
+		mentorship.setForm(this.reference(new Form(), this.formUuid));
+		mentorship.setHealthFacility(this.reference(new HealthFacility(), this.healthFacilityUuid));
+		mentorship.setIterationType(IterationType.PATIENT);
+		mentorship.setIterationNumber(iteration + 1);
+		mentorship.setTimeOfDay(TimeOfDay.DAY);
+		mentorship.setDoor(Door.P1);
+
+		for (final String questionUuid : this.questionUuids) {
+
+			final TextAnswer answer = new TextAnswer();
+			answer.setUuid(this.nextUuid());
+			answer.setQuestion(this.reference(new Question(), questionUuid));
+			answer.setValue("SIM");
+
+			mentorship.addAnswer(answer);
+		}
+
+		return mentorship;
+	}
+
+	private <T extends GenericEntity> T reference(final T entity, final String uuid) {
+		entity.setUuid(uuid);
+		return entity;
+	}
+
+	private String nextUuid() {
+		return String.format("b%031x", ++this.uploads);
+	}
+
+	private void collect(final Statement statement, final String sql, final List<String> values) throws SQLException {
+		try (ResultSet resultSet = statement.executeQuery(sql)) {
+			while (resultSet.next()) {
+				values.add(resultSet.getString(1));
+			}
+		}
+	}
+}
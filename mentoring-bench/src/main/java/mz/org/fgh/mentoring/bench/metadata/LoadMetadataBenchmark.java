@@ -0,0 +1,73 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench.metadata;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.sun.jersey.api.JResponse;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.org.fgh.mentoring.bench.BenchmarkDatabase;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
+import mz.org.fgh.mentoring.integ.resources.util.Metadata;
+import mz.org.fgh.mentoring.integ.resources.util.MetadataResource;
+
+/**
+ * The metadata a tablet downloads for the busiest tutor, through
+ * {@link MetadataResource#loadMetadata(String, String)}. With cached=false the
+ * metadata version is changed before every invocation, so each call builds the
+ * metadata from the database; with cached=true only the first one does.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadMetadataBenchmark {
+
+	@Param({ "false", "true" })
+	private boolean cached;
+
+	private MetadataResource metadataResource;
+
+	private MetadataVersion metadataVersion;
+
+	private String tutorUuid;
+
+	@Setup(Level.Trial)
+	public void setUp(final BenchmarkDatabase database) {
+		this.metadataResource = database.getBean(MetadataResource.class);
+		this.metadataVersion = database.getBean(MetadataVersion.class);
+		this.tutorUuid = database.getTutor().getUuid();
+	}
+
+	@Setup(Level.Invocation)
+	public void invalidate() {
+		if (!this.cached) {
+			this.metadataVersion.changed();
+		}
+	}
+
+	@Benchmark
+	public JResponse<Metadata> loadMetadata() throws BusinessException {
+		return this.metadataResource.loadMetadata(this.tutorUuid, null);
+	}
+}
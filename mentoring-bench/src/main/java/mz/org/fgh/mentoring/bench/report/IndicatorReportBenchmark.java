@@ -0,0 +1,73 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench.report;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.org.fgh.mentoring.bench.BenchmarkDatabase;
+import mz.org.fgh.mentoring.core.indicator.dao.IndicatorDAO;
+import mz.org.fgh.mentoring.core.indicator.model.AnalysisTable;
+import mz.org.fgh.mentoring.core.indicator.model.DuplicatedIndicator;
+import mz.org.fgh.mentoring.core.indicator.model.Indicator;
+import mz.org.fgh.mentoring.core.indicator.model.SampleIndicator;
+
+/**
+ * The report queries of {@link IndicatorDAO}, each measured from the query to
+ * the mapped rows, over the last twelve months of the data set.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndicatorReportBenchmark {
+
+	private IndicatorDAO indicatorDAO;
+
+	@Setup
+	public void setUp(final BenchmarkDatabase database) {
+		this.indicatorDAO = database.getBean(IndicatorDAO.class);
+	}
+
+	@Benchmark
+	public List<SampleIndicator> findSamplesBySelectedFilter(final BenchmarkDatabase database) {
+		return this.indicatorDAO.findSamplesBySelectedFilter(database.getDistrict(), null, null,
+		        database.getStartDate(), database.getEndDate(), LifeCycleStatus.ACTIVE);
+	}
+
+	@Benchmark
+	public List<AnalysisTable> findAnalysisTableBySelectedFilter(final BenchmarkDatabase database) {
+		return this.indicatorDAO.findAnalysisTableBySelectedFilter(database.getDistrict(), database.getStartDate(),
+		        database.getEndDate());
+	}
+
+	@Benchmark
+	public List<Indicator> findByHealthFacilityFormAndReferredMonth(final BenchmarkDatabase database) {
+		return this.indicatorDAO.findByHealthFacilityFormAndReferredMonth(database.getHealthFacility(),
+		        database.getIndicatorForm(), database.getEndDate().withDayOfMonth(1).minusMonths(1),
+		        LifeCycleStatus.ACTIVE);
+	}
+
+	@Benchmark
+	public List<DuplicatedIndicator> findDuplicated() {
+		return this.indicatorDAO.findDuplicated(LifeCycleStatus.ACTIVE);
+	}
+}
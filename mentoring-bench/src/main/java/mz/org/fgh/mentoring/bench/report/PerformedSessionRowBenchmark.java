@@ -0,0 +1,132 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench.report;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mz.org.fgh.mentoring.core.session.model.HtsSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+
+/**
+ * Compares mapping and JAXB serialisation of HTS report rows into the legacy
+ * {@link PerformedSession} and into {@link HtsSessionRow}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PerformedSessionRowBenchmark {
+
+	@Param({ "1000", "50000" })
+	private int rows;
+
+	private List<Object[]> resultSet;
+
+	private List<PerformedSession> legacyRows;
+
+	private List<HtsSessionRow> htsRows;
+
+	private Marshaller marshaller;
+
+	@Setup
+	public void setUp() throws JAXBException {
+
+		this.resultSet = new ArrayList<>(this.rows);
+
+		for (int i = 0; i < this.rows; i++) {
+			this.resultSet.add(new Object[] { "Cidade de Maputo", "CS Polana Caniço " + (i % 40), "12-03-2021",
+			        "Tutor " + (i % 25), "Tutorado " + i, "UATS", "Triagem", "Manhã", BigInteger.valueOf(i % 30),
+			        BigInteger.valueOf(i % 7), BigInteger.valueOf(i % 20), BigInteger.valueOf(i % 3),
+			        BigInteger.valueOf(i % 2), "2021-03-12 10:15:00", BigInteger.valueOf(i) });
+		}
+
+		this.legacyRows = this.mapLegacy();
+		this.htsRows = this.mapRows();
+
+		this.marshaller = JAXBContext.newInstance(PerformedSession.class, HtsSessionRow.class).createMarshaller();
+		this.marshaller.setProperty(Marshaller.JAXB_FRAGMENT, Boolean.TRUE);
+	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public List<PerformedSession> mapLegacy() {
+
+		final List<PerformedSession> performedSessions = new ArrayList<PerformedSession>(0);
+
+		for (final Object[] ps : this.resultSet) {
+			performedSessions.add(new PerformedSession(ps[0].toString(), ps[1].toString(), ps[2].toString(),
+			        ps[3].toString(), ps[4].toString(), ps[5].toString(), ps[6].toString(), ps[7].toString(),
+			        Long.valueOf(ps[8].toString()), Long.valueOf(ps[9].toString()), Long.valueOf(ps[10].toString()),
+			        Long.valueOf(ps[11].toString()), Long.valueOf(ps[12].toString()), ps[13].toString(),
+			        ps[14].toString()));
+		}
+
+		return performedSessions;
+	}
+
+	@Benchmark
+	public List<HtsSessionRow> mapRows() {
+
+		final List<HtsSessionRow> rows = new ArrayList<>(this.resultSet.size());
+
+		for (final Object[] row : this.resultSet) {
+			rows.add(new HtsSessionRow(row));
+		}
+
+		return rows;
+	}
+
+	@Benchmark
+	public void marshalLegacy() throws JAXBException {
+		for (final PerformedSession performedSession : this.legacyRows) {
+			this.marshaller.marshal(performedSession, NullOutputStream.INSTANCE);
+		}
+	}
+
+	@Benchmark
+	public void marshalRows() throws JAXBException {
+		for (final HtsSessionRow row : this.htsRows) {
+			this.marshaller.marshal(row, NullOutputStream.INSTANCE);
+		}
+	}
+
+	private static final class NullOutputStream extends OutputStream {
+
+		private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+		@Override
+		public void write(final int b) throws IOException {
+		}
+
+		@Override
+		public void write(final byte[] b, final int off, final int len) throws IOException {
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.bench.report;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.org.fgh.mentoring.bench.BenchmarkDatabase;
+import mz.org.fgh.mentoring.core.session.dao.SessionDAO;
+import mz.org.fgh.mentoring.core.session.model.Cop20SessionRow;
+import mz.org.fgh.mentoring.core.session.model.HtsSessionRow;
+import mz.org.fgh.mentoring.core.session.model.MonthlySessionRow;
+import mz.org.fgh.mentoring.core.session.model.NarrativeSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
+import mz.org.fgh.mentoring.core.session.model.PmqtrSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PopSessionRow;
+import mz.org.fgh.mentoring.core.session.model.Session;
+import mz.org.fgh.mentoring.core.session.model.SubmitedSessions;
+import mz.org.fgh.mentoring.core.session.model.TutoredHtsSessionRow;
+import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
+
+/**
+ * The report queries of {@link SessionDAO}, each measured from the query to
+ * the mapped rows, over the last twelve months of the data set.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessionReportBenchmark {
+
+	private SessionDAO sessionDAO;
+
+	private SessionQueryService sessionQueryService;
+
+	@Setup
+	public void setUp(final BenchmarkDatabase database) {
+		this.sessionDAO = database.getBean(SessionDAO.class);
+		this.sessionQueryService = database.getBean(SessionQueryService.class);
+	}
+
+	@Benchmark
+	public List<PerformedSession> findBySelectedFilter(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilter(database.getDistrict(), null, null, null, null, null,
+		        database.getStartDate(), database.getEndDate(), LifeCycleStatus.ACTIVE);
+	}
+
+	@Benchmark
+	public List<PerformedSession> findBySelectedFilterList(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterList(database.getDistrict(), null, null, null, null, null,
+		        database.getStartDate(), database.getEndDate(), LifeCycleStatus.ACTIVE);
+	}
+
+	@Benchmark
+	public List<SubmitedSessions> findNumberOfSessionsPerDistrict() {
+		return this.sessionDAO.findNumberOfSessionsPerDistrict(LifeCycleStatus.ACTIVE);
+	}
+
+	@Benchmark
+	public List<SubmitedSessions> findNumberOfSessionsOfTutorPerDistrict(final BenchmarkDatabase database) {
+		return this.sessionDAO.findNumberOfSessionsPerDistrict(database.getTutor().getUuid(), LifeCycleStatus.ACTIVE);
+	}
+
+	@Benchmark
+	public List<PerformedSession> findByTutorAndForm(final BenchmarkDatabase database) {
+		return this.sessionDAO.findByTutorAndForm(database.getTutor(), database.getForm(), database.getStartDate(),
+		        database.getEndDate());
+	}
+
+	@Benchmark
+	public List<PerformedSession> findByTutor(final BenchmarkDatabase database) {
+		return this.sessionDAO.findByTutor(database.getTutor(), database.getStartDate(), database.getEndDate());
+	}
+
+	@Benchmark
+	public List<Session> findWithDuplicatedUuids() {
+		return this.sessionDAO.findWithDuplicatedUuids(LifeCycleStatus.ACTIVE);
+	}
+
+	@Benchmark
+	public List<HtsSessionRow> findBySelectedFilterHTS(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterHTS(database.getStartDate(), database.getEndDate());
+	}
+
+	@Benchmark
+	public List<TutoredHtsSessionRow> findBySelectedFilterHTSOfTutored(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterHTS(database.getStartDate(), database.getEndDate(),
+		        database.getTutoredUuid());
+	}
+
+	@Benchmark
+	public List<NarrativeSessionRow> findBySelectedFilterNarrative(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterNarrative(database.getStartDate(), database.getEndDate());
+	}
+
+	@Benchmark
+	public List<Cop20SessionRow> findBySelectedFilterNarrativeCOP20(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterNarrativeCOP20(database.getStartDate(), database.getEndDate());
+	}
+
+	@Benchmark
+	public List<MonthlySessionRow> findBySelectedFilterLast12Months() {
+		return this.sessionDAO.findBySelectedFilterLast12Months();
+	}
+
+	@Benchmark
+	public List<MonthlySessionRow> findBySelectedFilterLast12MonthsOfTutor(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterLast12Months(database.getTutor().getUuid());
+	}
+
+	@Benchmark
+	public List<PerformedSession> findBySelectedFilterIndicators(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterIndicators(database.getStartDate(), database.getEndDate());
+	}
+
+	@Benchmark
+	public List<PopSessionRow> findBySelectedFilterIndicatorsList(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterIndicatorsList(database.getStartDate(), database.getEndDate());
+	}
+
+	@Benchmark
+	public List<PmqtrSessionRow> findBySelectedFilterPMQTR(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterPMQTR(database.getStartDate(), database.getEndDate());
+	}
+
+	@Benchmark
+	public List<PerformedSession> findBySelectedFilterPMQTRList(final BenchmarkDatabase database) {
+		return this.sessionDAO.findBySelectedFilterPMQTRList(database.getStartDate(), database.getEndDate());
+	}
+
+	/**
+	 * Through the service, the rows are streamed inside its read only
+	 * transaction.
+	 */
+	@Benchmark
+	public long streamHTS(final BenchmarkDatabase database, final Blackhole blackhole) {
+		return this.sessionQueryService.exportPerformedSessions(PerformedSessionExport.HTS, database.getStartDate(),
+		        database.getEndDate(), blackhole::consume);
+	}
+}
@@ -21,9 +21,30 @@ public interface AnswerDAO extends GenericDAO<Answer, Long> {
 		public static final String fetchByMentorishipUuid = "SELECT a FROM Answer a INNER JOIN FETCH a.question q INNER JOIN a.mentorship m WHERE m.uuid = :mentorshipUuid AND a.lifeCycleStatus = :lifeCycleStatus";
 	}
 
+	class SQL {
+		public static final String insertAnswer = "INSERT INTO ANSWERS (TYPE, CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, BOOLEAN_VALUE, TEXT_VALUE, NUMERIC_VALUE, FORM_ID, MENTORSHIP_ID, INDICATOR_ID, QUESTION_ID) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+		public static final String updateValue = "UPDATE ANSWERS SET BOOLEAN_VALUE = ?, TEXT_VALUE = ?, NUMERIC_VALUE = ?, UPDATED_AT = ?, UPDATED_BY = ? WHERE ID = ?";
+	}
+
 	class QUERY_NAME {
 		public static final String fetchByMentorishipUuid = "Answer.fetchByMentorishipUuid";
 	}
 
 	List<Answer> fetchByMentorishipUuid(final String mentorshipUuid, final LifeCycleStatus lifeCycleStatus);
+
+	/**
+	 * Inserts the answers with JDBC batches, bypassing the persistence context.
+	 * The answer ids are IDENTITY generated, so Hibernate would otherwise
+	 * issue one INSERT per answer. The answers' form, mentorship or indicator
+	 * and question must already be persisted; the generated ids and the
+	 * creation audit fields are copied back into the given answers.
+	 */
+	void createInBatch(final String userUuid, final List<Answer> answers);
+
+	/**
+	 * Writes the values of already persisted answers with JDBC batches,
+	 * matching them by id. Answers loaded in the current persistence context
+	 * are not refreshed.
+	 */
+	void updateValuesInBatch(final String userUuid, final List<Answer> answers);
 }
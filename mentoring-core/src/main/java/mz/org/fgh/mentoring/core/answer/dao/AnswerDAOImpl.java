@@ -3,7 +3,17 @@
  */
 package mz.org.fgh.mentoring.core.answer.dao;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
 import java.util.List;
+import java.util.UUID;
+
+import javax.persistence.DiscriminatorValue;
 
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +21,9 @@ import mz.co.mozview.frameworks.core.dao.GenericDAOImpl;
 import mz.co.mozview.frameworks.core.dao.ParamBuilder;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
+import mz.org.fgh.mentoring.core.answer.model.BooleanAnswer;
+import mz.org.fgh.mentoring.core.answer.model.NumericAnswer;
+import mz.org.fgh.mentoring.core.answer.model.TextAnswer;
 
 /**
  * @author Stélio Moiane
@@ -19,9 +32,156 @@ import mz.org.fgh.mentoring.core.answer.model.Answer;
 @Repository(AnswerDAO.NAME)
 public class AnswerDAOImpl extends GenericDAOImpl<Answer, Long> implements AnswerDAO {
 
+	private static final int BATCH_SIZE = 50;
+
 	@Override
 	public List<Answer> fetchByMentorishipUuid(final String mentorshipUuid, final LifeCycleStatus lifeCycleStatus) {
 		return this.findByNamedQuery(AnswerDAO.QUERY_NAME.fetchByMentorishipUuid, new ParamBuilder()
 		        .add("mentorshipUuid", mentorshipUuid).add("lifeCycleStatus", lifeCycleStatus).process());
 	}
+
+	@Override
+	public void createInBatch(final String userUuid, final List<Answer> answers) {
+
+		if (answers.isEmpty()) {
+			return;
+		}
+
+		// the mentorships the answers point to must be visible to the JDBC connection
+		this.getEntityManager().flush();
+
+		final Calendar createdAt = Calendar.getInstance();
+		final Timestamp createdAtTimestamp = new Timestamp(createdAt.getTimeInMillis());
+
+		this.getEntityManager().unwrap(org.hibernate.Session.class).doWork(connection -> {
+
+			try (PreparedStatement statement = connection.prepareStatement(AnswerDAO.SQL.insertAnswer,
+			        Statement.RETURN_GENERATED_KEYS)) {
+
+				for (int from = 0; from < answers.size(); from += BATCH_SIZE) {
+
+					final List<Answer> batch = answers.subList(from, Math.min(from + BATCH_SIZE, answers.size()));
+
+					for (final Answer answer : batch) {
+
+						if (answer.getUuid() == null) {
+							answer.setUuid(UUID.randomUUID().toString().replace("-", ""));
+						}
+
+						this.bind(statement, answer, userUuid, createdAtTimestamp);
+						statement.addBatch();
+					}
+
+					statement.executeBatch();
+
+					try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+
+						for (final Answer answer : batch) {
+
+							if (!generatedKeys.next()) {
+								throw new SQLException("Missing generated key for answer " + answer.getUuid());
+							}
+
+							answer.setId(generatedKeys.getLong(1));
+							answer.setCreatedAt(createdAt);
+							answer.setCreatedBy(userUuid);
+							answer.setLifeCycleStatus(LifeCycleStatus.ACTIVE);
+						}
+					}
+				}
+			}
+		});
+	}
+
+	@Override
+	public void updateValuesInBatch(final String userUuid, final List<Answer> answers) {
+
+		if (answers.isEmpty()) {
+			return;
+		}
+
+		this.getEntityManager().flush();
+
+		final Calendar updatedAt = Calendar.getInstance();
+		final Timestamp updatedAtTimestamp = new Timestamp(updatedAt.getTimeInMillis());
+
+		this.getEntityManager().unwrap(org.hibernate.Session.class).doWork(connection -> {
+
+			try (PreparedStatement statement = connection.prepareStatement(AnswerDAO.SQL.updateValue)) {
+
+				for (int from = 0; from < answers.size(); from += BATCH_SIZE) {
+
+					for (final Answer answer : answers.subList(from, Math.min(from + BATCH_SIZE, answers.size()))) {
+
+						this.bindValue(statement, answer, 1);
+						statement.setTimestamp(4, updatedAtTimestamp);
+						statement.setString(5, userUuid);
+						statement.setLong(6, answer.getId());
+						statement.addBatch();
+
+						answer.setUpdatedAt(updatedAt);
+						answer.setUpdatedBy(userUuid);
+					}
+
+					statement.executeBatch();
+				}
+			}
+		});
+	}
+
+	private void bind(final PreparedStatement statement, final Answer answer, final String userUuid,
+	        final Timestamp createdAt) throws SQLException {
+
+		statement.setString(1, answer.getClass().getAnnotation(DiscriminatorValue.class).value());
+		statement.setTimestamp(2, createdAt);
+		statement.setString(3, userUuid);
+		statement.setString(4, LifeCycleStatus.ACTIVE.name());
+		statement.setString(5, answer.getUuid());
+
+		this.bindValue(statement, answer, 6);
+
+		statement.setLong(9, answer.getForm().getId());
+		this.bindId(statement, 10, answer.getMentorship() == null ? null : answer.getMentorship().getId());
+		this.bindId(statement, 11, answer.getIndicator() == null ? null : answer.getIndicator().getId());
+		statement.setLong(12, answer.getQuestion().getId());
+	}
+
+	/**
+	 * Binds the boolean, text and numeric values, in this order, from the given
+	 * parameter index on. Only the one matching the answer type is set.
+	 */
+	private void bindValue(final PreparedStatement statement, final Answer answer, final int index)
+	        throws SQLException {
+
+		if (answer instanceof BooleanAnswer && ((BooleanAnswer) answer).getBooleanValue() != null) {
+			statement.setBoolean(index, ((BooleanAnswer) answer).getBooleanValue());
+		}
+		else {
+			statement.setNull(index, Types.BIT);
+		}
+
+		if (answer instanceof TextAnswer) {
+			statement.setString(index + 1, answer.getValue());
+		}
+		else {
+			statement.setNull(index + 1, Types.VARCHAR);
+		}
+
+		if (answer instanceof NumericAnswer && ((NumericAnswer) answer).getNumericValue() != null) {
+			statement.setInt(index + 2, ((NumericAnswer) answer).getNumericValue());
+		}
+		else {
+			statement.setNull(index + 2, Types.INTEGER);
+		}
+	}
+
+	private void bindId(final PreparedStatement statement, final int index, final Long id) throws SQLException {
+
+		if (id == null) {
+			statement.setNull(index, Types.BIGINT);
+			return;
+		}
+
+		statement.setLong(index, id);
+	}
 }
@@ -7,6 +7,7 @@ import javax.persistence.DiscriminatorColumn;
 import javax.persistence.DiscriminatorType;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.Inheritance;
 import javax.persistence.InheritanceType;
 import javax.persistence.JoinColumn;
@@ -38,7 +39,10 @@ import mz.org.fgh.mentoring.core.question.model.Question;
 @Entity
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "TYPE", discriminatorType = DiscriminatorType.STRING, length = 15)
-@Table(name = "ANSWERS")
+@Table(name = "ANSWERS", indexes = {
+        @Index(name = "IDX_ANSWERS_MENTORSHIP_QUESTION", columnList = "MENTORSHIP_ID, QUESTION_ID"),
+        @Index(name = "IDX_ANSWERS_INDICATOR_QUESTION", columnList = "INDICATOR_ID, QUESTION_ID"),
+        @Index(name = "IDX_ANSWERS_QUESTION_INDICATOR", columnList = "QUESTION_ID, INDICATOR_ID, BOOLEAN_VALUE") })
 public abstract class Answer extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
@@ -3,6 +3,8 @@
  */
 package mz.org.fgh.mentoring.core.answer.service;
 
+import java.util.Collections;
+
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Service;
@@ -12,6 +14,7 @@ import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.answer.dao.AnswerDAO;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
+import mz.org.fgh.mentoring.core.mentorship.dao.MentorshipAnswerFactDAO;
 
 /**
  * @author Stélio Moiane
@@ -23,6 +26,9 @@ public class AnswerServiceImpl extends AbstractService implements AnswerService
 	@Inject
 	private AnswerDAO answerDAO;
 
+	@Inject
+	private MentorshipAnswerFactDAO mentorshipAnswerFactDAO;
+
 	@Override
 	public <T extends Answer> Answer createAnswer(final UserContext userContext, final Answer answer)
 	        throws BusinessException {
@@ -32,6 +38,13 @@ public class AnswerServiceImpl extends AbstractService implements AnswerService
 	@Override
 	public <T extends Answer> Answer updateAnswer(final UserContext userContext, final Answer answer)
 	        throws BusinessException {
-		return this.answerDAO.update(userContext.getUuid(), answer);
+		final Answer updated = this.answerDAO.update(userContext.getUuid(), answer);
+
+		if (updated.getMentorship() != null) {
+			this.mentorshipAnswerFactDAO.refresh(userContext.getUuid(),
+			        Collections.singletonList(updated.getMentorship().getId()));
+		}
+
+		return updated;
 	}
 }
@@ -0,0 +1,64 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cache.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Hit and miss counters of a second-level cache region since startup.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class CacheRegionStatistics {
+
+	private String region;
+
+	private long hits;
+
+	private long misses;
+
+	private long puts;
+
+	private long elements;
+
+	public CacheRegionStatistics() {
+	}
+
+	public CacheRegionStatistics(final String region, final long hits, final long misses, final long puts,
+	        final long elements) {
+		this.region = region;
+		this.hits = hits;
+		this.misses = misses;
+		this.puts = puts;
+		this.elements = elements;
+	}
+
+	public String getRegion() {
+		return this.region;
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getMisses() {
+		return this.misses;
+	}
+
+	public long getPuts() {
+		return this.puts;
+	}
+
+	/**
+	 * Entries currently held in memory, -1 when the region does not report it.
+	 */
+	public long getElements() {
+		return this.elements;
+	}
+}
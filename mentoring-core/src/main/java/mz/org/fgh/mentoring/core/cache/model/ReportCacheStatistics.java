@@ -0,0 +1,85 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cache.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Counters of the cached results of a report since startup, and the results
+ * currently kept.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class ReportCacheStatistics {
+
+	private String report;
+
+	private long hits;
+
+	private long misses;
+
+	private double hitRate;
+
+	private long invalidations;
+
+	private long entries;
+
+	private long rows;
+
+	public ReportCacheStatistics() {
+	}
+
+	public ReportCacheStatistics(final String report, final long hits, final long misses, final long invalidations,
+	        final long entries, final long rows) {
+		this.report = report;
+		this.hits = hits;
+		this.misses = misses;
+		this.hitRate = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+		this.invalidations = invalidations;
+		this.entries = entries;
+		this.rows = rows;
+	}
+
+	public String getReport() {
+		return this.report;
+	}
+
+	public long getHits() {
+		return this.hits;
+	}
+
+	public long getMisses() {
+		return this.misses;
+	}
+
+	/**
+	 * Share of the reads answered from the cache, from 0 to 1.
+	 */
+	public double getHitRate() {
+		return this.hitRate;
+	}
+
+	/**
+	 * Results dropped because the data in their date range changed.
+	 */
+	public long getInvalidations() {
+		return this.invalidations;
+	}
+
+	public long getEntries() {
+		return this.entries;
+	}
+
+	/**
+	 * Rows held by the cached results.
+	 */
+	public long getRows() {
+		return this.rows;
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cache.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Counters of the executions of a report query against the database since
+ * startup.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class ReportQueryStatistics {
+
+	private String report;
+
+	private long executions;
+
+	private long totalMillis;
+
+	private long averageMillis;
+
+	private long maxMillis;
+
+	public ReportQueryStatistics() {
+	}
+
+	public ReportQueryStatistics(final String report, final long executions, final long totalMillis,
+	        final long averageMillis, final long maxMillis) {
+		this.report = report;
+		this.executions = executions;
+		this.totalMillis = totalMillis;
+		this.averageMillis = averageMillis;
+		this.maxMillis = maxMillis;
+	}
+
+	public String getReport() {
+		return this.report;
+	}
+
+	public long getExecutions() {
+		return this.executions;
+	}
+
+	/**
+	 * Time spent running the query, summed over every execution.
+	 */
+	public long getTotalMillis() {
+		return this.totalMillis;
+	}
+
+	public long getAverageMillis() {
+		return this.averageMillis;
+	}
+
+	/**
+	 * Time of the slowest execution.
+	 */
+	public long getMaxMillis() {
+		return this.maxMillis;
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cache.service;
+
+import java.util.List;
+
+import mz.org.fgh.mentoring.core.cache.model.CacheRegionStatistics;
+import mz.org.fgh.mentoring.core.cache.model.ReportCacheStatistics;
+import mz.org.fgh.mentoring.core.cache.model.ReportQueryStatistics;
+import mz.org.fgh.mentoring.core.report.NativeQueryBuilder;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface CacheStatisticsService {
+
+	String NAME = "mz.org.fgh.mentoring.core.cache.service.CacheStatisticsService";
+
+	String QUERIES = "queries";
+
+	/**
+	 * One entry per entity region plus one for all cached queries, named
+	 * {@link #QUERIES}. The counters stay at zero unless
+	 * {@link #isStatisticsEnabled()}.
+	 */
+	List<CacheRegionStatistics> findCacheStatistics();
+
+	/**
+	 * Whether Hibernate counts the cache hits, misses and puts, as set by
+	 * {@code db.hibernate.generate_statistics}.
+	 */
+	boolean isStatisticsEnabled();
+
+	/**
+	 * One entry per report read through the {@link ReportCache}.
+	 */
+	List<ReportCacheStatistics> findReportCacheStatistics();
+
+	/**
+	 * One entry per report query run through the {@link NativeQueryBuilder},
+	 * sorted by report.
+	 */
+	List<ReportQueryStatistics> findReportQueryStatistics();
+
+	/**
+	 * Drops every cached entity, query and report, for changes made directly
+	 * in the database.
+	 */
+	void evictAll();
+}
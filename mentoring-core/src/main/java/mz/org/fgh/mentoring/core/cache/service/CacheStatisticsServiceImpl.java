@@ -0,0 +1,93 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cache.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.inject.Inject;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.SecondLevelCacheStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import mz.org.fgh.mentoring.core.cache.model.CacheRegionStatistics;
+import mz.org.fgh.mentoring.core.cache.model.ReportCacheStatistics;
+import mz.org.fgh.mentoring.core.cache.model.ReportQueryStatistics;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+import mz.org.fgh.mentoring.core.report.ReportQueryRegistry;
+import mz.org.fgh.mentoring.core.report.ReportStatistics;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Service(CacheStatisticsService.NAME)
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+
+	@PersistenceUnit
+	private EntityManagerFactory entityManagerFactory;
+
+	@Inject
+	private ReportCache reportCache;
+
+	@Inject
+	private ReportQueryRegistry reportQueryRegistry;
+
+	@Override
+	public List<CacheRegionStatistics> findCacheStatistics() {
+
+		final Statistics statistics = this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		final List<CacheRegionStatistics> regions = new ArrayList<>();
+
+		final String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+		Arrays.sort(regionNames);
+
+		for (final String regionName : regionNames) {
+
+			final SecondLevelCacheStatistics region = statistics.getSecondLevelCacheStatistics(regionName);
+
+			if (region == null) {
+				continue;
+			}
+
+			regions.add(new CacheRegionStatistics(regionName, region.getHitCount(), region.getMissCount(),
+			        region.getPutCount(), region.getElementCountInMemory()));
+		}
+
+		regions.add(new CacheRegionStatistics(CacheStatisticsService.QUERIES, statistics.getQueryCacheHitCount(),
+		        statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount(), -1));
+
+		return regions;
+	}
+
+	@Override
+	public boolean isStatisticsEnabled() {
+		return this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics().isStatisticsEnabled();
+	}
+
+	@Override
+	public List<ReportCacheStatistics> findReportCacheStatistics() {
+		return this.reportCache.getStatistics();
+	}
+
+	@Override
+	public List<ReportQueryStatistics> findReportQueryStatistics() {
+		return this.reportQueryRegistry.getStatistics().stream().map(ReportStatistics::toSnapshot)
+		        .sorted(Comparator.comparing(ReportQueryStatistics::getReport)).collect(Collectors.toList());
+	}
+
+	@Override
+	public void evictAll() {
+		this.entityManagerFactory.getCache().evictAll();
+		this.entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+		this.reportCache.clear();
+	}
+}
@@ -24,6 +24,7 @@ public interface CareerDAO extends GenericDAO<Career, Long> {
 		public static final String findByCarrerId = "SELECT c FROM Career c WHERE c.id = :careerId AND c.lifeCycleStatus = :lifeCycleStatus";
 		public static final String findAll = "SELECT c FROM Career c WHERE c.lifeCycleStatus = :lifeCycleStatus";
 		public static final String findByTypeAndPosition = "SELECT c FROM Career c WHERE c.careerType = :careerType AND c.position = :position AND c.lifeCycleStatus = :lifeCycleStatus";
+		public static final String findCachedByUuid = "SELECT c FROM Career c WHERE c.uuid = :uuid";
 
 	}
 
@@ -32,6 +33,7 @@ public interface CareerDAO extends GenericDAO<Career, Long> {
 		public static final String findByCarrerId = "Career.findByCareerId";
 		public static final String findAll = "Career.findAll";
 		public static final String findByTypeAndPosition = "Career.findByTypeAndPosition";
+		public static final String findCachedByUuid = "Career.findCachedByUuid";
 	}
 
 	List<Career> findByCarrerType(final CareerType careerType, final LifeCycleStatus lifeCycleStatus);
@@ -42,4 +44,9 @@ public interface CareerDAO extends GenericDAO<Career, Long> {
 
 	Career findByTypeAndPosition(final CareerType careerType, final String position,
 	        final LifeCycleStatus lifeCycleStatus) throws BusinessException;
+
+	/**
+	 * Same as findByUuid, served from the query cache.
+	 */
+	Career findCachedByUuid(String uuid);
 }
@@ -47,4 +47,10 @@ public class CarrerDAOImpl extends GenericDAOImpl<Career, Long> implements Caree
 		        new ParamBuilder().add("careerType", careerType).add("position", position)
 		                .add("lifeCycleStatus", lifeCycleStatus).process());
 	}
+
+	@Override
+	public Career findCachedByUuid(final String uuid) {
+		return this.findSingleByNamedQuery(CareerDAO.QUERY_NAME.findCachedByUuid,
+		        new ParamBuilder().add("uuid", uuid).process());
+	}
 }
@@ -6,6 +6,7 @@ package mz.org.fgh.mentoring.core.career.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -14,6 +15,7 @@ import javax.persistence.FetchType;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.OneToMany;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -23,6 +25,9 @@ import javax.xml.bind.annotation.XmlTransient;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.QueryHints;
 import org.hibernate.validator.constraints.NotEmpty;
 
 import mz.co.mozview.frameworks.core.model.GenericEntity;
@@ -37,8 +42,12 @@ import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 @XmlAccessorType(XmlAccessType.FIELD)
 @NamedQueries({ @NamedQuery(name = CareerDAO.QUERY_NAME.findByCarrerType, query = CareerDAO.QUERY.findByCarrerType),
         @NamedQuery(name = CareerDAO.QUERY_NAME.findAll, query = CareerDAO.QUERY.findAll),
-        @NamedQuery(name = CareerDAO.QUERY_NAME.findByTypeAndPosition, query = CareerDAO.QUERY.findByTypeAndPosition) })
+        @NamedQuery(name = CareerDAO.QUERY_NAME.findByTypeAndPosition, query = CareerDAO.QUERY.findByTypeAndPosition),
+        @NamedQuery(name = CareerDAO.QUERY_NAME.findCachedByUuid, query = CareerDAO.QUERY.findCachedByUuid,
+                hints = @QueryHint(name = QueryHints.CACHEABLE, value = "true")) })
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "CARRERS")
 public class Career extends GenericEntity {
 
@@ -6,12 +6,14 @@ package mz.org.fgh.mentoring.core.career.service;
 import java.util.List;
 
 import javax.inject.Inject;
+import javax.persistence.NoResultException;
 
 import org.springframework.scripting.bsh.BshScriptUtils.BshExecutionException;
 import org.springframework.stereotype.Service;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.co.mozview.frameworks.core.util.PropertyValues;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.career.dao.CareerDAO;
 import mz.org.fgh.mentoring.core.career.model.Career;
@@ -27,6 +29,9 @@ public class CareerQueryServiceImpl implements CareerQueryService {
 	@Inject
 	private CareerDAO careerDAO;
 
+	@Inject
+	private PropertyValues propertyValues;
+
 	@Override
 	public List<Career> findCareersByCareerType(final UserContext userContext, final CareerType careerType)
 	        throws BusinessException {
@@ -45,7 +50,12 @@ public class CareerQueryServiceImpl implements CareerQueryService {
 
 	@Override
 	public Career findCarrerByuuid(final UserContext userContext, final String uuid) throws BusinessException {
-		return this.careerDAO.findByUuid(uuid);
+		try {
+			return this.careerDAO.findCachedByUuid(uuid);
+		}
+		catch (final NoResultException e) {
+			throw new BusinessException(this.propertyValues.getPropValues("no.result.found"));
+		}
 	}
 
 	@Override
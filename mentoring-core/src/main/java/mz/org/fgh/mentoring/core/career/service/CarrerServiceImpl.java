@@ -12,6 +12,7 @@ import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.career.dao.CareerDAO;
 import mz.org.fgh.mentoring.core.career.model.Career;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
 
 /**
  * @author Stélio Moiane
@@ -23,9 +24,13 @@ public class CarrerServiceImpl extends AbstractService implements CareerService
 	@Inject
 	private CareerDAO careerDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
 	@Override
 	public Career createCareer(final UserContext userContext, final Career career) throws BusinessException {
 
+		this.metadataVersion.changed();
 		return this.careerDAO.create(userContext.getUuid(), career);
 	}
 }
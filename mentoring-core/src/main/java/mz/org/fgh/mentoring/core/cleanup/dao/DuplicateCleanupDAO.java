@@ -0,0 +1,47 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cleanup.dao;
+
+import java.util.List;
+
+import mz.org.fgh.mentoring.core.cleanup.model.BulkInactivation;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface DuplicateCleanupDAO {
+
+	String NAME = "mz.org.fgh.mentoring.core.cleanup.dao.DuplicateCleanupDAO";
+
+	class SQL {
+		public static final String countDuplicatedSessions = "SELECT COUNT(*) FROM (SELECT s.UUID FROM SESSIONS s WHERE s.LIFE_CYCLE_STATUS = 'ACTIVE' GROUP BY s.UUID HAVING COUNT(*) > 1) d";
+		public static final String findDuplicatedSessionIds = "SELECT s.ID FROM SESSIONS s WHERE s.ID > :afterId AND s.LIFE_CYCLE_STATUS = 'ACTIVE' AND EXISTS (SELECT 1 FROM SESSIONS l WHERE l.UUID = s.UUID AND l.LIFE_CYCLE_STATUS = 'ACTIVE' AND l.ID > s.ID) ORDER BY s.ID";
+		public static final String countDuplicatedIndicators = "SELECT COUNT(*) FROM (SELECT i.HEALTH_FACILITY_ID FROM INDICATORS i WHERE i.LIFE_CYCLE_STATUS = 'ACTIVE' GROUP BY i.HEALTH_FACILITY_ID, i.FORM_ID, i.REFERRED_MONTH HAVING COUNT(*) > 1) d";
+		public static final String findDuplicatedIndicatorIds = "SELECT i.ID FROM INDICATORS i WHERE i.ID > :afterId AND i.LIFE_CYCLE_STATUS = 'ACTIVE' AND EXISTS (SELECT 1 FROM INDICATORS l WHERE l.HEALTH_FACILITY_ID = i.HEALTH_FACILITY_ID AND l.FORM_ID = i.FORM_ID AND l.REFERRED_MONTH = i.REFERRED_MONTH AND l.LIFE_CYCLE_STATUS = 'ACTIVE' AND l.ID > i.ID) ORDER BY i.ID";
+	}
+
+	long countDuplicatedSessions();
+
+	/**
+	 * The next chunk of active sessions that have a newer active copy with the
+	 * same uuid, keyset paginated by id.
+	 */
+	List<Long> findDuplicatedSessionIds(long afterId, int maxResults);
+
+	long countDuplicatedIndicators();
+
+	/**
+	 * The next chunk of active indicators that have a newer active indicator
+	 * for the same health facility, form and referred month, keyset paginated
+	 * by id.
+	 */
+	List<Long> findDuplicatedIndicatorIds(long afterId, int maxResults);
+
+	/**
+	 * Runs the inactivation for the given ids and returns the affected rows,
+	 * or only counts them on a dry run.
+	 */
+	long inactivate(BulkInactivation inactivation, List<Long> ids, String userUuid, boolean dryRun);
+}
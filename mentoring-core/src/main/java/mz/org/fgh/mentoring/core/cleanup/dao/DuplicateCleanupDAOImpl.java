@@ -0,0 +1,79 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cleanup.dao;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+
+import org.hibernate.SQLQuery;
+import org.springframework.stereotype.Repository;
+
+import mz.org.fgh.mentoring.core.cleanup.model.BulkInactivation;
+
+/**
+ * Plain SQL on purpose: the cleanup never loads the entities it voids.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Repository(DuplicateCleanupDAO.NAME)
+public class DuplicateCleanupDAOImpl implements DuplicateCleanupDAO {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public long countDuplicatedSessions() {
+		return this.count(DuplicateCleanupDAO.SQL.countDuplicatedSessions);
+	}
+
+	@Override
+	public List<Long> findDuplicatedSessionIds(final long afterId, final int maxResults) {
+		return this.findIds(DuplicateCleanupDAO.SQL.findDuplicatedSessionIds, afterId, maxResults);
+	}
+
+	@Override
+	public long countDuplicatedIndicators() {
+		return this.count(DuplicateCleanupDAO.SQL.countDuplicatedIndicators);
+	}
+
+	@Override
+	public List<Long> findDuplicatedIndicatorIds(final long afterId, final int maxResults) {
+		return this.findIds(DuplicateCleanupDAO.SQL.findDuplicatedIndicatorIds, afterId, maxResults);
+	}
+
+	@Override
+	public long inactivate(final BulkInactivation inactivation, final List<Long> ids, final String userUuid,
+	        final boolean dryRun) {
+
+		if (dryRun) {
+			return ((Number) this.entityManager.createNativeQuery(inactivation.getCount()).setParameter("ids", ids)
+			        .getSingleResult()).longValue();
+		}
+
+		final Query update = this.entityManager.createNativeQuery(inactivation.getUpdate());
+
+		// only the voided table is written, the cache regions of the other tables are kept
+		update.unwrap(SQLQuery.class).addSynchronizedQuerySpace(inactivation.getTable());
+
+		return update.setParameter("ids", ids).setParameter("userUuid", userUuid).executeUpdate();
+	}
+
+	private long count(final String sql) {
+		return ((Number) this.entityManager.createNativeQuery(sql).getSingleResult()).longValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Long> findIds(final String sql, final long afterId, final int maxResults) {
+
+		final List<Number> ids = this.entityManager.createNativeQuery(sql).setParameter("afterId", afterId)
+		        .setMaxResults(maxResults).getResultList();
+
+		return ids.stream().map(Number::longValue).collect(Collectors.toList());
+	}
+}
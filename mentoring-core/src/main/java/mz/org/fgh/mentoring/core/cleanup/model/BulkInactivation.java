@@ -0,0 +1,59 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cleanup.model;
+
+/**
+ * The set-based statements that void a chunk of duplicated rows together with
+ * the rows hanging from them. Each one is written as the tables to join, the
+ * alias of the table being voided and the filter, so it can run either as an
+ * {@code UPDATE ... JOIN} or, in dry-run mode, as the matching
+ * {@code SELECT COUNT(*)}. The {@code :ids} parameter holds the chunk ids.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public enum BulkInactivation {
+
+	SESSION_ANSWERS("ANSWERS a INNER JOIN MENTORSHIPS m ON a.MENTORSHIP_ID = m.ID", "a",
+	        "m.SESSION_ID IN (:ids) AND a.LIFE_CYCLE_STATUS = 'ACTIVE'"),
+
+	SESSION_ANSWER_FACTS("MENTORSHIP_ANSWER_FACTS f INNER JOIN MENTORSHIPS m ON f.MENTORSHIP_ID = m.ID", "f",
+	        "m.SESSION_ID IN (:ids) AND f.LIFE_CYCLE_STATUS = 'ACTIVE'"),
+
+	SESSION_MENTORSHIPS("MENTORSHIPS m", "m", "m.SESSION_ID IN (:ids) AND m.LIFE_CYCLE_STATUS = 'ACTIVE'"),
+
+	SESSIONS("SESSIONS s", "s", "s.ID IN (:ids) AND s.LIFE_CYCLE_STATUS = 'ACTIVE'"),
+
+	INDICATOR_ANSWERS("ANSWERS a", "a", "a.INDICATOR_ID IN (:ids) AND a.LIFE_CYCLE_STATUS = 'ACTIVE'"),
+
+	INDICATORS("INDICATORS i", "i", "i.ID IN (:ids) AND i.LIFE_CYCLE_STATUS = 'ACTIVE'");
+
+	private final String tables;
+
+	private final String alias;
+
+	private final String filter;
+
+	BulkInactivation(final String tables, final String alias, final String filter) {
+		this.tables = tables;
+		this.alias = alias;
+		this.filter = filter;
+	}
+
+	/**
+	 * The table being voided, the first of the joined ones.
+	 */
+	public String getTable() {
+		return this.tables.substring(0, this.tables.indexOf(' '));
+	}
+
+	public String getUpdate() {
+		return "UPDATE " + this.tables + " SET " + this.alias + ".LIFE_CYCLE_STATUS = 'INACTIVE', " + this.alias
+		        + ".UPDATED_AT = NOW(), " + this.alias + ".UPDATED_BY = :userUuid WHERE " + this.filter;
+	}
+
+	public String getCount() {
+		return "SELECT COUNT(*) FROM " + this.tables + " WHERE " + this.filter;
+	}
+}
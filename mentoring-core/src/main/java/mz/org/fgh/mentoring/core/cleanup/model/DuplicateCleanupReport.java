@@ -0,0 +1,62 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cleanup.model;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * What a duplicate cleanup voided, or would void when run as a dry run.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class DuplicateCleanupReport {
+
+	private final boolean dryRun;
+
+	private final long duplicates;
+
+	private final Map<BulkInactivation, Long> rows = new EnumMap<>(BulkInactivation.class);
+
+	private int chunks;
+
+	public DuplicateCleanupReport(final boolean dryRun, final long duplicates) {
+		this.dryRun = dryRun;
+		this.duplicates = duplicates;
+	}
+
+	public void add(final BulkInactivation inactivation, final long affectedRows) {
+		this.rows.merge(inactivation, affectedRows, Long::sum);
+	}
+
+	public void chunkDone() {
+		this.chunks++;
+	}
+
+	public boolean isDryRun() {
+		return this.dryRun;
+	}
+
+	/**
+	 * The number of duplicated groups found when the cleanup started.
+	 */
+	public long getDuplicates() {
+		return this.duplicates;
+	}
+
+	public long getRows(final BulkInactivation inactivation) {
+		return this.rows.getOrDefault(inactivation, 0L);
+	}
+
+	public int getChunks() {
+		return this.chunks;
+	}
+
+	@Override
+	public String toString() {
+		return (this.dryRun ? "[dry-run] " : "") + this.duplicates + " duplicated group(s), " + this.chunks
+		        + " chunk(s), " + (this.dryRun ? "rows to void " : "rows voided ") + this.rows;
+	}
+}
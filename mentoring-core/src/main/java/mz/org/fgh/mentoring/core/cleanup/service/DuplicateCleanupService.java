@@ -0,0 +1,34 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cleanup.service;
+
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.cleanup.model.DuplicateCleanupReport;
+
+/**
+ * Voids duplicated rows with set-based statements, one chunk of duplicated
+ * ids per transaction, always keeping the row with the highest id.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public interface DuplicateCleanupService {
+
+	String NAME = "mz.org.fgh.mentoring.core.cleanup.service.DuplicateCleanupService";
+
+	int DEFAULT_CHUNK_SIZE = 500;
+
+	/**
+	 * Voids the older active sessions sharing a uuid, with their mentorships,
+	 * answers and answer facts. A dry run only counts the rows.
+	 */
+	DuplicateCleanupReport voidDuplicatedSessions(UserContext userContext, int chunkSize, boolean dryRun);
+
+	/**
+	 * Voids the older active indicators of the same health facility, form and
+	 * referred month, with their answers, and rebuilds the indicator monthly
+	 * rollup. A dry run only counts the rows.
+	 */
+	DuplicateCleanupReport voidDuplicatedIndicators(UserContext userContext, int chunkSize, boolean dryRun);
+}
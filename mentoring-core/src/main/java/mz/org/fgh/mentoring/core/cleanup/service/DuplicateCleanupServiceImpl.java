@@ -0,0 +1,134 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cleanup.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javax.inject.Inject;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.cleanup.dao.DuplicateCleanupDAO;
+import mz.org.fgh.mentoring.core.cleanup.model.BulkInactivation;
+import mz.org.fgh.mentoring.core.cleanup.model.DuplicateCleanupReport;
+import mz.org.fgh.mentoring.core.indicator.service.IndicatorMonthlyRollupService;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+import mz.org.fgh.mentoring.core.report.ReportCache.Source;
+import mz.org.fgh.mentoring.core.session.dao.SessionCounterDAO;
+
+/**
+ * Not transactional as a whole: every chunk commits on its own so a long
+ * cleanup never holds locks on the whole table and can be stopped and rerun.
+ * Chunks are keyset paginated by id, which stays correct on a dry run where
+ * nothing is voided between chunks. Whatever is derived from the voided rows
+ * is refreshed in the chunk's own transaction.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Service(DuplicateCleanupService.NAME)
+public class DuplicateCleanupServiceImpl implements DuplicateCleanupService {
+
+	private static final Logger LOGGER = Logger.getLogger(DuplicateCleanupServiceImpl.class.getName());
+
+	@Inject
+	private DuplicateCleanupDAO duplicateCleanupDAO;
+
+	@Inject
+	private PlatformTransactionManager transactionManager;
+
+	@Inject
+	private IndicatorMonthlyRollupService indicatorMonthlyRollupService;
+
+	@Inject
+	private SessionCounterDAO sessionCounterDAO;
+
+	@Inject
+	private ReportCache reportCache;
+
+	@Override
+	public DuplicateCleanupReport voidDuplicatedSessions(final UserContext userContext, final int chunkSize,
+	        final boolean dryRun) {
+
+		return this.cleanup(userContext, chunkSize, dryRun, this.duplicateCleanupDAO::countDuplicatedSessions,
+		        this.duplicateCleanupDAO::findDuplicatedSessionIds,
+		        Arrays.asList(BulkInactivation.SESSION_ANSWERS, BulkInactivation.SESSION_ANSWER_FACTS,
+		                BulkInactivation.SESSION_MENTORSHIPS, BulkInactivation.SESSIONS),
+		        sessionIds -> {
+			        this.sessionCounterDAO.refresh(userContext.getUuid(), sessionIds);
+			        this.reportCache.changed(Source.MENTORSHIPS);
+		        });
+	}
+
+	@Override
+	public DuplicateCleanupReport voidDuplicatedIndicators(final UserContext userContext, final int chunkSize,
+	        final boolean dryRun) {
+
+		final DuplicateCleanupReport report = this.cleanup(userContext, chunkSize, dryRun,
+		        this.duplicateCleanupDAO::countDuplicatedIndicators, this.duplicateCleanupDAO::findDuplicatedIndicatorIds,
+		        Arrays.asList(BulkInactivation.INDICATOR_ANSWERS, BulkInactivation.INDICATORS), indicatorIds -> {
+		        });
+
+		if (!dryRun && report.getDuplicates() > 0) {
+			// the voided indicators were counted in the rollup
+			LOGGER.info(this.indicatorMonthlyRollupService.rebuildRollup(userContext)
+			        + " indicator monthly rollup row(s) rebuilt");
+		}
+
+		return report;
+	}
+
+	private DuplicateCleanupReport cleanup(final UserContext userContext, final int chunkSize, final boolean dryRun,
+	        final Supplier<Long> countDuplicates, final BiFunction<Long, Integer, List<Long>> findDuplicatedIds,
+	        final List<BulkInactivation> inactivations, final Consumer<List<Long>> chunkVoided) {
+
+		final TransactionTemplate transaction = new TransactionTemplate(this.transactionManager);
+
+		final DuplicateCleanupReport report = new DuplicateCleanupReport(dryRun,
+		        transaction.execute(status -> countDuplicates.get()));
+
+		if (report.getDuplicates() == 0) {
+			return report;
+		}
+
+		LOGGER.info("Cleaning " + report.getDuplicates() + " duplicated group(s) in chunks of " + chunkSize
+		        + (dryRun ? " (dry-run)" : ""));
+
+		long afterId = 0;
+
+		while (true) {
+
+			final long from = afterId;
+			final List<Long> chunk = transaction.execute(status -> findDuplicatedIds.apply(from, chunkSize));
+
+			if (chunk.isEmpty()) {
+				return report;
+			}
+
+			transaction.execute(status -> {
+				for (final BulkInactivation inactivation : inactivations) {
+					report.add(inactivation,
+					        this.duplicateCleanupDAO.inactivate(inactivation, chunk, userContext.getUuid(), dryRun));
+				}
+				if (!dryRun) {
+					chunkVoided.accept(chunk);
+				}
+				return null;
+			});
+
+			report.chunkDone();
+			afterId = chunk.get(chunk.size() - 1);
+
+			LOGGER.info("Chunk " + report.getChunks() + " done, last id " + afterId + ": " + report);
+		}
+	}
+}
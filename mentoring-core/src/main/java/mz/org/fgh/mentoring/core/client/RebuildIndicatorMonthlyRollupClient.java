@@ -0,0 +1,53 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.client;
+
+import java.util.logging.Logger;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.org.fgh.mentoring.core.indicator.service.IndicatorMonthlyRollupService;
+
+/**
+ * Recomputes the INDICATOR_MONTHLY_ROLLUP table from the active indicators.
+ * Run it after indicators or their answers are changed outside the
+ * application.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class RebuildIndicatorMonthlyRollupClient extends ClientConfig<RebuildIndicatorMonthlyRollupClient> {
+
+	private IndicatorMonthlyRollupService indicatorMonthlyRollupService;
+
+	private static Logger logger = Logger.getLogger(RebuildIndicatorMonthlyRollupClient.class.getName());
+
+	@Override
+	public int process(final RebuildIndicatorMonthlyRollupClient client) throws BusinessException {
+
+		final int rows = this.indicatorMonthlyRollupService.rebuildRollup(this.getUserContext());
+
+		logger.info("Indicator monthly rollup rows: " + rows);
+
+		return rows;
+	}
+
+	public void setIndicatorMonthlyRollupService(final IndicatorMonthlyRollupService indicatorMonthlyRollupService) {
+		this.indicatorMonthlyRollupService = indicatorMonthlyRollupService;
+	}
+
+	public static void main(final String[] args) throws BusinessException {
+		logger.info("The Client is Starting to execute ........");
+
+		final RebuildIndicatorMonthlyRollupClient client = new RebuildIndicatorMonthlyRollupClient();
+		client.setup();
+
+		client.setIndicatorMonthlyRollupService(client.getBean(IndicatorMonthlyRollupService.class));
+
+		client.process(client);
+
+		client.close();
+
+		logger.info("The Client was executed with success ........");
+	}
+}
@@ -0,0 +1,53 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.client;
+
+import java.util.logging.Logger;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.org.fgh.mentoring.core.session.service.SessionCounterService;
+
+/**
+ * Recomputes the SESSION_COUNTERS table from the active sessions. Schedule it
+ * to reconcile the counters with sessions or mentorships changed outside the
+ * services, e.g. directly in the database.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class ReconcileSessionCountersClient extends ClientConfig<ReconcileSessionCountersClient> {
+
+	private SessionCounterService sessionCounterService;
+
+	private static Logger logger = Logger.getLogger(ReconcileSessionCountersClient.class.getName());
+
+	@Override
+	public int process(final ReconcileSessionCountersClient client) throws BusinessException {
+
+		final int rows = this.sessionCounterService.reconcileCounters(this.getUserContext());
+
+		logger.info("Session counter rows: " + rows);
+
+		return rows;
+	}
+
+	public void setSessionCounterService(final SessionCounterService sessionCounterService) {
+		this.sessionCounterService = sessionCounterService;
+	}
+
+	public static void main(final String[] args) throws BusinessException {
+		logger.info("The Client is Starting to execute ........");
+
+		final ReconcileSessionCountersClient client = new ReconcileSessionCountersClient();
+		client.setup();
+
+		client.setSessionCounterService(client.getBean(SessionCounterService.class));
+
+		client.process(client);
+
+		client.close();
+
+		logger.info("The Client was executed with success ........");
+	}
+}
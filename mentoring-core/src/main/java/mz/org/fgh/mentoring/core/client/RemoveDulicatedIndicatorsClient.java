@@ -3,88 +3,55 @@
  */
 package mz.org.fgh.mentoring.core.client;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
-import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
-import mz.org.fgh.mentoring.core.answer.service.AnswerService;
-import mz.org.fgh.mentoring.core.indicator.model.DuplicatedIndicator;
-import mz.org.fgh.mentoring.core.indicator.model.Indicator;
-import mz.org.fgh.mentoring.core.indicator.service.IndicatorQueryService;
-import mz.org.fgh.mentoring.core.indicator.service.IndicatorService;
+import mz.org.fgh.mentoring.core.cleanup.model.DuplicateCleanupReport;
+import mz.org.fgh.mentoring.core.cleanup.service.DuplicateCleanupService;
 
 /**
+ * Voids the indicators registered more than once for the same health
+ * facility, form and referred month, keeping the latest one.
+ *
+ * Run with {@code --dry-run} to only report what would be voided and with
+ * {@code --chunk-size=N} to change how many indicators are voided per
+ * transaction.
+ *
  * @author Stélio Moiane
  *
  */
 public class RemoveDulicatedIndicatorsClient extends ClientConfig<RemoveDulicatedIndicatorsClient> {
 
-	private IndicatorQueryService indicatorQueryService;
+	private DuplicateCleanupService duplicateCleanupService;
 
-	private IndicatorService indicatorService;
+	private int chunkSize = DuplicateCleanupService.DEFAULT_CHUNK_SIZE;
 
-	private AnswerService answerService;
+	private boolean dryRun;
 
 	private static Logger logger = Logger.getLogger(RemoveDulicatedIndicatorsClient.class.getName());
 
 	@Override
 	public int process(final RemoveDulicatedIndicatorsClient client) throws BusinessException {
 
-		final List<DuplicatedIndicator> duplicatedIndicators = this.indicatorQueryService.findDuplicatedIndicators();
-
-		if (duplicatedIndicators.isEmpty()) {
-			return 0;
-		}
-
-		logger.info("A total of " + duplicatedIndicators.size() + " Indicator(s) will be cleaned in the system...");
-
-		for (final DuplicatedIndicator duplicatedIndicator : duplicatedIndicators) {
-
-			final List<Indicator> foundIndicators = this.indicatorQueryService
-			        .findIndicatorsByHealthFacilityFormAndReferredMonth(duplicatedIndicator.getHealthFacility(),
-			                duplicatedIndicator.getForm(), duplicatedIndicator.getReferredMonth());
-
-			final Indicator lastUpdateIndicator = foundIndicators.get(0);
-
-			foundIndicators.stream().filter(indicator -> lastUpdateIndicator.getId() != indicator.getId())
-			        .forEach(indicator -> {
-				        indicator.setLifeCycleStatus(LifeCycleStatus.INACTIVE);
-				        try {
-					        this.indicatorService.updateIndicator(this.getUserContext(), indicator);
-				        }
-				        catch (final BusinessException e) {
-					        e.printStackTrace();
-				        }
-
-				        indicator.getAnswers().forEach(answer -> {
-					        answer.setLifeCycleStatus(LifeCycleStatus.INACTIVE);
-					        try {
-						        this.answerService.updateAnswer(this.getUserContext(), answer);
-					        }
-					        catch (final BusinessException e) {
-						        e.printStackTrace();
-					        }
-				        });
-			        });
-		}
+		final DuplicateCleanupReport report = this.duplicateCleanupService
+		        .voidDuplicatedIndicators(this.getUserContext(), this.chunkSize, this.dryRun);
 
-		logger.info("A total of " + duplicatedIndicators.size()
-		        + " Indicator(s) were successfully cleaned in the system...");
+		logger.info("Duplicated indicators: " + report);
 
-		return duplicatedIndicators.size();
+		return (int) report.getDuplicates();
 	}
 
-	public void setIndicatorQueryService(final IndicatorQueryService indicatorQueryService) {
-		this.indicatorQueryService = indicatorQueryService;
+	public void setDuplicateCleanupService(final DuplicateCleanupService duplicateCleanupService) {
+		this.duplicateCleanupService = duplicateCleanupService;
 	}
 
-	public void setIndicatorService(final IndicatorService indicatorService) {
-		this.indicatorService = indicatorService;
+	public void setChunkSize(final int chunkSize) {
+		this.chunkSize = chunkSize;
 	}
 
-	public void setAnswerService(final AnswerService answerService) {
-		this.answerService = answerService;
+	public void setDryRun(final boolean dryRun) {
+		this.dryRun = dryRun;
 	}
 
 	public static void main(final String[] args) throws BusinessException {
@@ -93,9 +60,10 @@ public class RemoveDulicatedIndicatorsClient extends ClientConfig<RemoveDulicate
 		final RemoveDulicatedIndicatorsClient client = new RemoveDulicatedIndicatorsClient();
 		client.setup();
 
-		client.setIndicatorService(client.getBean(IndicatorService.class));
-		client.setIndicatorQueryService(client.getBean(IndicatorQueryService.class));
-		client.setAnswerService(client.getBean(AnswerService.class));
+		client.setDuplicateCleanupService(client.getBean(DuplicateCleanupService.class));
+		client.setDryRun(Arrays.asList(args).contains("--dry-run"));
+		Arrays.stream(args).filter(arg -> arg.startsWith("--chunk-size="))
+		        .forEach(arg -> client.setChunkSize(Integer.parseInt(arg.substring("--chunk-size=".length()))));
 
 		client.process(client);
 
@@ -3,125 +3,57 @@
  */
 package mz.org.fgh.mentoring.core.client;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
-import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
-import mz.org.fgh.mentoring.core.answer.model.Answer;
-import mz.org.fgh.mentoring.core.answer.service.AnswerQueryService;
-import mz.org.fgh.mentoring.core.answer.service.AnswerService;
-import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
-import mz.org.fgh.mentoring.core.mentorship.service.MentorshipService;
-import mz.org.fgh.mentoring.core.session.model.Session;
-import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
-import mz.org.fgh.mentoring.core.session.service.SessionService;
+import mz.org.fgh.mentoring.core.cleanup.model.DuplicateCleanupReport;
+import mz.org.fgh.mentoring.core.cleanup.service.DuplicateCleanupService;
 
 /**
+ * Voids the sessions stored more than once with the same uuid. Uploads that go
+ * through the sync queue are de-duplicated when they are received, so this is
+ * only needed for data synchronised before the queue existed.
+ *
+ * Run with {@code --dry-run} to only report what would be voided and with
+ * {@code --chunk-size=N} to change how many sessions are voided per
+ * transaction.
+ *
  * @author Stélio Moiane
  *
  */
+@Deprecated
 public class VoidDuplicatedSessionsClient extends ClientConfig<VoidDuplicatedSessionsClient> {
 
-	private SessionQueryService sessionQueryService;
-
-	private SessionService sessionService;
+	private DuplicateCleanupService duplicateCleanupService;
 
-	private MentorshipService mentorshipService;
+	private int chunkSize = DuplicateCleanupService.DEFAULT_CHUNK_SIZE;
 
-	private AnswerService answerService;
-
-	private AnswerQueryService answerQueryService;
+	private boolean dryRun;
 
 	private static Logger logger = Logger.getLogger(VoidDuplicatedSessionsClient.class.getName());
 
 	@Override
 	public int process(final VoidDuplicatedSessionsClient client) throws BusinessException {
 
-		final List<Session> sessionsWithDuplicatedUuids = this.sessionQueryService.findSessionsWithDuplicatedUuids();
-
-		if (sessionsWithDuplicatedUuids.isEmpty()) {
-			return 0;
-		}
-
-		logger.info(
-		        "A total of " + sessionsWithDuplicatedUuids.size() + " Session(s) will be cleaned in the system...");
-
-		for (final Session duplicatedSession : sessionsWithDuplicatedUuids) {
-			final List<Session> sessions = this.sessionQueryService.fetchSessionsByUuid(duplicatedSession.getUuid());
-
-			final Session lastSession = sessions.get(0);
-
-			sessions.stream().filter(session -> lastSession.getId() != session.getId()).forEach(session -> {
-				this.inactiveSession(session);
-			});
-		}
-
-		logger.info("A total of " + sessionsWithDuplicatedUuids.size()
-		        + " Indicator(s) were successfully cleaned in the system...");
+		final DuplicateCleanupReport report = this.duplicateCleanupService
+		        .voidDuplicatedSessions(this.getUserContext(), this.chunkSize, this.dryRun);
 
-		return sessionsWithDuplicatedUuids.size();
-	}
-
-	private void inactiveSession(final Session session) {
-		try {
-			session.setLifeCycleStatus(LifeCycleStatus.INACTIVE);
-			this.sessionService.updateSession(this.getUserContext(), session);
-
-			session.getMentorships().forEach(mentorship -> {
-				this.inactiveMentorship(mentorship);
-			});
-		}
-		catch (final BusinessException e) {
-			e.printStackTrace();
-		}
-	}
-
-	private void inactiveMentorship(final Mentorship mentorship) {
-		try {
-			mentorship.setLifeCycleStatus(LifeCycleStatus.INACTIVE);
-			this.mentorshipService.updateMentorship(this.getUserContext(), mentorship);
-
-			final List<Answer> answers = this.answerQueryService.fetchAnswersByMentorship(this.getUserContext(),
-			        mentorship);
-
-			answers.stream().forEach(answer -> {
-				this.inactiveAnswer(answer);
-			});
-		}
-		catch (final BusinessException e) {
-			e.printStackTrace();
-		}
-	}
-
-	private void inactiveAnswer(final Answer answer) {
-		answer.setLifeCycleStatus(LifeCycleStatus.INACTIVE);
-		try {
-			this.answerService.updateAnswer(this.getUserContext(), answer);
-		}
-		catch (final BusinessException e) {
-			e.printStackTrace();
-		}
-	}
-
-	public void setSessionQueryService(final SessionQueryService sessionQueryService) {
-		this.sessionQueryService = sessionQueryService;
-	}
+		logger.info("Duplicated sessions: " + report);
 
-	public void setSessionService(final SessionService sessionService) {
-		this.sessionService = sessionService;
+		return (int) report.getDuplicates();
 	}
 
-	public void setMentorshipService(final MentorshipService mentorshipService) {
-		this.mentorshipService = mentorshipService;
+	public void setDuplicateCleanupService(final DuplicateCleanupService duplicateCleanupService) {
+		this.duplicateCleanupService = duplicateCleanupService;
 	}
 
-	public void setAnswerService(final AnswerService answerService) {
-		this.answerService = answerService;
+	public void setChunkSize(final int chunkSize) {
+		this.chunkSize = chunkSize;
 	}
 
-	public void setAnswerQueryService(final AnswerQueryService answerQueryService) {
-		this.answerQueryService = answerQueryService;
+	public void setDryRun(final boolean dryRun) {
+		this.dryRun = dryRun;
 	}
 
 	public static void main(final String[] args) throws BusinessException {
@@ -131,11 +63,10 @@ public class VoidDuplicatedSessionsClient extends ClientConfig<VoidDuplicatedSes
 		final VoidDuplicatedSessionsClient client = new VoidDuplicatedSessionsClient();
 		client.setup();
 
-		client.setSessionQueryService(client.getBean(SessionQueryService.class));
-		client.setSessionService(client.getBean(SessionService.class));
-		client.setMentorshipService(client.getBean(MentorshipService.class));
-		client.setAnswerQueryService(client.getBean(AnswerQueryService.class));
-		client.setAnswerService(client.getBean(AnswerService.class));
+		client.setDuplicateCleanupService(client.getBean(DuplicateCleanupService.class));
+		client.setDryRun(Arrays.asList(args).contains("--dry-run"));
+		Arrays.stream(args).filter(arg -> arg.startsWith("--chunk-size="))
+		        .forEach(arg -> client.setChunkSize(Integer.parseInt(arg.substring("--chunk-size=".length()))));
 
 		client.process(client);
 
@@ -9,9 +9,12 @@ import javax.sql.DataSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
 
 import com.zaxxer.hikari.HikariDataSource;
 
+import mz.org.fgh.mentoring.core.report.ReportRoutingDataSource;
+
 /**
  * @author Stélio Moiane
  *
@@ -19,25 +22,65 @@ import com.zaxxer.hikari.HikariDataSource;
 @Configuration
 public class DataSourceBean {
 
+	/**
+	 * Milliseconds to wait for a replica connection before the report falls
+	 * back to the primary.
+	 */
+	private static final long REPLICA_CONNECTION_TIMEOUT = 5000;
+
 	@Inject
 	private Environment environment;
 
+	/**
+	 * The primary pool or, when db.report.url is set, the routing between it and
+	 * the pool of the reporting replica.
+	 */
 	@Bean(name = "dataSource")
 	public DataSource dataSource() {
 
+		final HikariDataSource dataSource = this.createDataSource("db");
+		dataSource.setPoolName("primary");
+
+		if (!StringUtils.hasText(this.environment.getProperty("db.report.url"))) {
+			return dataSource;
+		}
+
+		final HikariDataSource replicaDataSource = this.createDataSource("db.report");
+		replicaDataSource.setPoolName("replica");
+		replicaDataSource.setReadOnly(true);
+		replicaDataSource.setConnectionTimeout(REPLICA_CONNECTION_TIMEOUT);
+
+		final ReportRoutingDataSource routingDataSource = new ReportRoutingDataSource(dataSource, replicaDataSource,
+		        this.environment.getProperty("db.report.maxLag", Long.class, 30L));
+		routingDataSource.start(this.environment.getProperty("db.report.lagCheckInterval", Long.class, 10L));
+
+		return routingDataSource;
+	}
+
+	/**
+	 * A pool configured by the properties with the given prefix, defaulting to
+	 * the db ones.
+	 */
+	private HikariDataSource createDataSource(final String prefix) {
+
 		final HikariDataSource dataSource = new HikariDataSource();
-		dataSource.setDataSourceClassName(this.environment.getProperty("db.dataSourceClassName"));
-		dataSource.setUsername(this.environment.getProperty("db.username"));
-		dataSource.setPassword(this.environment.getProperty("db.password"));
-		dataSource.setMaximumPoolSize(Integer.valueOf(this.environment.getProperty("db.maximumPoolSize")));
-		dataSource.setCatalog(this.environment.getProperty("db.catalog"));
+		dataSource.setDataSourceClassName(this.getProperty(prefix, "dataSourceClassName"));
+		dataSource.setUsername(this.getProperty(prefix, "username"));
+		dataSource.setPassword(this.getProperty(prefix, "password"));
+		dataSource.setMaximumPoolSize(Integer.valueOf(this.getProperty(prefix, "maximumPoolSize")));
+		dataSource.setCatalog(this.getProperty(prefix, "catalog"));
 
-		dataSource.addDataSourceProperty("url", this.environment.getProperty("db.url"));
+		dataSource.addDataSourceProperty("url", this.getProperty(prefix, "url"));
 		dataSource.addDataSourceProperty("cachePrepStmts", "true");
 		dataSource.addDataSourceProperty("prepStmtCacheSize", "250");
-		dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+		dataSource.addDataSourceProperty("prepStmtCacheSqlLimit", "16384");
 		dataSource.addDataSourceProperty("useServerPrepStmts", "true");
+		dataSource.addDataSourceProperty("rewriteBatchedStatements", "true");
 
 		return dataSource;
 	}
+
+	private String getProperty(final String prefix, final String name) {
+		return this.environment.getProperty(prefix + "." + name, this.environment.getProperty("db." + name));
+	}
 }
@@ -68,6 +68,20 @@ public class EntityManagerBean {
 		        this.environment.getProperty("db.hibernate.enable_lazy_load_no_trans"));
 		properties.setProperty("hibernate.generate_statistics",
 		        this.environment.getProperty("db.hibernate.generate_statistics"));
+		properties.setProperty("hibernate.jdbc.batch_size",
+		        this.environment.getProperty("db.hibernate.jdbc.batch_size", "50"));
+		properties.setProperty("hibernate.order_inserts",
+		        this.environment.getProperty("db.hibernate.order_inserts", "true"));
+		properties.setProperty("hibernate.order_updates",
+		        this.environment.getProperty("db.hibernate.order_updates", "true"));
+		properties.setProperty("javax.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+		properties.setProperty("hibernate.cache.use_second_level_cache",
+		        this.environment.getProperty("db.hibernate.cache.use_second_level_cache", "true"));
+		properties.setProperty("hibernate.cache.use_query_cache",
+		        this.environment.getProperty("db.hibernate.cache.use_query_cache", "true"));
+		properties.setProperty("hibernate.cache.region.factory_class",
+		        "org.hibernate.cache.ehcache.SingletonEhCacheRegionFactory");
+		properties.setProperty("net.sf.ehcache.configurationResourceName", "/ehcache.xml");
 
 		return properties;
 	}
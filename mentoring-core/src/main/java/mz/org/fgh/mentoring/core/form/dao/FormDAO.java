@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.form.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
@@ -21,7 +22,9 @@ public interface FormDAO extends GenericDAO<Form, Long> {
 	public static class QUERY {
 		public static final String fetchByFormId = "SELECT f FROM Form f INNER JOIN FETCH f.formQuestions fq INNER JOIN FETCH fq.question WHERE f.id = :formId";
 		public static final String findAll = "SELECT f FROM Form f WHERE f.lifeCycleStatus = :lifeCycleStatus";
+		public static final String findByUuids = "SELECT f FROM Form f WHERE f.uuid IN (:uuids)";
 		public static final String findSampleIndicators = "SELECT f FROM Answer a INNER JOIN a.form f INNER JOIN a.question q INNER JOIN FETCH f.programmaticArea WHERE q.uuid IN (:questionUuids) AND f.lifeCycleStatus = :lifeCycleStatus GROUP BY f.uuid ORDER BY f.name";
+		public static final String findCachedByUuid = "SELECT f FROM Form f WHERE f.uuid = :uuid";
 
 	}
 
@@ -29,6 +32,8 @@ public interface FormDAO extends GenericDAO<Form, Long> {
 		public static final String fetchByFormId = "Form.fetchByFormId";
 		public static final String findAll = "Form.findAll";
 		public static final String findSampleIndicators = "Form.findSampleIndicators";
+		public static final String findByUuids = "Form.findByUuids";
+		public static final String findCachedByUuid = "Form.findCachedByUuid";
 	}
 
 	Form fetchByFormId(final Long formId);
@@ -36,4 +41,11 @@ public interface FormDAO extends GenericDAO<Form, Long> {
 	public List<Form> findBySelectedFilter(final String code, final String name, final String programmaticAreaCode, final LifeCycleStatus lifeCycleStatus, final String partnerUUID);
 
 	List<Form> findSampleIndicators(List<String> questionUuids, LifeCycleStatus lifeCycleStatus);
+
+	List<Form> findByUuids(Collection<String> uuids);
+
+	/**
+	 * Same as findByUuid, served from the query cache.
+	 */
+	Form findCachedByUuid(String uuid);
 }
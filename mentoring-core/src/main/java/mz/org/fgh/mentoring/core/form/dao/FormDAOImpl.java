@@ -4,6 +4,7 @@
 package mz.org.fgh.mentoring.core.form.dao;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import javax.persistence.TypedQuery;
@@ -79,4 +80,20 @@ public class FormDAOImpl extends GenericDAOImpl<Form, Long> implements FormDAO {
 
 		return query.getResultList();
 	}
+
+	@Override
+	public List<Form> findByUuids(final Collection<String> uuids) {
+
+		final TypedQuery<Form> query = this.findByQuery(FormDAO.QUERY_NAME.findByUuids,
+		        new ParamBuilder().process());
+		query.setParameter("uuids", uuids);
+
+		return query.getResultList();
+	}
+
+	@Override
+	public Form findCachedByUuid(final String uuid) {
+		return this.findSingleByNamedQuery(FormDAO.QUERY_NAME.findCachedByUuid,
+		        new ParamBuilder().add("uuid", uuid).process());
+	}
 }
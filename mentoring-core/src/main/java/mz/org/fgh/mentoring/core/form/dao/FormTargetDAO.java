@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.form.dao;
 
+import java.util.Calendar;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
@@ -18,11 +19,19 @@ public interface FormTargetDAO extends GenericDAO<FormTarget, Long> {
 
 	class QUERY {
 		public static final String findByTutor = "SELECT ft FROM FormTarget ft INNER JOIN FETCH ft.career c INNER JOIN FETCH ft.form f INNER JOIN FETCH f.programmaticArea INNER JOIN c.tutors t WHERE t.uuid = :tutorUuid AND ft.lifeCycleStatus =:lifeCycleStatus";
+		public static final String findChangedByTutor = "SELECT ft FROM FormTarget ft INNER JOIN FETCH ft.career c INNER JOIN FETCH ft.form f INNER JOIN FETCH f.programmaticArea INNER JOIN c.tutors t WHERE t.uuid = :tutorUuid AND (ft.createdAt > :since OR ft.updatedAt > :since)";
 	}
 
 	class QUERY_NAME {
 		public static final String findByTutor = "FormTarget.findByTutor";
+		public static final String findChangedByTutor = "FormTarget.findChangedByTutor";
 	}
 
 	List<FormTarget> findByTutor(final Tutor tutor, final LifeCycleStatus lifeCycleStatus);
+
+	/**
+	 * The form targets of the tutor created or updated after since, whatever
+	 * their life cycle status.
+	 */
+	List<FormTarget> findChangedByTutor(final Tutor tutor, final Calendar since);
 }
@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.form.dao;
 
+import java.util.Calendar;
 import java.util.List;
 
 import org.springframework.stereotype.Repository;
@@ -28,4 +29,10 @@ public class FormTargetDAOImpl extends GenericDAOImpl<FormTarget, Long> implemen
 		        new ParamBuilder().add("tutorUuid", tutor.getUuid()).add("lifeCycleStatus", lifeCycleStatus).process());
 	}
 
+	@Override
+	public List<FormTarget> findChangedByTutor(final Tutor tutor, final Calendar since) {
+		return this.findByNamedQuery(FormTargetDAO.QUERY_NAME.findChangedByTutor,
+		        new ParamBuilder().add("tutorUuid", tutor.getUuid()).add("since", since).process());
+	}
+
 }
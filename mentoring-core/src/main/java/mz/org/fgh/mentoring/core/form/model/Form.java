@@ -7,6 +7,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -17,6 +18,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.OneToMany;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
@@ -27,6 +29,9 @@ import javax.xml.bind.annotation.XmlTransient;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.QueryHints;
 import org.hibernate.validator.constraints.NotEmpty;
 
 import mz.co.mozview.frameworks.core.model.GenericEntity;
@@ -42,9 +47,14 @@ import mz.org.fgh.mentoring.core.programmaticarea.model.ProgrammaticArea;
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "FORMS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }))
 @NamedQueries({ @NamedQuery(name = FormDAO.QUERY_NAME.fetchByFormId, query = FormDAO.QUERY.fetchByFormId),
-	@NamedQuery(name = FormDAO.QUERY_NAME.findSampleIndicators, query = FormDAO.QUERY.findSampleIndicators) })
+	@NamedQuery(name = FormDAO.QUERY_NAME.findSampleIndicators, query = FormDAO.QUERY.findSampleIndicators),
+	@NamedQuery(name = FormDAO.QUERY_NAME.findByUuids, query = FormDAO.QUERY.findByUuids),
+	@NamedQuery(name = FormDAO.QUERY_NAME.findCachedByUuid, query = FormDAO.QUERY.findCachedByUuid,
+		hints = @QueryHint(name = QueryHints.CACHEABLE, value = "true")) })
 public class Form extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
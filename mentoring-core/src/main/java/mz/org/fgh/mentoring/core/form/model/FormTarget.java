@@ -6,6 +6,7 @@ package mz.org.fgh.mentoring.core.form.model;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.NamedQueries;
@@ -30,9 +31,12 @@ import mz.org.fgh.mentoring.core.form.dao.FormTargetDAO;
  */
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
-@NamedQueries({ @NamedQuery(name = FormTargetDAO.QUERY_NAME.findByTutor, query = FormTargetDAO.QUERY.findByTutor) })
+@NamedQueries({ @NamedQuery(name = FormTargetDAO.QUERY_NAME.findByTutor, query = FormTargetDAO.QUERY.findByTutor),
+        @NamedQuery(name = FormTargetDAO.QUERY_NAME.findChangedByTutor, query = FormTargetDAO.QUERY.findChangedByTutor) })
 @Entity
-@Table(name = "FORM_TARGETS", uniqueConstraints = @UniqueConstraint(columnNames = { "FORM_ID", "CAREER_ID" }))
+@Table(name = "FORM_TARGETS", uniqueConstraints = @UniqueConstraint(columnNames = { "FORM_ID", "CAREER_ID" }), indexes = {
+        @Index(name = "IDX_FORM_TARGETS_CREATED_AT", columnList = "CREATED_AT"),
+        @Index(name = "IDX_FORM_TARGETS_UPDATED_AT", columnList = "UPDATED_AT") })
 public class FormTarget extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
@@ -7,11 +7,13 @@ import java.util.Arrays;
 import java.util.List;
 
 import javax.inject.Inject;
+import javax.persistence.NoResultException;
 
 import org.springframework.stereotype.Service;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.co.mozview.frameworks.core.util.PropertyValues;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.form.dao.FormDAO;
 import mz.org.fgh.mentoring.core.form.model.Form;
@@ -27,6 +29,9 @@ public class FormQueryServiceImpl implements FormQueryService {
 	@Inject
 	private FormDAO formDAO;
 
+	@Inject
+	private PropertyValues propertyValues;
+
 	@Override
 	public Form fetchByForm(final UserContext userContext, final Form form) throws BusinessException {
 		return this.formDAO.fetchByFormId(form.getId());
@@ -39,7 +44,12 @@ public class FormQueryServiceImpl implements FormQueryService {
 
 	@Override
 	public Form findFormByUuid(final UserContext userContext, final String uuid) throws BusinessException {
-		return this.formDAO.findByUuid(uuid);
+		try {
+			return this.formDAO.findCachedByUuid(uuid);
+		}
+		catch (final NoResultException e) {
+			throw new BusinessException(this.propertyValues.getPropValues("no.result.found"));
+		}
 	}
 
 	@Override
@@ -24,6 +24,7 @@ import mz.org.fgh.mentoring.core.form.model.Form;
 import mz.org.fgh.mentoring.core.formquestion.dao.FormQuestionDAO;
 import mz.org.fgh.mentoring.core.formquestion.model.FormQuestion;
 import mz.org.fgh.mentoring.core.formquestion.service.FormQuestionService;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
 import mz.org.fgh.mentoring.core.question.model.Question;
 
 /**
@@ -36,6 +37,9 @@ public class FormServiceImpl extends AbstractService implements FormService {
 	@Inject
 	private FormDAO formDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
 	@Inject
 	private PropertyValues propertyValues;
 
@@ -59,6 +63,7 @@ public class FormServiceImpl extends AbstractService implements FormService {
 		}
 
 		this.formDAO.create(userContext.getUuid(), form);
+		this.metadataVersion.changed();
 
 		for (final FormQuestion formQuestion : formQuestions) {
 			formQuestion.setForm(form);
@@ -112,6 +117,7 @@ public class FormServiceImpl extends AbstractService implements FormService {
 
 		form.setName(StringNormalizer.normalizeAndUppCase(form.getName()));
 		this.formDAO.update(userContext.getUuid(), form);
+		this.metadataVersion.changed();
 
 		final List<FormQuestion> inactivatedFormQuestions = this.inactivatedAllFormQuestion(form.getId());
 
@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.form.service;
 
+import java.util.Calendar;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
@@ -16,4 +17,11 @@ import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 public interface FormTargetQueryService {
 
 	List<FormTarget> findFormTargetByTutor(final Tutor tutor) throws BusinessException;
+
+	/**
+	 * The form targets of the tutor created or updated after since, the
+	 * inactivated ones included.
+	 */
+	List<FormTarget> findFormTargetByTutorChangedSince(final Tutor tutor, final Calendar since)
+	        throws BusinessException;
 }
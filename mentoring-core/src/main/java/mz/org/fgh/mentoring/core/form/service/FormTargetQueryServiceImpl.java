@@ -5,6 +5,7 @@ package mz.org.fgh.mentoring.core.form.service;
 
 import static mz.org.fgh.mentoring.core.form.service.FormTargetQueryServiceImpl.NAME;
 
+import java.util.Calendar;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -34,4 +35,10 @@ public class FormTargetQueryServiceImpl implements FormTargetQueryService {
 		return this.FormTargetDAO.findByTutor(tutor, LifeCycleStatus.ACTIVE);
 	}
 
+	@Override
+	public List<FormTarget> findFormTargetByTutorChangedSince(final Tutor tutor, final Calendar since)
+	        throws BusinessException {
+		return this.FormTargetDAO.findChangedByTutor(tutor, since);
+	}
+
 }
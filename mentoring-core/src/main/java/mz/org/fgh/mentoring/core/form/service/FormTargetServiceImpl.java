@@ -11,6 +11,7 @@ import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.form.dao.FormTargetDAO;
 import mz.org.fgh.mentoring.core.form.model.FormTarget;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
 
 /**
  * @author Stélio Moiane
@@ -24,8 +25,12 @@ public class FormTargetServiceImpl extends AbstractService implements FormTarget
 	@Inject
 	private FormTargetDAO formTargetDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
 	@Override
 	public FormTarget createFormTarget(final UserContext userContext, final FormTarget formTarget) {
+		this.metadataVersion.changed();
 		return this.formTargetDAO.create(userContext.getUuid(), formTarget);
 	}
 }
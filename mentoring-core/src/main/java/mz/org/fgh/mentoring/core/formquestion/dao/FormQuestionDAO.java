@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.formquestion.dao;
 
+import java.util.Calendar;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
@@ -36,6 +37,31 @@ public interface FormQuestionDAO extends GenericDAO<FormQuestion, Long> {
 													"		AND f.lifeCycleStatus = :lifeCycleStatus " +
 													"		AND t.uuid = :tutorUuid " +
 													"		AND (fp.uuid = :partnerUUID OR fp.uuid = :MISAUUUUID)";
+		public static final String fetchChangedByTutor = "SELECT fq " +
+													"FROM FormQuestion fq 	INNER JOIN FETCH fq.form f " +
+													"						INNER JOIN FETCH f.programmaticArea pa " +
+													"						INNER JOIN pa.tutorProgrammaticAreas tpa " +
+													"						INNER JOIN tpa.tutor t " +
+													"						INNER JOIN f.partner fp " +
+													"						INNER JOIN FETCH fq.question q " +
+													"						INNER JOIN FETCH q.questionsCategory " +
+													"WHERE tpa.lifeCycleStatus = :lifeCycleStatus " +
+													"		AND t.uuid = :tutorUuid " +
+													"		AND (fp.uuid = :partnerUUID OR fp.uuid = :MISAUUUUID) " +
+													"		AND (fq.createdAt > :since OR fq.updatedAt > :since OR f.updatedAt > :since OR q.updatedAt > :since " +
+													"			OR tpa.createdAt > :since OR tpa.updatedAt > :since)";
+		public static final String fetchUnassignedFromTutor = "SELECT fq " +
+													"FROM FormQuestion fq 	INNER JOIN FETCH fq.form f " +
+													"						INNER JOIN FETCH f.programmaticArea pa " +
+													"						INNER JOIN pa.tutorProgrammaticAreas tpa " +
+													"						INNER JOIN tpa.tutor t " +
+													"						INNER JOIN f.partner fp " +
+													"						INNER JOIN FETCH fq.question q " +
+													"						INNER JOIN FETCH q.questionsCategory " +
+													"WHERE tpa.lifeCycleStatus = :lifeCycleStatus " +
+													"		AND t.uuid = :tutorUuid " +
+													"		AND (fp.uuid = :partnerUUID OR fp.uuid = :MISAUUUUID) " +
+													"		AND (tpa.createdAt > :since OR tpa.updatedAt > :since)";
 		public static final String fetchByForm = "SELECT fq FROM FormQuestion fq INNER JOIN FETCH fq.form f INNER JOIN FETCH f.programmaticArea INNER JOIN FETCH fq.question q INNER JOIN FETCH q.questionsCategory WHERE f.id = :formId AND fq.lifeCycleStatus = :lifeCycleStatus AND f.lifeCycleStatus = :lifeCycleStatus";
 	}
 
@@ -44,6 +70,8 @@ public interface FormQuestionDAO extends GenericDAO<FormQuestion, Long> {
 		public static final String findByFormIdAndQuestionId = "FormQuestion.findByFormIdAndQuestionId";
 		public static final String fetchByTutor = "FormQuestion.fetchByTutor";
 		public static final String fetchByForm = "FormQuestion.fetchByForm";
+		public static final String fetchChangedByTutor = "FormQuestion.fetchChangedByTutor";
+		public static final String fetchUnassignedFromTutor = "FormQuestion.fetchUnassignedFromTutor";
 	}
 
 	List<FormQuestion> findAllByFormId(final Long formId);
@@ -53,4 +81,18 @@ public interface FormQuestionDAO extends GenericDAO<FormQuestion, Long> {
 	List<FormQuestion> fetchByTutor(final LifeCycleStatus lifeCycleStatus, final Tutor tutor);
 
 	List<FormQuestion> fetchByForm(Form form, LifeCycleStatus lifeCycleStatus);
+
+	/**
+	 * The form questions of the tutor created or updated after since, whatever
+	 * their life cycle status, including the ones whose form or question was
+	 * updated and all the ones of a programmatic area assigned to the tutor
+	 * after since.
+	 */
+	List<FormQuestion> fetchChangedByTutor(final Tutor tutor, final Calendar since);
+
+	/**
+	 * The form questions of the programmatic areas removed from the tutor after
+	 * since, which the tutor no longer has.
+	 */
+	List<FormQuestion> fetchUnassignedFromTutor(final Tutor tutor, final Calendar since);
 }
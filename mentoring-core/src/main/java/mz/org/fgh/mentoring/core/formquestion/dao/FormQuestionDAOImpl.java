@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.formquestion.dao;
 
+import java.util.Calendar;
 import java.util.List;
 
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
@@ -48,4 +49,24 @@ public class FormQuestionDAOImpl extends GenericDAOImpl<FormQuestion, Long> impl
 		return this.findByNamedQuery(FormQuestionDAO.QUERY_NAME.fetchByForm,
 		        new ParamBuilder().add("formId", form.getId()).add("lifeCycleStatus", lifeCycleStatus).process());
 	}
+
+	@Override
+	public List<FormQuestion> fetchChangedByTutor(final Tutor tutor, final Calendar since) {
+		return this.findByNamedQuery(FormQuestionDAO.QUERY_NAME.fetchChangedByTutor,
+		        new ParamBuilder().add("lifeCycleStatus", LifeCycleStatus.ACTIVE)
+								  .add("tutorUuid", tutor.getUuid())
+								  .add("partnerUUID", tutor.getPartner().getUuid())
+								  .add("MISAUUUUID", "398f0ffeb8fe11edafa10242ac120002")
+								  .add("since", since).process());
+	}
+
+	@Override
+	public List<FormQuestion> fetchUnassignedFromTutor(final Tutor tutor, final Calendar since) {
+		return this.findByNamedQuery(FormQuestionDAO.QUERY_NAME.fetchUnassignedFromTutor,
+		        new ParamBuilder().add("lifeCycleStatus", LifeCycleStatus.INACTIVE)
+								  .add("tutorUuid", tutor.getUuid())
+								  .add("partnerUUID", tutor.getPartner().getUuid())
+								  .add("MISAUUUUID", "398f0ffeb8fe11edafa10242ac120002")
+								  .add("since", since).process());
+	}
 }
@@ -7,6 +7,7 @@ package mz.org.fgh.mentoring.core.formquestion.model;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.NamedQueries;
@@ -34,12 +35,16 @@ import mz.org.fgh.mentoring.core.question.model.Question;
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @Entity
-@Table(name = "FORMS_QUESTIONS", uniqueConstraints = @UniqueConstraint(columnNames = { "FORM_ID", "QUESTION_ID" }))
+@Table(name = "FORMS_QUESTIONS", uniqueConstraints = @UniqueConstraint(columnNames = { "FORM_ID", "QUESTION_ID" }), indexes = {
+        @Index(name = "IDX_FORMS_QUESTIONS_CREATED_AT", columnList = "CREATED_AT"),
+        @Index(name = "IDX_FORMS_QUESTIONS_UPDATED_AT", columnList = "UPDATED_AT") })
 @NamedQueries({
         @NamedQuery(name = FormQuestionDAO.QUERY_NAME.findAllByFormId, query = FormQuestionDAO.QUERY.findAllByFormId),
         @NamedQuery(name = FormQuestionDAO.QUERY_NAME.findByFormIdAndQuestionId, query = FormQuestionDAO.QUERY.findByFormIdAndQuestionId),
         @NamedQuery(name = FormQuestionDAO.QUERY_NAME.fetchByTutor, query = FormQuestionDAO.QUERY.fetchByTutor),
-        @NamedQuery(name = FormQuestionDAO.QUERY_NAME.fetchByForm, query = FormQuestionDAO.QUERY.fetchByForm) })
+        @NamedQuery(name = FormQuestionDAO.QUERY_NAME.fetchByForm, query = FormQuestionDAO.QUERY.fetchByForm),
+        @NamedQuery(name = FormQuestionDAO.QUERY_NAME.fetchChangedByTutor, query = FormQuestionDAO.QUERY.fetchChangedByTutor),
+        @NamedQuery(name = FormQuestionDAO.QUERY_NAME.fetchUnassignedFromTutor, query = FormQuestionDAO.QUERY.fetchUnassignedFromTutor) })
 public class FormQuestion extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.formquestion.service;
 
+import java.util.Calendar;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
@@ -20,5 +21,13 @@ public interface FormQuestionQueryService {
 
 	List<FormQuestion> fetchFormQuestionsByTutor(final UserContext userContext);
 
+	/**
+	 * The form questions of the tutor created or updated after since, or whose
+	 * form or question was, the inactivated ones included. The form questions
+	 * of a programmatic area removed from the tutor after since come inactive,
+	 * so the tablet drops them.
+	 */
+	List<FormQuestion> fetchFormQuestionsByTutorChangedSince(final UserContext userContext, final Calendar since);
+
 	List<FormQuestion> findFormQuestionByForm(final Form form) throws BusinessException;
 }
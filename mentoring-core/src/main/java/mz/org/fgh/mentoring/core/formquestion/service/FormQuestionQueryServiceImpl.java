@@ -3,6 +3,8 @@
  */
 package mz.org.fgh.mentoring.core.formquestion.service;
 
+import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -37,6 +39,39 @@ public class FormQuestionQueryServiceImpl implements FormQuestionQueryService {
 		return this.formQuestionDAO.fetchByTutor(LifeCycleStatus.ACTIVE, tutorDAO.fetchByUuid(userContext.getUuid()));
 	}
 
+	@Override
+	public List<FormQuestion> fetchFormQuestionsByTutorChangedSince(final UserContext userContext,
+	        final Calendar since) {
+
+		final Tutor tutor = this.tutorDAO.fetchByUuid(userContext.getUuid());
+
+		final List<FormQuestion> formQuestions = new ArrayList<>(this.formQuestionDAO.fetchChangedByTutor(tutor, since));
+
+		for (final FormQuestion unassigned : this.formQuestionDAO.fetchUnassignedFromTutor(tutor, since)) {
+			formQuestions.add(this.tombstone(unassigned));
+		}
+
+		return formQuestions;
+	}
+
+	/**
+	 * An inactive copy of the form question, which is still active itself but
+	 * no longer of the tutor, leaving the loaded entity untouched.
+	 */
+	private FormQuestion tombstone(final FormQuestion formQuestion) {
+
+		final FormQuestion tombstone = new FormQuestion();
+		tombstone.setUuid(formQuestion.getUuid());
+		tombstone.setForm(formQuestion.getForm());
+		tombstone.setQuestion(formQuestion.getQuestion());
+		tombstone.setMandatory(formQuestion.isMandatory());
+		tombstone.setSequence(formQuestion.getSequence());
+		tombstone.setApplicable(formQuestion.isApplicable());
+		tombstone.setLifeCycleStatus(LifeCycleStatus.INACTIVE);
+
+		return tombstone;
+	}
+
 	@Override
 	public List<FormQuestion> findFormQuestionByForm(final Form form) throws BusinessException {
 		return this.formQuestionDAO.fetchByForm(form, LifeCycleStatus.ACTIVE);
@@ -12,6 +12,7 @@ import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.formquestion.dao.FormQuestionDAO;
 import mz.org.fgh.mentoring.core.formquestion.model.FormQuestion;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
 
 /**
  * @author Eusebio Jose Maposse
@@ -23,16 +24,21 @@ public class FormQuestionServiceImpl extends AbstractService implements FormQues
 	@Inject
 	private FormQuestionDAO formQuestionDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
 	@Override
 	public FormQuestion createFormQuestion(final UserContext userContext, final FormQuestion formQuestion)
 	        throws BusinessException {
 
+		this.metadataVersion.changed();
 		return this.formQuestionDAO.create(userContext.getUuid(), formQuestion);
 	}
 
 	@Override
 	public FormQuestion updateFormQuestion(final UserContext userContext, final FormQuestion formQuestion)
 	        throws BusinessException {
+		this.metadataVersion.changed();
 		return this.formQuestionDAO.update(userContext.getUuid(), formQuestion);
 	}
 }
@@ -4,6 +4,7 @@
 package mz.org.fgh.mentoring.core.indicator.dao;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
@@ -26,11 +27,13 @@ public interface IndicatorDAO extends GenericDAO<Indicator, Long> {
 
 	class QUERY {
 		public static final String findByHealthFacilityFormAndReferredMonth = "SELECT i FROM Indicator i INNER JOIN FETCH i.answers a INNER JOIN FETCH a.question WHERE i.healthFacility.id = :healthFacilityId AND i.form.id = :formId AND i.referredMonth = :referredMonth AND i.lifeCycleStatus = :lifeCycleStatus ORDER BY i.id DESC";
+		public static final String fetchByHealthFacilitiesFormsAndReferredMonths = "SELECT DISTINCT i FROM Indicator i LEFT JOIN FETCH i.answers a LEFT JOIN FETCH a.question WHERE i.healthFacility.id IN (:healthFacilityIds) AND i.form.id IN (:formIds) AND i.referredMonth BETWEEN :startMonth AND :endMonth AND i.lifeCycleStatus = :lifeCycleStatus ORDER BY i.id DESC";
 		public static final String findDuplicated = "SELECT NEW mz.org.fgh.mentoring.core.indicator.model.DuplicatedIndicator(hf.id, f.id, i.referredMonth, COUNT(i.id)) FROM Indicator i INNER JOIN i.healthFacility hf INNER JOIN i.form f WHERE i.lifeCycleStatus = :lifeCycleStatus GROUP BY hf.uuid, f.uuid, i.referredMonth HAVING COUNT(i.id) > 1 ORDER BY hf.uuid, f.uuid, i.referredMonth";
 	}
 
 	class QUERY_NAME {
 		public static final String findByHealthFacilityFormAndReferredMonth = "Indicator.findByHealthFacilityFormAndReferredMonth";
+		public static final String fetchByHealthFacilitiesFormsAndReferredMonths = "Indicator.fetchByHealthFacilitiesFormsAndReferredMonths";
 		public static final String findDuplicated = "DuplicatedIndicator.findDuplicated";
 	}
 
@@ -40,6 +43,15 @@ public interface IndicatorDAO extends GenericDAO<Indicator, Long> {
 	List<Indicator> findByHealthFacilityFormAndReferredMonth(final HealthFacility healthFacility, final Form form,
 	        final LocalDate referredMonth, final LifeCycleStatus lifeCycleStatus);
 
+	/**
+	 * Fetches, with their answers, the indicators of any of the given health
+	 * facilities and forms referred to a month in the given range, newest
+	 * first. The caller picks the exact (health facility, form, month)
+	 * combinations it needs.
+	 */
+	List<Indicator> fetchByHealthFacilitiesFormsAndReferredMonths(Collection<Long> healthFacilityIds,
+	        Collection<Long> formIds, LocalDate startMonth, LocalDate endMonth, LifeCycleStatus lifeCycleStatus);
+
 	List<DuplicatedIndicator> findDuplicated(final LifeCycleStatus lifeCycleStatus);
 
 	List<AnalysisTable> findAnalysisTableBySelectedFilter(final District district, final LocalDate startDate,
@@ -3,13 +3,13 @@
  */
 package mz.org.fgh.mentoring.core.indicator.dao;
 
+import java.sql.Date;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
-import javax.persistence.Query;
+import javax.inject.Inject;
+import javax.persistence.TypedQuery;
 
 import org.springframework.stereotype.Repository;
 
@@ -21,9 +21,10 @@ import mz.org.fgh.mentoring.core.indicator.model.AnalysisTable;
 import mz.org.fgh.mentoring.core.indicator.model.DuplicatedIndicator;
 import mz.org.fgh.mentoring.core.indicator.model.Indicator;
 import mz.org.fgh.mentoring.core.indicator.model.SampleIndicator;
-import mz.org.fgh.mentoring.core.indicator.model.SampleQuestion;
 import mz.org.fgh.mentoring.core.location.model.District;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.report.NativeQueryBuilder;
+import mz.org.fgh.mentoring.core.report.ReportQueryRegistry;
 
 /**
  * @author Stélio Moiane
@@ -32,102 +33,37 @@ import mz.org.fgh.mentoring.core.location.model.HealthFacility;
 @Repository(IndicatorDAO.NAME)
 public class IndicatorDAOImpl extends GenericDAOImpl<Indicator, Long> implements IndicatorDAO {
 
-	private static final String DATE_PATTERN = "yyyy-MM-dd";
+	@Inject
+	private ReportQueryRegistry reportQueryRegistry;
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public List<SampleIndicator> findSamplesBySelectedFilter(final District district,
 	        final HealthFacility healthFacility, final Form form, final LocalDate startDate, final LocalDate endDate,
 	        final LifeCycleStatus lifeCycleStatus) {
 
-		final Map<String, Integer> positions = new HashMap<>();
-
-		final StringBuilder nativeQuery = new StringBuilder();
-		nativeQuery.append("SELECT d.DISTRICT, hf.HEALTH_FACILITY, f.NAME, ").append("SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) AS COLLECTED, ").append("SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_TRANSPORTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) AS TRANSPORTED, ").append("SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_REJECTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) AS REJECTED, ").append("SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_RECEIVED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) AS RECEIVED FROM ANSWERS a ")
-		        .append("INNER JOIN INDICATORS i ON i.ID = a.INDICATOR_ID INNER JOIN FORMS f ON f.ID = i.FORM_ID ")
-		        .append("INNER JOIN HEALTH_FACILITIES hf ON hf.ID = i.HEALTH_FACILITY_ID ")
-		        .append("INNER JOIN DISTRICTS d ON d.ID = hf.DISTRICT_ID INNER JOIN QUESTIONS q ON q.ID = a.QUESTION_ID ")
-		        .append("WHERE i.LIFE_CYCLE_STATUS = 'ACTIVE' AND ").append("q.uuid IN(").append("'")
-		        .append(SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue()).append("', ").append("'")
-		        .append(SampleQuestion.NUMBER_OF_TRANSPORTED_SAMPLES.getValue()).append("', ").append("'")
-		        .append(SampleQuestion.NUMBER_OF_REJECTED_SAMPLES.getValue()).append("', ").append("'")
-		        .append(SampleQuestion.NUMBER_OF_RECEIVED_SAMPLES.getValue()).append("')");
-
-		this.addConstraints(district, healthFacility, form, startDate, endDate, nativeQuery, positions);
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findSamplesBySelectedFilter");
+		nativeQuery.append("SELECT d.DISTRICT, hf.HEALTH_FACILITY, f.NAME, SUM(r.COLLECTED) AS COLLECTED, ")
+		        .append("SUM(r.TRANSPORTED) AS TRANSPORTED, SUM(r.REJECTED) AS REJECTED, SUM(r.RECEIVED) AS RECEIVED ")
+		        .append("FROM INDICATOR_MONTHLY_ROLLUP r INNER JOIN FORMS f ON f.ID = r.FORM_ID ")
+		        .append("INNER JOIN HEALTH_FACILITIES hf ON hf.ID = r.HEALTH_FACILITY_ID ")
+		        .append("INNER JOIN DISTRICTS d ON d.ID = hf.DISTRICT_ID WHERE r.LIFE_CYCLE_STATUS = 'ACTIVE'");
+
+		this.addConstraints(district, healthFacility, form, startDate, endDate, nativeQuery);
 
 		nativeQuery.append(" GROUP BY d.DISTRICT, hf.HEALTH_FACILITY, f.NAME");
 		nativeQuery.append(" ORDER BY d.DISTRICT, hf.HEALTH_FACILITY, f.NAME");
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString(), SampleIndicator.NAME);
-
-		this.setParameters(district, healthFacility, form, startDate, endDate, query, positions);
-
-		return query.getResultList();
-	}
-
-	private void setParameters(final District district, final HealthFacility healthFacility, final Form form,
-	        final LocalDate startDate, final LocalDate endDate, final Query query,
-	        final Map<String, Integer> positions) {
-
-		if (district != null) {
-			query.setParameter(positions.get("district"), district.getUuid());
-		}
-
-		if (healthFacility != null) {
-			query.setParameter(positions.get("healthFacility"), healthFacility.getUuid());
-		}
-
-		if (form != null) {
-			query.setParameter(positions.get("form"), form.getUuid());
-		}
-
-		if (startDate != null) {
-			query.setParameter(positions.get("startDate"), startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN)));
-		}
-
-		if (endDate != null) {
-			query.setParameter(positions.get("endDate"), endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN)));
-		}
+		return nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry, SampleIndicator.NAME);
 	}
 
 	private void addConstraints(final District district, final HealthFacility healthFacility, final Form form,
-	        final LocalDate startDate, final LocalDate endDate, final StringBuilder nativeQuery,
-	        final Map<String, Integer> positions) {
-
-		int position = 0;
-
-		if (district != null) {
-			nativeQuery.append(" AND d.UUID = ?");
-			positions.put("district", ++position);
-		}
-
-		if (healthFacility != null) {
-			nativeQuery.append(" AND hf.UUID = ?");
-			positions.put("healthFacility", ++position);
-		}
-
-		if (form != null) {
-			nativeQuery.append(" AND f.UUID = ?");
-			positions.put("form", ++position);
-		}
-
-		if (startDate != null) {
-			nativeQuery.append(" AND i.REFERRED_MONTH >= ?");
-			positions.put("startDate", ++position);
-		}
-
-		if (endDate != null) {
-			nativeQuery.append(" AND i.REFERRED_MONTH <= ?");
-			positions.put("endDate", ++position);
-		}
+	        final LocalDate startDate, final LocalDate endDate, final NativeQueryBuilder nativeQuery) {
+
+		nativeQuery.and("d.UUID =", district == null ? null : district.getUuid());
+		nativeQuery.and("hf.UUID =", healthFacility == null ? null : healthFacility.getUuid());
+		nativeQuery.and("f.UUID =", form == null ? null : form.getUuid());
+		nativeQuery.and("r.REFERRED_MONTH >=", startDate == null ? null : Date.valueOf(startDate));
+		nativeQuery.and("r.REFERRED_MONTH <=", endDate == null ? null : Date.valueOf(endDate));
 	}
 
 	@Override
@@ -139,61 +75,48 @@ public class IndicatorDAOImpl extends GenericDAOImpl<Indicator, Long> implements
 		                .add("referredMonth", referredMonth).add("lifeCycleStatus", lifeCycleStatus).process());
 	}
 
+	@Override
+	public List<Indicator> fetchByHealthFacilitiesFormsAndReferredMonths(final Collection<Long> healthFacilityIds,
+	        final Collection<Long> formIds, final LocalDate startMonth, final LocalDate endMonth,
+	        final LifeCycleStatus lifeCycleStatus) {
+
+		final TypedQuery<Indicator> query = this.findByQuery(
+		        IndicatorDAO.QUERY_NAME.fetchByHealthFacilitiesFormsAndReferredMonths,
+		        new ParamBuilder().add("startMonth", startMonth).add("endMonth", endMonth)
+		                .add("lifeCycleStatus", lifeCycleStatus).process());
+		query.setParameter("healthFacilityIds", healthFacilityIds);
+		query.setParameter("formIds", formIds);
+
+		return query.getResultList();
+	}
+
 	@Override
 	public List<DuplicatedIndicator> findDuplicated(final LifeCycleStatus lifeCycleStatus) {
 		return this.findByNamedQuery(IndicatorDAO.QUERY_NAME.findDuplicated,
 		        new ParamBuilder().add("lifeCycleStatus", lifeCycleStatus).process(), DuplicatedIndicator.class);
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public List<AnalysisTable> findAnalysisTableBySelectedFilter(final District district, final LocalDate startDate,
 	        final LocalDate endDate) {
 
-		final Map<String, Integer> positions = new HashMap<>();
-		final StringBuilder nativeQuery = new StringBuilder();
-
-		nativeQuery.append("SELECT f.NAME, ").append("SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) AS COLLECTED_SAMPLES, ").append("SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_TRANSPORTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) AS REFERRED_SAMPLES, ").append("SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_REJECTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) AS REJECTED_SAMPLES, ").append("SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_RECEIVED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) AS RECEIVED_RESULT, ").append("(SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_TRANSPORTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) / SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) * 100) AS TRANSPORTED, ").append("(SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_REJECTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) / SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) * 100) AS REJECTED, ").append("(SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_RECEIVED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) / SUM(IF(q.UUID = '")
-		        .append(SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue())
-		        .append("', a.NUMERIC_VALUE, 0)) * 100) AS RESULT ").append("FROM ANSWERS a ")
-		        .append("INNER JOIN INDICATORS i ON i.ID = a.INDICATOR_ID ")
-		        .append("INNER JOIN FORMS f ON f.ID = i.FORM_ID ")
-		        .append("INNER JOIN HEALTH_FACILITIES hf ON hf.ID = i.HEALTH_FACILITY_ID ")
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findAnalysisTableBySelectedFilter");
+
+		nativeQuery.append("SELECT f.NAME, SUM(r.COLLECTED) AS COLLECTED_SAMPLES, ")
+		        .append("SUM(r.TRANSPORTED) AS REFERRED_SAMPLES, SUM(r.REJECTED) AS REJECTED_SAMPLES, ")
+		        .append("SUM(r.RECEIVED) AS RECEIVED_RESULT, (SUM(r.TRANSPORTED) / SUM(r.COLLECTED) * 100) AS TRANSPORTED, ")
+		        .append("(SUM(r.REJECTED) / SUM(r.COLLECTED) * 100) AS REJECTED, ")
+		        .append("(SUM(r.RECEIVED) / SUM(r.COLLECTED) * 100) AS RESULT FROM INDICATOR_MONTHLY_ROLLUP r ")
+		        .append("INNER JOIN FORMS f ON f.ID = r.FORM_ID ")
+		        .append("INNER JOIN HEALTH_FACILITIES hf ON hf.ID = r.HEALTH_FACILITY_ID ")
 		        .append("INNER JOIN DISTRICTS d ON d.ID = hf.DISTRICT_ID ")
-		        .append("INNER JOIN QUESTIONS q ON q.ID = a.QUESTION_ID ")
-		        .append("WHERE i.LIFE_CYCLE_STATUS = 'ACTIVE' AND ").append("q.UUID IN(").append("'")
-		        .append(SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue()).append("', ").append("'")
-		        .append(SampleQuestion.NUMBER_OF_TRANSPORTED_SAMPLES.getValue()).append("', ").append("'")
-		        .append(SampleQuestion.NUMBER_OF_REJECTED_SAMPLES.getValue()).append("', ").append("'")
-		        .append(SampleQuestion.NUMBER_OF_RECEIVED_SAMPLES.getValue()).append("')");
+		        .append("WHERE r.LIFE_CYCLE_STATUS = 'ACTIVE'");
 
-		this.addConstraints(district, null, null, startDate, endDate, nativeQuery, positions);
+		this.addConstraints(district, null, null, startDate, endDate, nativeQuery);
 
 		nativeQuery.append(" GROUP BY f.NAME");
 		nativeQuery.append(" ORDER BY f.NAME");
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString(), AnalysisTable.NAME);
-
-		this.setParameters(district, null, null, startDate, endDate, query, positions);
-
-		return query.getResultList();
+		return nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry, AnalysisTable.NAME);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.indicator.dao;
+
+import java.time.LocalDate;
+
+import mz.co.mozview.frameworks.core.dao.GenericDAO;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.org.fgh.mentoring.core.indicator.model.IndicatorMonthlyRollup;
+import mz.org.fgh.mentoring.core.indicator.model.SampleQuestion;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface IndicatorMonthlyRollupDAO extends GenericDAO<IndicatorMonthlyRollup, Long> {
+
+	String NAME = "mz.org.fgh.mentoring.core.indicator.dao.IndicatorMonthlyRollupDAO";
+
+	String TABLE = "INDICATOR_MONTHLY_ROLLUP";
+
+	class QUERY {
+		public static final String findByHealthFacilityFormAndReferredMonth = "SELECT r FROM IndicatorMonthlyRollup r WHERE r.healthFacility.id = :healthFacilityId AND r.form.id = :formId AND r.referredMonth = :referredMonth AND r.lifeCycleStatus = :lifeCycleStatus";
+	}
+
+	class QUERY_NAME {
+		public static final String findByHealthFacilityFormAndReferredMonth = "IndicatorMonthlyRollup.findByHealthFacilityFormAndReferredMonth";
+	}
+
+	class SQL {
+
+		private static final String insert = "INSERT INTO INDICATOR_MONTHLY_ROLLUP (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, HEALTH_FACILITY_ID, FORM_ID, REFERRED_MONTH, COLLECTED, TRANSPORTED, REJECTED, RECEIVED) "
+		        + "SELECT NOW(), :userUuid, 'ACTIVE', REPLACE(UUID(), '-', ''), i.HEALTH_FACILITY_ID, i.FORM_ID, i.REFERRED_MONTH, "
+		        + "SUM(IF(q.UUID = '" + SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue() + "', a.NUMERIC_VALUE, 0)), "
+		        + "SUM(IF(q.UUID = '" + SampleQuestion.NUMBER_OF_TRANSPORTED_SAMPLES.getValue() + "', a.NUMERIC_VALUE, 0)), "
+		        + "SUM(IF(q.UUID = '" + SampleQuestion.NUMBER_OF_REJECTED_SAMPLES.getValue() + "', a.NUMERIC_VALUE, 0)), "
+		        + "SUM(IF(q.UUID = '" + SampleQuestion.NUMBER_OF_RECEIVED_SAMPLES.getValue() + "', a.NUMERIC_VALUE, 0)) "
+		        + "FROM ANSWERS a INNER JOIN INDICATORS i ON i.ID = a.INDICATOR_ID "
+		        + "INNER JOIN QUESTIONS q ON q.ID = a.QUESTION_ID "
+		        + "WHERE i.LIFE_CYCLE_STATUS = 'ACTIVE' AND q.UUID IN ('"
+		        + SampleQuestion.NUMBER_OF_COLLECTED_SAMPLES.getValue() + "', '"
+		        + SampleQuestion.NUMBER_OF_TRANSPORTED_SAMPLES.getValue() + "', '"
+		        + SampleQuestion.NUMBER_OF_REJECTED_SAMPLES.getValue() + "', '"
+		        + SampleQuestion.NUMBER_OF_RECEIVED_SAMPLES.getValue() + "')";
+
+		private static final String groupBy = " GROUP BY i.HEALTH_FACILITY_ID, i.FORM_ID, i.REFERRED_MONTH";
+
+		public static final String deleteByKey = "DELETE FROM INDICATOR_MONTHLY_ROLLUP WHERE HEALTH_FACILITY_ID = :healthFacilityId AND FORM_ID = :formId AND REFERRED_MONTH = :referredMonth";
+		public static final String insertByKey = insert
+		        + " AND i.HEALTH_FACILITY_ID = :healthFacilityId AND i.FORM_ID = :formId AND i.REFERRED_MONTH = :referredMonth"
+		        + groupBy;
+		public static final String deleteAll = "DELETE FROM INDICATOR_MONTHLY_ROLLUP";
+		public static final String insertAll = insert + groupBy;
+	}
+
+	IndicatorMonthlyRollup findByHealthFacilityFormAndReferredMonth(final Long healthFacilityId, final Long formId,
+	        final LocalDate referredMonth, final LifeCycleStatus lifeCycleStatus);
+
+	/**
+	 * Recomputes the totals of one health facility, form and referred month
+	 * from its active indicators. Pending changes are flushed first so they
+	 * are counted.
+	 */
+	void refresh(final String userUuid, final Long healthFacilityId, final Long formId,
+	        final LocalDate referredMonth);
+
+	/**
+	 * Recomputes every row from the active indicators and returns how many
+	 * rows were written.
+	 */
+	int rebuild(final String userUuid);
+}
@@ -0,0 +1,73 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.indicator.dao;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+import javax.persistence.Query;
+
+import org.hibernate.SQLQuery;
+import org.springframework.stereotype.Repository;
+
+import mz.co.mozview.frameworks.core.dao.GenericDAOImpl;
+import mz.co.mozview.frameworks.core.dao.ParamBuilder;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.org.fgh.mentoring.core.indicator.model.IndicatorMonthlyRollup;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Repository(IndicatorMonthlyRollupDAO.NAME)
+public class IndicatorMonthlyRollupDAOImpl extends GenericDAOImpl<IndicatorMonthlyRollup, Long>
+        implements IndicatorMonthlyRollupDAO {
+
+	@Override
+	public IndicatorMonthlyRollup findByHealthFacilityFormAndReferredMonth(final Long healthFacilityId,
+	        final Long formId, final LocalDate referredMonth, final LifeCycleStatus lifeCycleStatus) {
+
+		return this.findSingleByNamedQuery(IndicatorMonthlyRollupDAO.QUERY_NAME.findByHealthFacilityFormAndReferredMonth,
+		        new ParamBuilder().add("healthFacilityId", healthFacilityId).add("formId", formId)
+		                .add("referredMonth", referredMonth).add("lifeCycleStatus", lifeCycleStatus).process());
+	}
+
+	@Override
+	public void refresh(final String userUuid, final Long healthFacilityId, final Long formId,
+	        final LocalDate referredMonth) {
+
+		this.getEntityManager().flush();
+
+		this.createUpdate(IndicatorMonthlyRollupDAO.SQL.deleteByKey).setParameter("healthFacilityId", healthFacilityId)
+		        .setParameter("formId", formId).setParameter("referredMonth", Date.valueOf(referredMonth))
+		        .executeUpdate();
+
+		this.createUpdate(IndicatorMonthlyRollupDAO.SQL.insertByKey).setParameter("userUuid", userUuid)
+		        .setParameter("healthFacilityId", healthFacilityId).setParameter("formId", formId)
+		        .setParameter("referredMonth", Date.valueOf(referredMonth)).executeUpdate();
+	}
+
+	@Override
+	public int rebuild(final String userUuid) {
+
+		this.getEntityManager().flush();
+
+		this.createUpdate(IndicatorMonthlyRollupDAO.SQL.deleteAll).executeUpdate();
+
+		return this.createUpdate(IndicatorMonthlyRollupDAO.SQL.insertAll).setParameter("userUuid", userUuid)
+		        .executeUpdate();
+	}
+
+	/**
+	 * Declares the rollup as the only table written, otherwise Hibernate drops
+	 * every second level cache region on each statement.
+	 */
+	private Query createUpdate(final String sql) {
+
+		final Query query = this.getEntityManager().createNativeQuery(sql);
+		query.unwrap(SQLQuery.class).addSynchronizedQuerySpace(IndicatorMonthlyRollupDAO.TABLE);
+
+		return query;
+	}
+}
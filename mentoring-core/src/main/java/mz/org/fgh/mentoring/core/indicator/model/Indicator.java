@@ -15,6 +15,7 @@ import javax.persistence.ColumnResult;
 import javax.persistence.ConstructorResult;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.NamedQueries;
@@ -69,9 +70,12 @@ import mz.org.fgh.mentoring.core.util.LocalDateTimeAdapter;
 @XmlAccessorType(XmlAccessType.FIELD)
 @NamedQueries({
         @NamedQuery(name = IndicatorDAO.QUERY_NAME.findByHealthFacilityFormAndReferredMonth, query = IndicatorDAO.QUERY.findByHealthFacilityFormAndReferredMonth),
+        @NamedQuery(name = IndicatorDAO.QUERY_NAME.fetchByHealthFacilitiesFormsAndReferredMonths, query = IndicatorDAO.QUERY.fetchByHealthFacilitiesFormsAndReferredMonths),
         @NamedQuery(name = IndicatorDAO.QUERY_NAME.findDuplicated, query = IndicatorDAO.QUERY.findDuplicated) })
 @Entity
-@Table(name = "INDICATORS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }))
+@Table(name = "INDICATORS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }), indexes = {
+        @Index(name = "IDX_INDICATORS_HF_FORM_MONTH", columnList = "HEALTH_FACILITY_ID, FORM_ID, REFERRED_MONTH, LIFE_CYCLE_STATUS"),
+        @Index(name = "IDX_INDICATORS_STATUS_DATE_FORM", columnList = "LIFE_CYCLE_STATUS, PERFORMED_DATE, FORM_ID") })
 public class Indicator extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
@@ -0,0 +1,101 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.indicator.model;
+
+import java.time.LocalDate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.validation.constraints.NotNull;
+
+import mz.co.mozview.frameworks.core.model.GenericEntity;
+import mz.org.fgh.mentoring.core.form.model.Form;
+import mz.org.fgh.mentoring.core.indicator.dao.IndicatorMonthlyRollupDAO;
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+
+/**
+ * Sample transport totals of the active indicators of one health facility,
+ * form and referred month. The sample and analysis reports sum these rows
+ * instead of pivoting ANSWERS on every call.
+ *
+ * The rows are written with plain SQL by {@link IndicatorMonthlyRollupDAO}
+ * whenever an indicator is written, and can be rebuilt from the indicators at
+ * any time. The district is not kept: the reports join it through the health
+ * facility, which can move to another district.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@NamedQueries({
+        @NamedQuery(name = IndicatorMonthlyRollupDAO.QUERY_NAME.findByHealthFacilityFormAndReferredMonth, query = IndicatorMonthlyRollupDAO.QUERY.findByHealthFacilityFormAndReferredMonth) })
+@Entity
+@Table(name = "INDICATOR_MONTHLY_ROLLUP", uniqueConstraints = @UniqueConstraint(name = "UK_INDICATOR_MONTHLY_ROLLUP_KEY", columnNames = {
+        "HEALTH_FACILITY_ID", "FORM_ID", "REFERRED_MONTH" }), indexes = {
+                @Index(name = "IDX_INDICATOR_MONTHLY_ROLLUP_MONTH", columnList = "REFERRED_MONTH") })
+public class IndicatorMonthlyRollup extends GenericEntity {
+
+	private static final long serialVersionUID = 1L;
+
+	@NotNull
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "HEALTH_FACILITY_ID", nullable = false)
+	private HealthFacility healthFacility;
+
+	@NotNull
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "FORM_ID", nullable = false)
+	private Form form;
+
+	@NotNull
+	@Column(name = "REFERRED_MONTH", nullable = false)
+	private LocalDate referredMonth;
+
+	@Column(name = "COLLECTED")
+	private Long collected;
+
+	@Column(name = "TRANSPORTED")
+	private Long transported;
+
+	@Column(name = "REJECTED")
+	private Long rejected;
+
+	@Column(name = "RECEIVED")
+	private Long received;
+
+	public HealthFacility getHealthFacility() {
+		return this.healthFacility;
+	}
+
+	public Form getForm() {
+		return this.form;
+	}
+
+	public LocalDate getReferredMonth() {
+		return this.referredMonth;
+	}
+
+	public Long getCollected() {
+		return this.collected;
+	}
+
+	public Long getTransported() {
+		return this.transported;
+	}
+
+	public Long getRejected() {
+		return this.rejected;
+	}
+
+	public Long getReceived() {
+		return this.received;
+	}
+}
@@ -0,0 +1,36 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.indicator.model;
+
+import java.util.List;
+
+import mz.org.fgh.mentoring.core.answer.model.Answer;
+
+/**
+ * An indicator sent by a tablet together with its answers. The indicator's
+ * form and health facility only need their uuid, the answers' questions must
+ * be the persisted ones.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class IndicatorUpload {
+
+	private final Indicator indicator;
+
+	private final List<Answer> answers;
+
+	public IndicatorUpload(final Indicator indicator, final List<Answer> answers) {
+		this.indicator = indicator;
+		this.answers = answers;
+	}
+
+	public Indicator getIndicator() {
+		return this.indicator;
+	}
+
+	public List<Answer> getAnswers() {
+		return this.answers;
+	}
+}
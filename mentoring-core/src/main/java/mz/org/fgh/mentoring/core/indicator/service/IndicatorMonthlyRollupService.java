@@ -0,0 +1,21 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.indicator.service;
+
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface IndicatorMonthlyRollupService {
+
+	String NAME = "mz.org.fgh.mentoring.core.indicator.service.IndicatorMonthlyRollupService";
+
+	/**
+	 * Recomputes the whole INDICATOR_MONTHLY_ROLLUP table from the active
+	 * indicators and returns how many rows it now holds.
+	 */
+	int rebuildRollup(final UserContext userContext);
+}
@@ -0,0 +1,36 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.indicator.service;
+
+import javax.inject.Inject;
+
+import org.springframework.stereotype.Service;
+
+import mz.co.mozview.frameworks.core.service.AbstractService;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.indicator.dao.IndicatorMonthlyRollupDAO;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+import mz.org.fgh.mentoring.core.report.ReportCache.Source;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Service(IndicatorMonthlyRollupService.NAME)
+public class IndicatorMonthlyRollupServiceImpl extends AbstractService implements IndicatorMonthlyRollupService {
+
+	@Inject
+	private IndicatorMonthlyRollupDAO indicatorMonthlyRollupDAO;
+
+	@Inject
+	private ReportCache reportCache;
+
+	@Override
+	public int rebuildRollup(final UserContext userContext) {
+
+		this.reportCache.changed(Source.INDICATORS);
+
+		return this.indicatorMonthlyRollupDAO.rebuild(userContext.getUuid());
+	}
+}
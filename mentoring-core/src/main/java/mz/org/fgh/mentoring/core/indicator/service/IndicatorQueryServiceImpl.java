@@ -20,6 +20,9 @@ import mz.org.fgh.mentoring.core.indicator.model.Indicator;
 import mz.org.fgh.mentoring.core.indicator.model.SampleIndicator;
 import mz.org.fgh.mentoring.core.location.model.District;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.report.ReadOnlyReport;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+import mz.org.fgh.mentoring.core.report.ReportCache.Source;
 
 /**
  * @author Stélio Moiane
@@ -30,16 +33,24 @@ public class IndicatorQueryServiceImpl implements IndicatorQueryService {
 
 	public static final String NAME = "mz.org.fgh.mentoring.core.indicator.service.IndicatorQueryServiceImpl";
 
+	private static final String SAMPLE_INDICATORS = "sample-indicators";
+
 	@Inject
 	IndicatorDAO indicatorDAO;
 
+	@Inject
+	private ReportCache reportCache;
+
 	@Override
+	@ReadOnlyReport
 	public List<SampleIndicator> findSampleIndicatorsBySelectedFilter(final District district,
 	        final HealthFacility healthFacility, final Form form, final LocalDate startDate, final LocalDate endDate)
 	        throws BusinessException {
 
-		return this.indicatorDAO.findSamplesBySelectedFilter(district, healthFacility, form, startDate, endDate,
-		        LifeCycleStatus.ACTIVE);
+		return this.reportCache.get(SAMPLE_INDICATORS, Source.INDICATORS, startDate, endDate,
+		        () -> this.indicatorDAO.findSamplesBySelectedFilter(district, healthFacility, form, startDate, endDate,
+		                LifeCycleStatus.ACTIVE),
+		        district, healthFacility, form);
 	}
 
 	@Override
@@ -56,6 +67,7 @@ public class IndicatorQueryServiceImpl implements IndicatorQueryService {
 	}
 
 	@Override
+	@ReadOnlyReport
 	public List<AnalysisTable> findAnalysisTableBySelectedFilter(final District district, final LocalDate startDate,
 	        final LocalDate endDate) {
 		return this.indicatorDAO.findAnalysisTableBySelectedFilter(district, startDate, endDate);
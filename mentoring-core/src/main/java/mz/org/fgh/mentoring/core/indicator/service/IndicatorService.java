@@ -10,6 +10,8 @@ import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
 import mz.org.fgh.mentoring.core.form.model.Form;
 import mz.org.fgh.mentoring.core.indicator.model.Indicator;
+import mz.org.fgh.mentoring.core.indicator.model.IndicatorUpload;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
  * @author Stélio Moiane
@@ -29,4 +31,13 @@ public interface IndicatorService {
 
 	Indicator synchronizeIndicator(final UserContext userContext, final Indicator indicator, final Form form,
 	        final List<Answer> answers) throws BusinessException;
+
+	/**
+	 * Synchronises the uploaded indicators of the given tutor in one go. Like
+	 * {@link #synchronizeIndicator(UserContext, Indicator, Form, List)}, an
+	 * indicator for an existing (health facility, form, referred month)
+	 * updates the values of the existing answers; any other is created.
+	 */
+	List<Indicator> synchronizeIndicators(final UserContext userContext, final Tutor tutor,
+	        final List<IndicatorUpload> uploads) throws BusinessException;
 }
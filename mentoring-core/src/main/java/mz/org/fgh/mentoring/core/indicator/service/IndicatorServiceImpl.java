@@ -3,22 +3,41 @@
  */
 package mz.org.fgh.mentoring.core.indicator.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Service;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.model.GenericEntity;
 import mz.co.mozview.frameworks.core.service.AbstractService;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.co.mozview.frameworks.core.util.PropertyValues;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.answer.dao.AnswerDAO;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
 import mz.org.fgh.mentoring.core.answer.service.AnswerService;
+import mz.org.fgh.mentoring.core.form.dao.FormDAO;
 import mz.org.fgh.mentoring.core.form.model.Form;
 import mz.org.fgh.mentoring.core.indicator.dao.IndicatorDAO;
+import mz.org.fgh.mentoring.core.indicator.dao.IndicatorMonthlyRollupDAO;
 import mz.org.fgh.mentoring.core.indicator.model.Indicator;
+import mz.org.fgh.mentoring.core.indicator.model.IndicatorUpload;
+import mz.org.fgh.mentoring.core.location.dao.HealthFacilityDAO;
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+import mz.org.fgh.mentoring.core.report.ReportCache.Source;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
  * @author Stélio Moiane
@@ -39,6 +58,21 @@ public class IndicatorServiceImpl extends AbstractService implements IndicatorSe
 	@Inject
 	private PropertyValues propertyValues;
 
+	@Inject
+	private AnswerDAO answerDAO;
+
+	@Inject
+	private FormDAO formDAO;
+
+	@Inject
+	private HealthFacilityDAO healthFacilityDAO;
+
+	@Inject
+	private IndicatorMonthlyRollupDAO indicatorMonthlyRollupDAO;
+
+	@Inject
+	private ReportCache reportCache;
+
 	@Override
 	public Indicator createIndicator(final UserContext userContext, final Indicator indicator, final Form form,
 	        final List<Answer> answers) throws BusinessException {
@@ -59,6 +93,8 @@ public class IndicatorServiceImpl extends AbstractService implements IndicatorSe
 			this.answerService.createAnswer(userContext, answer);
 		}
 
+		this.refreshRollup(userContext, indicator);
+
 		return indicator;
 	}
 
@@ -73,6 +109,8 @@ public class IndicatorServiceImpl extends AbstractService implements IndicatorSe
 			this.updateValue(userContext, answer, foundIndicator.getAnswers());
 		}
 
+		this.refreshRollup(userContext, foundIndicator);
+
 		return foundIndicator;
 	}
 
@@ -91,7 +129,10 @@ public class IndicatorServiceImpl extends AbstractService implements IndicatorSe
 	@Override
 	public Indicator updateIndicator(final UserContext userContext, final Indicator indicator)
 	        throws BusinessException {
-		return this.indicatorDAO.update(userContext.getUuid(), indicator);
+		final Indicator updated = this.indicatorDAO.update(userContext.getUuid(), indicator);
+		this.refreshRollup(userContext, updated);
+
+		return updated;
 	}
 
 	@Override
@@ -112,4 +153,198 @@ public class IndicatorServiceImpl extends AbstractService implements IndicatorSe
 
 		return indicator;
 	}
+
+	@Override
+	public List<Indicator> synchronizeIndicators(final UserContext userContext, final Tutor tutor,
+	        final List<IndicatorUpload> uploads) throws BusinessException {
+
+		final List<Indicator> indicators = new ArrayList<>();
+
+		if (uploads.isEmpty()) {
+			return indicators;
+		}
+
+		final Map<String, Form> forms = this.byUuid(uploads, upload -> upload.getIndicator().getForm().getUuid(),
+		        this.formDAO::findByUuids);
+		final Map<String, HealthFacility> healthFacilities = this.byUuid(uploads,
+		        upload -> upload.getIndicator().getHealthFacility().getUuid(), this.healthFacilityDAO::findByUuids);
+
+		for (final IndicatorUpload upload : uploads) {
+
+			final Indicator indicator = upload.getIndicator();
+			final Form form = forms.get(indicator.getForm().getUuid());
+			final HealthFacility healthFacility = healthFacilities.get(indicator.getHealthFacility().getUuid());
+
+			if (form == null || healthFacility == null) {
+				throw new BusinessException(this.propertyValues.getPropValues("no.result.found") + " "
+				        + (form == null ? "Form " + indicator.getForm().getUuid()
+				                : "HealthFacility " + indicator.getHealthFacility().getUuid()));
+			}
+
+			indicator.setTutor(tutor);
+			indicator.setForm(form);
+			indicator.setHealthFacility(healthFacility);
+		}
+
+		final Map<String, IndicatorAnswers> existing = this.findExisting(uploads);
+		final List<Answer> createdAnswers = new ArrayList<>();
+		final Map<Long, Answer> updatedAnswers = new LinkedHashMap<>();
+
+		for (final IndicatorUpload upload : uploads) {
+
+			final Indicator indicator = upload.getIndicator();
+			final String key = this.key(indicator);
+			final IndicatorAnswers found = existing.get(key);
+
+			if (found == null) {
+
+				if (upload.getAnswers().isEmpty()) {
+					throw new BusinessException(
+					        this.propertyValues.getPropValues("cannot.create.indicator.with.no.answers"));
+				}
+
+				indicator.setCode(this.indicatorDAO.generateCode("IND", 8, "0"));
+				this.indicatorDAO.create(userContext.getUuid(), indicator);
+
+				for (final Answer answer : upload.getAnswers()) {
+					answer.setIndicator(indicator);
+					answer.setForm(indicator.getForm());
+					createdAnswers.add(answer);
+				}
+
+				// a later upload for the same month updates these answers before they are written
+				existing.put(key, new IndicatorAnswers(indicator, upload.getAnswers()));
+			}
+			else {
+				found.indicator.setTutor(tutor);
+
+				for (final Answer answer : upload.getAnswers()) {
+
+					final Long questionId = answer.getQuestion().getId();
+					final Answer answerFound = found.answers.get(questionId);
+
+					if (answerFound == null) {
+						continue;
+					}
+
+					if (answerFound.getId() == null) {
+						answerFound.setValue(answer.getValue());
+						continue;
+					}
+
+					// the uploaded answer carries the new value, so the loaded one is not flushed again
+					answer.setId(answerFound.getId());
+					found.answers.put(questionId, answer);
+					updatedAnswers.put(answer.getId(), answer);
+				}
+			}
+
+			indicators.add(indicator);
+		}
+
+		for (final IndicatorAnswers found : existing.values()) {
+			if (found.loaded) {
+				this.indicatorDAO.update(userContext.getUuid(), found.indicator);
+			}
+		}
+
+		this.answerDAO.createInBatch(userContext.getUuid(), createdAnswers);
+		this.answerDAO.updateValuesInBatch(userContext.getUuid(), new ArrayList<>(updatedAnswers.values()));
+
+		for (final IndicatorAnswers found : existing.values()) {
+			this.refreshRollup(userContext, found.indicator);
+		}
+
+		return indicators;
+	}
+
+	private void refreshRollup(final UserContext userContext, final Indicator indicator) {
+		this.indicatorMonthlyRollupDAO.refresh(userContext.getUuid(), indicator.getHealthFacility().getId(),
+		        indicator.getForm().getId(), indicator.getReferredMonth());
+		this.reportCache.changed(Source.INDICATORS, indicator.getReferredMonth());
+	}
+
+	/**
+	 * Finds, with one query, the newest active indicator of each (health
+	 * facility, form, referred month) in the uploads.
+	 */
+	private Map<String, IndicatorAnswers> findExisting(final List<IndicatorUpload> uploads) {
+
+		final Set<Long> healthFacilityIds = new HashSet<>();
+		final Set<Long> formIds = new HashSet<>();
+		final Set<String> keys = new HashSet<>();
+		LocalDate startMonth = null;
+		LocalDate endMonth = null;
+
+		for (final IndicatorUpload upload : uploads) {
+
+			final Indicator indicator = upload.getIndicator();
+			final LocalDate referredMonth = indicator.getReferredMonth();
+
+			healthFacilityIds.add(indicator.getHealthFacility().getId());
+			formIds.add(indicator.getForm().getId());
+			keys.add(this.key(indicator));
+
+			startMonth = startMonth == null || referredMonth.isBefore(startMonth) ? referredMonth : startMonth;
+			endMonth = endMonth == null || referredMonth.isAfter(endMonth) ? referredMonth : endMonth;
+		}
+
+		final Map<String, IndicatorAnswers> existing = new HashMap<>();
+
+		for (final Indicator indicator : this.indicatorDAO.fetchByHealthFacilitiesFormsAndReferredMonths(
+		        healthFacilityIds, formIds, startMonth, endMonth, LifeCycleStatus.ACTIVE)) {
+
+			final String key = this.key(indicator);
+
+			if (keys.contains(key) && !existing.containsKey(key)) {
+				existing.put(key, new IndicatorAnswers(indicator));
+			}
+		}
+
+		return existing;
+	}
+
+	private String key(final Indicator indicator) {
+		return indicator.getHealthFacility().getId() + ":" + indicator.getForm().getId() + ":"
+		        + indicator.getReferredMonth();
+	}
+
+	private <T extends GenericEntity> Map<String, T> byUuid(final List<IndicatorUpload> uploads,
+	        final Function<IndicatorUpload, String> uuid, final Function<Set<String>, List<T>> finder) {
+
+		final Set<String> uuids = uploads.stream().map(uuid).collect(Collectors.toSet());
+
+		return finder.apply(uuids).stream()
+		        .collect(Collectors.toMap(GenericEntity::getUuid, Function.identity(), (a, b) -> a));
+	}
+
+	/**
+	 * An indicator and its answers by question id. The indicator is either one
+	 * found in the database or one created earlier in the same upload.
+	 */
+	private static final class IndicatorAnswers {
+
+		private final Indicator indicator;
+
+		private final Map<Long, Answer> answers = new HashMap<>();
+
+		private final boolean loaded;
+
+		private IndicatorAnswers(final Indicator indicator) {
+			this(indicator, indicator.getAnswers(), true);
+		}
+
+		private IndicatorAnswers(final Indicator indicator, final List<Answer> answers) {
+			this(indicator, answers, false);
+		}
+
+		private IndicatorAnswers(final Indicator indicator, final Iterable<Answer> answers, final boolean loaded) {
+			this.indicator = indicator;
+			this.loaded = loaded;
+
+			for (final Answer answer : answers) {
+				this.answers.putIfAbsent(answer.getQuestion().getId(), answer);
+			}
+		}
+	}
 }
@@ -3,6 +3,8 @@
  */
 package mz.org.fgh.mentoring.core.location.dao;
 
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
@@ -18,14 +20,33 @@ public interface CabinetDAO extends GenericDAO<Cabinet, Long> {
 	class QUERY {
 		public static final String findByName = "SELECT c FROM Cabinet c WHERE c.name = :cabinetName AND c.lifeCycleStatus = :lifeCycleStatus";
 		public static final String findAll = "SELECT c FROM Cabinet c WHERE c.lifeCycleStatus = :lifeCycleStatus ORDER BY c.name";
+		public static final String findByUuids = "SELECT c FROM Cabinet c WHERE c.uuid IN (:uuids)";
+		public static final String findCachedByUuid = "SELECT c FROM Cabinet c WHERE c.uuid = :uuid";
+		public static final String findChanged = "SELECT c FROM Cabinet c WHERE c.createdAt > :since OR c.updatedAt > :since ORDER BY c.name";
 	}
 
 	class QUERY_NAME {
 		public static final String findByName = "Cabinet.findByName";
 		public static final String findAll = "Cabinet.findAll";
+		public static final String findByUuids = "Cabinet.findByUuids";
+		public static final String findCachedByUuid = "Cabinet.findCachedByUuid";
+		public static final String findChanged = "Cabinet.findChanged";
 	}
 
 	Cabinet findByName(String cabinetName, LifeCycleStatus lifeCycleStatus);
 
 	List<Cabinet> findAll(LifeCycleStatus lifeCycleStatus);
+
+	List<Cabinet> findByUuids(Collection<String> uuids);
+
+	/**
+	 * Same as findByUuid, served from the query cache.
+	 */
+	Cabinet findCachedByUuid(String uuid);
+
+	/**
+	 * The cabinets created or updated after since, whatever their life cycle
+	 * status.
+	 */
+	List<Cabinet> findChanged(Calendar since);
 }
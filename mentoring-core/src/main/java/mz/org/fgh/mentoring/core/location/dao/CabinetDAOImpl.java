@@ -3,6 +3,9 @@
  */
 package mz.org.fgh.mentoring.core.location.dao;
 
+import javax.persistence.TypedQuery;
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.stereotype.Repository;
@@ -33,4 +36,24 @@ public class CabinetDAOImpl extends GenericDAOImpl<Cabinet, Long> implements Cab
 		        new ParamBuilder().add("lifeCycleStatus", lifeCycleStatus).process());
 	}
 
+	@Override
+	public List<Cabinet> findChanged(final Calendar since) {
+		return this.findByNamedQuery(CabinetDAO.QUERY_NAME.findChanged, new ParamBuilder().add("since", since).process());
+	}
+
+	@Override
+	public List<Cabinet> findByUuids(final Collection<String> uuids) {
+
+		final TypedQuery<Cabinet> query = this.findByQuery(CabinetDAO.QUERY_NAME.findByUuids,
+		        new ParamBuilder().process());
+		query.setParameter("uuids", uuids);
+
+		return query.getResultList();
+	}
+
+	@Override
+	public Cabinet findCachedByUuid(final String uuid) {
+		return this.findSingleByNamedQuery(CabinetDAO.QUERY_NAME.findCachedByUuid,
+		        new ParamBuilder().add("uuid", uuid).process());
+	}
 }
@@ -3,12 +3,16 @@
  */
 package mz.org.fgh.mentoring.core.location.dao;
 
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.location.model.District;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.search.IndexedName;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
@@ -30,6 +34,10 @@ public interface HealthFacilityDAO extends GenericDAO<HealthFacility, Long> {
 		public static final String findByDistrict = "SELECT hf FROM HealthFacility hf inner join fetch hf.district d WHERE d.id = :districtId AND hf.lifeCycleStatus = :lifeCycleStatus";
 		public static final String fetchAll = "SELECT hf FROM HealthFacility hf INNER JOIN FETCH hf.district d WHERE hf.lifeCycleStatus = :lifeCycleStatus";
 		public static final String findByDistrictAndName = "SELECT hf FROM HealthFacility hf INNER JOIN hf.district d WHERE d.id = :districtId AND hf.healthFacility = :healthFacility AND hf.lifeCycleStatus = :lifeCycleStatus";
+		public static final String findByUuids = "SELECT hf FROM HealthFacility hf WHERE hf.uuid IN (:uuids)";
+		public static final String findCachedByUuid = "SELECT hf FROM HealthFacility hf WHERE hf.uuid = :uuid";
+		public static final String findIndexedNames = "SELECT NEW mz.org.fgh.mentoring.core.search.IndexedName(hf.id, hf.healthFacility) FROM HealthFacility hf";
+		public static final String findIndexedNamesChangedSince = "SELECT NEW mz.org.fgh.mentoring.core.search.IndexedName(hf.id, hf.healthFacility) FROM HealthFacility hf WHERE hf.createdAt > :since OR hf.updatedAt > :since";
 	}
 
 	public static class QUERY_NAME {
@@ -38,6 +46,10 @@ public interface HealthFacilityDAO extends GenericDAO<HealthFacility, Long> {
 		public static final String fetchByTutor = "HealthFacility.fetchByTutor";
 		public static final String fetchAll = "HealthFacility.findAll";
 		public static final String findByDistrictAndName = "HealthFacility.findByDistrictAndName";
+		public static final String findByUuids = "HealthFacility.findByUuids";
+		public static final String findCachedByUuid = "HealthFacility.findCachedByUuid";
+		public static final String findIndexedNames = "HealthFacility.findIndexedNames";
+		public static final String findIndexedNamesChangedSince = "HealthFacility.findIndexedNamesChangedSince";
 	}
 
 	List<HealthFacility> findByDistrict(final Long districtId, final LifeCycleStatus lifeCycleStatus);
@@ -49,4 +61,21 @@ public interface HealthFacilityDAO extends GenericDAO<HealthFacility, Long> {
 
 	HealthFacility findByDistrictAndName(final District district, final String healthFacility,
 	        final LifeCycleStatus lifeCycleStatus);
+
+	List<HealthFacility> findByUuids(Collection<String> uuids);
+
+	/**
+	 * Same as findByUuid, served from the query cache.
+	 */
+	HealthFacility findCachedByUuid(String uuid);
+
+	/**
+	 * The names of all the health facilities, for the {@link NameSearchIndex}.
+	 */
+	List<IndexedName> findIndexedNames();
+
+	/**
+	 * The names of the health facilities created or updated after since.
+	 */
+	List<IndexedName> findIndexedNamesChangedSince(final Calendar since);
 }
@@ -3,9 +3,12 @@
  */
 package mz.org.fgh.mentoring.core.location.dao;
 
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
 import javax.persistence.NoResultException;
+import javax.persistence.TypedQuery;
 
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 import org.springframework.stereotype.Repository;
@@ -15,6 +18,7 @@ import mz.co.mozview.frameworks.core.dao.ParamBuilder;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.location.model.District;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.search.IndexedName;
 
 /**
  * @author Stélio Moiane
@@ -50,4 +54,32 @@ public class HealthFacilityDAOImpl extends GenericDAOImpl<HealthFacility, Long>
 			return null;
 		}
 	}
+
+	@Override
+	public List<HealthFacility> findByUuids(final Collection<String> uuids) {
+
+		final TypedQuery<HealthFacility> query = this.findByQuery(HealthFacilityDAO.QUERY_NAME.findByUuids,
+		        new ParamBuilder().process());
+		query.setParameter("uuids", uuids);
+
+		return query.getResultList();
+	}
+
+	@Override
+	public HealthFacility findCachedByUuid(final String uuid) {
+		return this.findSingleByNamedQuery(HealthFacilityDAO.QUERY_NAME.findCachedByUuid,
+		        new ParamBuilder().add("uuid", uuid).process());
+	}
+
+	@Override
+	public List<IndexedName> findIndexedNames() {
+		return this.findByNamedQuery(HealthFacilityDAO.QUERY_NAME.findIndexedNames, new ParamBuilder().process(),
+		        IndexedName.class);
+	}
+
+	@Override
+	public List<IndexedName> findIndexedNamesChangedSince(final Calendar since) {
+		return this.findByNamedQuery(HealthFacilityDAO.QUERY_NAME.findIndexedNamesChangedSince,
+		        new ParamBuilder().add("since", since).process(), IndexedName.class);
+	}
 }
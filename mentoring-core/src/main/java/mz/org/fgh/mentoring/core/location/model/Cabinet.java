@@ -3,10 +3,13 @@
  */
 package mz.org.fgh.mentoring.core.location.model;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.Index;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import javax.xml.bind.annotation.XmlAccessType;
@@ -15,6 +18,9 @@ import javax.xml.bind.annotation.XmlRootElement;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.QueryHints;
 
 import mz.co.mozview.frameworks.core.model.GenericEntity;
 import mz.org.fgh.mentoring.core.location.dao.CabinetDAO;
@@ -24,11 +30,18 @@ import mz.org.fgh.mentoring.core.location.dao.CabinetDAO;
  *
  */
 @NamedQueries({ @NamedQuery(name = CabinetDAO.QUERY_NAME.findByName, query = CabinetDAO.QUERY.findByName),
-        @NamedQuery(name = CabinetDAO.QUERY_NAME.findAll, query = CabinetDAO.QUERY.findAll) })
+        @NamedQuery(name = CabinetDAO.QUERY_NAME.findAll, query = CabinetDAO.QUERY.findAll),
+        @NamedQuery(name = CabinetDAO.QUERY_NAME.findByUuids, query = CabinetDAO.QUERY.findByUuids),
+        @NamedQuery(name = CabinetDAO.QUERY_NAME.findCachedByUuid, query = CabinetDAO.QUERY.findCachedByUuid,
+                hints = @QueryHint(name = QueryHints.CACHEABLE, value = "true")),
+        @NamedQuery(name = CabinetDAO.QUERY_NAME.findChanged, query = CabinetDAO.QUERY.findChanged) })
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @Entity
-@Table(name = "CABINETS")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "CABINETS", indexes = { @Index(name = "IDX_CABINETS_CREATED_AT", columnList = "CREATED_AT"),
+        @Index(name = "IDX_CABINETS_UPDATED_AT", columnList = "UPDATED_AT") })
 public class Cabinet extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
@@ -12,6 +12,9 @@ import javax.xml.bind.annotation.XmlTransient;
 
 import mz.org.fgh.mentoring.core.tutor.model.TutorLocation;
 import mz.org.fgh.mentoring.core.tutorprogramaticarea.model.TutorProgrammaticArea;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.QueryHints;
 import org.hibernate.validator.constraints.NotEmpty;
 
 import mz.co.mozview.frameworks.core.model.GenericEntity;
@@ -28,10 +31,17 @@ import java.util.Set;
         @NamedQuery(name = HealthFacilityDAO.QUERY_NAME.findByDistrict, query = HealthFacilityDAO.QUERY.findByDistrict),
         @NamedQuery(name = HealthFacilityDAO.QUERY_NAME.fetchAll, query = HealthFacilityDAO.QUERY.fetchAll),
 		@NamedQuery(name = HealthFacilityDAO.QUERY_NAME.fetchByTutor, query = HealthFacilityDAO.QUERY.fetchByTutor),
-        @NamedQuery(name = HealthFacilityDAO.QUERY_NAME.findByDistrictAndName, query = HealthFacilityDAO.QUERY.findByDistrictAndName) })
+        @NamedQuery(name = HealthFacilityDAO.QUERY_NAME.findByDistrictAndName, query = HealthFacilityDAO.QUERY.findByDistrictAndName),
+        @NamedQuery(name = HealthFacilityDAO.QUERY_NAME.findByUuids, query = HealthFacilityDAO.QUERY.findByUuids),
+        @NamedQuery(name = HealthFacilityDAO.QUERY_NAME.findCachedByUuid, query = HealthFacilityDAO.QUERY.findCachedByUuid,
+                hints = @QueryHint(name = QueryHints.CACHEABLE, value = "true")),
+        @NamedQuery(name = HealthFacilityDAO.QUERY_NAME.findIndexedNames, query = HealthFacilityDAO.QUERY.findIndexedNames),
+        @NamedQuery(name = HealthFacilityDAO.QUERY_NAME.findIndexedNamesChangedSince, query = HealthFacilityDAO.QUERY.findIndexedNamesChangedSince) })
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "HEALTH_FACILITIES")
 public class HealthFacility extends GenericEntity {
 
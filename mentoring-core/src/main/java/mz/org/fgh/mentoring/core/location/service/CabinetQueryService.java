@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.location.service;
 
+import java.util.Calendar;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
@@ -18,5 +19,11 @@ public interface CabinetQueryService {
 
 	List<Cabinet> findAllCabinets() throws BusinessException;
 
+	/**
+	 * The cabinets created or updated after since, the inactivated ones
+	 * included.
+	 */
+	List<Cabinet> findCabinetsChangedSince(final Calendar since) throws BusinessException;
+
 	Cabinet findCabinetByUuid(final String cabbinetUuid) throws BusinessException;
 }
@@ -3,14 +3,17 @@
  */
 package mz.org.fgh.mentoring.core.location.service;
 
+import java.util.Calendar;
 import java.util.List;
 
 import javax.inject.Inject;
+import javax.persistence.NoResultException;
 
 import org.springframework.stereotype.Service;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.co.mozview.frameworks.core.util.PropertyValues;
 import mz.org.fgh.mentoring.core.location.dao.CabinetDAO;
 import mz.org.fgh.mentoring.core.location.model.Cabinet;
 
@@ -27,6 +30,9 @@ public class CabinetQueryServiceImpl implements CabinetQueryService {
 	@Inject
 	private CabinetDAO cabinetDAO;
 
+	@Inject
+	private PropertyValues propertyValues;
+
 	@Override
 	public Cabinet findCabinetByName(final String cabinetName) throws BusinessException {
 		return this.cabinetDAO.findByName(cabinetName, LifeCycleStatus.ACTIVE);
@@ -37,8 +43,18 @@ public class CabinetQueryServiceImpl implements CabinetQueryService {
 		return this.cabinetDAO.findAll(LifeCycleStatus.ACTIVE);
 	}
 
+	@Override
+	public List<Cabinet> findCabinetsChangedSince(final Calendar since) throws BusinessException {
+		return this.cabinetDAO.findChanged(since);
+	}
+
 	@Override
 	public Cabinet findCabinetByUuid(final String cabinetUuid) throws BusinessException {
-		return this.cabinetDAO.findByUuid(cabinetUuid);
+		try {
+			return this.cabinetDAO.findCachedByUuid(cabinetUuid);
+		}
+		catch (final NoResultException e) {
+			throw new BusinessException(this.propertyValues.getPropValues("no.result.found"));
+		}
 	}
 }
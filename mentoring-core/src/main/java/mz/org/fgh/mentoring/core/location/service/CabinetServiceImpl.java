@@ -12,6 +12,7 @@ import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.location.dao.CabinetDAO;
 import mz.org.fgh.mentoring.core.location.model.Cabinet;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
 
 /**
  * @author Stélio Moiane
@@ -25,8 +26,12 @@ public class CabinetServiceImpl extends AbstractService implements CabinetServic
 	@Inject
 	private CabinetDAO cabinetDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
 	@Override
 	public Cabinet createCabinet(final UserContext userContext, final Cabinet cabinet) throws BusinessException {
+		this.metadataVersion.changed();
 		return this.cabinetDAO.create(userContext.getUuid(), cabinet);
 	}
 }
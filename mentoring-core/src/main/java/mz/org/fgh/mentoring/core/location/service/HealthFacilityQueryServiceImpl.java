@@ -6,6 +6,7 @@ package mz.org.fgh.mentoring.core.location.service;
 import java.util.List;
 
 import javax.inject.Inject;
+import javax.persistence.NoResultException;
 
 import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.co.mozview.frameworks.core.util.PropertyValues;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.location.dao.HealthFacilityDAO;
 import mz.org.fgh.mentoring.core.location.model.District;
@@ -28,6 +30,9 @@ public class HealthFacilityQueryServiceImpl extends AbstractService implements H
 	@Inject
 	private HealthFacilityDAO healthFacilityDAO;
 
+	@Inject
+	private PropertyValues propertyValues;
+
 	@Inject
 	private TutorDAO tutorDAO;
 
@@ -53,7 +58,12 @@ public class HealthFacilityQueryServiceImpl extends AbstractService implements H
 
 	@Override
 	public HealthFacility findHealthFacilityByUuid(final UserContext userContext, final String uuid) throws BusinessException {
-		return this.healthFacilityDAO.findByUuid(uuid);
+		try {
+			return this.healthFacilityDAO.findCachedByUuid(uuid);
+		}
+		catch (final NoResultException e) {
+			throw new BusinessException(this.propertyValues.getPropValues("no.result.found"));
+		}
 	}
 
 	@Override
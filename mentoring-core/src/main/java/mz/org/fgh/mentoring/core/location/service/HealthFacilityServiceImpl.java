@@ -12,6 +12,8 @@ import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.location.dao.HealthFacilityDAO;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 
 /**
  * @author Stélio Moiane
@@ -23,9 +25,19 @@ public class HealthFacilityServiceImpl extends AbstractService implements Health
 	@Inject
 	private HealthFacilityDAO healthFacilityDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
+	@Inject
+	private NameSearchIndex nameSearchIndex;
+
 	@Override
 	public HealthFacility createHealthFacility(final UserContext userContext, final HealthFacility healthFacility)
 			throws BusinessException {
-		return this.healthFacilityDAO.create(userContext.getUuid(), healthFacility);
+		this.metadataVersion.changed();
+		this.healthFacilityDAO.create(userContext.getUuid(), healthFacility);
+		this.nameSearchIndex.indexHealthFacility(healthFacility);
+
+		return healthFacility;
 	}
 }
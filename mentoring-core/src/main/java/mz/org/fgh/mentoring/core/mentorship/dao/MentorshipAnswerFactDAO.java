@@ -0,0 +1,68 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.mentorship.dao;
+
+import java.util.Collection;
+
+import mz.co.mozview.frameworks.core.dao.GenericDAO;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.org.fgh.mentoring.core.mentorship.model.MentorshipAnswerFact;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface MentorshipAnswerFactDAO extends GenericDAO<MentorshipAnswerFact, Long> {
+
+	String NAME = "mz.org.fgh.mentoring.core.mentorship.dao.MentorshipAnswerFactDAO";
+
+	String TABLE = "MENTORSHIP_ANSWER_FACTS";
+
+	class QUERY {
+		public static final String findByMentorshipUuid = "SELECT f FROM MentorshipAnswerFact f INNER JOIN f.mentorship m WHERE m.uuid = :mentorshipUuid AND f.lifeCycleStatus = :lifeCycleStatus";
+	}
+
+	class QUERY_NAME {
+		public static final String findByMentorshipUuid = "MentorshipAnswerFact.findByMentorshipUuid";
+	}
+
+	class SQL {
+
+		private static final String insert = "INSERT INTO MENTORSHIP_ANSWER_FACTS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, MENTORSHIP_ID, FORM_ID, PERFORMED_DATE, ATTENDED, PREVIOUS, TESTED, POSITIVE, ENROLLED) "
+		        + "SELECT NOW(), :userUuid, m.LIFE_CYCLE_STATUS, REPLACE(UUID(), '-', ''), m.ID, m.FORM_ID, COALESCE(s.PERFORMED_DATE, m.PERFORMED_DATE), "
+		        + "MAX(CASE WHEN q.CODE = 'MTQ00000588' THEN a.NUMERIC_VALUE END), "
+		        + "MAX(CASE WHEN q.CODE = 'MTQ00000589' THEN a.NUMERIC_VALUE END), "
+		        + "MAX(CASE WHEN q.CODE = 'MTQ00000590' THEN a.NUMERIC_VALUE END), "
+		        + "MAX(CASE WHEN q.CODE = 'MTQ00000591' THEN a.NUMERIC_VALUE END), "
+		        + "MAX(CASE WHEN q.CODE = 'MTQ00000592' THEN a.NUMERIC_VALUE END) "
+		        + "FROM MENTORSHIPS m INNER JOIN ANSWERS a ON a.MENTORSHIP_ID = m.ID AND a.LIFE_CYCLE_STATUS = 'ACTIVE' "
+		        + "INNER JOIN QUESTIONS q ON a.QUESTION_ID = q.ID LEFT JOIN SESSIONS s ON m.SESSION_ID = s.ID "
+		        + "WHERE q.CODE IN ('MTQ00000588', 'MTQ00000589', 'MTQ00000590', 'MTQ00000591', 'MTQ00000592') AND ";
+
+		private static final String groupBy = " GROUP BY m.ID, m.LIFE_CYCLE_STATUS, m.FORM_ID, s.PERFORMED_DATE, m.PERFORMED_DATE";
+
+		public static final String deleteByMentorships = "DELETE FROM MENTORSHIP_ANSWER_FACTS WHERE MENTORSHIP_ID IN (:ids)";
+
+		public static final String insertByMentorships = insert + "m.ID IN (:ids)" + groupBy;
+
+		public static final String deleteBySessions = "DELETE fa FROM MENTORSHIP_ANSWER_FACTS fa "
+		        + "INNER JOIN MENTORSHIPS m ON m.ID = fa.MENTORSHIP_ID WHERE m.SESSION_ID IN (:ids)";
+
+		public static final String insertBySessions = insert + "m.SESSION_ID IN (:ids)" + groupBy;
+	}
+
+	MentorshipAnswerFact findByMentorshipUuid(final String mentorshipUuid, final LifeCycleStatus lifeCycleStatus);
+
+	/**
+	 * Rewrites the facts of the given mentorships from their current answers,
+	 * form and dates. Pending changes are flushed first so they are read.
+	 */
+	void refresh(final String userUuid, final Collection<Long> mentorshipIds);
+
+	/**
+	 * Rewrites the facts of every mentorship of the given sessions, as
+	 * {@link #refresh(String, Collection)} does.
+	 */
+	void refreshBySessions(final String userUuid, final Collection<Long> sessionIds);
+}
@@ -0,0 +1,70 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.mentorship.dao;
+
+import java.util.Collection;
+
+import javax.persistence.Query;
+
+import org.hibernate.SQLQuery;
+import org.springframework.stereotype.Repository;
+
+import mz.co.mozview.frameworks.core.dao.GenericDAOImpl;
+import mz.co.mozview.frameworks.core.dao.ParamBuilder;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.org.fgh.mentoring.core.mentorship.model.MentorshipAnswerFact;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Repository(MentorshipAnswerFactDAO.NAME)
+public class MentorshipAnswerFactDAOImpl extends GenericDAOImpl<MentorshipAnswerFact, Long>
+        implements MentorshipAnswerFactDAO {
+
+	@Override
+	public MentorshipAnswerFact findByMentorshipUuid(final String mentorshipUuid,
+	        final LifeCycleStatus lifeCycleStatus) {
+		return this.findSingleByNamedQuery(MentorshipAnswerFactDAO.QUERY_NAME.findByMentorshipUuid, new ParamBuilder()
+		        .add("mentorshipUuid", mentorshipUuid).add("lifeCycleStatus", lifeCycleStatus).process());
+	}
+
+	@Override
+	public void refresh(final String userUuid, final Collection<Long> mentorshipIds) {
+		this.refresh(userUuid, mentorshipIds, MentorshipAnswerFactDAO.SQL.deleteByMentorships,
+		        MentorshipAnswerFactDAO.SQL.insertByMentorships);
+	}
+
+	@Override
+	public void refreshBySessions(final String userUuid, final Collection<Long> sessionIds) {
+		this.refresh(userUuid, sessionIds, MentorshipAnswerFactDAO.SQL.deleteBySessions,
+		        MentorshipAnswerFactDAO.SQL.insertBySessions);
+	}
+
+	private void refresh(final String userUuid, final Collection<Long> ids, final String delete,
+	        final String insert) {
+
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		this.getEntityManager().flush();
+
+		this.createUpdate(delete).setParameter("ids", ids).executeUpdate();
+
+		this.createUpdate(insert).setParameter("userUuid", userUuid).setParameter("ids", ids).executeUpdate();
+	}
+
+	/**
+	 * Declares the facts as the only table written, otherwise Hibernate drops
+	 * every second level cache region on each statement.
+	 */
+	private Query createUpdate(final String sql) {
+
+		final Query query = this.getEntityManager().createNativeQuery(sql);
+		query.unwrap(SQLQuery.class).addSynchronizedQuerySpace(MentorshipAnswerFactDAO.TABLE);
+
+		return query;
+	}
+}
@@ -24,4 +24,14 @@ public interface MentorshipDAO extends GenericDAO<Mentorship, Long> {
 												  final String formName, final String healthFacility, final IterationType iterationType,
 												  final Integer iterationNumber, final LifeCycleStatus lifeCycleStatus,
 												  final LocalDate startPerformedDate, final LocalDate endPerformedDate);
+
+	/**
+	 * Up to limit mentorships of the filter, newest first (by performed date,
+	 * then id), after the given performed date and id when they are given.
+	 */
+	public List<Mentorship> fetchPageBySelectedFilter(String code, final String tutorName, final String tutoredName,
+												  final String formName, final String healthFacility, final IterationType iterationType,
+												  final Integer iterationNumber, final LifeCycleStatus lifeCycleStatus,
+												  final LocalDate startPerformedDate, final LocalDate endPerformedDate,
+												  final LocalDate afterPerformedDate, final Long afterId, final int limit);
 }
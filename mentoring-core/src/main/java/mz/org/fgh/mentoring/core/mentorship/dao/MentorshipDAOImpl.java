@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
+import javax.inject.Inject;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -21,6 +22,8 @@ import mz.co.mozview.frameworks.core.dao.GenericDAOImpl;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.mentorship.model.IterationType;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.search.NameField;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 
 /**
  * @author Eusebio Jose Maposse
@@ -29,6 +32,15 @@ import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
 @Repository(MentorshipDAO.NAME)
 public class MentorshipDAOImpl extends GenericDAOImpl<Mentorship, Long> implements MentorshipDAO {
 
+	private static final String PERFORMED_START_DATE_PARAM = "performedStartDateParam";
+
+	private static final String PERFORMED_END_DATE_PARAM = "performedEndDateParam";
+
+	private static final String AFTER_PERFORMED_DATE_PARAM = "afterPerformedDateParam";
+
+	@Inject
+	private NameSearchIndex nameSearchIndex;
+
 	@Override
 	public List<Mentorship> fetchBySelectedFilter(final String code, final String tutorName, final String tutoredName,
 			final String formName, final String healthFacility, final IterationType iterationType,
@@ -37,6 +49,60 @@ public class MentorshipDAOImpl extends GenericDAOImpl<Mentorship, Long> implemen
 
 		final CriteriaBuilder criteriaBuilder = this.getEntityManager().getCriteriaBuilder();
 		final CriteriaQuery<Mentorship> createQuery = criteriaBuilder.createQuery(Mentorship.class);
+		final Root<Mentorship> root = this.fetchRoot(createQuery);
+
+		final List<Predicate> predicates = this.predicates(criteriaBuilder, root, code, tutorName, tutoredName,
+				formName, healthFacility, iterationType, iterationNumber, lifeCycleStatus, performedStartDate,
+				performedEndDate);
+
+		createQuery.where(predicates.toArray(new Predicate[predicates.size()]));
+		createQuery.orderBy(criteriaBuilder.asc(root.get("code")));
+
+		final TypedQuery<Mentorship> query = this.getEntityManager().createQuery(createQuery);
+		this.setDateParameters(query, performedStartDate, performedEndDate);
+
+		return query.getResultList();
+	}
+
+	@Override
+	public List<Mentorship> fetchPageBySelectedFilter(final String code, final String tutorName,
+			final String tutoredName, final String formName, final String healthFacility,
+			final IterationType iterationType, final Integer iterationNumber, final LifeCycleStatus lifeCycleStatus,
+			final LocalDate performedStartDate, final LocalDate performedEndDate, final LocalDate afterPerformedDate,
+			final Long afterId, final int limit) {
+
+		final CriteriaBuilder criteriaBuilder = this.getEntityManager().getCriteriaBuilder();
+		final CriteriaQuery<Mentorship> createQuery = criteriaBuilder.createQuery(Mentorship.class);
+		final Root<Mentorship> root = this.fetchRoot(createQuery);
+
+		final List<Predicate> predicates = this.predicates(criteriaBuilder, root, code, tutorName, tutoredName,
+				formName, healthFacility, iterationType, iterationNumber, lifeCycleStatus, performedStartDate,
+				performedEndDate);
+
+		// newest first: the page goes on after the last mentorship of the previous one
+		if (afterPerformedDate != null) {
+			final ParameterExpression<LocalDate> param = criteriaBuilder.parameter(LocalDate.class,
+					AFTER_PERFORMED_DATE_PARAM);
+			predicates.add(criteriaBuilder.or(criteriaBuilder.lessThan(root.get("performedDate"), param),
+					criteriaBuilder.and(criteriaBuilder.equal(root.get("performedDate"), param),
+							criteriaBuilder.lessThan(root.get("id"), afterId))));
+		}
+
+		createQuery.where(predicates.toArray(new Predicate[predicates.size()]));
+		createQuery.orderBy(criteriaBuilder.desc(root.get("performedDate")), criteriaBuilder.desc(root.get("id")));
+
+		final TypedQuery<Mentorship> query = this.getEntityManager().createQuery(createQuery);
+		this.setDateParameters(query, performedStartDate, performedEndDate);
+
+		if (afterPerformedDate != null) {
+			query.setParameter(AFTER_PERFORMED_DATE_PARAM, afterPerformedDate);
+		}
+
+		return query.setMaxResults(limit).getResultList();
+	}
+
+	private Root<Mentorship> fetchRoot(final CriteriaQuery<Mentorship> createQuery) {
+
 		final Root<Mentorship> root = createQuery.from(Mentorship.class);
 		root.fetch("tutor").fetch("career");
 		root.fetch("tutored").fetch("career");
@@ -47,6 +113,15 @@ public class MentorshipDAOImpl extends GenericDAOImpl<Mentorship, Long> implemen
 
 		createQuery.select(root);
 
+		return root;
+	}
+
+	private List<Predicate> predicates(final CriteriaBuilder criteriaBuilder, final Root<Mentorship> root,
+			final String code, final String tutorName, final String tutoredName, final String formName,
+			final String healthFacility, final IterationType iterationType, final Integer iterationNumber,
+			final LifeCycleStatus lifeCycleStatus, final LocalDate performedStartDate,
+			final LocalDate performedEndDate) {
+
 		final List<Predicate> predicates = new ArrayList<>();
 
 		if (code != null) {
@@ -54,11 +129,13 @@ public class MentorshipDAOImpl extends GenericDAOImpl<Mentorship, Long> implemen
 		}
 
 		if (tutorName != null) {
-			predicates.add(criteriaBuilder.like(root.get("tutor").get("name"), "%" + tutorName + "%"));
+			predicates.add(this.nameSearchIndex.contains(criteriaBuilder, root.get("tutor"), NameField.TUTOR_NAME,
+					"name", tutorName));
 		}
 
 		if (tutoredName != null) {
-			predicates.add(criteriaBuilder.like(root.get("tutored").get("name"), "%" + tutoredName + "%"));
+			predicates.add(this.nameSearchIndex.contains(criteriaBuilder, root.get("tutored"), NameField.TUTORED_NAME,
+					"name", tutoredName));
 		}
 
 		if (formName != null) {
@@ -66,8 +143,8 @@ public class MentorshipDAOImpl extends GenericDAOImpl<Mentorship, Long> implemen
 		}
 
 		if (healthFacility != null) {
-			predicates.add(
-					criteriaBuilder.like(root.get("healthFacility").get("healthFacility"), "%" + healthFacility + "%"));
+			predicates.add(this.nameSearchIndex.contains(criteriaBuilder, root.get("healthFacility"),
+					NameField.HEALTH_FACILITY_NAME, "healthFacility", healthFacility));
 		}
 
 		if(iterationType != null) {
@@ -79,13 +156,11 @@ public class MentorshipDAOImpl extends GenericDAOImpl<Mentorship, Long> implemen
 		}
 
 		// Deal with performedDate params
-		final String PERFORMED_START_DATE_PARAM = "performedStartDateParam";
 		if(performedStartDate != null) {
 			final ParameterExpression<LocalDate> param = criteriaBuilder.parameter(LocalDate.class, PERFORMED_START_DATE_PARAM);
 			predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("performedDate"), param));
 		}
 
-		final String PERFORMED_END_DATE_PARAM = "performedEndDateParam";
 		if(performedEndDate != null) {
 			final ParameterExpression<LocalDate> param = criteriaBuilder.parameter(LocalDate.class, PERFORMED_END_DATE_PARAM);
 			predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("performedDate"), param));
@@ -95,10 +170,11 @@ public class MentorshipDAOImpl extends GenericDAOImpl<Mentorship, Long> implemen
 			predicates.add(criteriaBuilder.equal(root.get("lifeCycleStatus"), lifeCycleStatus));
 		}
 
-		createQuery.where(predicates.toArray(new Predicate[predicates.size()]));
-		createQuery.orderBy(criteriaBuilder.asc(root.get("code")));
+		return predicates;
+	}
 
-		final TypedQuery<Mentorship> query = this.getEntityManager().createQuery(createQuery);
+	private void setDateParameters(final TypedQuery<Mentorship> query, final LocalDate performedStartDate,
+			final LocalDate performedEndDate) {
 
 		if(performedStartDate != null) {
 			query.setParameter(PERFORMED_START_DATE_PARAM, performedStartDate);
@@ -107,8 +183,5 @@ public class MentorshipDAOImpl extends GenericDAOImpl<Mentorship, Long> implemen
 		if(performedEndDate != null) {
 			query.setParameter(PERFORMED_END_DATE_PARAM, performedEndDate);
 		}
-
-
-		return query.getResultList();
 	}
 }
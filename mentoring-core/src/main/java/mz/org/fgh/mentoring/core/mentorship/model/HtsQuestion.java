@@ -0,0 +1,45 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.mentorship.model;
+
+/**
+ * Questions of the HTS form (MT00000045) that are pivoted into
+ * {@link MentorshipAnswerFact}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public enum HtsQuestion {
+
+	ATTENDED("MTQ00000588"),
+
+	PREVIOUS("MTQ00000589"),
+
+	TESTED("MTQ00000590"),
+
+	POSITIVE("MTQ00000591"),
+
+	ENROLLED("MTQ00000592");
+
+	private String code;
+
+	private HtsQuestion(final String code) {
+		this.code = code;
+	}
+
+	public String getCode() {
+		return this.code;
+	}
+
+	public static HtsQuestion fromCode(final String code) {
+
+		for (final HtsQuestion htsQuestion : HtsQuestion.values()) {
+			if (htsQuestion.code.equals(code)) {
+				return htsQuestion;
+			}
+		}
+
+		return null;
+	}
+}
@@ -15,6 +15,7 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
@@ -50,7 +51,10 @@ import mz.org.fgh.mentoring.core.util.LocalDateTimeAdapter;
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @Entity
-@Table(name = "MENTORSHIPS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }))
+@Table(name = "MENTORSHIPS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }), indexes = {
+        @Index(name = "IDX_MENTORSHIPS_STATUS_DATE_FORM", columnList = "LIFE_CYCLE_STATUS, PERFORMED_DATE, FORM_ID"),
+        @Index(name = "IDX_MENTORSHIPS_TUTOR_DATE", columnList = "TUTOR_ID, PERFORMED_DATE, LIFE_CYCLE_STATUS, FORM_ID, SESSION_ID"),
+        @Index(name = "IDX_MENTORSHIPS_DATE", columnList = "PERFORMED_DATE") })
 public class Mentorship extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
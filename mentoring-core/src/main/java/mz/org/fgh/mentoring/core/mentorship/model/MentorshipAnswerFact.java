@@ -0,0 +1,133 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.mentorship.model;
+
+import java.time.LocalDate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.OneToOne;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+
+import mz.co.mozview.frameworks.core.model.GenericEntity;
+import mz.org.fgh.mentoring.core.form.model.Form;
+import mz.org.fgh.mentoring.core.mentorship.dao.MentorshipAnswerFactDAO;
+
+/**
+ * One row per mentorship with the numeric answers of the HTS report already
+ * pivoted into columns, so the report does not have to scan ANSWERS once per
+ * question.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@NamedQueries({
+        @NamedQuery(name = MentorshipAnswerFactDAO.QUERY_NAME.findByMentorshipUuid, query = MentorshipAnswerFactDAO.QUERY.findByMentorshipUuid) })
+@Entity
+@Table(name = "MENTORSHIP_ANSWER_FACTS", indexes = {
+        @Index(name = "IDX_MENTORSHIP_ANSWER_FACTS_FORM_DATE", columnList = "FORM_ID, PERFORMED_DATE") })
+public class MentorshipAnswerFact extends GenericEntity {
+
+	private static final long serialVersionUID = 1L;
+
+	@NotNull
+	@OneToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "MENTORSHIP_ID", nullable = false, unique = true)
+	private Mentorship mentorship;
+
+	@NotNull
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "FORM_ID", nullable = false)
+	private Form form;
+
+	@NotNull
+	@Column(name = "PERFORMED_DATE", nullable = false)
+	private LocalDate performedDate;
+
+	@Column(name = "ATTENDED")
+	private Integer attended;
+
+	@Column(name = "PREVIOUS")
+	private Integer previous;
+
+	@Column(name = "TESTED")
+	private Integer tested;
+
+	@Column(name = "POSITIVE")
+	private Integer positive;
+
+	@Column(name = "ENROLLED")
+	private Integer enrolled;
+
+	public MentorshipAnswerFact() {
+	}
+
+	public MentorshipAnswerFact(final Mentorship mentorship) {
+		this.mentorship = mentorship;
+		this.form = mentorship.getForm();
+		this.performedDate = mentorship.getSession() != null && mentorship.getSession().getPerformedDate() != null
+		        ? mentorship.getSession().getPerformedDate()
+		        : mentorship.getPerformedDate();
+	}
+
+	public void setValue(final HtsQuestion htsQuestion, final Integer value) {
+
+		switch (htsQuestion) {
+		case ATTENDED:
+			this.attended = value;
+			break;
+		case PREVIOUS:
+			this.previous = value;
+			break;
+		case TESTED:
+			this.tested = value;
+			break;
+		case POSITIVE:
+			this.positive = value;
+			break;
+		case ENROLLED:
+			this.enrolled = value;
+			break;
+		}
+	}
+
+	public Mentorship getMentorship() {
+		return this.mentorship;
+	}
+
+	public Form getForm() {
+		return this.form;
+	}
+
+	public LocalDate getPerformedDate() {
+		return this.performedDate;
+	}
+
+	public Integer getAttended() {
+		return this.attended;
+	}
+
+	public Integer getPrevious() {
+		return this.previous;
+	}
+
+	public Integer getTested() {
+		return this.tested;
+	}
+
+	public Integer getPositive() {
+		return this.positive;
+	}
+
+	public Integer getEnrolled() {
+		return this.enrolled;
+	}
+}
@@ -8,6 +8,8 @@ import java.util.List;
 
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.util.KeysetCursor;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
 
 /**
  * @author Eusebio Jose Maposse
@@ -21,4 +23,15 @@ public interface MentorshipQueryService {
 	        final String tutored, final String formName, final String healthFacility, final String iterationType,
 	        final Integer iterationNumber, final String lifeCycleStatus, final LocalDate performedStartDate,
 	        final LocalDate performedEndDate);
+
+	/**
+	 * A page of the mentorships of the filter, newest first, starting after the
+	 * cursor of the previous page (the first page without one). The limit is
+	 * kept within {@link KeysetPage#MAX_PAGE_SIZE}.
+	 */
+	public KeysetPage<Mentorship> fetchPageBySelectedFilter(final UserContext userContext, String code,
+	        final String tutor, final String tutored, final String formName, final String healthFacility,
+	        final String iterationType, final Integer iterationNumber, final String lifeCycleStatus,
+	        final LocalDate performedStartDate, final LocalDate performedEndDate, final KeysetCursor after,
+	        final Integer limit);
 }
@@ -8,6 +8,8 @@ import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.mentorship.dao.MentorshipDAO;
 import mz.org.fgh.mentoring.core.mentorship.model.IterationType;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.util.KeysetCursor;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
 import org.springframework.stereotype.Service;
 
 import javax.inject.Inject;
@@ -29,11 +31,42 @@ public class MentorshipQueryServiceImpl implements MentorshipQueryService {
 												  final Integer iterationNumber, final String lifeCycleStatus, final LocalDate performedStartDate,
 												  final LocalDate performedEndDate) {
 
+		return this.mentorshipDAO.fetchBySelectedFilter(code, tutor, tutored, formName, healthFacility,
+				this.iterationType(iterationType), iterationNumber, this.lifeCycleStatus(lifeCycleStatus),
+				performedStartDate, performedEndDate);
+	}
+
+	@Override
+	public KeysetPage<Mentorship> fetchPageBySelectedFilter(final UserContext userContext, final String code,
+												  final String tutor, final String tutored, final String formName, final String healthFacility,
+												  final String iterationType, final Integer iterationNumber, final String lifeCycleStatus,
+												  final LocalDate performedStartDate, final LocalDate performedEndDate, final KeysetCursor after,
+												  final Integer limit) {
+
+		final int pageSize = KeysetPage.pageSize(limit);
+
+		final List<Mentorship> mentorships = this.mentorshipDAO.fetchPageBySelectedFilter(code, tutor, tutored,
+				formName, healthFacility, this.iterationType(iterationType), iterationNumber,
+				this.lifeCycleStatus(lifeCycleStatus), performedStartDate, performedEndDate,
+				after == null ? null : LocalDate.parse(after.getValue()), after == null ? null : after.getId(),
+				pageSize + 1);
+
+		return KeysetPage.of(mentorships, pageSize,
+				mentorship -> new KeysetCursor(mentorship.getPerformedDate().toString(), mentorship.getId()));
+	}
+
+	private IterationType iterationType(final String iterationType) {
+
 		IterationType type = null;
 		if(iterationType != null) {
 			type = IterationType.valueOf(iterationType.toUpperCase());
 		}
 
+		return type;
+	}
+
+	private LifeCycleStatus lifeCycleStatus(final String lifeCycleStatus) {
+
 		LifeCycleStatus lfStatus = null;
 		if(lifeCycleStatus != null) {
 			try {
@@ -43,7 +76,6 @@ public class MentorshipQueryServiceImpl implements MentorshipQueryService {
 			}
 		}
 
-		return this.mentorshipDAO.fetchBySelectedFilter(code, tutor, tutored, formName, healthFacility, type, iterationNumber, lfStatus,
-				performedStartDate, performedEndDate);
+		return lfStatus;
 	}
 }
@@ -9,6 +9,7 @@ import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
 import mz.org.fgh.mentoring.core.session.model.Session;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
 
 /**
  * @author Eusebio Jose Maposse
@@ -22,5 +23,21 @@ public interface MentorshipService {
 
 	Mentorship updateMentorship(final UserContext userContext, final Mentorship mentorship) throws BusinessException;
 
+	/**
+	 * Synchronises the sessions as {@link #synchronizeSessions(UserContext, List)}
+	 * does, duplicated sessions being skipped. Every session is checked before
+	 * any is written, so the upload fails as a whole, with nothing stored, when
+	 * any of them would be rejected.
+	 */
 	List<Session> synchronizeMentorships(UserContext userContext, List<Session> sessions) throws BusinessException;
+
+	/**
+	 * Synchronises the sessions uploaded by a tablet in bulk: every referenced
+	 * entity is resolved with one query per type and the answers are inserted
+	 * in JDBC batches. A session that is already known, or that a concurrent
+	 * upload stores first, is reported as duplicated and one that refers to
+	 * unknown metadata is rejected, without failing the rest of the upload.
+	 */
+	List<SessionSyncResult> synchronizeSessions(UserContext userContext, List<Session> sessions)
+	        throws BusinessException;
 }
@@ -3,37 +3,57 @@
  */
 package mz.org.fgh.mentoring.core.mentorship.service;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Service;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.model.GenericEntity;
 import mz.co.mozview.frameworks.core.service.AbstractService;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.co.mozview.frameworks.core.util.PropertyValues;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.answer.dao.AnswerDAO;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
+import mz.org.fgh.mentoring.core.answer.model.NumericAnswer;
 import mz.org.fgh.mentoring.core.answer.service.AnswerService;
 import mz.org.fgh.mentoring.core.career.model.Career;
 import mz.org.fgh.mentoring.core.career.service.CareerQueryService;
+import mz.org.fgh.mentoring.core.form.dao.FormDAO;
 import mz.org.fgh.mentoring.core.form.model.Form;
-import mz.org.fgh.mentoring.core.form.service.FormQueryService;
+import mz.org.fgh.mentoring.core.location.dao.CabinetDAO;
+import mz.org.fgh.mentoring.core.location.dao.HealthFacilityDAO;
 import mz.org.fgh.mentoring.core.location.model.Cabinet;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
-import mz.org.fgh.mentoring.core.location.service.CabinetQueryService;
-import mz.org.fgh.mentoring.core.location.service.HealthFacilityQueryService;
+import mz.org.fgh.mentoring.core.mentorship.dao.MentorshipAnswerFactDAO;
 import mz.org.fgh.mentoring.core.mentorship.dao.MentorshipDAO;
+import mz.org.fgh.mentoring.core.mentorship.model.HtsQuestion;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.mentorship.model.MentorshipAnswerFact;
 import mz.org.fgh.mentoring.core.question.model.Question;
-import mz.org.fgh.mentoring.core.question.service.QuestionQueryService;
+import mz.org.fgh.mentoring.core.question.service.QuestionRegistry;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+import mz.org.fgh.mentoring.core.report.ReportCache.Source;
+import mz.org.fgh.mentoring.core.session.dao.SessionCounterDAO;
+import mz.org.fgh.mentoring.core.session.dao.SessionDAO;
 import mz.org.fgh.mentoring.core.session.model.Session;
-import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
-import mz.org.fgh.mentoring.core.session.service.SessionService;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
-import mz.org.fgh.mentoring.core.tutor.service.TutorQueryService;
+import mz.org.fgh.mentoring.core.tutored.dao.TutoredDAO;
 import mz.org.fgh.mentoring.core.tutored.model.Tutored;
-import mz.org.fgh.mentoring.core.tutored.service.TutoredQueryService;
 import mz.org.fgh.mentoring.core.tutored.service.TutoredService;
 
 /**
@@ -43,9 +63,14 @@ import mz.org.fgh.mentoring.core.tutored.service.TutoredService;
 @Service(MentorshipService.NAME)
 public class MentorshipServiceImpl extends AbstractService implements MentorshipService {
 
+	private static final String CODE_PREFIX = "MT";
+
 	@Inject
 	private MentorshipDAO mentorshipDAO;
 
+	@Inject
+	private MentorshipAnswerFactDAO mentorshipAnswerFactDAO;
+
 	@Inject
 	private PropertyValues propertyValues;
 
@@ -53,34 +78,40 @@ public class MentorshipServiceImpl extends AbstractService implements Mentorship
 	private AnswerService answerService;
 
 	@Inject
-	private SessionService sessionService;
+	private AnswerDAO answerDAO;
 
 	@Inject
-	private HealthFacilityQueryService healthFacilityQueryService;
+	private SessionDAO sessionDAO;
 
 	@Inject
-	private FormQueryService formQueryService;
+	private FormDAO formDAO;
 
 	@Inject
-	private TutoredQueryService tutoredQueryService;
+	private HealthFacilityDAO healthFacilityDAO;
 
 	@Inject
-	private CareerQueryService careerQueryService;
+	private TutorDAO tutorDAO;
 
 	@Inject
-	private TutoredService tutoredService;
+	private TutoredDAO tutoredDAO;
+
+	@Inject
+	private CabinetDAO cabinetDAO;
+
+	@Inject
+	private CareerQueryService careerQueryService;
 
 	@Inject
-	private TutorQueryService tutorQueryService;
+	private TutoredService tutoredService;
 
 	@Inject
-	private QuestionQueryService questionQueryService;
+	private QuestionRegistry questionRegistry;
 
 	@Inject
-	private CabinetQueryService cabinetQueryService;
+	private SessionCounterDAO sessionCounterDAO;
 
 	@Inject
-	SessionQueryService sessionQueryService;
+	private ReportCache reportCache;
 
 	@Override
 	public Mentorship createMentorship(final UserContext userContext, final Mentorship mentorship)
@@ -90,14 +121,16 @@ public class MentorshipServiceImpl extends AbstractService implements Mentorship
 			throw new BusinessException(this.propertyValues.getPropValues("cannot.create.mentoship.with.no.answers"));
 		}
 
-		final String code = this.mentorshipDAO.generateCode("MT", 10, "0");
+		final String code = this.mentorshipDAO.generateCode(CODE_PREFIX, 10, "0");
 		mentorship.setCode(code);
 
 		this.mentorshipDAO.create(userContext.getUuid(), mentorship);
 
+		MentorshipAnswerFact answerFact = null;
+
 		for (final Answer answer : mentorship.getAnswers()) {
 
-			final Question question = this.questionQueryService.findQuestionByUuid(userContext,
+			final Question question = this.questionRegistry.findQuestionByUuid(userContext,
 			        answer.getQuestion().getUuid());
 
 			answer.setQuestion(question);
@@ -105,85 +138,385 @@ public class MentorshipServiceImpl extends AbstractService implements Mentorship
 			answer.setForm(mentorship.getForm());
 
 			this.answerService.createAnswer(userContext, answer);
+
+			final HtsQuestion htsQuestion = HtsQuestion.fromCode(question.getCode());
+
+			if (htsQuestion != null && answer instanceof NumericAnswer) {
+
+				if (answerFact == null) {
+					answerFact = new MentorshipAnswerFact(mentorship);
+				}
+
+				answerFact.setValue(htsQuestion, ((NumericAnswer) answer).getNumericValue());
+			}
+		}
+
+		if (answerFact != null) {
+			this.mentorshipAnswerFactDAO.create(userContext.getUuid(), answerFact);
 		}
 
+		if (mentorship.getSession() != null) {
+			this.sessionCounterDAO.refresh(userContext.getUuid(),
+			        Collections.singletonList(mentorship.getSession().getId()));
+		}
+
+		this.reportCache.changed(Source.MENTORSHIPS, mentorship.getPerformedDate());
+
 		return mentorship;
 	}
 
 	@Override
 	public Mentorship updateMentorship(final UserContext userContext, final Mentorship mentorship)
 	        throws BusinessException {
-		return this.mentorshipDAO.update(userContext.getUuid(), mentorship);
+
+		// the performed date may have been changed, so the former one is not known
+		this.reportCache.changed(Source.MENTORSHIPS);
+
+		final LocalDate formerDate = this.mentorshipDAO.findByUuid(mentorship.getUuid()).getPerformedDate();
+
+		final Mentorship updated = this.mentorshipDAO.update(userContext.getUuid(), mentorship);
+
+		this.mentorshipAnswerFactDAO.refresh(userContext.getUuid(), Collections.singletonList(updated.getId()));
+		this.sessionCounterDAO.refreshMonths(userContext.getUuid(),
+		        Arrays.asList(formerDate, updated.getPerformedDate()));
+
+		return updated;
 	}
 
 	@Override
 	public List<Session> synchronizeMentorships(final UserContext userContext, final List<Session> sessions)
 	        throws BusinessException {
 
+		final SyncReferences references = this.resolveReferences(sessions);
+
+		for (final Session session : sessions) {
+
+			final String rejection = references.existingSessionUuids.contains(session.getUuid()) ? null
+			        : this.findRejection(userContext, session, references);
+
+			if (rejection != null) {
+				throw new BusinessException(rejection);
+			}
+		}
+
+		this.synchronizeSessions(userContext, sessions, references);
+
+		return sessions;
+	}
+
+	@Override
+	public List<SessionSyncResult> synchronizeSessions(final UserContext userContext, final List<Session> sessions)
+	        throws BusinessException {
+		return this.synchronizeSessions(userContext, sessions, this.resolveReferences(sessions));
+	}
+
+	private List<SessionSyncResult> synchronizeSessions(final UserContext userContext, final List<Session> sessions,
+	        final SyncReferences references) throws BusinessException {
+
+		final Set<String> processedSessionUuids = new HashSet<>();
+		final List<Answer> answers = new ArrayList<>();
+		final List<SessionSyncResult> results = new ArrayList<>();
+		final List<Long> createdSessionIds = new ArrayList<>();
+		final Set<LocalDate> performedDates = new HashSet<>();
+
 		for (final Session session : sessions) {
 
 			if (session.getMentorships().isEmpty()) {
-				throw new BusinessException(
-				        this.propertyValues.getPropValues("cannot.create.session.without.mentorships"));
+				results.add(SessionSyncResult.rejected(session,
+				        this.propertyValues.getPropValues("cannot.create.session.without.mentorships")));
+				continue;
 			}
 
-			final List<Session> duplicatedSessions = this.sessionQueryService.fetchSessionsByUuid(session.getUuid());
+			if (references.existingSessionUuids.contains(session.getUuid())
+			        || !processedSessionUuids.add(session.getUuid())) {
+				results.add(SessionSyncResult.duplicated(session));
+				continue;
+			}
 
-			if (duplicatedSessions.isEmpty()) {
+			final String rejection = this.findRejection(userContext, session, references);
 
-				this.sessionService.createSession(userContext, session);
+			if (rejection != null) {
+				results.add(SessionSyncResult.rejected(session, rejection));
+				continue;
+			}
 
-				for (final Mentorship mentorship : session.getMentorships()) {
+			if (!this.sessionDAO.createIfAbsent(userContext.getUuid(), session)) {
+				results.add(SessionSyncResult.duplicated(session));
+				continue;
+			}
 
-					final Form form = this.formQueryService.findFormByUuid(userContext, mentorship.getForm().getUuid());
+			for (final Mentorship mentorship : session.getMentorships()) {
+				this.createSyncedMentorship(userContext, session, mentorship, references, answers);
+				performedDates.add(mentorship.getPerformedDate());
+			}
 
-					final HealthFacility healthFacility = this.healthFacilityQueryService
-					        .findHealthFacilityByUuid(userContext, mentorship.getHealthFacility().getUuid());
+			createdSessionIds.add(session.getId());
+			performedDates.add(session.getPerformedDate());
+			results.add(SessionSyncResult.created(session));
+		}
+
+		this.answerDAO.createInBatch(userContext.getUuid(), answers);
+		this.sessionCounterDAO.refresh(userContext.getUuid(), createdSessionIds);
+		this.reportCache.changed(Source.MENTORSHIPS, performedDates);
 
-					final Tutor tutor = this.tutorQueryService.fetchTutorByUuid(userContext,
-					        mentorship.getTutor().getUuid());
+		return results;
+	}
 
-					final Tutored tutored = this.getTutored(userContext, mentorship);
+	private SyncReferences resolveReferences(final List<Session> sessions) {
 
-					Cabinet cabinet = null;
+		final Set<String> sessionUuids = new HashSet<>();
+		final Set<String> formUuids = new HashSet<>();
+		final Set<String> healthFacilityUuids = new HashSet<>();
+		final Set<String> tutorUuids = new HashSet<>();
+		final Set<String> tutoredUuids = new HashSet<>();
+		final Set<String> cabinetUuids = new HashSet<>();
+		final Set<String> questionUuids = new HashSet<>();
+
+		for (final Session session : sessions) {
 
-					if (mentorship.getCabinet().getUuid() != null) {
-						cabinet = this.cabinetQueryService.findCabinetByUuid(mentorship.getCabinet().getUuid());
-					}
+			sessionUuids.add(session.getUuid());
 
-					mentorship.setSession(session);
-					mentorship.setForm(form);
-					mentorship.setHealthFacility(healthFacility);
-					mentorship.setTutor(tutor);
-					mentorship.setTutored(tutored);
-					mentorship.setCabinet(cabinet);
+			for (final Mentorship mentorship : session.getMentorships()) {
 
-					this.createMentorship(userContext, mentorship);
+				formUuids.add(mentorship.getForm().getUuid());
+				healthFacilityUuids.add(mentorship.getHealthFacility().getUuid());
+				tutorUuids.add(mentorship.getTutor().getUuid());
+				tutoredUuids.add(mentorship.getTutored().getUuid());
+
+				if (this.hasCabinet(mentorship)) {
+					cabinetUuids.add(mentorship.getCabinet().getUuid());
 				}
 
+				for (final Answer answer : mentorship.getAnswers()) {
+					questionUuids.add(answer.getQuestion().getUuid());
+				}
 			}
 		}
 
-		return sessions;
+		final SyncReferences references = new SyncReferences();
+
+		if (!sessionUuids.isEmpty()) {
+			references.existingSessionUuids
+			        .addAll(this.sessionDAO.findExistingUuids(sessionUuids, LifeCycleStatus.ACTIVE));
+		}
+
+		references.forms = this.byUuid(formUuids, this.formDAO::findByUuids);
+		references.healthFacilities = this.byUuid(healthFacilityUuids, this.healthFacilityDAO::findByUuids);
+		references.tutors = this.byUuid(tutorUuids, this.tutorDAO::fetchByUuids);
+		references.tutoreds = this.byUuid(tutoredUuids, this.tutoredDAO::findByUuids);
+		references.cabinets = this.byUuid(cabinetUuids, this.cabinetDAO::findByUuids);
+		references.questions = this.questionRegistry.findQuestionsByUuids(questionUuids);
+
+		return references;
+	}
+
+	private <T extends GenericEntity> Map<String, T> byUuid(final Set<String> uuids,
+	        final Function<Set<String>, List<T>> finder) {
+
+		if (uuids.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		return finder.apply(uuids).stream().collect(Collectors.toMap(GenericEntity::getUuid, Function.identity(), (a, b) -> a));
+	}
+
+	/**
+	 * Why the session cannot be stored, or null when it can.
+	 */
+	private String findRejection(final UserContext userContext, final Session session,
+	        final SyncReferences references) {
+
+		if (session.getMentorships().isEmpty()) {
+			return this.propertyValues.getPropValues("cannot.create.session.without.mentorships");
+		}
+
+		if (session.getMentorships().stream().anyMatch(mentorship -> mentorship.getAnswers().isEmpty())) {
+			return this.propertyValues.getPropValues("cannot.create.mentoship.with.no.answers");
+		}
+
+		final String missingReference = this.findMissingReference(userContext, session, references);
+
+		if (missingReference != null) {
+			return this.propertyValues.getPropValues("no.result.found") + " " + missingReference;
+		}
+
+		return null;
+	}
+
+	private String findMissingReference(final UserContext userContext, final Session session,
+	        final SyncReferences references) {
+
+		for (final Mentorship mentorship : session.getMentorships()) {
+
+			if (!references.forms.containsKey(mentorship.getForm().getUuid())) {
+				return "Form " + mentorship.getForm().getUuid();
+			}
+
+			if (!references.healthFacilities.containsKey(mentorship.getHealthFacility().getUuid())) {
+				return "HealthFacility " + mentorship.getHealthFacility().getUuid();
+			}
+
+			if (!references.tutors.containsKey(mentorship.getTutor().getUuid())) {
+				return "Tutor " + mentorship.getTutor().getUuid();
+			}
+
+			if (!references.tutoreds.containsKey(mentorship.getTutored().getUuid())
+			        && this.findCareer(userContext, mentorship.getTutored(), references) == null) {
+				return "Career " + mentorship.getTutored().getCareer().getUuid();
+			}
+
+			if (this.hasCabinet(mentorship) && !references.cabinets.containsKey(mentorship.getCabinet().getUuid())) {
+				return "Cabinet " + mentorship.getCabinet().getUuid();
+			}
+
+			for (final Answer answer : mentorship.getAnswers()) {
+
+				if (!references.questions.containsKey(answer.getQuestion().getUuid())) {
+					return "Question " + answer.getQuestion().getUuid();
+				}
+			}
+		}
+
+		return null;
 	}
 
-	private Tutored getTutored(final UserContext userContext, final Mentorship mentorship) throws BusinessException {
+	private Career findCareer(final UserContext userContext, final Tutored tutored, final SyncReferences references) {
+
+		final String careerUuid = tutored.getCareer().getUuid();
+
+		if (!references.careers.containsKey(careerUuid)) {
 
-		Tutored tutored = null;
-		final Tutored syncedTutored = mentorship.getTutored();
+			Career career = null;
 
-		try {
-			tutored = this.tutoredQueryService.findTutoredByUuid(userContext, syncedTutored.getUuid());
+			try {
+				career = this.careerQueryService.findCarrerByuuid(userContext, careerUuid);
+			}
+			catch (final BusinessException e) {
+				// an unknown career rejects the session, it is not an error of the whole upload
+			}
+
+			references.careers.put(careerUuid, career);
 		}
-		catch (final BusinessException e) {
-			final Career career = this.careerQueryService.findCarrerByuuid(userContext,
-			        syncedTutored.getCareer().getUuid());
 
-			syncedTutored.setCareer(career);
+		return references.careers.get(careerUuid);
+	}
+
+	private void createSyncedMentorship(final UserContext userContext, final Session session,
+	        final Mentorship mentorship, final SyncReferences references, final List<Answer> answers)
+	        throws BusinessException {
+
+		Tutored tutored = references.tutoreds.get(mentorship.getTutored().getUuid());
+
+		if (tutored == null) {
+			tutored = mentorship.getTutored();
+			tutored.setCareer(this.findCareer(userContext, tutored, references));
 
-			tutored = this.tutoredService.createTutored(userContext, mentorship.getTutored());
+			this.tutoredService.createTutored(userContext, tutored);
+			references.tutoreds.put(tutored.getUuid(), tutored);
 		}
 
-		return tutored;
+		mentorship.setSession(session);
+		mentorship.setForm(references.forms.get(mentorship.getForm().getUuid()));
+		mentorship.setHealthFacility(references.healthFacilities.get(mentorship.getHealthFacility().getUuid()));
+		mentorship.setTutor(references.tutors.get(mentorship.getTutor().getUuid()));
+		mentorship.setTutored(tutored);
+		mentorship.setCabinet(
+		        this.hasCabinet(mentorship) ? references.cabinets.get(mentorship.getCabinet().getUuid()) : null);
+
+		if (references.codes == null) {
+			references.codes = new CodeSequence(CODE_PREFIX, this.mentorshipDAO.generateCode(CODE_PREFIX, 10, "0"));
+		}
+
+		mentorship.setCode(references.codes.next());
+
+		this.mentorshipDAO.create(userContext.getUuid(), mentorship);
+
+		MentorshipAnswerFact answerFact = null;
+
+		for (final Answer answer : mentorship.getAnswers()) {
+
+			final Question question = references.questions.get(answer.getQuestion().getUuid());
+
+			answer.setQuestion(question);
+			answer.setMentorship(mentorship);
+			answer.setForm(mentorship.getForm());
+
+			answers.add(answer);
+
+			final HtsQuestion htsQuestion = HtsQuestion.fromCode(question.getCode());
+
+			if (htsQuestion != null && answer instanceof NumericAnswer) {
+
+				if (answerFact == null) {
+					answerFact = new MentorshipAnswerFact(mentorship);
+				}
+
+				answerFact.setValue(htsQuestion, ((NumericAnswer) answer).getNumericValue());
+			}
+		}
+
+		if (answerFact != null) {
+			this.mentorshipAnswerFactDAO.create(userContext.getUuid(), answerFact);
+		}
+	}
+
+	private boolean hasCabinet(final Mentorship mentorship) {
+		return mentorship.getCabinet() != null && mentorship.getCabinet().getUuid() != null;
+	}
+
+	/**
+	 * Everything a synchronisation refers to, loaded with one query per entity
+	 * type and keyed by uuid.
+	 */
+	private static class SyncReferences {
+
+		private final Set<String> existingSessionUuids = new HashSet<>();
+
+		private final Map<String, Career> careers = new HashMap<>();
+
+		private Map<String, Form> forms;
+
+		private Map<String, HealthFacility> healthFacilities;
+
+		private Map<String, Tutor> tutors;
+
+		private Map<String, Tutored> tutoreds;
+
+		private Map<String, Cabinet> cabinets;
+
+		private Map<String, Question> questions;
+
+		private CodeSequence codes;
+	}
+
+	/**
+	 * The codes of the mentorships of a synchronisation, following the first
+	 * one generated, so the table is read once per upload instead of once per
+	 * mentorship.
+	 */
+	private static class CodeSequence {
+
+		private final String prefix;
+
+		private final int digits;
+
+		private long next;
+
+		private CodeSequence(final String prefix, final String first) {
+			this.prefix = prefix;
+			this.digits = first.length() - prefix.length();
+			this.next = Long.parseLong(first.substring(prefix.length()));
+		}
+
+		private String next() {
+
+			final StringBuilder code = new StringBuilder(String.valueOf(this.next++));
+
+			while (code.length() < this.digits) {
+				code.insert(0, '0');
+			}
+
+			return code.insert(0, this.prefix).toString();
+		}
 	}
 }
@@ -0,0 +1,54 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.metadata;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Version of the metadata sent to the tablets (forms, form questions, form
+ * targets, cabinets, careers, health facilities, tutoreds and tutor
+ * programmatic areas and locations). The services writing any of them call
+ * {@link #changed()} so cached metadata built on an older version is
+ * discarded.
+ *
+ * The version starts from the startup time, so a version handed out before a
+ * restart is never mistaken for a current one.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component
+public class MetadataVersion {
+
+	private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+	public long current() {
+		return this.version.get();
+	}
+
+	/**
+	 * Moves to a new version once the current transaction commits, so nothing
+	 * is cached from data that is not visible yet. Without a transaction it
+	 * moves right away.
+	 */
+	public void changed() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			this.version.incrementAndGet();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCommit() {
+				MetadataVersion.this.version.incrementAndGet();
+			}
+		});
+	}
+}
@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.question.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
@@ -22,12 +23,16 @@ public interface QuestionDAO extends GenericDAO<Question, Long> {
 	public static class QUERY {
 		public static final String findByFormCode = "SELECT q FROM Question q INNER JOIN q.formQuestions fq WHERE fq.form.code = :code AND fq.lifeCycleStatus = :lifeCycleStatus";
 		public static final String findByuuid = "SELECT q FROM Question q WHERE q.uuid = :uuid AND q.lifeCycleStatus = :lifeCycleStatus";
+		public static final String findByUuids = "SELECT q FROM Question q WHERE q.uuid IN (:uuids) AND q.lifeCycleStatus = :lifeCycleStatus";
+		public static final String fetchAll = "SELECT q FROM Question q LEFT JOIN FETCH q.questionsCategory WHERE q.lifeCycleStatus = :lifeCycleStatus";
 
 	}
 
 	public static class QUERY_NAME {
 		public static final String findByFormCode = "Question.findByFormCode";
 		public static final String findByuuid = "Question.findByuuid";
+		public static final String findByUuids = "Question.findByUuids";
+		public static final String fetchAll = "Question.fetchAll";
 
 	}
 
@@ -37,4 +42,8 @@ public interface QuestionDAO extends GenericDAO<Question, Long> {
 	List<Question> findByFormCode(final String code, final LifeCycleStatus lifeCycleStatus);
 
 	Question findByuuid(final String uuid, final LifeCycleStatus lifeCycleStatus);
+
+	List<Question> findByUuids(Collection<String> uuids, LifeCycleStatus lifeCycleStatus);
+
+	List<Question> fetchAll(LifeCycleStatus lifeCycleStatus);
 }
@@ -4,6 +4,7 @@
 package mz.org.fgh.mentoring.core.question.dao;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import javax.persistence.TypedQuery;
@@ -72,4 +73,20 @@ public class QuestionDAOImpl extends GenericDAOImpl<Question, Long> implements Q
 		return this.findSingleByNamedQuery(QuestionDAO.QUERY_NAME.findByuuid,
 		        new ParamBuilder().add("uuid", uuid).add("lifeCycleStatus", lifeCycleStatus).process());
 	}
+
+	@Override
+	public List<Question> findByUuids(final Collection<String> uuids, final LifeCycleStatus lifeCycleStatus) {
+
+		final TypedQuery<Question> query = this.findByQuery(QuestionDAO.QUERY_NAME.findByUuids,
+		        new ParamBuilder().add("lifeCycleStatus", lifeCycleStatus).process());
+		query.setParameter("uuids", uuids);
+
+		return query.getResultList();
+	}
+
+	@Override
+	public List<Question> fetchAll(final LifeCycleStatus lifeCycleStatus) {
+		return this.findByNamedQuery(QuestionDAO.QUERY_NAME.fetchAll,
+		        new ParamBuilder().add("lifeCycleStatus", lifeCycleStatus).process());
+	}
 }
@@ -6,6 +6,7 @@ package mz.org.fgh.mentoring.core.question.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
@@ -16,6 +17,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.OneToMany;
+import javax.persistence.QueryHint;
 import javax.persistence.Table;
 import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
@@ -26,6 +28,9 @@ import javax.xml.bind.annotation.XmlTransient;
 
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.QueryHints;
 import org.hibernate.validator.constraints.NotEmpty;
 
 import mz.co.mozview.frameworks.core.model.GenericEntity;
@@ -39,9 +44,14 @@ import mz.org.fgh.mentoring.core.question.dao.QuestionDAO;
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "QUESTIONS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }))
 @NamedQueries({ @NamedQuery(name = QuestionDAO.QUERY_NAME.findByFormCode, query = QuestionDAO.QUERY.findByFormCode),
-        @NamedQuery(name = QuestionDAO.QUERY_NAME.findByuuid, query = QuestionDAO.QUERY.findByuuid) })
+        @NamedQuery(name = QuestionDAO.QUERY_NAME.findByuuid, query = QuestionDAO.QUERY.findByuuid,
+                hints = @QueryHint(name = QueryHints.CACHEABLE, value = "true")),
+        @NamedQuery(name = QuestionDAO.QUERY_NAME.findByUuids, query = QuestionDAO.QUERY.findByUuids),
+        @NamedQuery(name = QuestionDAO.QUERY_NAME.fetchAll, query = QuestionDAO.QUERY.fetchAll) })
 public class Question extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
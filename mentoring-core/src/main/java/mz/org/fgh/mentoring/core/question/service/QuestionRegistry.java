@@ -0,0 +1,192 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.question.service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.question.dao.QuestionDAO;
+import mz.org.fgh.mentoring.core.question.model.Question;
+
+/**
+ * In memory copy of the active questions, with their type and category, kept
+ * by id, uuid and code. Every uploaded answer names its question, so resolving
+ * them here saves one query per answer.
+ *
+ * The questions are loaded at startup and loaded again after
+ * {@link QuestionService} writes any of them. A question that is not known yet
+ * is looked up in the database.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component
+public class QuestionRegistry {
+
+	private static final Logger LOGGER = Logger.getLogger(QuestionRegistry.class.getName());
+
+	@Inject
+	private QuestionDAO questionDAO;
+
+	@Inject
+	private QuestionQueryService questionQueryService;
+
+	private volatile Snapshot snapshot;
+
+	@PostConstruct
+	public void load() {
+		try {
+			this.refresh();
+		}
+		catch (final RuntimeException e) {
+			LOGGER.log(Level.WARNING, "The questions could not be loaded, they will be loaded on first use", e);
+		}
+	}
+
+	/**
+	 * Loads the active questions again, replacing the ones held so far.
+	 */
+	public void refresh() {
+
+		final List<Question> questions = this.questionDAO.fetchAll(LifeCycleStatus.ACTIVE);
+
+		this.snapshot = new Snapshot(questions);
+
+		LOGGER.fine(questions.size() + " question(s) loaded");
+	}
+
+	/**
+	 * Loads the questions again once the current transaction commits. Without a
+	 * transaction they are loaded right away.
+	 */
+	public void changed() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			this.refresh();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCommit() {
+				QuestionRegistry.this.refresh();
+			}
+		});
+	}
+
+	public Question findQuestionByUuid(final UserContext userContext, final String uuid) throws BusinessException {
+
+		final Question question = this.getSnapshot().byUuid.get(uuid);
+
+		if (question != null) {
+			return question;
+		}
+
+		return this.questionQueryService.findQuestionByUuid(userContext, uuid);
+	}
+
+	/**
+	 * Finds the given questions, keyed by uuid. Uuids of unknown or inactive
+	 * questions are left out.
+	 */
+	public Map<String, Question> findQuestionsByUuids(final Collection<String> uuids) {
+
+		final Map<String, Question> questions = new HashMap<>();
+		final Set<String> unknown = new HashSet<>();
+		final Snapshot current = this.getSnapshot();
+
+		for (final String uuid : uuids) {
+
+			final Question question = current.byUuid.get(uuid);
+
+			if (question != null) {
+				questions.put(uuid, question);
+			}
+			else {
+				unknown.add(uuid);
+			}
+		}
+
+		if (!unknown.isEmpty()) {
+			for (final Question question : this.questionDAO.findByUuids(unknown, LifeCycleStatus.ACTIVE)) {
+				questions.put(question.getUuid(), question);
+			}
+		}
+
+		return questions;
+	}
+
+	public Question findQuestionById(final Long id) {
+		return this.getSnapshot().byId.get(id);
+	}
+
+	public Question findQuestionByCode(final String code) {
+		return this.getSnapshot().byCode.get(code);
+	}
+
+	/**
+	 * Id of the question with the given code, or <code>null</code> when there is
+	 * no such active question. Lets reports filter answers by question id
+	 * instead of joining the questions table.
+	 */
+	public Long findQuestionIdByCode(final String code) {
+
+		final Question question = this.findQuestionByCode(code);
+
+		return question == null ? null : question.getId();
+	}
+
+	private Snapshot getSnapshot() {
+
+		if (this.snapshot == null) {
+			this.refresh();
+		}
+
+		return this.snapshot;
+	}
+
+	private static final class Snapshot {
+
+		private final Map<Long, Question> byId;
+
+		private final Map<String, Question> byUuid;
+
+		private final Map<String, Question> byCode;
+
+		private Snapshot(final List<Question> questions) {
+
+			final Map<Long, Question> ids = new HashMap<>();
+			final Map<String, Question> uuids = new HashMap<>();
+			final Map<String, Question> codes = new HashMap<>();
+
+			for (final Question question : questions) {
+				ids.put(question.getId(), question);
+				uuids.put(question.getUuid(), question);
+				codes.put(question.getCode(), question);
+			}
+
+			this.byId = Collections.unmodifiableMap(ids);
+			this.byUuid = Collections.unmodifiableMap(uuids);
+			this.byCode = Collections.unmodifiableMap(codes);
+		}
+	}
+}
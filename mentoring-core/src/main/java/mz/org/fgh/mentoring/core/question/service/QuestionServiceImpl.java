@@ -11,6 +11,7 @@ import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.util.StringNormalizer;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
 import mz.org.fgh.mentoring.core.question.dao.QuestionDAO;
 import mz.org.fgh.mentoring.core.question.model.Question;
 
@@ -24,6 +25,12 @@ public class QuestionServiceImpl extends AbstractService implements QuestionServ
 	@Inject
 	private QuestionDAO questionDao;
 
+	@Inject
+	private QuestionRegistry questionRegistry;
+
+	@Inject
+	private MetadataVersion metadataVersion;
+
 	@Override
 	public Question createQuestion(final UserContext userContext, final Question question) throws BusinessException {
 
@@ -32,6 +39,8 @@ public class QuestionServiceImpl extends AbstractService implements QuestionServ
 		question.setQuestion(StringNormalizer.normalizeAndUppCase(question.getQuestion()));
 
 		this.questionDao.create(userContext.getUuid(), question);
+		this.questionRegistry.changed();
+		this.metadataVersion.changed();
 
 		return question;
 	}
@@ -41,6 +50,8 @@ public class QuestionServiceImpl extends AbstractService implements QuestionServ
 		question.setQuestion(StringNormalizer.normalizeAndUppCase(question.getQuestion()));
 
 		this.questionDao.update(userContext.getUuid(), question);
+		this.questionRegistry.changed();
+		this.metadataVersion.changed();
 
 		return question;
 	}
@@ -0,0 +1,159 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+
+/**
+ * Builds report native queries whose SQL text never contains filter values.
+ * Every value goes through {@link #bind(Object)}, which returns the positional
+ * placeholder to splice into the SQL, so a report always produces the same
+ * statement and the prepared statement cache can reuse it.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class NativeQueryBuilder {
+
+	private final String report;
+
+	private final StringBuilder nativeQuery = new StringBuilder();
+
+	private final List<Object> parameters = new ArrayList<>();
+
+	private final StringBuilder shape = new StringBuilder();
+
+	public NativeQueryBuilder(final String report) {
+		this.report = report;
+	}
+
+	public String bind(final Object value) {
+		this.parameters.add(value);
+		return "?" + this.parameters.size();
+	}
+
+	public NativeQueryBuilder append(final String sql) {
+		this.nativeQuery.append(sql);
+		return this;
+	}
+
+	/**
+	 * Appends <code>AND expression ?n</code> when the value is present, e.g.
+	 * <code>and("d.UUID =", district.getUuid())</code>.
+	 */
+	public NativeQueryBuilder and(final String expression, final Object value) {
+
+		if (value != null) {
+			this.nativeQuery.append(" AND ").append(expression).append(" ").append(this.bind(value));
+		}
+
+		this.shape.append(value != null ? '1' : '0');
+
+		return this;
+	}
+
+	public Query build(final EntityManager entityManager, final ReportQueryRegistry registry) {
+		return this.setParameters(entityManager.createNativeQuery(registry.canonical(this.getKey(), this.getSql())));
+	}
+
+	public Query build(final EntityManager entityManager, final ReportQueryRegistry registry,
+	        final String resultSetMapping) {
+		return this.setParameters(entityManager
+		        .createNativeQuery(registry.canonical(this.getKey(), this.getSql()), resultSetMapping));
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> List<T> getResultList(final EntityManager entityManager, final ReportQueryRegistry registry) {
+		return this.execute(this.build(entityManager, registry), registry);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> List<T> getResultList(final EntityManager entityManager, final ReportQueryRegistry registry,
+	        final String resultSetMapping) {
+		return this.execute(this.build(entityManager, registry, resultSetMapping), registry);
+	}
+
+	/**
+	 * Reads the report forward-only, handing each row to the handler as soon
+	 * as it is fetched instead of materialising the whole result list. Must run
+	 * inside a transaction so the connection stays open while scrolling.
+	 *
+	 * @return the number of rows handled
+	 */
+	public long scroll(final EntityManager entityManager, final ReportQueryRegistry registry, final int fetchSize,
+	        final ReportRowHandler handler) {
+
+		final org.hibernate.Query query = this.build(entityManager, registry).unwrap(org.hibernate.Query.class);
+		query.setFetchSize(fetchSize);
+		query.setReadOnly(true);
+
+		final long start = System.nanoTime();
+		long rows = 0;
+
+		final ScrollableResults results = query.scroll(ScrollMode.FORWARD_ONLY);
+
+		try {
+			while (results.next()) {
+				handler.handle(results.get());
+				rows++;
+			}
+		}
+		catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		finally {
+			results.close();
+			registry.record(this.report, System.nanoTime() - start);
+		}
+
+		return rows;
+	}
+
+	public String getReport() {
+		return this.report;
+	}
+
+	public String getKey() {
+		return this.shape.length() == 0 ? this.report : this.report + "#" + this.shape;
+	}
+
+	public String getSql() {
+		return this.nativeQuery.toString();
+	}
+
+	public List<Object> getParameters() {
+		return this.parameters;
+	}
+
+	@SuppressWarnings("rawtypes")
+	private List execute(final Query query, final ReportQueryRegistry registry) {
+
+		final long start = System.nanoTime();
+
+		try {
+			return query.getResultList();
+		}
+		finally {
+			registry.record(this.report, System.nanoTime() - start);
+		}
+	}
+
+	private Query setParameters(final Query query) {
+
+		for (int i = 0; i < this.parameters.size(); i++) {
+			query.setParameter(i + 1, this.parameters.get(i));
+		}
+
+		return query;
+	}
+}
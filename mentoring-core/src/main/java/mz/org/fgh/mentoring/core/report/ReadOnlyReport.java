@@ -0,0 +1,28 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a service method that only reads report data, which may be a few
+ * seconds old. Its queries are sent to the reporting replica, when there is
+ * one, instead of competing with the tablet syncs on the primary; see
+ * {@link ReportRoutingDataSource}.
+ *
+ * Methods whose result is used to write, as the look ups of duplicates, must
+ * not be marked: the replica may not have the latest rows yet.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface ReadOnlyReport {
+}
@@ -0,0 +1,38 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Routes the {@link ReadOnlyReport} methods to the reporting replica. It runs
+ * before the transaction of the method is started, so the connection of the
+ * transaction is already taken from the replica.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadOnlyReportAspect {
+
+	@Around("@annotation(mz.org.fgh.mentoring.core.report.ReadOnlyReport)")
+	public Object routeToReplica(final ProceedingJoinPoint joinPoint) throws Throwable {
+
+		final boolean reporting = ReportRoutingDataSource.startReport();
+
+		try {
+			return joinPoint.proceed();
+		}
+		finally {
+			ReportRoutingDataSource.endReport(reporting);
+		}
+	}
+}
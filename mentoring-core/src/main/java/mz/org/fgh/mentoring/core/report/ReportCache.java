@@ -0,0 +1,350 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import mz.co.mozview.frameworks.core.model.GenericEntity;
+import mz.org.fgh.mentoring.core.cache.model.ReportCacheStatistics;
+
+/**
+ * Keeps the results of the heaviest reports, keyed by the report and its
+ * filter. The filter is normalised, so the same entities given by uuids of a
+ * different case, or a null instead of no filter, find the same entry.
+ *
+ * At most {@code report.cache.size} results are kept, the least recently read
+ * going first, each for {@code report.cache.ttl} seconds at most. A size of 0
+ * turns the cache off.
+ *
+ * The services writing the data of the reports call
+ * {@link #changed(Source, LocalDate)} with the date of the written rows; once
+ * their transaction commits, only the results whose date range contains it
+ * are dropped.
+ *
+ * The reports may read from the replica, which is up to
+ * {@code db.report.maxLag} seconds behind the primary. A result loaded less
+ * than that after the last change of its source may miss the change, so it
+ * is returned but not kept.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component(ReportCache.NAME)
+public class ReportCache {
+
+	public static final String NAME = "mz.org.fgh.mentoring.core.report.ReportCache";
+
+	/**
+	 * The data a report is built from, and the date filtered by its range.
+	 */
+	public enum Source {
+
+		/**
+		 * The sessions and mentorships, by performed date.
+		 */
+		MENTORSHIPS,
+
+		/**
+		 * The indicators, by referred month.
+		 */
+		INDICATORS;
+	}
+
+	public interface ReportLoader<T, E extends Exception> {
+
+		List<T> load() throws E;
+	}
+
+	@Inject
+	private Environment environment;
+
+	private final LinkedHashMap<String, CachedReport> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private final Map<String, Counters> counters = new TreeMap<>();
+
+	/**
+	 * Moves on every change, so a result loaded while the data changed is not
+	 * kept.
+	 */
+	private long generation;
+
+	/**
+	 * When the results of each source were last dropped.
+	 */
+	private final Map<Source, Long> changedAt = new EnumMap<>(Source.class);
+
+	private int size;
+
+	private long ttl;
+
+	/**
+	 * How far behind the data read by the reports may be, none without a
+	 * replica.
+	 */
+	private long replicaLag;
+
+	@PostConstruct
+	public void init() {
+		this.size = this.environment.getProperty("report.cache.size", Integer.class, 100);
+		this.ttl = TimeUnit.SECONDS.toMillis(this.environment.getProperty("report.cache.ttl", Long.class, 600L));
+
+		if (StringUtils.hasText(this.environment.getProperty("db.report.url"))) {
+			this.replicaLag = TimeUnit.SECONDS
+			        .toMillis(this.environment.getProperty("db.report.maxLag", Long.class, 30L));
+		}
+	}
+
+	/**
+	 * The cached result of the report for the filter, or the one given by the
+	 * loader. The date range is the one of the filter, either end may be
+	 * <code>null</code> when the report is not bounded on that side.
+	 */
+	public <T, E extends Exception> List<T> get(final String report, final Source source,
+	        final LocalDate startDate, final LocalDate endDate, final ReportLoader<T, E> loader,
+	        final Object... filter) throws E {
+
+		if (this.size == 0) {
+			return loader.load();
+		}
+
+		final String key = key(report, startDate, endDate, filter);
+		final long generation;
+
+		synchronized (this) {
+
+			final CachedReport cached = this.entries.get(key);
+			final Counters counters = this.counters.computeIfAbsent(report, Counters::new);
+
+			if (cached != null && System.currentTimeMillis() - cached.loadedAt < this.ttl) {
+				counters.hits++;
+
+				@SuppressWarnings("unchecked")
+				final List<T> result = (List<T>) cached.result;
+				return result;
+			}
+
+			if (cached != null) {
+				this.entries.remove(key);
+			}
+
+			counters.misses++;
+			generation = this.generation;
+		}
+
+		final long loadedAt = System.currentTimeMillis();
+		final List<T> result = Collections.unmodifiableList(loader.load());
+
+		synchronized (this) {
+
+			if (generation == this.generation && this.isCaughtUp(source, loadedAt)) {
+				this.entries.put(key, new CachedReport(report, source, startDate, endDate, result));
+				this.evictEldest();
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Drops, once the current transaction commits, the results of the source
+	 * whose date range contains the date. A <code>null</code> date drops all of
+	 * them.
+	 */
+	public void changed(final Source source, final LocalDate date) {
+		this.changed(source, Collections.singleton(date));
+	}
+
+	public void changed(final Source source, final Collection<LocalDate> dates) {
+
+		if (this.size == 0 || dates.isEmpty()) {
+			return;
+		}
+
+		final List<LocalDate> changedDates = new ArrayList<>(dates);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			this.evict(source, changedDates);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCommit() {
+				ReportCache.this.evict(source, changedDates);
+			}
+		});
+	}
+
+	/**
+	 * Drops, once the current transaction commits, every result of the source,
+	 * for changes whose dates are not known.
+	 */
+	public void changed(final Source source) {
+		this.changed(source, (LocalDate) null);
+	}
+
+	public synchronized void clear() {
+		this.entries.clear();
+		this.counters.clear();
+		this.generation++;
+	}
+
+	public synchronized List<ReportCacheStatistics> getStatistics() {
+
+		final List<ReportCacheStatistics> statistics = new ArrayList<>();
+
+		for (final Counters counters : this.counters.values()) {
+
+			long entries = 0;
+			long rows = 0;
+
+			for (final CachedReport cached : this.entries.values()) {
+				if (cached.report.equals(counters.report)) {
+					entries++;
+					rows += cached.result.size();
+				}
+			}
+
+			statistics.add(new ReportCacheStatistics(counters.report, counters.hits, counters.misses,
+			        counters.invalidations, entries, rows));
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * Whether data read at the given time, from the replica when there is one,
+	 * already has the last change of the source.
+	 */
+	private boolean isCaughtUp(final Source source, final long readAt) {
+
+		final Long changedAt = this.changedAt.get(source);
+
+		return changedAt == null || readAt - this.replicaLag >= changedAt;
+	}
+
+	private synchronized void evict(final Source source, final List<LocalDate> dates) {
+
+		this.generation++;
+		this.changedAt.put(source, System.currentTimeMillis());
+
+		final Iterator<CachedReport> iterator = this.entries.values().iterator();
+
+		while (iterator.hasNext()) {
+
+			final CachedReport cached = iterator.next();
+
+			if (cached.source == source && dates.stream().anyMatch(cached::contains)) {
+				iterator.remove();
+				this.counters.get(cached.report).invalidations++;
+			}
+		}
+	}
+
+	private void evictEldest() {
+
+		final Iterator<CachedReport> iterator = this.entries.values().iterator();
+
+		while (this.entries.size() > this.size) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	static String key(final String report, final LocalDate startDate, final LocalDate endDate,
+	        final Object... filter) {
+
+		final StringBuilder key = new StringBuilder(report).append('|').append(normalize(startDate)).append('|')
+		        .append(normalize(endDate));
+
+		for (final Object value : filter) {
+			key.append('|').append(normalize(value));
+		}
+
+		return key.toString();
+	}
+
+	private static String normalize(final Object value) {
+
+		if (value == null) {
+			return "";
+		}
+
+		if (value instanceof GenericEntity) {
+			final String uuid = ((GenericEntity) value).getUuid();
+			return uuid == null ? "?" : uuid.trim().toLowerCase();
+		}
+
+		return value.toString().trim();
+	}
+
+	private static class CachedReport {
+
+		private final String report;
+
+		private final Source source;
+
+		private final LocalDate startDate;
+
+		private final LocalDate endDate;
+
+		private final List<?> result;
+
+		private final long loadedAt = System.currentTimeMillis();
+
+		CachedReport(final String report, final Source source, final LocalDate startDate, final LocalDate endDate,
+		        final List<?> result) {
+			this.report = report;
+			this.source = source;
+			this.startDate = startDate;
+			this.endDate = endDate;
+			this.result = result;
+		}
+
+		boolean contains(final LocalDate date) {
+
+			if (date == null) {
+				return true;
+			}
+
+			return (this.startDate == null || !date.isBefore(this.startDate))
+			        && (this.endDate == null || !date.isAfter(this.endDate));
+		}
+	}
+
+	private static class Counters {
+
+		private final String report;
+
+		private long hits;
+
+		private long misses;
+
+		private long invalidations;
+
+		Counters(final String report) {
+			this.report = report;
+		}
+	}
+}
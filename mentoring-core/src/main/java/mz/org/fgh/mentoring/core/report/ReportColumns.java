@@ -0,0 +1,52 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+/**
+ * Reads native query columns by index without going through
+ * <code>toString()</code> and back for numbers.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public final class ReportColumns {
+
+	private ReportColumns() {
+	}
+
+	public static String string(final Object[] row, final int index) {
+		final Object value = row[index];
+		return value == null ? null : value.toString();
+	}
+
+	public static long longValue(final Object[] row, final int index) {
+
+		final Object value = row[index];
+
+		if (value == null) {
+			return 0L;
+		}
+
+		if (value instanceof Number) {
+			return ((Number) value).longValue();
+		}
+
+		return Long.parseLong(value.toString());
+	}
+
+	public static int intValue(final Object[] row, final int index) {
+
+		final Object value = row[index];
+
+		if (value == null) {
+			return 0;
+		}
+
+		if (value instanceof Number) {
+			return ((Number) value).intValue();
+		}
+
+		return Integer.parseInt(value.toString());
+	}
+}
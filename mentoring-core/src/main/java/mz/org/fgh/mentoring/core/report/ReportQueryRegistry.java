@@ -0,0 +1,61 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the canonical SQL text of every report query built through
+ * {@link NativeQueryBuilder}, together with its execution counters.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component(ReportQueryRegistry.NAME)
+public class ReportQueryRegistry {
+
+	public static final String NAME = "mz.org.fgh.mentoring.core.report.ReportQueryRegistry";
+
+	private final ConcurrentMap<String, String> statements = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, ReportStatistics> statistics = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the SQL registered for the key, registering the given one on the
+	 * first call. The same String instance is handed out on every execution.
+	 */
+	public String canonical(final String key, final String sql) {
+
+		final String canonical = this.statements.putIfAbsent(key, sql);
+
+		if (canonical == null) {
+			return sql;
+		}
+
+		if (!canonical.equals(sql)) {
+			throw new IllegalStateException("The report query " + key + " is not bind-parameterised");
+		}
+
+		return canonical;
+	}
+
+	public void record(final String report, final long nanos) {
+		this.statistics.computeIfAbsent(report, ReportStatistics::new).record(nanos);
+	}
+
+	public Map<String, String> getStatements() {
+		return Collections.unmodifiableMap(this.statements);
+	}
+
+	public List<ReportStatistics> getStatistics() {
+		return new ArrayList<>(this.statistics.values());
+	}
+}
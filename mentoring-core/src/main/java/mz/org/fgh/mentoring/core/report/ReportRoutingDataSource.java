@@ -0,0 +1,193 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Sends the connections taken by the {@link ReadOnlyReport} methods to the
+ * reporting replica, and every other connection to the primary.
+ *
+ * The replica is checked every few seconds. While it is unreachable, not
+ * replicating or more than the allowed lag behind the primary, the reports go
+ * to the primary as well; they also do when a connection to the replica
+ * cannot be taken, until the next check finds it healthy again.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class ReportRoutingDataSource extends AbstractDataSource implements Closeable {
+
+	private static final Logger LOGGER = Logger.getLogger(ReportRoutingDataSource.class.getName());
+
+	private static final ThreadLocal<Boolean> REPORTING = new ThreadLocal<>();
+
+	private final DataSource primary;
+
+	private final DataSource replica;
+
+	private final long maxLag;
+
+	private ScheduledExecutorService monitor;
+
+	private volatile boolean replicaAvailable;
+
+	private volatile boolean replicaChecked;
+
+	/**
+	 * @param maxLag
+	 *            seconds the replica may be behind the primary and still be
+	 *            read
+	 */
+	public ReportRoutingDataSource(final DataSource primary, final DataSource replica, final long maxLag) {
+		this.primary = primary;
+		this.replica = replica;
+		this.maxLag = maxLag;
+	}
+
+	/**
+	 * Starts checking the replica, every given seconds. Until the first check
+	 * the reports are read from the primary.
+	 */
+	public void start(final long checkInterval) {
+
+		this.monitor = Executors.newSingleThreadScheduledExecutor(task -> {
+			final Thread thread = new Thread(task, "report-replica-monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.monitor.scheduleWithFixedDelay(this::checkReplica, 0, checkInterval, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Routes the connections taken by the current thread to the replica, and
+	 * returns whether they already were.
+	 */
+	public static boolean startReport() {
+
+		final boolean reporting = isReporting();
+		REPORTING.set(Boolean.TRUE);
+
+		return reporting;
+	}
+
+	/**
+	 * Restores the routing of the current thread, given by
+	 * {@link #startReport()}.
+	 */
+	public static void endReport(final boolean reporting) {
+		if (!reporting) {
+			REPORTING.remove();
+		}
+	}
+
+	public static boolean isReporting() {
+		return Boolean.TRUE.equals(REPORTING.get());
+	}
+
+	public boolean isReplicaAvailable() {
+		return this.replicaAvailable;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+
+		if (isReporting() && this.replicaAvailable) {
+			try {
+				return this.replica.getConnection();
+			}
+			catch (final SQLException e) {
+				this.replicaUnavailable("is unreachable", e);
+			}
+		}
+
+		return this.primary.getConnection();
+	}
+
+	@Override
+	public Connection getConnection(final String username, final String password) throws SQLException {
+		return this.primary.getConnection(username, password);
+	}
+
+	/**
+	 * Reads the lag of the replica. A server that is not a replica of any
+	 * other has no lag.
+	 */
+	void checkReplica() {
+
+		try (Connection connection = this.replica.getConnection();
+		        Statement statement = connection.createStatement();
+		        ResultSet resultSet = statement.executeQuery("SHOW SLAVE STATUS")) {
+
+			if (!resultSet.next()) {
+				this.replicaAvailable();
+				return;
+			}
+
+			final Number lag = (Number) resultSet.getObject("Seconds_Behind_Master");
+
+			if (lag == null) {
+				this.replicaUnavailable("is not replicating", null);
+			}
+			else if (lag.longValue() > this.maxLag) {
+				this.replicaUnavailable("is " + lag + " seconds behind the primary", null);
+			}
+			else {
+				this.replicaAvailable();
+			}
+		}
+		catch (final SQLException | RuntimeException e) {
+			this.replicaUnavailable("is unreachable", e);
+		}
+	}
+
+	private void replicaAvailable() {
+
+		if (!this.replicaAvailable) {
+			LOGGER.info("The reports are read from the replica");
+		}
+
+		this.replicaAvailable = true;
+		this.replicaChecked = true;
+	}
+
+	private void replicaUnavailable(final String reason, final Exception e) {
+
+		if (this.replicaAvailable || !this.replicaChecked) {
+			LOGGER.log(Level.WARNING, "The reports are read from the primary, the replica " + reason, e);
+		}
+
+		this.replicaAvailable = false;
+		this.replicaChecked = true;
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		if (this.monitor != null) {
+			this.monitor.shutdownNow();
+		}
+
+		for (final DataSource dataSource : new DataSource[] { this.replica, this.primary }) {
+			if (dataSource instanceof Closeable) {
+				((Closeable) dataSource).close();
+			}
+		}
+	}
+}
@@ -0,0 +1,18 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.io.IOException;
+
+/**
+ * Receives the rows of a scrolled report one at a time, in the order the
+ * database returns them. The row array is only valid during the call.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public interface ReportRowHandler {
+
+	void handle(Object[] row) throws IOException;
+}
@@ -0,0 +1,62 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mz.org.fgh.mentoring.core.cache.model.ReportQueryStatistics;
+
+/**
+ * Execution counters of a single report query.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class ReportStatistics {
+
+	private final String report;
+
+	private final AtomicLong executions = new AtomicLong();
+
+	private final AtomicLong totalNanos = new AtomicLong();
+
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	public ReportStatistics(final String report) {
+		this.report = report;
+	}
+
+	void record(final long nanos) {
+		this.executions.incrementAndGet();
+		this.totalNanos.addAndGet(nanos);
+		this.maxNanos.accumulateAndGet(nanos, Math::max);
+	}
+
+	public String getReport() {
+		return this.report;
+	}
+
+	public long getExecutions() {
+		return this.executions.get();
+	}
+
+	public long getTotalMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.totalNanos.get());
+	}
+
+	public long getAverageMillis() {
+		final long executions = this.executions.get();
+		return executions == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(this.totalNanos.get() / executions);
+	}
+
+	public long getMaxMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(this.maxNanos.get());
+	}
+
+	public ReportQueryStatistics toSnapshot() {
+		return new ReportQueryStatistics(this.report, this.getExecutions(), this.getTotalMillis(),
+		        this.getAverageMillis(), this.getMaxMillis());
+	}
+}
@@ -0,0 +1,41 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.search;
+
+/**
+ * The names of a row, as read to build the {@link NameSearchIndex}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class IndexedName {
+
+	private final Long id;
+
+	private final String name;
+
+	private final String surname;
+
+	public IndexedName(final Long id, final String name) {
+		this(id, name, null);
+	}
+
+	public IndexedName(final Long id, final String name, final String surname) {
+		this.id = id;
+		this.name = name;
+		this.surname = surname;
+	}
+
+	public Long getId() {
+		return this.id;
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public String getSurname() {
+		return this.surname;
+	}
+}
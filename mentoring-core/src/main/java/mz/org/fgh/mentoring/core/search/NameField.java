@@ -0,0 +1,23 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.search;
+
+/**
+ * The name columns searched through the {@link NameSearchIndex}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public enum NameField {
+
+	TUTOR_NAME,
+
+	TUTOR_SURNAME,
+
+	TUTORED_NAME,
+
+	TUTORED_SURNAME,
+
+	HEALTH_FACILITY_NAME;
+}
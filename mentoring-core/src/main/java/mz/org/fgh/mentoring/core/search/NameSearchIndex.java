@@ -0,0 +1,144 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.search;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+import mz.org.fgh.mentoring.core.tutored.model.Tutored;
+
+/**
+ * In memory {@link NgramIndex} of the tutor, tutored and health facility
+ * names. The searches by name used to filter with LIKE '%name%', which reads
+ * every row; here the term is resolved to the ids holding it and the query
+ * filters by id instead.
+ *
+ * The names are loaded by {@link NameSearchIndexLoader} and kept up to date by
+ * the services that write them, once their transaction commits. The names
+ * written by the other nodes and by the clients are picked up by the periodic
+ * reload of the loader.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component
+public class NameSearchIndex {
+
+	/**
+	 * More ids than these are not worth an IN list, the term matches too many
+	 * rows for the index to save anything.
+	 */
+	private static final int MAX_IDS = 1000;
+
+	private final Map<NameField, NgramIndex> indexes = new EnumMap<>(NameField.class);
+
+	private volatile boolean loaded;
+
+	public NameSearchIndex() {
+		for (final NameField field : NameField.values()) {
+			this.indexes.put(field, new NgramIndex());
+		}
+	}
+
+	/**
+	 * Replaces the names of the field with the given ones, keyed by id.
+	 */
+	public void load(final NameField field, final Map<Long, String> names) {
+		this.indexes.get(field).putAll(names);
+	}
+
+	/**
+	 * Indexes the names of the field, keyed by id, keeping the other ones.
+	 */
+	public void index(final NameField field, final Map<Long, String> names) {
+		final NgramIndex index = this.indexes.get(field);
+		names.forEach(index::put);
+	}
+
+	public void loaded() {
+		this.loaded = true;
+	}
+
+	public boolean isLoaded() {
+		return this.loaded;
+	}
+
+	public void indexTutor(final Tutor tutor) {
+		this.afterCommit(() -> {
+			this.indexes.get(NameField.TUTOR_NAME).put(tutor.getId(), tutor.getName());
+			this.indexes.get(NameField.TUTOR_SURNAME).put(tutor.getId(), tutor.getSurname());
+		});
+	}
+
+	public void indexTutored(final Tutored tutored) {
+		this.afterCommit(() -> {
+			this.indexes.get(NameField.TUTORED_NAME).put(tutored.getId(), tutored.getName());
+			this.indexes.get(NameField.TUTORED_SURNAME).put(tutored.getId(), tutored.getSurname());
+		});
+	}
+
+	public void indexHealthFacility(final HealthFacility healthFacility) {
+		this.afterCommit(() -> this.indexes.get(NameField.HEALTH_FACILITY_NAME).put(healthFacility.getId(),
+		        healthFacility.getHealthFacility()));
+	}
+
+	/**
+	 * Ids of the rows whose name contains the term.
+	 */
+	public Set<Long> search(final NameField field, final String term) {
+		return this.indexes.get(field).search(term);
+	}
+
+	/**
+	 * Predicate of the rows whose name contains the term, ignoring accents and
+	 * case. It filters by the ids found in the index, or falls back to LIKE when
+	 * the index is not loaded, the term is too short to be looked up or it
+	 * matches too many rows.
+	 */
+	public Predicate contains(final CriteriaBuilder criteriaBuilder, final Path<?> entity, final NameField field,
+	        final String nameAttribute, final String term) {
+
+		if (this.loaded && NgramIndex.isSearchable(term)) {
+
+			final Set<Long> ids = this.search(field, term);
+
+			if (ids.isEmpty()) {
+				return criteriaBuilder.disjunction();
+			}
+
+			if (ids.size() <= MAX_IDS) {
+				return entity.get("id").in(ids);
+			}
+		}
+
+		return criteriaBuilder.like(entity.<String> get(nameAttribute), "%" + NgramIndex.normalize(term) + "%");
+	}
+
+	private void afterCommit(final Runnable index) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			index.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCommit() {
+				index.run();
+			}
+		});
+	}
+}
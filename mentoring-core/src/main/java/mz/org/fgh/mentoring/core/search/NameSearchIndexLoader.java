@@ -0,0 +1,183 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.search;
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import mz.org.fgh.mentoring.core.location.dao.HealthFacilityDAO;
+import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
+import mz.org.fgh.mentoring.core.tutored.dao.TutoredDAO;
+
+/**
+ * Loads the names of the {@link NameSearchIndex} at startup. Until they are
+ * loaded the searches by name keep filtering with LIKE.
+ *
+ * Every {@code search.index.reload.interval} seconds (0 turns it off) it also
+ * indexes the names created or updated since the previous read, so the names
+ * written by the other nodes and by the clients are found within that time.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component
+public class NameSearchIndexLoader {
+
+	private static final Logger LOGGER = Logger.getLogger(NameSearchIndexLoader.class.getName());
+
+	/**
+	 * A row committed after a read may carry an earlier timestamp than the
+	 * read, or come from a node whose clock is behind. Reading again from this
+	 * much before the previous read picks it up; the names are indexed by id,
+	 * so reading one twice is harmless.
+	 */
+	private static final long RELOAD_OVERLAP = TimeUnit.MINUTES.toMillis(5);
+
+	@Inject
+	private Environment environment;
+
+	@Inject
+	private NameSearchIndex nameSearchIndex;
+
+	@Inject
+	private TutorDAO tutorDAO;
+
+	@Inject
+	private TutoredDAO tutoredDAO;
+
+	@Inject
+	private HealthFacilityDAO healthFacilityDAO;
+
+	private ScheduledExecutorService reloader;
+
+	private Calendar indexedSince;
+
+	@PostConstruct
+	public void load() {
+		try {
+			this.refresh();
+		}
+		catch (final RuntimeException e) {
+			LOGGER.log(Level.WARNING, "The names could not be indexed, they will be searched with LIKE", e);
+		}
+
+		final long reloadInterval = this.environment.getProperty("search.index.reload.interval", Long.class, 60L);
+
+		if (reloadInterval <= 0) {
+			return;
+		}
+
+		this.reloader = Executors.newSingleThreadScheduledExecutor(task -> {
+			final Thread thread = new Thread(task, "name-search-index-reloader");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.reloader.scheduleWithFixedDelay(this::reload, reloadInterval, reloadInterval, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	public void stop() {
+		if (this.reloader != null) {
+			this.reloader.shutdownNow();
+		}
+	}
+
+	/**
+	 * Reads all the names again, replacing the indexed ones.
+	 */
+	public synchronized void refresh() {
+
+		final Calendar readAt = readAt();
+
+		final List<IndexedName> tutors = this.tutorDAO.findIndexedNames();
+		final List<IndexedName> tutoreds = this.tutoredDAO.findIndexedNames();
+		final List<IndexedName> healthFacilities = this.healthFacilityDAO.findIndexedNames();
+
+		this.nameSearchIndex.load(NameField.TUTOR_NAME, names(tutors, IndexedName::getName));
+		this.nameSearchIndex.load(NameField.TUTOR_SURNAME, names(tutors, IndexedName::getSurname));
+		this.nameSearchIndex.load(NameField.TUTORED_NAME, names(tutoreds, IndexedName::getName));
+		this.nameSearchIndex.load(NameField.TUTORED_SURNAME, names(tutoreds, IndexedName::getSurname));
+		this.nameSearchIndex.load(NameField.HEALTH_FACILITY_NAME, names(healthFacilities, IndexedName::getName));
+		this.nameSearchIndex.loaded();
+		this.indexedSince = readAt;
+
+		LOGGER.fine(tutors.size() + " tutor(s), " + tutoreds.size() + " tutored(s) and " + healthFacilities.size()
+		        + " health facilitie(s) indexed");
+	}
+
+	/**
+	 * Indexes the names created or updated since the previous read, or reads
+	 * all of them when none succeeded yet.
+	 */
+	public synchronized void refreshChanged() {
+
+		if (this.indexedSince == null) {
+			this.refresh();
+			return;
+		}
+
+		final Calendar readAt = readAt();
+
+		final List<IndexedName> tutors = this.tutorDAO.findIndexedNamesChangedSince(this.indexedSince);
+		final List<IndexedName> tutoreds = this.tutoredDAO.findIndexedNamesChangedSince(this.indexedSince);
+		final List<IndexedName> healthFacilities = this.healthFacilityDAO
+		        .findIndexedNamesChangedSince(this.indexedSince);
+
+		this.nameSearchIndex.index(NameField.TUTOR_NAME, names(tutors, IndexedName::getName));
+		this.nameSearchIndex.index(NameField.TUTOR_SURNAME, names(tutors, IndexedName::getSurname));
+		this.nameSearchIndex.index(NameField.TUTORED_NAME, names(tutoreds, IndexedName::getName));
+		this.nameSearchIndex.index(NameField.TUTORED_SURNAME, names(tutoreds, IndexedName::getSurname));
+		this.nameSearchIndex.index(NameField.HEALTH_FACILITY_NAME, names(healthFacilities, IndexedName::getName));
+		this.indexedSince = readAt;
+
+		LOGGER.fine(tutors.size() + " tutor(s), " + tutoreds.size() + " tutored(s) and " + healthFacilities.size()
+		        + " health facilitie(s) changed");
+	}
+
+	private void reload() {
+		try {
+			this.refreshChanged();
+		}
+		catch (final RuntimeException e) {
+			// an exception would cancel the schedule, the next reload retries
+			LOGGER.log(Level.WARNING, "The changed names could not be indexed", e);
+		}
+	}
+
+	private static Calendar readAt() {
+
+		final Calendar readAt = Calendar.getInstance();
+		readAt.setTimeInMillis(readAt.getTimeInMillis() - RELOAD_OVERLAP);
+
+		return readAt;
+	}
+
+	private static Map<Long, String> names(final List<IndexedName> indexedNames,
+	        final Function<IndexedName, String> name) {
+
+		final Map<Long, String> names = new HashMap<>();
+
+		for (final IndexedName indexedName : indexedNames) {
+			names.put(indexedName.getId(), name.apply(indexedName));
+		}
+
+		return names;
+	}
+}
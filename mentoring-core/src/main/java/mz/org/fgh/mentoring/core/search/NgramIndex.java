@@ -0,0 +1,183 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.search;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import mz.co.mozview.frameworks.core.util.StringNormalizer;
+
+/**
+ * Inverted index from the trigrams of a text to the ids of the rows holding
+ * it. The texts are kept without accents and in upper case, so the search is
+ * accent and case insensitive and finds the term anywhere in the text, at its
+ * start as well as in the middle.
+ *
+ * A term shorter than a trigram cannot be looked up, see
+ * {@link #isSearchable(String)}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class NgramIndex {
+
+	public static final int GRAM = 3;
+
+	private final Map<Long, String> texts = new HashMap<>();
+
+	private final Map<String, Set<Long>> postings = new HashMap<>();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	public static String normalize(final String text) {
+		return text == null ? null : StringNormalizer.normalizeAndUppCase(text.trim());
+	}
+
+	public static boolean isSearchable(final String term) {
+		final String normalized = normalize(term);
+		return normalized != null && normalized.length() >= GRAM;
+	}
+
+	/**
+	 * Indexes the text of the row, replacing the one it had.
+	 */
+	public void put(final Long id, final String text) {
+
+		this.lock.writeLock().lock();
+
+		try {
+			this.unindex(id);
+
+			final String normalized = normalize(text);
+
+			if (normalized == null) {
+				return;
+			}
+
+			this.texts.put(id, normalized);
+
+			for (final String gram : grams(normalized)) {
+				this.postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Replaces all the indexed texts with the given ones, keyed by id.
+	 */
+	public void putAll(final Map<Long, String> texts) {
+
+		final NgramIndex index = new NgramIndex();
+		texts.forEach(index::put);
+
+		this.lock.writeLock().lock();
+
+		try {
+			this.texts.clear();
+			this.texts.putAll(index.texts);
+			this.postings.clear();
+			this.postings.putAll(index.postings);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Ids of the rows whose text contains the term.
+	 *
+	 * @throws IllegalArgumentException
+	 *             when the term is not {@link #isSearchable(String)}
+	 */
+	public Set<Long> search(final String term) {
+
+		if (!isSearchable(term)) {
+			throw new IllegalArgumentException("The term must have at least " + GRAM + " characters: " + term);
+		}
+
+		final String normalized = normalize(term);
+
+		this.lock.readLock().lock();
+
+		try {
+			Set<Long> candidates = null;
+
+			for (final String gram : grams(normalized)) {
+
+				final Set<Long> ids = this.postings.get(gram);
+
+				if (ids == null) {
+					return Collections.emptySet();
+				}
+
+				if (candidates == null || ids.size() < candidates.size()) {
+					candidates = ids;
+				}
+			}
+
+			final Set<Long> found = new HashSet<>();
+
+			for (final Long id : candidates) {
+				if (this.texts.get(id).contains(normalized)) {
+					found.add(id);
+				}
+			}
+
+			return found;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+
+		this.lock.readLock().lock();
+
+		try {
+			return this.texts.size();
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private void unindex(final Long id) {
+
+		final String text = this.texts.remove(id);
+
+		if (text == null) {
+			return;
+		}
+
+		for (final String gram : grams(text)) {
+
+			final Set<Long> ids = this.postings.get(gram);
+			ids.remove(id);
+
+			if (ids.isEmpty()) {
+				this.postings.remove(gram);
+			}
+		}
+	}
+
+	private static Set<String> grams(final String text) {
+
+		final Set<String> grams = new HashSet<>();
+
+		for (int i = 0; i + GRAM <= text.length(); i++) {
+			grams.add(text.substring(i, i + GRAM));
+		}
+
+		return grams;
+	}
+}
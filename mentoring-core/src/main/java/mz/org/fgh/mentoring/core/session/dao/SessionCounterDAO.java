@@ -0,0 +1,92 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.session.dao;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+import mz.co.mozview.frameworks.core.dao.GenericDAO;
+import mz.org.fgh.mentoring.core.session.model.SessionCounter;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface SessionCounterDAO extends GenericDAO<SessionCounter, Long> {
+
+	String NAME = "mz.org.fgh.mentoring.core.session.dao.SessionCounterDAO";
+
+	String TABLE = "SESSION_COUNTERS";
+
+	class SQL {
+
+		private static final String performedMonth = "DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY)";
+
+		// a session is counted only in the row of its first active mentorship of the month, so summing the rows of a
+		// month never counts it twice
+		private static final String firstOfTheMonth = "m.ID = (SELECT MIN(o.ID) FROM MENTORSHIPS o "
+		        + "WHERE o.SESSION_ID = m.SESSION_ID AND o.LIFE_CYCLE_STATUS = 'ACTIVE' AND o.PERFORMED_DATE >= "
+		        + performedMonth + " AND o.PERFORMED_DATE < DATE_ADD(" + performedMonth + ", INTERVAL 1 MONTH)";
+
+		private static final String insert = "INSERT INTO SESSION_COUNTERS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, TUTOR_ID, DISTRICT_ID, PROGRAMMATIC_AREA_ID, PERFORMED_MONTH, MENTORSHIPS, SESSIONS, TUTOR_SESSIONS, LAST_CREATED_AT) "
+		        + "SELECT NOW(), :userUuid, 'ACTIVE', REPLACE(UUID(), '-', ''), m.TUTOR_ID, hf.DISTRICT_ID, f.PROGRAMMATIC_AREA_ID, "
+		        + performedMonth + ", COUNT(m.ID), SUM(CASE WHEN " + firstOfTheMonth + ") THEN 1 ELSE 0 END), "
+		        + "SUM(CASE WHEN " + firstOfTheMonth + " AND o.TUTOR_ID = m.TUTOR_ID) THEN 1 ELSE 0 END), MAX(s.CREATED_AT) ";
+
+		private static final String active = " WHERE m.LIFE_CYCLE_STATUS = 'ACTIVE' AND s.LIFE_CYCLE_STATUS = 'ACTIVE'";
+
+		private static final String groupBy = " GROUP BY m.TUTOR_ID, hf.DISTRICT_ID, f.PROGRAMMATIC_AREA_ID, "
+		        + performedMonth;
+
+		private static final String keysOfSessions = "SELECT DISTINCT m.TUTOR_ID, hf.DISTRICT_ID, f.PROGRAMMATIC_AREA_ID, "
+		        + performedMonth + " AS PERFORMED_MONTH "
+		        + "FROM MENTORSHIPS m INNER JOIN HEALTH_FACILITIES hf ON hf.ID = m.HEALTH_FACILITY_ID "
+		        + "INNER JOIN FORMS f ON f.ID = m.FORM_ID WHERE m.SESSION_ID IN (:sessionIds)";
+
+		public static final String deleteBySessions = "DELETE c FROM SESSION_COUNTERS c INNER JOIN (" + keysOfSessions
+		        + ") k ON k.TUTOR_ID = c.TUTOR_ID AND k.DISTRICT_ID = c.DISTRICT_ID "
+		        + "AND k.PROGRAMMATIC_AREA_ID = c.PROGRAMMATIC_AREA_ID AND k.PERFORMED_MONTH = c.PERFORMED_MONTH";
+
+		public static final String insertBySessions = insert + "FROM (" + keysOfSessions + ") k "
+		        + "INNER JOIN MENTORSHIPS m ON m.TUTOR_ID = k.TUTOR_ID AND m.PERFORMED_DATE >= k.PERFORMED_MONTH "
+		        + "AND m.PERFORMED_DATE < DATE_ADD(k.PERFORMED_MONTH, INTERVAL 1 MONTH) "
+		        + "INNER JOIN SESSIONS s ON s.ID = m.SESSION_ID "
+		        + "INNER JOIN HEALTH_FACILITIES hf ON hf.ID = m.HEALTH_FACILITY_ID AND hf.DISTRICT_ID = k.DISTRICT_ID "
+		        + "INNER JOIN FORMS f ON f.ID = m.FORM_ID AND f.PROGRAMMATIC_AREA_ID = k.PROGRAMMATIC_AREA_ID" + active
+		        + groupBy;
+
+		public static final String deleteByMonth = "DELETE FROM SESSION_COUNTERS WHERE PERFORMED_MONTH = :month";
+
+		public static final String insertByMonth = insert + "FROM MENTORSHIPS m INNER JOIN SESSIONS s ON s.ID = m.SESSION_ID "
+		        + "INNER JOIN HEALTH_FACILITIES hf ON hf.ID = m.HEALTH_FACILITY_ID "
+		        + "INNER JOIN FORMS f ON f.ID = m.FORM_ID" + active
+		        + " AND m.PERFORMED_DATE >= :month AND m.PERFORMED_DATE < DATE_ADD(:month, INTERVAL 1 MONTH)" + groupBy;
+
+		public static final String deleteAll = "DELETE FROM SESSION_COUNTERS";
+
+		public static final String insertAll = insert + "FROM MENTORSHIPS m INNER JOIN SESSIONS s ON s.ID = m.SESSION_ID "
+		        + "INNER JOIN HEALTH_FACILITIES hf ON hf.ID = m.HEALTH_FACILITY_ID "
+		        + "INNER JOIN FORMS f ON f.ID = m.FORM_ID" + active + groupBy;
+	}
+
+	/**
+	 * Recomputes the counters every mentorship of the given sessions falls in,
+	 * whatever their life cycle status, so it serves both created and voided
+	 * sessions. Pending changes are flushed first so they are counted.
+	 */
+	void refresh(final String userUuid, final Collection<Long> sessionIds);
+
+	/**
+	 * Recomputes every counter of the months of the given dates, for changes
+	 * that may have moved mentorships out of the counters of their sessions,
+	 * such as a new performed date.
+	 */
+	void refreshMonths(final String userUuid, final Collection<LocalDate> dates);
+
+	/**
+	 * Recomputes every counter from the active sessions and returns how many
+	 * rows were written.
+	 */
+	int rebuild(final String userUuid);
+}
@@ -0,0 +1,88 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.session.dao;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import javax.persistence.Query;
+
+import org.hibernate.SQLQuery;
+import org.springframework.stereotype.Repository;
+
+import mz.co.mozview.frameworks.core.dao.GenericDAOImpl;
+import mz.org.fgh.mentoring.core.session.model.SessionCounter;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Repository(SessionCounterDAO.NAME)
+public class SessionCounterDAOImpl extends GenericDAOImpl<SessionCounter, Long> implements SessionCounterDAO {
+
+	@Override
+	public void refresh(final String userUuid, final Collection<Long> sessionIds) {
+
+		if (sessionIds.isEmpty()) {
+			return;
+		}
+
+		this.getEntityManager().flush();
+
+		this.createUpdate(SessionCounterDAO.SQL.deleteBySessions).setParameter("sessionIds", sessionIds)
+		        .executeUpdate();
+
+		this.createUpdate(SessionCounterDAO.SQL.insertBySessions).setParameter("userUuid", userUuid)
+		        .setParameter("sessionIds", sessionIds).executeUpdate();
+	}
+
+	@Override
+	public void refreshMonths(final String userUuid, final Collection<LocalDate> dates) {
+
+		final Set<LocalDate> months = dates.stream().filter(Objects::nonNull).map(date -> date.withDayOfMonth(1))
+		        .collect(Collectors.toCollection(TreeSet::new));
+
+		if (months.isEmpty()) {
+			return;
+		}
+
+		this.getEntityManager().flush();
+
+		for (final LocalDate month : months) {
+
+			this.createUpdate(SessionCounterDAO.SQL.deleteByMonth).setParameter("month", Date.valueOf(month))
+			        .executeUpdate();
+
+			this.createUpdate(SessionCounterDAO.SQL.insertByMonth).setParameter("userUuid", userUuid)
+			        .setParameter("month", Date.valueOf(month)).executeUpdate();
+		}
+	}
+
+	@Override
+	public int rebuild(final String userUuid) {
+
+		this.getEntityManager().flush();
+
+		this.createUpdate(SessionCounterDAO.SQL.deleteAll).executeUpdate();
+
+		return this.createUpdate(SessionCounterDAO.SQL.insertAll).setParameter("userUuid", userUuid).executeUpdate();
+	}
+
+	/**
+	 * Declares the counters as the only table written, otherwise Hibernate
+	 * drops every second level cache region on each statement.
+	 */
+	private Query createUpdate(final String sql) {
+
+		final Query query = this.getEntityManager().createNativeQuery(sql);
+		query.unwrap(SQLQuery.class).addSynchronizedQuerySpace(SessionCounterDAO.TABLE);
+
+		return query;
+	}
+}
@@ -4,6 +4,7 @@
 package mz.org.fgh.mentoring.core.session.dao;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
@@ -13,9 +14,18 @@ import mz.org.fgh.mentoring.core.location.model.Cabinet;
 import mz.org.fgh.mentoring.core.location.model.District;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
 import mz.org.fgh.mentoring.core.programmaticarea.model.ProgrammaticArea;
+import mz.org.fgh.mentoring.core.report.ReportRowHandler;
+import mz.org.fgh.mentoring.core.session.model.Cop20SessionRow;
+import mz.org.fgh.mentoring.core.session.model.HtsSessionRow;
+import mz.org.fgh.mentoring.core.session.model.MonthlySessionRow;
+import mz.org.fgh.mentoring.core.session.model.NarrativeSessionRow;
 import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
+import mz.org.fgh.mentoring.core.session.model.PmqtrSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PopSessionRow;
 import mz.org.fgh.mentoring.core.session.model.Session;
 import mz.org.fgh.mentoring.core.session.model.SubmitedSessions;
+import mz.org.fgh.mentoring.core.session.model.TutoredHtsSessionRow;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
@@ -26,33 +36,26 @@ public interface SessionDAO extends GenericDAO<Session, Long> {
 
 	String NAME = "mz.org.fgh.mentoring.core.session.dao.SessionDAO";
 
-    List<PerformedSession> findBySelectedFilterLast12Months(String tutoruuid);
+    List<MonthlySessionRow> findBySelectedFilterLast12Months(String tutoruuid);
 
 	List<SubmitedSessions> findNumberOfSessionsPerDistrict(String tutoruuid, LifeCycleStatus active);
 
 	class QUERY {
-		public static final String findNumberOfSessionsPerDistrict = 	"SELECT NEW mz.org.fgh.mentoring.core.session.model.SubmitedSessions(d.district, pa.name, COUNT(s.id), MAX(s.createdAt)) " +
-																		"FROM Session s INNER JOIN s.mentorships m " +
-																		"				INNER JOIN m.form f " +
-																		"				INNER JOIN f.programmaticArea pa " +
-																		"				INNER JOIN m.healthFacility hf " +
-																		"				INNER JOIN hf.district d " +
-																		"WHERE s.lifeCycleStatus = :lifeCycleStatus " +
-																		"GROUP BY d.district, pa.name " +
-																		"ORDER BY d.district";
-
-		public static final String findNumberOfSessionsOfTutorPerDistrict = "SELECT NEW mz.org.fgh.mentoring.core.session.model.SubmitedSessions(d.district, pa.name, COUNT(s.id), MAX(s.createdAt)) " +
-																			"FROM Session s INNER JOIN s.mentorships m " +
-																			"				INNER JOIN m.form f " +
-																			"				INNER JOIN f.programmaticArea pa " +
-																			"				INNER JOIN m.healthFacility hf " +
-																			"				INNER JOIN m.tutor t " +
-																			"				INNER JOIN hf.district d " +
-																			"WHERE s.lifeCycleStatus = :lifeCycleStatus and t.uuid = :tutoruuid " +
-																			"GROUP BY d.district, pa.name " +
-																			"ORDER BY d.district";
+		public static final String findNumberOfSessionsPerDistrict = "SELECT NEW mz.org.fgh.mentoring.core.session.model.SubmitedSessions(d.district, pa.name, SUM(c.mentorships), MAX(c.lastCreatedAt)) "
+		        + "FROM SessionCounter c INNER JOIN c.district d INNER JOIN c.programmaticArea pa "
+		        + "WHERE c.lifeCycleStatus = :lifeCycleStatus GROUP BY d.district, pa.name ORDER BY d.district";
+
+		public static final String findNumberOfSessionsOfTutorPerDistrict = "SELECT NEW mz.org.fgh.mentoring.core.session.model.SubmitedSessions(d.district, pa.name, SUM(c.mentorships), MAX(c.lastCreatedAt)) "
+		        + "FROM SessionCounter c INNER JOIN c.district d INNER JOIN c.programmaticArea pa INNER JOIN c.tutor t "
+		        + "WHERE c.lifeCycleStatus = :lifeCycleStatus AND t.uuid = :tutoruuid GROUP BY d.district, pa.name ORDER BY d.district";
+
 		public static final String findWithDuplicatedUuids = "SELECT s FROM Session s WHERE s.lifeCycleStatus = :lifeCycleStatus GROUP BY s.uuid HAVING COUNT(s.uuid) > 1";
 		public static final String fetchSessionsByUuid = "SELECT DISTINCT (s) FROM Session s INNER JOIN FETCH s.mentorships m WHERE s.uuid = :sessionUuid AND s.lifeCycleStatus = :lifeCycleStatus ORDER BY s.createdAt DESC";
+		public static final String findExistingUuids = "SELECT DISTINCT s.uuid FROM Session s WHERE s.uuid IN (:uuids) AND s.lifeCycleStatus = :lifeCycleStatus";
+	}
+
+	class SQL {
+		public static final String insertSession = "INSERT INTO SESSIONS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, START_DATE, END_DATE, PERFORMED_DATE, STATUS, REASON) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
 	}
 
 	class QUERY_NAME {
@@ -61,6 +64,7 @@ public interface SessionDAO extends GenericDAO<Session, Long> {
 		public static final String findNumberOfSessionsOfTutorPerDistrict = "SubmitedSessions.findNumberOfSessionsOfTutorPerDistrict";
 		public static final String findWithDuplicatedUuids = "Session.findWithDuplicatedUuids";
 		public static final String fetchSessionsByUuid = "Session.fetchSessionsByUuid";
+		public static final String findExistingUuids = "Session.findExistingUuids";
 	}
 
 	List<PerformedSession> findBySelectedFilter(final District distric, final HealthFacility healthFacility,
@@ -78,26 +82,42 @@ public interface SessionDAO extends GenericDAO<Session, Long> {
 	List<Session> findWithDuplicatedUuids(LifeCycleStatus lifeCycleStatus);
 
 	List<Session> fetchSessionsByUuid(String sessionUuid, LifeCycleStatus lifeCycleStatus);
+
+	List<String> findExistingUuids(Collection<String> uuids, LifeCycleStatus lifeCycleStatus);
+
+	/**
+	 * Inserts the session unless an active session with the same uuid already
+	 * exists, relying on the unique index on the active session uuids. A
+	 * conflict only fails the INSERT statement, so the surrounding
+	 * transaction carries on. The session is not attached to the persistence
+	 * context; its id and creation audit fields are set when it is inserted.
+	 *
+	 * @return false when the session was already synchronised
+	 */
+	boolean createIfAbsent(String userUuid, Session session);
 	
 	List<PerformedSession> findByTutor(Tutor tutor, LocalDate startDate, LocalDate endDate);
 	
 	//Custom Reports
 	
-	List<PerformedSession> findBySelectedFilterHTS(final LocalDate startDate, final LocalDate endDate);
+	List<HtsSessionRow> findBySelectedFilterHTS(final LocalDate startDate, final LocalDate endDate);
 	
-	List<PerformedSession> findBySelectedFilterNarrative(final LocalDate startDate, final LocalDate endDate);
+	List<NarrativeSessionRow> findBySelectedFilterNarrative(final LocalDate startDate, final LocalDate endDate);
 	
-	List<PerformedSession> findBySelectedFilterLast12Months();
+	List<MonthlySessionRow> findBySelectedFilterLast12Months();
 	
 	List<PerformedSession> findBySelectedFilterIndicators(final LocalDate startDate, final LocalDate endDate);
 	
-	List<PerformedSession> findBySelectedFilterIndicatorsList(final LocalDate startDate, final LocalDate endDate);
+	List<PopSessionRow> findBySelectedFilterIndicatorsList(final LocalDate startDate, final LocalDate endDate);
 	
-	List<PerformedSession> findBySelectedFilterHTS(final LocalDate startDate, final LocalDate endDate, String tutoredUuid);
+	List<TutoredHtsSessionRow> findBySelectedFilterHTS(final LocalDate startDate, final LocalDate endDate, String tutoredUuid);
 
-	List<PerformedSession> findBySelectedFilterPMQTR(final LocalDate startDate, final LocalDate endDate);
+	List<PmqtrSessionRow> findBySelectedFilterPMQTR(final LocalDate startDate, final LocalDate endDate);
 	
-	List<PerformedSession> findBySelectedFilterNarrativeCOP20(final LocalDate startDate, final LocalDate endDate);
+	List<Cop20SessionRow> findBySelectedFilterNarrativeCOP20(final LocalDate startDate, final LocalDate endDate);
 	
 	List<PerformedSession> findBySelectedFilterPMQTRList(final LocalDate startDate, final LocalDate endDate);
+
+	long streamBySelectedFilter(final PerformedSessionExport export, final LocalDate startDate,
+	        final LocalDate endDate, final ReportRowHandler handler);
 }
@@ -3,12 +3,23 @@
  */
 package mz.org.fgh.mentoring.core.session.dao;
 
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
-import javax.persistence.Query;
+import javax.inject.Inject;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -28,9 +39,23 @@ import mz.org.fgh.mentoring.core.location.model.District;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
 import mz.org.fgh.mentoring.core.programmaticarea.model.ProgrammaticArea;
+import mz.org.fgh.mentoring.core.report.NativeQueryBuilder;
+import mz.org.fgh.mentoring.core.report.ReportQueryRegistry;
+import mz.org.fgh.mentoring.core.report.ReportRowHandler;
+import mz.org.fgh.mentoring.core.session.model.AnswerPredicate;
+import mz.org.fgh.mentoring.core.session.model.Cop20SessionRow;
+import mz.org.fgh.mentoring.core.session.model.HtsSessionRow;
+import mz.org.fgh.mentoring.core.session.model.MonthlySessionRow;
+import mz.org.fgh.mentoring.core.session.model.NarrativeSessionRow;
 import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
+import mz.org.fgh.mentoring.core.session.model.PmqtrSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PopSessionRow;
 import mz.org.fgh.mentoring.core.session.model.Session;
+import mz.org.fgh.mentoring.core.session.model.SessionIndicatorDefinition;
+import mz.org.fgh.mentoring.core.session.model.SessionIndicators;
 import mz.org.fgh.mentoring.core.session.model.SubmitedSessions;
+import mz.org.fgh.mentoring.core.session.model.TutoredHtsSessionRow;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
@@ -39,41 +64,36 @@ import mz.org.fgh.mentoring.core.tutor.model.Tutor;
  */
 @Repository(SessionDAO.NAME)
 public class SessionDAOImpl extends GenericDAOImpl<Session, Long> implements SessionDAO {
-	
-	private static final String DATE_PATTERN = "yyyy-MM-dd";
-
-	@Override
-	public List<PerformedSession> findBySelectedFilterLast12Months(String tutoruuid) {
 
-		final StringBuilder nativeQuery = new StringBuilder();
+	private static final int EXPORT_FETCH_SIZE = Integer.MIN_VALUE;
 
-		nativeQuery.append("SELECT 	CONCAT( MONTHNAME(m.PERFORMED_DATE) ,' ',YEAR(m.PERFORMED_DATE)) AS 'monthName', " +
-							"		CONCAT(YEAR(m.PERFORMED_DATE),'',DATE_FORMAT(m.PERFORMED_DATE,'%m')) AS 'month', " +
-							"		COUNT(DISTINCT(SESSION_ID)) AS sessions " +
-							"FROM MENTORSHIPS m INNER JOIN TUTORS t ON m.TUTOR_ID = t.ID " +
-							"WHERE m.LIFE_CYCLE_STATUS='ACTIVE'  AND t.UUID = :tutoruuid " +
-							"GROUP BY CONCAT( MONTH(m.PERFORMED_DATE) ,' ',YEAR(m.PERFORMED_DATE)) ORDER BY CONCAT(YEAR(m.PERFORMED_DATE),'', DATE_FORMAT(m.PERFORMED_DATE,'%m')) DESC " +
-							"LIMIT 12");
-
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
+	// MySQL/MariaDB ER_DUP_ENTRY
+	private static final int DUPLICATE_ENTRY = 1062;
+	
+	@Inject
+	private ReportQueryRegistry reportQueryRegistry;
 
-		query.setParameter("tutoruuid", tutoruuid);
+	@Override
+	public List<MonthlySessionRow> findBySelectedFilterLast12Months(String tutoruuid) {
 
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findBySelectedFilterLast12MonthsByTutor");
 
-		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
+		nativeQuery.append("SELECT CONCAT(MONTHNAME(c.PERFORMED_MONTH), ' ', YEAR(c.PERFORMED_MONTH)) AS 'monthName', "
+		        + "DATE_FORMAT(c.PERFORMED_MONTH, '%Y%m') AS 'month', SUM(c.TUTOR_SESSIONS) AS sessions "
+		        + "FROM SESSION_COUNTERS c INNER JOIN TUTORS t ON c.TUTOR_ID = t.ID "
+		        + "WHERE c.LIFE_CYCLE_STATUS = 'ACTIVE' AND t.UUID = " + nativeQuery.bind(tutoruuid) + " "
+		        + "GROUP BY c.PERFORMED_MONTH ORDER BY c.PERFORMED_MONTH DESC LIMIT 12");
 
-		for (Object[] ps : performedSessionsHTS) {
-			PerformedSession p= new PerformedSession(
-					ps[0].toString(),
-					ps[1].toString(),
-					Long.valueOf(ps[2].toString()));
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(),
+		        this.reportQueryRegistry);
 
-			performedSessions.add(p);
+		final List<MonthlySessionRow> rows = new ArrayList<>(performedSessionsHTS.size());
 
+		for (final Object[] row : performedSessionsHTS) {
+			rows.add(new MonthlySessionRow(row));
 		}
 
-		return performedSessions;
+		return rows;
 	}
 
 	@Override
@@ -221,6 +241,65 @@ public class SessionDAOImpl extends GenericDAOImpl<Session, Long> implements Ses
 		        new ParamBuilder().add("sessionUuid", sessionUuid).add("lifeCycleStatus", lifeCycleStatus).process());
 	}
 
+	@Override
+	public boolean createIfAbsent(final String userUuid, final Session session) {
+
+		final Calendar createdAt = Calendar.getInstance();
+
+		if (session.getUuid() == null) {
+			session.setUuid(UUID.randomUUID().toString().replace("-", ""));
+		}
+
+		return this.getEntityManager().unwrap(org.hibernate.Session.class).doReturningWork(connection -> {
+
+			try (PreparedStatement statement = connection.prepareStatement(SessionDAO.SQL.insertSession,
+			        Statement.RETURN_GENERATED_KEYS)) {
+
+				statement.setTimestamp(1, new Timestamp(createdAt.getTimeInMillis()));
+				statement.setString(2, userUuid);
+				statement.setString(3, LifeCycleStatus.ACTIVE.name());
+				statement.setString(4, session.getUuid());
+				statement.setTimestamp(5, Timestamp.valueOf(session.getStartDate()));
+				statement.setTimestamp(6, Timestamp.valueOf(session.getEndDate()));
+				statement.setDate(7, Date.valueOf(session.getPerformedDate()));
+				statement.setString(8, session.getStatus().name());
+				statement.setString(9, session.getReason());
+
+				statement.executeUpdate();
+
+				try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+					generatedKeys.next();
+					session.setId(generatedKeys.getLong(1));
+				}
+			}
+			catch (final SQLException e) {
+
+				if (e.getErrorCode() == DUPLICATE_ENTRY) {
+					return false;
+				}
+
+				throw e;
+			}
+
+			session.setCreatedAt(createdAt);
+			session.setCreatedBy(userUuid);
+			session.setLifeCycleStatus(LifeCycleStatus.ACTIVE);
+
+			return true;
+		});
+	}
+
+	@Override
+	public List<String> findExistingUuids(final Collection<String> uuids, final LifeCycleStatus lifeCycleStatus) {
+
+		if (uuids.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		return this.getEntityManager().createNamedQuery(SessionDAO.QUERY_NAME.findExistingUuids, String.class)
+		        .setParameter("uuids", uuids).setParameter("lifeCycleStatus", lifeCycleStatus).getResultList();
+	}
+
 	@Override
 	public List<PerformedSession> findBySelectedFilterList(final District district, final HealthFacility healthFacility,
 	        final ProgrammaticArea programmaticArea, final Form form, final Tutor tutor, final Cabinet cabinet,
@@ -301,99 +380,32 @@ public class SessionDAOImpl extends GenericDAOImpl<Session, Long> implements Ses
 	 */
 	@SuppressWarnings({ "unchecked" })
 	@Override
-	public List<PerformedSession> findBySelectedFilterHTS(LocalDate startDate,LocalDate endDate) {
+	public List<HtsSessionRow> findBySelectedFilterHTS(LocalDate startDate,LocalDate endDate) {
 
-		final StringBuilder nativeQuery = new StringBuilder();
-		nativeQuery.append("SELECT d.DISTRICT AS 'districtName', h.HEALTH_FACILITY AS 'healthFacility', DATE_FORMAT(s.PERFORMED_DATE,'%d-%m-%Y') AS 'performedDate', CONCAT(t.NAME,' ',t.SURNAME) AS 'tutorName', CONCAT(tr.NAME,' ',tr.SURNAME) AS 'tutoredName', c.NAME AS 'cabinet', CASE m.DOOR WHEN 'P1' THEN '1' WHEN 'P2' THEN '2' WHEN 'P3' THEN '3' WHEN 'P4' THEN '4' END AS 'door', CASE m.TIME_OF_DAY WHEN 'DAY' THEN 'Dia' WHEN 'LATE_NIGHT' THEN 'Tarde/Noite' ELSE '' END AS 'timeOfDay', atendidos.NUMERIC_VALUE AS 'atendidos', previos.NUMERIC_VALUE AS 'previos', testados.NUMERIC_VALUE AS  'testados', positivos.NUMERIC_VALUE AS 'positivos', inscritos.NUMERIC_VALUE AS 'inscritos',DATE_FORMAT(s.CREATED_AT,'%d-%m-%Y %H:%i:%s') AS 'createdAt',m.ID AS 'MENTORING_ID' FROM SESSIONS s INNER JOIN MENTORSHIPS m ON s.ID=m.SESSION_ID INNER JOIN HEALTH_FACILITIES h ON m.HEALTH_FACILITY_ID=h.ID INNER JOIN TUTORS t ON m.TUTOR_ID=t.ID INNER JOIN TUTOREDS tr ON m.TUTORED_ID=tr.ID INNER JOIN CABINETS c ON m.CABINET_ID=c.ID INNER JOIN FORMS f ON m.FORM_ID=f.ID INNER JOIN DISTRICTS d ON h.DISTRICT_ID = d.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000588') atendidos ON atendidos.MENTORSHIP_ID=m.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000589') previos ON previos.MENTORSHIP_ID=m.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000590') testados ON testados.MENTORSHIP_ID=m.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000591') positivos ON positivos.MENTORSHIP_ID=m.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000592') inscritos ON inscritos.MENTORSHIP_ID=m.ID  WHERE s.LIFE_CYCLE_STATUS='ACTIVE' AND m.LIFE_CYCLE_STATUS='ACTIVE' AND s.PERFORMED_DATE>='"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND s.PERFORMED_DATE<='"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND f.CODE='MT00000045' ORDER BY 1,2,3 ASC");
+		final NativeQueryBuilder nativeQuery = this.htsQuery(startDate, endDate);
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
 		 
-		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
-		
-		for (Object[] ps : performedSessionsHTS) {
-			PerformedSession p= new PerformedSession(
-					ps[0].toString(), 
-					ps[1].toString(), 
-					ps[2].toString(), 
-					ps[3].toString(), 
-					ps[4].toString(), 
-					ps[5].toString(), 
-					ps[6].toString(), 
-					ps[7].toString(), 
-					Long.valueOf(ps[8].toString()),
-					Long.valueOf(ps[9].toString()), 
-					Long.valueOf(ps[10].toString()), 
-					Long.valueOf(ps[11].toString()), 
-					Long.valueOf(ps[12].toString()), 
-					ps[13].toString(),
-					ps[14].toString());
-			
-			performedSessions.add(p);
-			
+		final List<HtsSessionRow> rows = new ArrayList<>(performedSessionsHTS.size());
+
+		for (final Object[] row : performedSessionsHTS) {
+			rows.add(new HtsSessionRow(row));
 		}
 
-		return performedSessions;
+		return rows;
 		
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
-	public List<PerformedSession> findBySelectedFilterNarrative(LocalDate startDate, LocalDate endDate) {
-		
-		final StringBuilder nativeQuery = new StringBuilder();
-		
-		String start=startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN));
-		String end=endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN));
-		
-		nativeQuery.append("SELECT d.PROVINCE,  (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f WHERE m.FORM_ID=f.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND f.CODE='MT00000034' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "') AS 'preventionVCT', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f WHERE m.FORM_ID=f.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND f.CODE='MT00000033' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "') AS 'preventionPICT', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE='MTQ00000290' AND f.CODE IN ('MT00000033','MT00000034') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'preventionIndexCase', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, CABINETS c WHERE m.FORM_ID=f.ID AND m.CABINET_ID=c.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND c.ID IN (12) AND f.CODE IN ('MT00000001','MT00000033') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "') AS 'preventionSaaj', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000291','MTQ00000292','MTQ00000293') AND f.CODE IN ('MT00000033','MT00000034') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'preventionHtcLink', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f WHERE m.FORM_ID=f.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND f.CODE IN ('MT00000036','MT00000038','MT00000039') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "') AS 'preventionANC',   (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, CABINETS c WHERE m.FORM_ID=f.ID AND m.CABINET_ID=c.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND c.ID IN (4) AND f.CODE IN ('MT00000001','MT00000033') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "') AS 'preventionCPN',   (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000312','MTQ00000313','MTQ00000314') AND f.CODE IN ('MT00000035') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO')) AND m.HEALTH_FACILITY_ID=128) AS 'ctStiAdultsPrison', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f WHERE m.FORM_ID=f.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND f.CODE IN ('MT00000035') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND m.HEALTH_FACILITY_ID=128) AS 'ctAdultsPrison', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000317','MTQ00000318','MTQ00000319','MTQ00000521') AND f.CODE IN ('MT00000035','MT00000036','MT00000037','MT00000038','MT00000039','MT00000043') AND m.HEALTH_FACILITY_ID=128 AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctAdultsVLPrison', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000307','MTQ00000308','MTQ00000309','MTQ00000310','MTQ00000311','MTQ00000376') AND f.CODE IN ('MT00000035','MT00000037') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO')) AND m.HEALTH_FACILITY_ID=128) AS 'ctTbHivPrison', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000417','MTQ00000418','MTQ00000419','MTQ00000420','MTQ00000421','MTQ00000422','MTQ00000423','MTQ00000424','MTQ00000425','MTQ00000426','MTQ00000427','MTQ00000428','MTQ00000429','MTQ00000430','MTQ00000431','MTQ00000432','MTQ00000433') AND f.CODE IN ('MT00000040') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctApss', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f WHERE m.FORM_ID=f.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND f.CODE IN ('MT00000035') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "') AS 'ctAdults', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000317','MTQ00000318','MTQ00000319') AND f.CODE='MT00000035' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctAdultsVL', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000328') AND f.CODE IN ('MT00000035') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctInh',   (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000307','MTQ00000308','MTQ00000309','MTQ00000310','MTQ00000311','MTQ00000376') AND f.CODE IN ('MT00000035','MT00000037') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctTbHiv',    (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000305','MTQ00000306') AND f.CODE IN ('MT00000035') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND a.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO')) AS 'ctNutrition', (SELECT COUNT(DISTINCT(m.TUTORED_ID)) FROM MENTORSHIPS m, FORMS f WHERE m.FORM_ID=f.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND f.CODE='MT00000040' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "') AS 'ctApssTutoreds', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f WHERE m.FORM_ID=f.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND f.CODE='MT00000040' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "') AS 'ctApssSessions', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000332','MTQ00000333','MTQ00000361','MTQ00000527') AND f.CODE IN ('MT00000035','MT00000043','MT00000037') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctEAC',  (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000332','MTQ00000333','MTQ00000361','MTQ00000527') AND f.CODE IN ('MT00000035','MT00000037','MT00000043') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctMDC',  (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE='MTQ00000400' AND f.CODE='MT00000038' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctCervical',  (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN ('MTQ00000312','MTQ00000313','MTQ00000314') AND f.CODE IN ('MT00000035') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'ctStiAdults',   (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000377','MTQ00000307','MTQ00000308','MTQ00000309','MTQ00000376') AND f.CODE IN ('MT00000035','MT00000039','MT00000037') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'tbSessions', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000310','MTQ00000311','MTQ00000308','MTQ00000309') AND f.CODE IN ('MT00000035','MT00000037') AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'tbSessionsCt', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000403','MTQ00000406','MTQ00000356') AND f.CODE='MT00000039' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'tbInh', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000310','MTQ00000311','MTQ00000308','MTQ00000309','MTQ00000376') AND f.CODE='MT00000037' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'tbSessionsPediatric', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000305','MTQ00000389','MTQ00000306','MTQ00000390','MTQ00000391') AND f.CODE='MT00000037' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'pediatricNutrition', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000329','MTQ00000392','MTQ00000393') AND f.CODE='MT00000037' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'pediatricStarART', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000330','MTQ00000331','MTQ00000332') AND f.CODE='MT00000037' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'pediatricAMA', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000308','MTQ00000309','MTQ00000310') AND f.CODE='MT00000037' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'pediatricTB', (SELECT COUNT(DISTINCT(m.SESSION_ID)) FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID=f.ID AND a.QUESTION_ID=q.ID AND m.LIFE_CYCLE_STATUS='ACTIVE' AND m.ID=a.MENTORSHIP_ID AND q.CODE IN('MTQ00000317','MTQ00000318','MTQ00000319') AND f.CODE='MT00000037' AND m.PERFORMED_DATE>='" + start + "' AND m.PERFORMED_DATE<='" + end + "' AND EXISTS ( SELECT a2.ID FROM ANSWERS a2 WHERE a2.MENTORSHIP_ID=m.ID AND a2.TEXT_VALUE IN ('COMPETENTE','NAO SATISFATORIO', 'NAO SATISFATRIO'))) AS 'pediatricVL' FROM DISTRICTS d GROUP BY PROVINCE");
+	public List<NarrativeSessionRow> findBySelectedFilterNarrative(final LocalDate startDate, final LocalDate endDate) {
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		List<Object[]> performedSessionsHTS = query.getResultList();
-		 
-		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
-		
-		for (Object[] ps : performedSessionsHTS) {
-			PerformedSession p= new PerformedSession(
-					ps[0].toString(),
-					Long.valueOf(ps[1].toString()), 
-					Long.valueOf(ps[2].toString()),
-					Long.valueOf(ps[3].toString()),
-					Long.valueOf(ps[4].toString()),
-					Long.valueOf(ps[5].toString()),
-					Long.valueOf(ps[6].toString()),
-					Long.valueOf(ps[7].toString()),
-					Long.valueOf(ps[8].toString()),
-					Long.valueOf(ps[9].toString()),
-					Long.valueOf(ps[10].toString()),
-					Long.valueOf(ps[11].toString()),
-					Long.valueOf(ps[12].toString()),
-					Long.valueOf(ps[13].toString()),
-					Long.valueOf(ps[14].toString()),
-					Long.valueOf(ps[15].toString()),
-					Long.valueOf(ps[16].toString()),
-					Long.valueOf(ps[17].toString()),
-					Long.valueOf(ps[18].toString()),
-					Long.valueOf(ps[19].toString()),
-					Long.valueOf(ps[20].toString()),
-					Long.valueOf(ps[21].toString()),
-					Long.valueOf(ps[22].toString()),
-					Long.valueOf(ps[23].toString()),
-					Long.valueOf(ps[24].toString()),
-					Long.valueOf(ps[25].toString()),
-					Long.valueOf(ps[26].toString()),
-					Long.valueOf(ps[27].toString()),
-					Long.valueOf(ps[28].toString()),
-					Long.valueOf(ps[29].toString()),
-					Long.valueOf(ps[30].toString()),
-					Long.valueOf(ps[31].toString()),
-					Long.valueOf(ps[32].toString())
-);
-			
-			performedSessions.add(p);
-			
+		final long[] counts = this.aggregateIndicators("findBySelectedFilterNarrative", SessionIndicators.NARRATIVE,
+		        startDate, endDate);
+
+		final List<NarrativeSessionRow> performedSessions = new ArrayList<NarrativeSessionRow>(0);
+
+		for (final String province : this.findProvinces()) {
+			performedSessions.add(new NarrativeSessionRow(province, counts));
 		}
 
 		return performedSessions;
@@ -401,29 +413,24 @@ public class SessionDAOImpl extends GenericDAOImpl<Session, Long> implements Ses
 
 	@SuppressWarnings("unchecked")
 	@Override
-	public List<PerformedSession> findBySelectedFilterLast12Months() {
+	public List<MonthlySessionRow> findBySelectedFilterLast12Months() {
 		
-final StringBuilder nativeQuery = new StringBuilder();
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findBySelectedFilterLast12Months");
 		
-		nativeQuery.append("SELECT CONCAT( MONTHNAME(m.PERFORMED_DATE) ,' ',YEAR(m.PERFORMED_DATE)) AS 'monthName', CONCAT(YEAR(m.PERFORMED_DATE),'',DATE_FORMAT(m.PERFORMED_DATE,'%m')) AS 'month', COUNT(DISTINCT(SESSION_ID)) AS sessions FROM MENTORSHIPS m WHERE m.LIFE_CYCLE_STATUS='ACTIVE'  GROUP BY CONCAT( MONTH(m.PERFORMED_DATE) ,' ',YEAR(m.PERFORMED_DATE)) ORDER BY CONCAT(YEAR(m.PERFORMED_DATE),'', DATE_FORMAT(m.PERFORMED_DATE,'%m')) DESC LIMIT 12");
+		nativeQuery.append("SELECT CONCAT(MONTHNAME(c.PERFORMED_MONTH), ' ', YEAR(c.PERFORMED_MONTH)) AS 'monthName', "
+		        + "DATE_FORMAT(c.PERFORMED_MONTH, '%Y%m') AS 'month', SUM(c.SESSIONS) AS sessions "
+		        + "FROM SESSION_COUNTERS c WHERE c.LIFE_CYCLE_STATUS = 'ACTIVE' "
+		        + "GROUP BY c.PERFORMED_MONTH ORDER BY c.PERFORMED_MONTH DESC LIMIT 12");
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
 		 
-		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
-		
-		for (Object[] ps : performedSessionsHTS) {
-			PerformedSession p= new PerformedSession(
-					ps[0].toString(),
-					ps[1].toString(), 
-					Long.valueOf(ps[2].toString()));
-			
-			performedSessions.add(p);
-			
+		final List<MonthlySessionRow> rows = new ArrayList<>(performedSessionsHTS.size());
+
+		for (final Object[] row : performedSessionsHTS) {
+			rows.add(new MonthlySessionRow(row));
 		}
 
-		return performedSessions;
+		return rows;
 		
 	}
 
@@ -431,13 +438,13 @@ final StringBuilder nativeQuery = new StringBuilder();
 	@Override
 	public List<PerformedSession> findByTutor(Tutor tutor, LocalDate startDate, LocalDate endDate) {
 		
-final StringBuilder nativeQuery = new StringBuilder();
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findByTutor");
+		final String start = nativeQuery.bind(Date.valueOf(startDate));
+		final String end = nativeQuery.bind(Date.valueOf(endDate));
 		
-		nativeQuery.append("SELECT f.NAME AS 'formName', COUNT(DISTINCT(m.SESSION_ID)) AS 'totalPerformed' FROM MENTORSHIPS m,FORMS f,TUTORS t WHERE m.PERFORMED_DATE>='"+startDate+"' AND m.PERFORMED_DATE<='"+endDate+"' AND m.FORM_ID=f.ID AND m.TUTOR_ID=t.ID AND t.uuid='"+tutor.getUuid()+"' AND m.LIFE_CYCLE_STATUS='ACTIVE' GROUP BY f.ID");
+		nativeQuery.append("SELECT f.NAME AS 'formName', COUNT(DISTINCT(m.SESSION_ID)) AS 'totalPerformed' FROM MENTORSHIPS m,FORMS f,TUTORS t WHERE m.PERFORMED_DATE>="+start+" AND m.PERFORMED_DATE<="+end+" AND m.FORM_ID=f.ID AND m.TUTOR_ID=t.ID AND t.UUID = " + nativeQuery.bind(tutor.getUuid()) + " AND m.LIFE_CYCLE_STATUS='ACTIVE' GROUP BY f.ID");
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
 		 
 		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
 		
@@ -456,12 +463,12 @@ final StringBuilder nativeQuery = new StringBuilder();
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<PerformedSession> findBySelectedFilterIndicators(LocalDate startDate, LocalDate endDate) {
-		final StringBuilder nativeQuery = new StringBuilder();
-		nativeQuery.append("SELECT f.NAME,COUNT(i.ID) AS 'total' FROM INDICATORS i, FORMS f WHERE i.FORM_ID=f.ID AND i.LIFE_CYCLE_STATUS='ACTIVE' AND i.PERFORMED_DATE >='"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND i.PERFORMED_DATE <='"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND f.NAME LIKE '%PROCEDIMENTO OPERACIONAL%' GROUP BY i.FORM_ID ORDER BY 1 ASC" );
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findBySelectedFilterIndicators");
+		final String start = nativeQuery.bind(Date.valueOf(startDate));
+		final String end = nativeQuery.bind(Date.valueOf(endDate));
+		nativeQuery.append("SELECT f.NAME,COUNT(i.ID) AS 'total' FROM INDICATORS i, FORMS f WHERE i.FORM_ID=f.ID AND i.LIFE_CYCLE_STATUS='ACTIVE' AND i.PERFORMED_DATE >="+start+" AND i.PERFORMED_DATE <="+end+" AND f.NAME LIKE '%PROCEDIMENTO OPERACIONAL%' GROUP BY i.FORM_ID ORDER BY 1 ASC" );
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
 		 
 		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
 		
@@ -479,190 +486,120 @@ final StringBuilder nativeQuery = new StringBuilder();
 	
 	@SuppressWarnings({ "unchecked" })
 	@Override
-	public List<PerformedSession> findBySelectedFilterIndicatorsList(LocalDate startDate,LocalDate endDate) {
+	public List<PopSessionRow> findBySelectedFilterIndicatorsList(LocalDate startDate,LocalDate endDate) {
 
-		final StringBuilder nativeQuery = new StringBuilder();
-		nativeQuery.append("SELECT d.DISTRICT AS 'districtName',  h.HEALTH_FACILITY AS 'healthFacility',  DATE_FORMAT(s.PERFORMED_DATE, '%d-%m-%Y') AS 'performedDate',  CONCAT(t.NAME, ' ', t.SURNAME) AS 'tutorName',  f.NAME AS 'formName',  elaborado.BOOLEAN_VALUE AS 'elaborado',  aprovado.BOOLEAN_VALUE AS 'aprovado', 	revisado.BOOLEAN_VALUE AS 'revisado',  DATE_FORMAT(s.CREATED_AT, '%d-%m-%Y %H:%i:%s') AS 'createdAt' FROM INDICATORS s  INNER JOIN HEALTH_FACILITIES h  ON s.HEALTH_FACILITY_ID = h.ID  INNER JOIN TUTORS t  ON s.TUTOR_ID = t.ID  INNER JOIN FORMS f  ON s.FORM_ID = f.ID  INNER JOIN DISTRICTS d  ON h.DISTRICT_ID = d.ID  LEFT JOIN (SELECT INDICATOR_ID,  BOOLEAN_VALUE FROM ANSWERS a,  QUESTIONS q WHERE a.QUESTION_ID = q.ID  AND q.CODE = 'MTQ00000274') elaborado ON elaborado.INDICATOR_ID = s.ID  LEFT JOIN (SELECT INDICATOR_ID,  BOOLEAN_VALUE FROM ANSWERS a,  QUESTIONS q WHERE a.QUESTION_ID = q.ID  AND q.CODE = 'MTQ00000275') aprovado ON aprovado.INDICATOR_ID = s.ID 		LEFT JOIN (SELECT INDICATOR_ID,  BOOLEAN_VALUE FROM ANSWERS a,  QUESTIONS q WHERE a.QUESTION_ID = q.ID  AND q.CODE = 'MTQ00000276') revisado ON revisado.INDICATOR_ID = s.ID WHERE s.LIFE_CYCLE_STATUS = 'ACTIVE' AND s.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND s.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND f.NAME LIKE '%PROCEDIMENTO OPERACIONAL%' ORDER BY 1, 2, 3 ASC ");
+		final NativeQueryBuilder nativeQuery = this.indicatorsListQuery(startDate, endDate);
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
 		 
-		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
-		
-		for (Object[] ps : performedSessionsHTS) {
-			PerformedSession p= new PerformedSession(
-					ps[0].toString(), 
-					ps[1].toString(), 
-					ps[2].toString(), 
-					ps[3].toString(), 
-					ps[4].toString(), 
-					ps[5].toString(), 
-					ps[6].toString(), 
-					ps[7].toString(), 
-					ps[8].toString());
-			
-			performedSessions.add(p);
-			
+		final List<PopSessionRow> rows = new ArrayList<>(performedSessionsHTS.size());
+
+		for (final Object[] row : performedSessionsHTS) {
+			rows.add(new PopSessionRow(row));
 		}
 
-		return performedSessions;
+		return rows;
 		
 	}
 
 	@Override
-	public List<PerformedSession> findBySelectedFilterHTS(LocalDate startDate, LocalDate endDate, String tutoredUuid) {
-		final StringBuilder nativeQuery = new StringBuilder();
-		nativeQuery.append("SELECT d.DISTRICT AS 'districtName', h.HEALTH_FACILITY AS 'healthFacility', DATE_FORMAT(s.PERFORMED_DATE,'%d-%m-%Y') AS 'performedDate', CONCAT(t.NAME,' ',t.SURNAME) AS 'tutorName', CONCAT(tr.NAME,' ',tr.SURNAME) AS 'tutoredName', c.NAME AS 'cabinet', CASE m.DOOR WHEN 'P1' THEN '1' WHEN 'P2' THEN '2' WHEN 'P3' THEN '3' WHEN 'P4' THEN '4' END AS 'door', CASE m.TIME_OF_DAY WHEN 'DAY' THEN 'Dia' WHEN 'LATE_NIGHT' THEN 'Tarde/Noite' ELSE '' END AS 'timeOfDay', atendidos.NUMERIC_VALUE AS 'atendidos', previos.NUMERIC_VALUE AS 'previos', testados.NUMERIC_VALUE AS  'testados', positivos.NUMERIC_VALUE AS 'positivos', inscritos.NUMERIC_VALUE AS 'inscritos',DATE_FORMAT(s.CREATED_AT,'%d-%m-%Y %H:%i:%s') AS 'createdAt', c.ID AS 'cabinetId' FROM SESSIONS s INNER JOIN MENTORSHIPS m ON s.ID=m.SESSION_ID INNER JOIN HEALTH_FACILITIES h ON m.HEALTH_FACILITY_ID=h.ID INNER JOIN TUTORS t ON m.TUTOR_ID=t.ID INNER JOIN TUTOREDS tr ON m.TUTORED_ID=tr.ID INNER JOIN CABINETS c ON m.CABINET_ID=c.ID INNER JOIN FORMS f ON m.FORM_ID=f.ID INNER JOIN DISTRICTS d ON h.DISTRICT_ID = d.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000588') atendidos ON atendidos.MENTORSHIP_ID=m.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000589') previos ON previos.MENTORSHIP_ID=m.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000590') testados ON testados.MENTORSHIP_ID=m.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000591') positivos ON positivos.MENTORSHIP_ID=m.ID LEFT JOIN (SELECT MENTORSHIP_ID, NUMERIC_VALUE FROM ANSWERS a,QUESTIONS q WHERE a.QUESTION_ID=q.ID AND q.CODE='MTQ00000592') inscritos ON inscritos.MENTORSHIP_ID=m.ID  WHERE s.LIFE_CYCLE_STATUS='ACTIVE' AND m.LIFE_CYCLE_STATUS='ACTIVE' AND s.PERFORMED_DATE>='"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND s.PERFORMED_DATE<='"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND f.CODE='MT00000045' AND tr.UUID='"+tutoredUuid+"' ORDER BY 3 ASC");
+	public List<TutoredHtsSessionRow> findBySelectedFilterHTS(LocalDate startDate, LocalDate endDate, String tutoredUuid) {
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findBySelectedFilterHTSByTutored");
+		final String start = nativeQuery.bind(Date.valueOf(startDate));
+		final String end = nativeQuery.bind(Date.valueOf(endDate));
+		nativeQuery.append("SELECT d.DISTRICT AS 'districtName', h.HEALTH_FACILITY AS 'healthFacility', DATE_FORMAT(s.PERFORMED_DATE,'%d-%m-%Y') AS 'performedDate', CONCAT(t.NAME,' ',t.SURNAME) AS 'tutorName', CONCAT(tr.NAME,' ',tr.SURNAME) AS 'tutoredName', c.NAME AS 'cabinet', CASE m.DOOR WHEN 'P1' THEN '1' WHEN 'P2' THEN '2' WHEN 'P3' THEN '3' WHEN 'P4' THEN '4' END AS 'door', CASE m.TIME_OF_DAY WHEN 'DAY' THEN 'Dia' WHEN 'LATE_NIGHT' THEN 'Tarde/Noite' ELSE '' END AS 'timeOfDay', fa.ATTENDED AS 'atendidos', fa.PREVIOUS AS 'previos', fa.TESTED AS 'testados', fa.POSITIVE AS 'positivos', fa.ENROLLED AS 'inscritos',DATE_FORMAT(s.CREATED_AT,'%d-%m-%Y %H:%i:%s') AS 'createdAt', c.ID AS 'cabinetId' FROM MENTORSHIPS m INNER JOIN FORMS f ON m.FORM_ID=f.ID LEFT JOIN MENTORSHIP_ANSWER_FACTS fa ON fa.MENTORSHIP_ID=m.ID AND fa.LIFE_CYCLE_STATUS='ACTIVE' INNER JOIN SESSIONS s ON m.SESSION_ID=s.ID INNER JOIN HEALTH_FACILITIES h ON m.HEALTH_FACILITY_ID=h.ID INNER JOIN TUTORS t ON m.TUTOR_ID=t.ID INNER JOIN TUTOREDS tr ON m.TUTORED_ID=tr.ID INNER JOIN CABINETS c ON m.CABINET_ID=c.ID INNER JOIN DISTRICTS d ON h.DISTRICT_ID = d.ID WHERE f.CODE='MT00000045' AND s.PERFORMED_DATE>="+start+" AND s.PERFORMED_DATE<="+end+" AND s.LIFE_CYCLE_STATUS='ACTIVE' AND m.LIFE_CYCLE_STATUS='ACTIVE' AND tr.UUID="+nativeQuery.bind(tutoredUuid)+" ORDER BY 3 ASC");
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		@SuppressWarnings("unchecked")
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
 		 
-		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
-		
-		for (Object[] ps : performedSessionsHTS) {
-			PerformedSession p= new PerformedSession(
-					ps[0].toString(), 
-					ps[1].toString(), 
-					ps[2].toString(), 
-					ps[3].toString(), 
-					ps[4].toString(), 
-					ps[5].toString(), 
-					ps[6].toString(), 
-					ps[7].toString(), 
-					Long.valueOf(ps[8].toString()),
-					Long.valueOf(ps[9].toString()), 
-					Long.valueOf(ps[10].toString()), 
-					Long.valueOf(ps[11].toString()), 
-					Long.valueOf(ps[12].toString()), 
-					ps[13].toString(),
-					Long.valueOf(ps[14].toString()));
-			
-			performedSessions.add(p);
-			
+		final List<TutoredHtsSessionRow> rows = new ArrayList<>(performedSessionsHTS.size());
+
+		for (final Object[] row : performedSessionsHTS) {
+			rows.add(new TutoredHtsSessionRow(row));
 		}
 
-		return performedSessions;
+		return rows;
 	}
 
 	@Override
-	public List<PerformedSession> findBySelectedFilterPMQTR(LocalDate startDate, LocalDate endDate) {
-		final StringBuilder nativeQuery = new StringBuilder();
-		nativeQuery.append("SELECT d.DISTRICT AS 'districtName', h.HEALTH_FACILITY AS 'healthFacility', DATE_FORMAT(s.PERFORMED_DATE, '%d-%m-%Y') AS 'performedDate' , CONCAT(t.NAME, ' ', t.SURNAME) AS 'tutorName', CONCAT(tr.NAME, ' ', tr.SURNAME) AS 'tutoredName', c.NAME AS 'cabinet', ROUND(( formacao.NUMERIC_VALUE / 10 ) * 100, 0) AS 'formacao', ROUND(( instalacoes.NUMERIC_VALUE / 5 ) * 100, 0) AS 'instalacoes', ROUND(( seguranca.NUMERIC_VALUE / 11 ) * 100, 0) AS 'seguranca', ROUND(( pretestagem.NUMERIC_VALUE / 12 ) * 100, 0) AS 'pretestagem', ROUND(( testagem.NUMERIC_VALUE / 9 ) * 100, 0) AS 'testagem', ROUND(( postestagem.NUMERIC_VALUE / 9 ) * 100, 0) AS 'postestagem', ROUND(( avaliacao.NUMERIC_VALUE / 8 ) * 100, 0) AS 'avaliacao', ROUND(( ( formacao.NUMERIC_VALUE + instalacoes.NUMERIC_VALUE + seguranca.NUMERIC_VALUE + pretestagem.NUMERIC_VALUE + testagem.NUMERIC_VALUE + postestagem.NUMERIC_VALUE + avaliacao.NUMERIC_VALUE ) / 64 ) * 100, 0) AS 'total', s.CREATED_AT AS 'createdAt', m.ID AS 'mentorship_id' FROM SESSIONS s INNER JOIN MENTORSHIPS m ON s.ID = m.SESSION_ID INNER JOIN HEALTH_FACILITIES h ON m.HEALTH_FACILITY_ID = h.ID INNER JOIN TUTORS t ON m.TUTOR_ID = t.ID INNER JOIN TUTOREDS tr ON m.TUTORED_ID = tr.ID INNER JOIN CABINETS c ON m.CABINET_ID = c.ID INNER JOIN FORMS f ON m.FORM_ID = f.ID INNER JOIN DISTRICTS d ON h.DISTRICT_ID = d.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000751', 'MTQ00000752', 'MTQ00000753', 'MTQ00000754', 'MTQ00000755', 'MTQ00000756', 'MTQ00000757', 'MTQ00000758', 'MTQ00000759', 'MTQ00000760' ) AND f.CODE IN ( 'MT00000048' ) AND m.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND m.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' GROUP BY MENTORSHIP_ID) formacao ON formacao.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS  numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000761', 'MTQ00000762', 'MTQ00000763', 'MTQ00000764', 'MTQ00000765' ) AND f.CODE IN ( 'MT00000048' ) AND m.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND m.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' GROUP BY MENTORSHIP_ID) instalacoes ON instalacoes.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000766', 'MTQ00000767', 'MTQ00000768', 'MTQ00000769', 'MTQ00000770', 'MTQ00000771', 'MTQ00000772', 'MTQ00000773', 'MTQ00000774', 'MTQ00000775', 'MTQ00000776' ) AND f.CODE IN ( 'MT00000048' ) AND m.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND m.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' GROUP BY MENTORSHIP_ID) seguranca ON seguranca.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000777', 'MTQ00000778', 'MTQ00000779', 'MTQ00000780', 'MTQ00000781', 'MTQ00000782', 'MTQ00000783', 'MTQ00000784', 'MTQ00000785', 'MTQ00000786', 'MTQ00000787', 'MTQ00000788' ) AND m.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND m.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' GROUP BY MENTORSHIP_ID) pretestagem ON pretestagem.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000789', 'MTQ00000790', 'MTQ00000791', 'MTQ00000792', 'MTQ00000793', 'MTQ00000794', 'MTQ00000795', 'MTQ00000796', 'MTQ00000797' ) AND m.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND m.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' GROUP BY MENTORSHIP_ID) testagem ON testagem.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000798', 'MTQ00000799', 'MTQ00000800', 'MTQ00000801', 'MTQ00000802', 'MTQ00000803', 'MTQ00000804', 'MTQ00000805', 'MTQ00000806' ) AND m.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND m.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' GROUP BY MENTORSHIP_ID) postestagem ON postestagem.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000807', 'MTQ00000808', 'MTQ00000809', 'MTQ00000810', 'MTQ00000811', 'MTQ00000812', 'MTQ00000813', 'MTQ00000814' ) AND m.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND m.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' GROUP BY MENTORSHIP_ID) avaliacao ON avaliacao.MENTORSHIP_ID = m.ID WHERE s.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND s.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND s.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND f.CODE = 'MT00000048' ORDER BY 1, 2, 3 ASC ");
+	public List<PmqtrSessionRow> findBySelectedFilterPMQTR(LocalDate startDate, LocalDate endDate) {
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findBySelectedFilterPMQTR");
+		final String start = nativeQuery.bind(Date.valueOf(startDate));
+		final String end = nativeQuery.bind(Date.valueOf(endDate));
+		nativeQuery.append("SELECT d.DISTRICT AS 'districtName', h.HEALTH_FACILITY AS 'healthFacility', DATE_FORMAT(s.PERFORMED_DATE, '%d-%m-%Y') AS 'performedDate' , CONCAT(t.NAME, ' ', t.SURNAME) AS 'tutorName', CONCAT(tr.NAME, ' ', tr.SURNAME) AS 'tutoredName', c.NAME AS 'cabinet', ROUND(( formacao.NUMERIC_VALUE / 10 ) * 100, 0) AS 'formacao', ROUND(( instalacoes.NUMERIC_VALUE / 5 ) * 100, 0) AS 'instalacoes', ROUND(( seguranca.NUMERIC_VALUE / 11 ) * 100, 0) AS 'seguranca', ROUND(( pretestagem.NUMERIC_VALUE / 12 ) * 100, 0) AS 'pretestagem', ROUND(( testagem.NUMERIC_VALUE / 9 ) * 100, 0) AS 'testagem', ROUND(( postestagem.NUMERIC_VALUE / 9 ) * 100, 0) AS 'postestagem', ROUND(( avaliacao.NUMERIC_VALUE / 8 ) * 100, 0) AS 'avaliacao', ROUND(( ( formacao.NUMERIC_VALUE + instalacoes.NUMERIC_VALUE + seguranca.NUMERIC_VALUE + pretestagem.NUMERIC_VALUE + testagem.NUMERIC_VALUE + postestagem.NUMERIC_VALUE + avaliacao.NUMERIC_VALUE ) / 64 ) * 100, 0) AS 'total', s.CREATED_AT AS 'createdAt', m.ID AS 'mentorship_id' FROM SESSIONS s INNER JOIN MENTORSHIPS m ON s.ID = m.SESSION_ID INNER JOIN HEALTH_FACILITIES h ON m.HEALTH_FACILITY_ID = h.ID INNER JOIN TUTORS t ON m.TUTOR_ID = t.ID INNER JOIN TUTOREDS tr ON m.TUTORED_ID = tr.ID INNER JOIN CABINETS c ON m.CABINET_ID = c.ID INNER JOIN FORMS f ON m.FORM_ID = f.ID INNER JOIN DISTRICTS d ON h.DISTRICT_ID = d.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000751', 'MTQ00000752', 'MTQ00000753', 'MTQ00000754', 'MTQ00000755', 'MTQ00000756', 'MTQ00000757', 'MTQ00000758', 'MTQ00000759', 'MTQ00000760' ) AND f.CODE IN ( 'MT00000048' ) AND m.PERFORMED_DATE >= "+start+" AND m.PERFORMED_DATE <= "+end+" GROUP BY MENTORSHIP_ID) formacao ON formacao.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS  numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000761', 'MTQ00000762', 'MTQ00000763', 'MTQ00000764', 'MTQ00000765' ) AND f.CODE IN ( 'MT00000048' ) AND m.PERFORMED_DATE >= "+start+" AND m.PERFORMED_DATE <= "+end+" GROUP BY MENTORSHIP_ID) instalacoes ON instalacoes.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000766', 'MTQ00000767', 'MTQ00000768', 'MTQ00000769', 'MTQ00000770', 'MTQ00000771', 'MTQ00000772', 'MTQ00000773', 'MTQ00000774', 'MTQ00000775', 'MTQ00000776' ) AND f.CODE IN ( 'MT00000048' ) AND m.PERFORMED_DATE >= "+start+" AND m.PERFORMED_DATE <= "+end+" GROUP BY MENTORSHIP_ID) seguranca ON seguranca.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000777', 'MTQ00000778', 'MTQ00000779', 'MTQ00000780', 'MTQ00000781', 'MTQ00000782', 'MTQ00000783', 'MTQ00000784', 'MTQ00000785', 'MTQ00000786', 'MTQ00000787', 'MTQ00000788' ) AND m.PERFORMED_DATE >= "+start+" AND m.PERFORMED_DATE <= "+end+" GROUP BY MENTORSHIP_ID) pretestagem ON pretestagem.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000789', 'MTQ00000790', 'MTQ00000791', 'MTQ00000792', 'MTQ00000793', 'MTQ00000794', 'MTQ00000795', 'MTQ00000796', 'MTQ00000797' ) AND m.PERFORMED_DATE >= "+start+" AND m.PERFORMED_DATE <= "+end+" GROUP BY MENTORSHIP_ID) testagem ON testagem.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000798', 'MTQ00000799', 'MTQ00000800', 'MTQ00000801', 'MTQ00000802', 'MTQ00000803', 'MTQ00000804', 'MTQ00000805', 'MTQ00000806' ) AND m.PERFORMED_DATE >= "+start+" AND m.PERFORMED_DATE <= "+end+" GROUP BY MENTORSHIP_ID) postestagem ON postestagem.MENTORSHIP_ID = m.ID LEFT JOIN (SELECT MENTORSHIP_ID, SUM(CASE WHEN a.TEXT_VALUE = 'COMPETENTE' THEN 1 WHEN a.TEXT_VALUE = 'NAO SATISFATORIO' THEN 0.5 WHEN a.TEXT_VALUE = 'NAO SATISFATRIO' THEN 0.5 ELSE 0 end) AS numeric_value FROM MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a WHERE m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000807', 'MTQ00000808', 'MTQ00000809', 'MTQ00000810', 'MTQ00000811', 'MTQ00000812', 'MTQ00000813', 'MTQ00000814' ) AND m.PERFORMED_DATE >= "+start+" AND m.PERFORMED_DATE <= "+end+" GROUP BY MENTORSHIP_ID) avaliacao ON avaliacao.MENTORSHIP_ID = m.ID WHERE s.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND s.PERFORMED_DATE >= "+start+" AND s.PERFORMED_DATE <= "+end+" AND f.CODE = 'MT00000048' ORDER BY 1, 2, 3 ASC ");
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		@SuppressWarnings("unchecked")
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
 		 
-		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
-		
-		for (Object[] ps : performedSessionsHTS) {
-			PerformedSession p= new PerformedSession(
-					ps[0].toString(), 
-					ps[1].toString(), 
-					ps[2].toString(), 
-					ps[3].toString(), 
-					ps[4].toString(), 
-					ps[5].toString(), 
-					Integer.valueOf(ps[6].toString()), 
-					Integer.valueOf(ps[7].toString()),
-					Integer.valueOf(ps[8].toString()), 
-					Integer.valueOf(ps[9].toString()), 
-					Integer.valueOf(ps[10].toString()), 
-					Integer.valueOf(ps[11].toString()), 
-					Integer.valueOf(ps[12].toString()), 
-					Integer.valueOf(ps[13].toString()), 
-					ps[14].toString(),
-					Long.valueOf(ps[15].toString()));
-			
-			performedSessions.add(p);
-			
+		final List<PmqtrSessionRow> rows = new ArrayList<>(performedSessionsHTS.size());
+
+		for (final Object[] row : performedSessionsHTS) {
+			rows.add(new PmqtrSessionRow(row));
 		}
 
-		return performedSessions;
+		return rows;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
-	public List<PerformedSession> findBySelectedFilterNarrativeCOP20(LocalDate startDate, LocalDate endDate) {
-		
-	final StringBuilder nativeQuery = new StringBuilder();
-		
-		String start=startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN));
-		String end=endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN));
-		
-		nativeQuery.append("SELECT d.PROVINCE, (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND c.ID = 14 AND f.CODE IN( 'MT00000034', 'MT00000049' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_11061', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000837', 'MTQ00000838' ) AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_11011', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000839', 'MTQ00000898', 'MTQ00000899',  'MTQ00000900' ) AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_11031', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND c.ID IN( 6, 10 ) AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000837', 'MTQ00000838' ) AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_11041', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND c.ID IN ( 6, 10, 12 ) AND f.CODE IN( 'MT00000034', 'MT00000049' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_11043', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000895', 'MTQ00000904' ) AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_11073', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND c.ID = 12 AND f.CODE IN( 'MT00000034', 'MT00000049' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_42', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000827', 'MTQ00000833', 'MTQ00000905',  'MTQ00000909',  'MTQ00000910' ) AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_10043', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND c.ID = 12 AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000832', 'MTQ00000312', 'MTQ00000313',  'MTQ00000314',  'MTQ00000344', 'MTQ00000353' ) AND f.CODE IN ( 'MT00000049', 'MT00000035', 'MT00000036',  'MT00000038' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_10045', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND c.ID = 4 AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000826', 'MTQ00000834' ) AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_04071', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND c.ID IN ( 4, 5, 22 ) AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000839', 'MTQ00000898', 'MTQ00000899',  'MTQ00000900' ) AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_04073', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND c.ID IN ( 5, 22 ) AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000837', 'MTQ00000906' ) AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_04041', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, ANSWERS a, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND c.ID IN ( 5, 22 ) AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_04077',	   (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000317', 'MTQ00000318', 'MTQ00000319') AND f.CODE IN ( 'MT00000036', 'MT00000038') AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_040708', 	   (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND c.ID IN ( 4, 5, 22 ) AND f.CODE IN( 'MT00000047' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_04061', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE = 'MTQ00000838' AND f.CODE = 'MT00000049' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_15051', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000832', 'MTQ00000345' ) AND f.CODE IN ( 'MT00000049', 'MT00000035', 'MT00000036',  'MT00000038' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_06044', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000329', 'MTQ00000311', 'MTQ00000512',  'MTQ00000331' ) AND f.CODE IN ( 'MT00000035', 'MT00000036', 'MT00000038',  'MT00000043',  'MT00000037' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_02041', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f  WHERE  m.FORM_ID = f.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND f.CODE IN( 'MT00000046', 'MT00000047' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_01102', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000332', 'MTQ00000736', 'MTQ00000527' ) AND f.CODE IN ( 'MT00000035', 'MT00000046', 'MT00000043',  'MT00000037' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_01031', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000317', 'MTQ00000318', 'MTQ00000319',  'MTQ00000680',  'MTQ00000710', 'MTQ00000711', 'MTQ00000740',  'MTQ00000521' ) AND f.CODE IN ( 'MT00000035', 'MT00000036', 'MT00000038',  'MT00000043',  'MT00000037', 'MT00000047' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_01142', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, CABINETS c  WHERE  m.FORM_ID = f.ID AND m.CABINET_ID = c.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND c.ID = 12 AND f.CODE IN( 'MT00000035', 'MT00000036', 'MT00000038', 'MT00000047' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_02063', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f  WHERE  m.FORM_ID = f.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.HEALTH_FACILITY_ID = 128 AND f.CODE IN( 'MT00000035', 'MT00000036', 'MT00000038', 'MT00000047' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_01116', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000341', 'MTQ00000722', 'MTQ00000723',  'MTQ00000724',  'MTQ00000725', 'MTQ00000726' ) AND f.CODE IN ( 'MT00000035', 'MT00000047' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_02071', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a, CABINETS c  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.CABINET_ID = c.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND c.ID IN ( 4, 5, 22 ) AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000382', 'MTQ00000341', 'MTQ00000722',  'MTQ00000723',  'MTQ00000724', 'MTQ00000725', 'MTQ00000726' ) AND f.CODE IN ( 'MT00000036', 'MT00000038', 'MT00000047' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_02021', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a, CABINETS c  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.CABINET_ID = c.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND c.ID IN ( 4, 5, 22 ) AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000382', 'MTQ00000341', 'MTQ00000722',  'MTQ00000723',  'MTQ00000724', 'MTQ00000725', 'MTQ00000726' ) AND f.CODE IN ( 'MT00000036', 'MT00000038', 'MT00000047' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_02023', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE'  AND m.ID = a.MENTORSHIP_ID AND q.CODE = 'MTQ00000400' AND f.CODE = 'MT00000038' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_08051', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000380', 'MTQ00000509', 'MTQ00000328' ) AND f.CODE IN ( 'MT00000035', 'MT00000036', 'MT00000038',  'MT00000037',  'MT00000039' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_03029', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000380', 'MTQ00000509', 'MTQ00000328' ) AND f.CODE IN ( 'MT00000035', 'MT00000036', 'MT00000038',  'MT00000037',  'MT00000039' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_030211', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000385', 'MTQ00000335' ) AND f.CODE IN ( 'MT00000035', 'MT00000036', 'MT00000038',  'MT00000037' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_030213', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000380', 'MTQ00000509', 'MTQ00000328' ) AND f.CODE IN ( 'MT00000035', 'MT00000036', 'MT00000038',  'MT00000037',  'MT00000039' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_03011', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000385', 'MTQ00000335' ) AND f.CODE IN ( 'MT00000035', 'MT00000036', 'MT00000038',  'MT00000037' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_03013', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000607', 'MTQ00000639', 'MTQ00000640',  'MTQ00000641' ) AND f.CODE = 'MT00000046' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_05012', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000311', 'MTQ00000329' ) AND f.CODE = 'MT00000037' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_05031', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000332', 'MTQ00000333' ) AND f.CODE = 'MT00000037' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_05061', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f  WHERE  m.FORM_ID = f.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND f.CODE = 'MT00000046' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_05052', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE = 'MTQ00000616' AND f.CODE = 'MT00000046' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_05054', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f, QUESTIONS q, ANSWERS a  WHERE  m.FORM_ID = f.ID AND a.QUESTION_ID = q.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.ID = a.MENTORSHIP_ID AND q.CODE IN ( 'MTQ00000607', 'MTQ00000639', 'MTQ00000640',  'MTQ00000641' ) AND f.CODE = 'MT00000046' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"' AND EXISTS (SELECT a2.ID      FROM   ANSWERS a2      WHERE  a2.MENTORSHIP_ID = m.ID     AND a2.TEXT_VALUE IN (  'COMPETENTE', 'NAO SATISFATORIO', 'NAO SATISFATRIO' ))) AS 'ind_05057', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f  WHERE  m.FORM_ID = f.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND f.CODE IN( 'MT00000004', 'MT00000005', 'MT00000006', 'MT00000007', 'MT00000008', 'MT00000009', 'MT00000010', 'MT00000011' ) AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_19051', (SELECT COUNT(DISTINCT( m.SESSION_ID ))  FROM   MENTORSHIPS m, FORMS f  WHERE  m.FORM_ID = f.ID AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND f.CODE = 'MT00000010' AND m.PERFORMED_DATE >= '"+start+"' AND m.PERFORMED_DATE <= '"+end+"')    AS 'ind_19015' FROM   DISTRICTS d GROUP  BY PROVINCE");
+	public List<Cop20SessionRow> findBySelectedFilterNarrativeCOP20(final LocalDate startDate,
+	        final LocalDate endDate) {
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		List<Object[]> performedSessionsHTS = query.getResultList();
-		 
-		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
-		
-		for (Object[] ps : performedSessionsHTS) {
-			PerformedSession p= new PerformedSession(
-					ps[0].toString(),
-					Long.valueOf(ps[1].toString()), 
-					Long.valueOf(ps[2].toString()),
-					Long.valueOf(ps[3].toString()),
-					Long.valueOf(ps[4].toString()),
-					Long.valueOf(ps[5].toString()),
-					Long.valueOf(ps[6].toString()),
-					Long.valueOf(ps[7].toString()),
-					Long.valueOf(ps[8].toString()),
-					Long.valueOf(ps[9].toString()),
-					Long.valueOf(ps[10].toString()),
-					Long.valueOf(ps[11].toString()),
-					Long.valueOf(ps[12].toString()),
-					Long.valueOf(ps[13].toString()),
-					Long.valueOf(ps[14].toString()),
-					Long.valueOf(ps[15].toString()),
-					Long.valueOf(ps[16].toString()),
-					Long.valueOf(ps[17].toString()),
-					Long.valueOf(ps[18].toString()),
-					Long.valueOf(ps[19].toString()),
-					Long.valueOf(ps[20].toString()),
-					Long.valueOf(ps[21].toString()),
-					Long.valueOf(ps[22].toString()),
-					Long.valueOf(ps[23].toString()),
-					Long.valueOf(ps[24].toString()),
-					Long.valueOf(ps[25].toString()),
-					Long.valueOf(ps[26].toString()),
-					Long.valueOf(ps[27].toString()),
-					Long.valueOf(ps[28].toString()),
-					Long.valueOf(ps[29].toString()),
-					Long.valueOf(ps[30].toString()),
-					Long.valueOf(ps[31].toString()),
-					Long.valueOf(ps[32].toString()),
-					Long.valueOf(ps[33].toString()),
-					Long.valueOf(ps[34].toString()),
-					Long.valueOf(ps[35].toString()),
-					Long.valueOf(ps[36].toString()),
-					Long.valueOf(ps[37].toString()),
-					Long.valueOf(ps[38].toString()),
-					Long.valueOf(ps[39].toString()),
-					Long.valueOf(ps[40].toString())
-);
-			
-			performedSessions.add(p);
-			
+		final long[] counts = this.aggregateIndicators("findBySelectedFilterNarrativeCOP20",
+		        SessionIndicators.NARRATIVE_COP20, startDate, endDate);
+
+		final List<Cop20SessionRow> performedSessions = new ArrayList<Cop20SessionRow>(0);
+
+		for (final String province : this.findProvinces()) {
+			performedSessions.add(new Cop20SessionRow(province, counts));
 		}
 
 		return performedSessions;
 	}
 
+	private long[] aggregateIndicators(final String report, final List<SessionIndicatorDefinition> definitions,
+	        final LocalDate startDate, final LocalDate endDate) {
+
+		final Set<String> formCodes = new HashSet<>();
+		final Set<String> questionCodes = new HashSet<>();
+
+		for (final SessionIndicatorDefinition definition : definitions) {
+			formCodes.addAll(definition.getFormCodes());
+			questionCodes.addAll(definition.getQuestionCodes());
+		}
+
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder(report);
+		final String questions = nativeQuery.bind(questionCodes);
+		final String competenceValues = nativeQuery.bind(Arrays.asList(AnswerPredicate.COMPETENCE_VALUES));
+		final String forms = nativeQuery.bind(formCodes);
+		final String start = nativeQuery.bind(Date.valueOf(startDate));
+		final String end = nativeQuery.bind(Date.valueOf(endDate));
+
+		nativeQuery.append("SELECT m.ID, m.SESSION_ID, m.TUTORED_ID, f.CODE AS FORM_CODE, m.CABINET_ID, m.HEALTH_FACILITY_ID, CASE WHEN q.CODE IN (" + questions + ") THEN q.CODE END AS QUESTION_CODE, COUNT(a.ID) AS ANSWERS, MAX(CASE WHEN a.TEXT_VALUE IN (" + competenceValues + ") THEN 1 ELSE 0 END) AS COMPETENT "
+		        + "FROM MENTORSHIPS m INNER JOIN FORMS f ON m.FORM_ID=f.ID LEFT JOIN ANSWERS a ON a.MENTORSHIP_ID=m.ID LEFT JOIN QUESTIONS q ON a.QUESTION_ID=q.ID "
+		        + "WHERE m.LIFE_CYCLE_STATUS='ACTIVE' AND f.CODE IN (" + forms + ") AND m.PERFORMED_DATE>=" + start + " AND m.PERFORMED_DATE<=" + end + " "
+		        + "GROUP BY m.ID, m.SESSION_ID, m.TUTORED_ID, f.CODE, m.CABINET_ID, m.HEALTH_FACILITY_ID, QUESTION_CODE ORDER BY m.ID");
+
+		final SessionIndicatorAggregator aggregator = new SessionIndicatorAggregator(definitions);
+
+		final List<Object[]> rows = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
+
+		for (final Object[] row : rows) {
+			aggregator.add(row);
+		}
+
+		return aggregator.aggregate();
+	}
+
+	private List<String> findProvinces() {
+		return new NativeQueryBuilder("findProvinces")
+		        .append("SELECT d.PROVINCE FROM DISTRICTS d GROUP BY d.PROVINCE ORDER BY d.PROVINCE")
+		        .getResultList(this.getEntityManager(), this.reportQueryRegistry);
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public List<PerformedSession> findBySelectedFilterPMQTRList(LocalDate startDate, LocalDate endDate) {
-		final StringBuilder nativeQuery = new StringBuilder();
-		nativeQuery.append("SELECT d.DISTRICT AS 'districtName', h.HEALTH_FACILITY AS 'healthFacility', DATE_FORMAT(s.PERFORMED_DATE, '%d-%m-%Y') AS 'performedDate', CONCAT(t.NAME, ' ', t.SURNAME) AS 'tutorName', CONCAT(tr.NAME, ' ', tr.SURNAME) AS 'tutoredName', c.NAME AS 'cabinet', (SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000751' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000751',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000752' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000752',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000753' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000753',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000754' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000754',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000755' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000755',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000756' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000756',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000757' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000757',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000758' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000758',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000759' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000759',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000760' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000760',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000761' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000761',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000762' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000762',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000763' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000763',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000764' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000764',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000765' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000765',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000766' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000766',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000767' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000767',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000768' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000768',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000769' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000769',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000770' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000770',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000771' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000771',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000772' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000772',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000773' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000773',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000774' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000774',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000775' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000775',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000776' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000776',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000777' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000777',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000778' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000778',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000779' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000779',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000780' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000780',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000781' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000781',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000782' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000782',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000783' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000783',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000784' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000784',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000785' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000785',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000786' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000786',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000787' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000787',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000788' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000788',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000789' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000789',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000790' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000790',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000791' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000791',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000792' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000792',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000793' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000793',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000794' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000794',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000795' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000795',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000796' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000796',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000797' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000797',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000798' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000798',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000799' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000799',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000800' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000800',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000801' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000801',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000802' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000802',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000803' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000803',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000804' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000804',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000805' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000805',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000806' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000806',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000807' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000807',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000808' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000808',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000809' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000809',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000810' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000810',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000811' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000811',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000812' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000812',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000813' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000813',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000814' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000814', 	 	 DATE_FORMAT(s.CREATED_AT, '%d-%m-%Y %H:%i:%s') AS 'createdAt',	 m.ID AS 'MENTORSHIP_ID'	 FROM SESSIONS s INNER JOIN MENTORSHIPS m ON s.ID = m.SESSION_ID INNER JOIN HEALTH_FACILITIES h ON m.HEALTH_FACILITY_ID = h.ID INNER JOIN CABINETS c ON m.CABINET_ID = c.ID INNER JOIN TUTORS t ON m.TUTOR_ID = t.ID INNER JOIN TUTOREDS tr ON m.TUTORED_ID = tr.ID INNER JOIN FORMS f ON m.FORM_ID = f.ID INNER JOIN DISTRICTS d ON h.DISTRICT_ID = d.ID WHERE s.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND s.PERFORMED_DATE >= '"+startDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND s.PERFORMED_DATE <= '"+endDate.format(DateTimeFormatter.ofPattern(DATE_PATTERN))+"' AND f.CODE = 'MT00000048' ORDER BY 1, 2, 3 ASC");
+		final NativeQueryBuilder nativeQuery = this.pmqtrListQuery(startDate, endDate);
 
-		final Query query = this.getEntityManager().createNativeQuery(nativeQuery.toString());
-		
-		List<Object[]> performedSessionsHTS = query.getResultList();
+		final List<Object[]> performedSessionsHTS = nativeQuery.getResultList(this.getEntityManager(), this.reportQueryRegistry);
 		 
 		List<PerformedSession> performedSessions= new ArrayList<PerformedSession>(0);
 		
@@ -750,4 +687,57 @@ final StringBuilder nativeQuery = new StringBuilder();
 
 		return performedSessions;
 	}
+
+	@Override
+	public long streamBySelectedFilter(final PerformedSessionExport export, final LocalDate startDate,
+	        final LocalDate endDate, final ReportRowHandler handler) {
+
+		final NativeQueryBuilder nativeQuery;
+
+		switch (export) {
+		case HTS:
+			nativeQuery = this.htsQuery(startDate, endDate);
+			break;
+		case INDICATORS_LIST:
+			nativeQuery = this.indicatorsListQuery(startDate, endDate);
+			break;
+		case PMQTR_LIST:
+			nativeQuery = this.pmqtrListQuery(startDate, endDate);
+			break;
+		default:
+			throw new IllegalArgumentException("Unsupported export " + export);
+		}
+
+		return nativeQuery.scroll(this.getEntityManager(), this.reportQueryRegistry, EXPORT_FETCH_SIZE, handler);
+	}
+
+	private NativeQueryBuilder htsQuery(final LocalDate startDate, final LocalDate endDate) {
+
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findBySelectedFilterHTS");
+		final String start = nativeQuery.bind(Date.valueOf(startDate));
+		final String end = nativeQuery.bind(Date.valueOf(endDate));
+		nativeQuery.append("SELECT d.DISTRICT AS 'districtName', h.HEALTH_FACILITY AS 'healthFacility', DATE_FORMAT(s.PERFORMED_DATE,'%d-%m-%Y') AS 'performedDate', CONCAT(t.NAME,' ',t.SURNAME) AS 'tutorName', CONCAT(tr.NAME,' ',tr.SURNAME) AS 'tutoredName', c.NAME AS 'cabinet', CASE m.DOOR WHEN 'P1' THEN '1' WHEN 'P2' THEN '2' WHEN 'P3' THEN '3' WHEN 'P4' THEN '4' END AS 'door', CASE m.TIME_OF_DAY WHEN 'DAY' THEN 'Dia' WHEN 'LATE_NIGHT' THEN 'Tarde/Noite' ELSE '' END AS 'timeOfDay', fa.ATTENDED AS 'atendidos', fa.PREVIOUS AS 'previos', fa.TESTED AS 'testados', fa.POSITIVE AS 'positivos', fa.ENROLLED AS 'inscritos',DATE_FORMAT(s.CREATED_AT,'%d-%m-%Y %H:%i:%s') AS 'createdAt',m.ID AS 'MENTORING_ID' FROM MENTORSHIPS m INNER JOIN FORMS f ON m.FORM_ID=f.ID LEFT JOIN MENTORSHIP_ANSWER_FACTS fa ON fa.MENTORSHIP_ID=m.ID AND fa.LIFE_CYCLE_STATUS='ACTIVE' INNER JOIN SESSIONS s ON m.SESSION_ID=s.ID INNER JOIN HEALTH_FACILITIES h ON m.HEALTH_FACILITY_ID=h.ID INNER JOIN TUTORS t ON m.TUTOR_ID=t.ID INNER JOIN TUTOREDS tr ON m.TUTORED_ID=tr.ID INNER JOIN CABINETS c ON m.CABINET_ID=c.ID INNER JOIN DISTRICTS d ON h.DISTRICT_ID = d.ID WHERE f.CODE='MT00000045' AND s.PERFORMED_DATE>="+start+" AND s.PERFORMED_DATE<="+end+" AND s.LIFE_CYCLE_STATUS='ACTIVE' AND m.LIFE_CYCLE_STATUS='ACTIVE' ORDER BY 1,2,3 ASC");
+
+		return nativeQuery;
+	}
+
+	private NativeQueryBuilder indicatorsListQuery(final LocalDate startDate, final LocalDate endDate) {
+
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findBySelectedFilterIndicatorsList");
+		final String start = nativeQuery.bind(Date.valueOf(startDate));
+		final String end = nativeQuery.bind(Date.valueOf(endDate));
+		nativeQuery.append("SELECT d.DISTRICT AS 'districtName',  h.HEALTH_FACILITY AS 'healthFacility',  DATE_FORMAT(s.PERFORMED_DATE, '%d-%m-%Y') AS 'performedDate',  CONCAT(t.NAME, ' ', t.SURNAME) AS 'tutorName',  f.NAME AS 'formName',  elaborado.BOOLEAN_VALUE AS 'elaborado',  aprovado.BOOLEAN_VALUE AS 'aprovado', 	revisado.BOOLEAN_VALUE AS 'revisado',  DATE_FORMAT(s.CREATED_AT, '%d-%m-%Y %H:%i:%s') AS 'createdAt' FROM INDICATORS s  INNER JOIN HEALTH_FACILITIES h  ON s.HEALTH_FACILITY_ID = h.ID  INNER JOIN TUTORS t  ON s.TUTOR_ID = t.ID  INNER JOIN FORMS f  ON s.FORM_ID = f.ID  INNER JOIN DISTRICTS d  ON h.DISTRICT_ID = d.ID  LEFT JOIN (SELECT INDICATOR_ID,  BOOLEAN_VALUE FROM ANSWERS a,  QUESTIONS q WHERE a.QUESTION_ID = q.ID  AND q.CODE = 'MTQ00000274') elaborado ON elaborado.INDICATOR_ID = s.ID  LEFT JOIN (SELECT INDICATOR_ID,  BOOLEAN_VALUE FROM ANSWERS a,  QUESTIONS q WHERE a.QUESTION_ID = q.ID  AND q.CODE = 'MTQ00000275') aprovado ON aprovado.INDICATOR_ID = s.ID 		LEFT JOIN (SELECT INDICATOR_ID,  BOOLEAN_VALUE FROM ANSWERS a,  QUESTIONS q WHERE a.QUESTION_ID = q.ID  AND q.CODE = 'MTQ00000276') revisado ON revisado.INDICATOR_ID = s.ID WHERE s.LIFE_CYCLE_STATUS = 'ACTIVE' AND s.PERFORMED_DATE >= "+start+" AND s.PERFORMED_DATE <= "+end+" AND f.NAME LIKE '%PROCEDIMENTO OPERACIONAL%' ORDER BY 1, 2, 3 ASC ");
+
+		return nativeQuery;
+	}
+
+	private NativeQueryBuilder pmqtrListQuery(final LocalDate startDate, final LocalDate endDate) {
+
+		final NativeQueryBuilder nativeQuery = new NativeQueryBuilder("findBySelectedFilterPMQTRList");
+		final String start = nativeQuery.bind(Date.valueOf(startDate));
+		final String end = nativeQuery.bind(Date.valueOf(endDate));
+		nativeQuery.append("SELECT d.DISTRICT AS 'districtName', h.HEALTH_FACILITY AS 'healthFacility', DATE_FORMAT(s.PERFORMED_DATE, '%d-%m-%Y') AS 'performedDate', CONCAT(t.NAME, ' ', t.SURNAME) AS 'tutorName', CONCAT(tr.NAME, ' ', tr.SURNAME) AS 'tutoredName', c.NAME AS 'cabinet', (SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000751' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000751',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000752' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000752',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000753' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000753',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000754' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000754',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000755' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000755',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000756' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000756',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000757' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000757',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000758' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000758',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000759' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000759',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000760' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000760',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000761' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000761',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000762' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000762',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000763' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000763',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000764' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000764',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000765' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000765',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000766' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000766',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000767' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000767',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000768' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000768',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000769' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000769',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000770' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000770',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000771' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000771',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000772' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000772',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000773' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000773',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000774' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000774',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000775' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000775',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000776' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000776',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000777' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000777',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000778' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000778',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000779' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000779',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000780' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000780',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000781' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000781',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000782' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000782',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000783' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000783',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000784' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000784',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000785' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000785',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000786' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000786',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000787' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000787',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000788' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000788',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000789' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000789',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000790' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000790',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000791' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000791',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000792' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000792',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000793' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000793',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000794' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000794',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000795' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000795',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000796' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000796',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000797' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000797',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000798' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000798',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000799' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000799',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000800' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000800',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000801' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000801',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000802' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000802',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000803' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000803',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000804' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000804',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000805' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000805',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000806' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000806',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000807' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000807',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000808' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000808',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000809' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000809',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000810' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000810',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000811' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000811',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000812' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000812',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000813' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000813',(SELECT TEXT_VALUE FROM ANSWERS a, QUESTIONS q WHERE a.QUESTION_ID = q.ID AND q.CODE = 'MTQ00000814' AND MENTORSHIP_ID=m.ID) AS 'MTQ00000814', 	 	 DATE_FORMAT(s.CREATED_AT, '%d-%m-%Y %H:%i:%s') AS 'createdAt',	 m.ID AS 'MENTORSHIP_ID'	 FROM SESSIONS s INNER JOIN MENTORSHIPS m ON s.ID = m.SESSION_ID INNER JOIN HEALTH_FACILITIES h ON m.HEALTH_FACILITY_ID = h.ID INNER JOIN CABINETS c ON m.CABINET_ID = c.ID INNER JOIN TUTORS t ON m.TUTOR_ID = t.ID INNER JOIN TUTOREDS tr ON m.TUTORED_ID = tr.ID INNER JOIN FORMS f ON m.FORM_ID = f.ID INNER JOIN DISTRICTS d ON h.DISTRICT_ID = d.ID WHERE s.LIFE_CYCLE_STATUS = 'ACTIVE' AND m.LIFE_CYCLE_STATUS = 'ACTIVE' AND s.PERFORMED_DATE >= "+start+" AND s.PERFORMED_DATE <= "+end+" AND f.CODE = 'MT00000048' ORDER BY 1, 2, 3 ASC");
+
+		return nativeQuery;
+	}
 }
@@ -0,0 +1,132 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.dao;
+
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import mz.org.fgh.mentoring.core.session.model.SessionIndicatorDefinition;
+
+/**
+ * Evaluates a set of {@link SessionIndicatorDefinition} in a single pass over
+ * the mentorship rows of a date range, keeping one distinct-id bitmap per
+ * indicator.
+ *
+ * Rows are expected ordered by mentorship id, with the layout: mentorship id,
+ * session id, tutored id, form code, cabinet id, health facility id, question
+ * code (null for answers outside the indicator questions), number of answers,
+ * competence flag.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class SessionIndicatorAggregator {
+
+	private final List<SessionIndicatorDefinition> definitions;
+
+	private final BitSet[] bitmaps;
+
+	private final Set<String> answeredCodes = new HashSet<>();
+
+	private final Set<String> competentCodes = new HashSet<>();
+
+	private Long mentorshipId;
+
+	private Long sessionId;
+
+	private Long tutoredId;
+
+	private String formCode;
+
+	private Long cabinetId;
+
+	private Long healthFacilityId;
+
+	private boolean competent;
+
+	private boolean hasAnswers;
+
+	public SessionIndicatorAggregator(final List<SessionIndicatorDefinition> definitions) {
+		this.definitions = definitions;
+		this.bitmaps = new BitSet[definitions.size()];
+
+		for (int i = 0; i < this.bitmaps.length; i++) {
+			this.bitmaps[i] = new BitSet();
+		}
+	}
+
+	public void add(final Object[] row) {
+
+		final Long rowMentorshipId = this.toLong(row[0]);
+
+		if (!rowMentorshipId.equals(this.mentorshipId)) {
+			this.flush();
+
+			this.mentorshipId = rowMentorshipId;
+			this.sessionId = this.toLong(row[1]);
+			this.tutoredId = this.toLong(row[2]);
+			this.formCode = (String) row[3];
+			this.cabinetId = this.toLong(row[4]);
+			this.healthFacilityId = this.toLong(row[5]);
+		}
+
+		final boolean rowCompetent = this.toLong(row[8]) > 0;
+
+		if (row[6] != null) {
+			this.answeredCodes.add((String) row[6]);
+
+			if (rowCompetent) {
+				this.competentCodes.add((String) row[6]);
+			}
+		}
+
+		this.hasAnswers |= this.toLong(row[7]) > 0;
+		this.competent |= rowCompetent;
+	}
+
+	public long[] aggregate() {
+		this.flush();
+
+		final long[] counts = new long[this.bitmaps.length];
+
+		for (int i = 0; i < counts.length; i++) {
+			counts[i] = this.bitmaps[i].cardinality();
+		}
+
+		return counts;
+	}
+
+	private void flush() {
+
+		if (this.mentorshipId == null) {
+			return;
+		}
+
+		for (int i = 0; i < this.definitions.size(); i++) {
+			final SessionIndicatorDefinition definition = this.definitions.get(i);
+
+			if (definition.matches(this.formCode, this.cabinetId, this.healthFacilityId, this.answeredCodes,
+			        this.competentCodes, this.competent, this.hasAnswers)) {
+
+				final Long id = definition.isCountTutoreds() ? this.tutoredId : this.sessionId;
+
+				if (id != null) {
+					this.bitmaps[i].set(Math.toIntExact(id));
+				}
+			}
+		}
+
+		this.mentorshipId = null;
+		this.answeredCodes.clear();
+		this.competentCodes.clear();
+		this.competent = false;
+		this.hasAnswers = false;
+	}
+
+	private Long toLong(final Object value) {
+		return value == null ? null : ((Number) value).longValue();
+	}
+}
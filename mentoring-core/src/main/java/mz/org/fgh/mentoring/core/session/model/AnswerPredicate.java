@@ -0,0 +1,31 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+/**
+ * Condition a mentorship's answers must satisfy to be counted by a
+ * {@link SessionIndicatorDefinition}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public enum AnswerPredicate {
+
+	/** No condition on the answers. */
+	NONE,
+
+	/** The mentorship has at least one answer. */
+	HAS_ANSWERS,
+
+	/**
+	 * One of the indicator questions was answered and the mentorship has at
+	 * least one competence answer.
+	 */
+	QUESTION_ANSWERED,
+
+	/** One of the indicator questions was answered with a competence value. */
+	QUESTION_COMPETENT;
+
+	public static final String[] COMPETENCE_VALUES = { "COMPETENTE", "NAO SATISFATORIO", "NAO SATISFATRIO" };
+}
@@ -0,0 +1,316 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Province row of the COP20 costed workplan report.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class Cop20SessionRow {
+
+	private String district;
+
+	private long ind_11061;
+
+	private long ind_11011;
+
+	private long ind_11031;
+
+	private long ind_11041;
+
+	private long ind_11043;
+
+	private long ind_11073;
+
+	private long ind_42;
+
+	private long ind_10043;
+
+	private long ind_10045;
+
+	private long ind_04071;
+
+	private long ind_04073;
+
+	private long ind_04041;
+
+	private long ind_04077;
+
+	private long ind_04078;
+
+	private long ind_04061;
+
+	private long ind_15051;
+
+	private long ind_06044;
+
+	private long ind_02041;
+
+	private long ind_01102;
+
+	private long ind_01031;
+
+	private long ind_01142;
+
+	private long ind_02063;
+
+	private long ind_01116;
+
+	private long ind_02071;
+
+	private long ind_02021;
+
+	private long ind_02023;
+
+	private long ind_08051;
+
+	private long ind_03029;
+
+	private long ind_030211;
+
+	private long ind_030213;
+
+	private long ind_03011;
+
+	private long ind_03013;
+
+	private long ind_05012;
+
+	private long ind_05031;
+
+	private long ind_05061;
+
+	private long ind_05052;
+
+	private long ind_05054;
+
+	private long ind_05057;
+
+	private long ind_19051;
+
+	private long ind_19015;
+
+	public Cop20SessionRow() {
+	}
+
+	/**
+	 * @param counts
+	 *            the indicator counts in the order of {@link SessionIndicators#NARRATIVE_COP20}
+	 */
+	public Cop20SessionRow(final String district, final long[] counts) {
+		this.district = district;
+		this.ind_11061 = counts[0];
+		this.ind_11011 = counts[1];
+		this.ind_11031 = counts[2];
+		this.ind_11041 = counts[3];
+		this.ind_11043 = counts[4];
+		this.ind_11073 = counts[5];
+		this.ind_42 = counts[6];
+		this.ind_10043 = counts[7];
+		this.ind_10045 = counts[8];
+		this.ind_04071 = counts[9];
+		this.ind_04073 = counts[10];
+		this.ind_04041 = counts[11];
+		this.ind_04077 = counts[12];
+		this.ind_04078 = counts[13];
+		this.ind_04061 = counts[14];
+		this.ind_15051 = counts[15];
+		this.ind_06044 = counts[16];
+		this.ind_02041 = counts[17];
+		this.ind_01102 = counts[18];
+		this.ind_01031 = counts[19];
+		this.ind_01142 = counts[20];
+		this.ind_02063 = counts[21];
+		this.ind_01116 = counts[22];
+		this.ind_02071 = counts[23];
+		this.ind_02021 = counts[24];
+		this.ind_02023 = counts[25];
+		this.ind_08051 = counts[26];
+		this.ind_03029 = counts[27];
+		this.ind_030211 = counts[28];
+		this.ind_030213 = counts[29];
+		this.ind_03011 = counts[30];
+		this.ind_03013 = counts[31];
+		this.ind_05012 = counts[32];
+		this.ind_05031 = counts[33];
+		this.ind_05061 = counts[34];
+		this.ind_05052 = counts[35];
+		this.ind_05054 = counts[36];
+		this.ind_05057 = counts[37];
+		this.ind_19051 = counts[38];
+		this.ind_19015 = counts[39];
+	}
+
+	public String getDistrict() {
+		return this.district;
+	}
+
+	public long getInd_11061() {
+		return this.ind_11061;
+	}
+
+	public long getInd_11011() {
+		return this.ind_11011;
+	}
+
+	public long getInd_11031() {
+		return this.ind_11031;
+	}
+
+	public long getInd_11041() {
+		return this.ind_11041;
+	}
+
+	public long getInd_11043() {
+		return this.ind_11043;
+	}
+
+	public long getInd_11073() {
+		return this.ind_11073;
+	}
+
+	public long getInd_42() {
+		return this.ind_42;
+	}
+
+	public long getInd_10043() {
+		return this.ind_10043;
+	}
+
+	public long getInd_10045() {
+		return this.ind_10045;
+	}
+
+	public long getInd_04071() {
+		return this.ind_04071;
+	}
+
+	public long getInd_04073() {
+		return this.ind_04073;
+	}
+
+	public long getInd_04041() {
+		return this.ind_04041;
+	}
+
+	public long getInd_04077() {
+		return this.ind_04077;
+	}
+
+	public long getInd_04078() {
+		return this.ind_04078;
+	}
+
+	public long getInd_04061() {
+		return this.ind_04061;
+	}
+
+	public long getInd_15051() {
+		return this.ind_15051;
+	}
+
+	public long getInd_06044() {
+		return this.ind_06044;
+	}
+
+	public long getInd_02041() {
+		return this.ind_02041;
+	}
+
+	public long getInd_01102() {
+		return this.ind_01102;
+	}
+
+	public long getInd_01031() {
+		return this.ind_01031;
+	}
+
+	public long getInd_01142() {
+		return this.ind_01142;
+	}
+
+	public long getInd_02063() {
+		return this.ind_02063;
+	}
+
+	public long getInd_01116() {
+		return this.ind_01116;
+	}
+
+	public long getInd_02071() {
+		return this.ind_02071;
+	}
+
+	public long getInd_02021() {
+		return this.ind_02021;
+	}
+
+	public long getInd_02023() {
+		return this.ind_02023;
+	}
+
+	public long getInd_08051() {
+		return this.ind_08051;
+	}
+
+	public long getInd_03029() {
+		return this.ind_03029;
+	}
+
+	public long getInd_030211() {
+		return this.ind_030211;
+	}
+
+	public long getInd_030213() {
+		return this.ind_030213;
+	}
+
+	public long getInd_03011() {
+		return this.ind_03011;
+	}
+
+	public long getInd_03013() {
+		return this.ind_03013;
+	}
+
+	public long getInd_05012() {
+		return this.ind_05012;
+	}
+
+	public long getInd_05031() {
+		return this.ind_05031;
+	}
+
+	public long getInd_05061() {
+		return this.ind_05061;
+	}
+
+	public long getInd_05052() {
+		return this.ind_05052;
+	}
+
+	public long getInd_05054() {
+		return this.ind_05054;
+	}
+
+	public long getInd_05057() {
+		return this.ind_05057;
+	}
+
+	public long getInd_19051() {
+		return this.ind_19051;
+	}
+
+	public long getInd_19015() {
+		return this.ind_19015;
+	}
+}
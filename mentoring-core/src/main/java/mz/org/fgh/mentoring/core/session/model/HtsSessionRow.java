@@ -0,0 +1,136 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import mz.org.fgh.mentoring.core.report.ReportColumns;
+
+/**
+ * Row of the HTS summary report.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class HtsSessionRow {
+
+	private String district;
+
+	private String healthFacility;
+
+	private String performedDate;
+
+	private String tutorName;
+
+	private String tutoredName;
+
+	private String cabinet;
+
+	private String door;
+
+	private String timeOfDay;
+
+	private long atendidos;
+
+	private long previos;
+
+	private long testados;
+
+	private long positivos;
+
+	private long inscritos;
+
+	private String createdAt;
+
+	private String MENTORING_ID;
+
+	public HtsSessionRow() {
+	}
+
+	public HtsSessionRow(final Object[] row) {
+		this(row, ReportColumns.string(row, 14));
+	}
+
+	protected HtsSessionRow(final Object[] row, final String mentoringId) {
+		this.district = ReportColumns.string(row, 0);
+		this.healthFacility = ReportColumns.string(row, 1);
+		this.performedDate = ReportColumns.string(row, 2);
+		this.tutorName = ReportColumns.string(row, 3);
+		this.tutoredName = ReportColumns.string(row, 4);
+		this.cabinet = ReportColumns.string(row, 5);
+		this.door = ReportColumns.string(row, 6);
+		this.timeOfDay = ReportColumns.string(row, 7);
+		this.atendidos = ReportColumns.longValue(row, 8);
+		this.previos = ReportColumns.longValue(row, 9);
+		this.testados = ReportColumns.longValue(row, 10);
+		this.positivos = ReportColumns.longValue(row, 11);
+		this.inscritos = ReportColumns.longValue(row, 12);
+		this.createdAt = ReportColumns.string(row, 13);
+		this.MENTORING_ID = mentoringId;
+	}
+
+	public String getDistrict() {
+		return this.district;
+	}
+
+	public String getHealthFacility() {
+		return this.healthFacility;
+	}
+
+	public String getPerformedDate() {
+		return this.performedDate;
+	}
+
+	public String getTutorName() {
+		return this.tutorName;
+	}
+
+	public String getTutoredName() {
+		return this.tutoredName;
+	}
+
+	public String getCabinet() {
+		return this.cabinet;
+	}
+
+	public String getDoor() {
+		return this.door;
+	}
+
+	public String getTimeOfDay() {
+		return this.timeOfDay;
+	}
+
+	public long getAtendidos() {
+		return this.atendidos;
+	}
+
+	public long getPrevios() {
+		return this.previos;
+	}
+
+	public long getTestados() {
+		return this.testados;
+	}
+
+	public long getPositivos() {
+		return this.positivos;
+	}
+
+	public long getInscritos() {
+		return this.inscritos;
+	}
+
+	public String getCreatedAt() {
+		return this.createdAt;
+	}
+
+	public String getMENTORING_ID() {
+		return this.MENTORING_ID;
+	}
+}
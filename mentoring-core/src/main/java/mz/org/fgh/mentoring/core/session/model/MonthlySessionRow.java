@@ -0,0 +1,50 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import mz.org.fgh.mentoring.core.report.ReportColumns;
+
+/**
+ * Sessions performed in one of the last 12 months. The field names are
+ * the ones the clients already read: <code>district</code> holds the month
+ * name and <code>healthFacility</code> the <code>yyyyMM</code> sort key.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class MonthlySessionRow {
+
+	private String district;
+
+	private String healthFacility;
+
+	private long totalPerformed;
+
+	public MonthlySessionRow() {
+	}
+
+	public MonthlySessionRow(final Object[] row) {
+		this.district = ReportColumns.string(row, 0);
+		this.healthFacility = ReportColumns.string(row, 1);
+		this.totalPerformed = ReportColumns.longValue(row, 2);
+	}
+
+	public String getDistrict() {
+		return this.district;
+	}
+
+	public String getHealthFacility() {
+		return this.healthFacility;
+	}
+
+	public long getTotalPerformed() {
+		return this.totalPerformed;
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Province row of the Narrative report.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class NarrativeSessionRow {
+
+	private String district;
+
+	private long preventionVCT;
+
+	private long preventionPICT;
+
+	private long preventionIndexCase;
+
+	private long preventionSaaj;
+
+	private long preventionHtcLink;
+
+	private long preventionANC;
+
+	private long preventionCPN;
+
+	private long ctStiAdultsPrison;
+
+	private long ctAdultsPrison;
+
+	private long ctAdultsVLPrison;
+
+	private long ctTbHiv;
+
+	private long ctApss;
+
+	private long ctAdults;
+
+	private long ctAdultsVL;
+
+	private long ctInh;
+
+	private long ctTbHivCt;
+
+	private long ctNutrition;
+
+	private long ctApssTutoreds;
+
+	private long ctApssSessions;
+
+	private long ctEAC;
+
+	private long ctMDC;
+
+	private long ctCervical;
+
+	private long ctStiAdults;
+
+	private long tbSessions;
+
+	private long tbSessionsCt;
+
+	private long tbInh;
+
+	private long tbSessionsPediatric;
+
+	private long pediatricNutrition;
+
+	private long pediatricStarART;
+
+	private long pediatricAMA;
+
+	private long pediatricTB;
+
+	private long pediatricVL;
+
+	public NarrativeSessionRow() {
+	}
+
+	/**
+	 * @param counts
+	 *            the indicator counts in the order of {@link SessionIndicators#NARRATIVE}
+	 */
+	public NarrativeSessionRow(final String district, final long[] counts) {
+		this.district = district;
+		this.preventionVCT = counts[0];
+		this.preventionPICT = counts[1];
+		this.preventionIndexCase = counts[2];
+		this.preventionSaaj = counts[3];
+		this.preventionHtcLink = counts[4];
+		this.preventionANC = counts[5];
+		this.preventionCPN = counts[6];
+		this.ctStiAdultsPrison = counts[7];
+		this.ctAdultsPrison = counts[8];
+		this.ctAdultsVLPrison = counts[9];
+		this.ctTbHiv = counts[10];
+		this.ctApss = counts[11];
+		this.ctAdults = counts[12];
+		this.ctAdultsVL = counts[13];
+		this.ctInh = counts[14];
+		this.ctTbHivCt = counts[15];
+		this.ctNutrition = counts[16];
+		this.ctApssTutoreds = counts[17];
+		this.ctApssSessions = counts[18];
+		this.ctEAC = counts[19];
+		this.ctMDC = counts[20];
+		this.ctCervical = counts[21];
+		this.ctStiAdults = counts[22];
+		this.tbSessions = counts[23];
+		this.tbSessionsCt = counts[24];
+		this.tbInh = counts[25];
+		this.tbSessionsPediatric = counts[26];
+		this.pediatricNutrition = counts[27];
+		this.pediatricStarART = counts[28];
+		this.pediatricAMA = counts[29];
+		this.pediatricTB = counts[30];
+		this.pediatricVL = counts[31];
+	}
+
+	public String getDistrict() {
+		return this.district;
+	}
+
+	public long getPreventionVCT() {
+		return this.preventionVCT;
+	}
+
+	public long getPreventionPICT() {
+		return this.preventionPICT;
+	}
+
+	public long getPreventionIndexCase() {
+		return this.preventionIndexCase;
+	}
+
+	public long getPreventionSaaj() {
+		return this.preventionSaaj;
+	}
+
+	public long getPreventionHtcLink() {
+		return this.preventionHtcLink;
+	}
+
+	public long getPreventionANC() {
+		return this.preventionANC;
+	}
+
+	public long getPreventionCPN() {
+		return this.preventionCPN;
+	}
+
+	public long getCtStiAdultsPrison() {
+		return this.ctStiAdultsPrison;
+	}
+
+	public long getCtAdultsPrison() {
+		return this.ctAdultsPrison;
+	}
+
+	public long getCtAdultsVLPrison() {
+		return this.ctAdultsVLPrison;
+	}
+
+	public long getCtTbHiv() {
+		return this.ctTbHiv;
+	}
+
+	public long getCtApss() {
+		return this.ctApss;
+	}
+
+	public long getCtAdults() {
+		return this.ctAdults;
+	}
+
+	public long getCtAdultsVL() {
+		return this.ctAdultsVL;
+	}
+
+	public long getCtInh() {
+		return this.ctInh;
+	}
+
+	public long getCtTbHivCt() {
+		return this.ctTbHivCt;
+	}
+
+	public long getCtNutrition() {
+		return this.ctNutrition;
+	}
+
+	public long getCtApssTutoreds() {
+		return this.ctApssTutoreds;
+	}
+
+	public long getCtApssSessions() {
+		return this.ctApssSessions;
+	}
+
+	public long getCtEAC() {
+		return this.ctEAC;
+	}
+
+	public long getCtMDC() {
+		return this.ctMDC;
+	}
+
+	public long getCtCervical() {
+		return this.ctCervical;
+	}
+
+	public long getCtStiAdults() {
+		return this.ctStiAdults;
+	}
+
+	public long getTbSessions() {
+		return this.tbSessions;
+	}
+
+	public long getTbSessionsCt() {
+		return this.tbSessionsCt;
+	}
+
+	public long getTbInh() {
+		return this.tbInh;
+	}
+
+	public long getTbSessionsPediatric() {
+		return this.tbSessionsPediatric;
+	}
+
+	public long getPediatricNutrition() {
+		return this.pediatricNutrition;
+	}
+
+	public long getPediatricStarART() {
+		return this.pediatricStarART;
+	}
+
+	public long getPediatricAMA() {
+		return this.pediatricAMA;
+	}
+
+	public long getPediatricTB() {
+		return this.pediatricTB;
+	}
+
+	public long getPediatricVL() {
+		return this.pediatricVL;
+	}
+}
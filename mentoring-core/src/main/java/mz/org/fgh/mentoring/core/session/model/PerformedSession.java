@@ -231,6 +231,10 @@ public class PerformedSession {
 
 
 
+	/**
+	 * @deprecated mapped into {@link Cop20SessionRow}
+	 */
+	@Deprecated
 	public PerformedSession(String district, Long ind_11061, Long ind_11011, Long ind_11031, Long ind_11041,
 			Long ind_11043, Long ind_11073, Long ind_42, Long ind_10043, Long ind_10045, Long ind_04071, Long ind_04073,
 			Long ind_04041, Long ind_04077, Long ind_04078, Long ind_04061, Long ind_15051, Long ind_06044, Long ind_02041,
@@ -289,6 +293,10 @@ public class PerformedSession {
 
 
 
+	/**
+	 * @deprecated mapped into {@link PmqtrSessionRow}
+	 */
+	@Deprecated
 	public PerformedSession(String district, String healthFacility, String performedDate,
 			String tutorName,String tutoredName,  String cabinet, int formacao, int instalacoes, int seguranca,
 			int pretestagem, int testagem, int postestagem, int avaliacao, int total,
@@ -344,7 +352,10 @@ public class PerformedSession {
 	
 	/**
 	 * This constructor will build the HTS Summary
+	 *
+	 * @deprecated mapped into {@link HtsSessionRow}
 	 */
+	@Deprecated
 	public PerformedSession(
 			final String districtName, 
 			final String healthFacility, 
@@ -380,7 +391,10 @@ public class PerformedSession {
 	
 	/**
 	 * This constructor will build the HTS Summary Mobile
+	 *
+	 * @deprecated mapped into {@link TutoredHtsSessionRow}
 	 */
+	@Deprecated
 	public PerformedSession(
 			final String districtName, 
 			final String healthFacility, 
@@ -418,6 +432,10 @@ public class PerformedSession {
 
 	
 
+	/**
+	 * @deprecated mapped into {@link NarrativeSessionRow}
+	 */
+	@Deprecated
 	public PerformedSession(String district, Long preventionVCT, Long preventionPICT, Long preventionIndexCase,
 			Long preventionSaaj, Long preventionHtcLink, Long preventionANC,Long preventionCPN, Long ctStiAdultsPrison,
 			Long ctAdultsPrison, Long ctAdultsVLPrison, Long ctTbHiv, Long ctApss, Long ctAdults, Long ctAdultsVL,
@@ -461,6 +479,10 @@ public class PerformedSession {
 	
 	
 
+	/**
+	 * @deprecated mapped into {@link PopSessionRow}
+	 */
+	@Deprecated
 	public PerformedSession(String district, String healthFacility,String performedDate,String tutorName, String formName,
 			  String elaborado, String aprovado, String revisado, String createdAt) {
 		
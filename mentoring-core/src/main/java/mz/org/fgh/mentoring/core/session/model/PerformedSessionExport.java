@@ -0,0 +1,60 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Performed session reports that can be streamed row by row, with the column
+ * names of their native queries in select order.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public enum PerformedSessionExport {
+
+	HTS("performed-sessions-hts", "districtName", "healthFacility", "performedDate", "tutorName", "tutoredName",
+	        "cabinet", "door", "timeOfDay", "atendidos", "previos", "testados", "positivos", "inscritos", "createdAt",
+	        "MENTORING_ID"),
+
+	INDICATORS_LIST("performed-sessions-indicators-list", "districtName", "healthFacility", "performedDate",
+	        "tutorName", "formName", "elaborado", "aprovado", "revisado", "createdAt"),
+
+	PMQTR_LIST("performed-sessions-pmqtr-list", pmqtrListColumns());
+
+	private final String fileName;
+
+	private final List<String> columns;
+
+	private PerformedSessionExport(final String fileName, final String... columns) {
+		this.fileName = fileName;
+		this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+	}
+
+	public String getFileName() {
+		return this.fileName;
+	}
+
+	public List<String> getColumns() {
+		return this.columns;
+	}
+
+	private static String[] pmqtrListColumns() {
+
+		final List<String> columns = new ArrayList<>(Arrays.asList("districtName", "healthFacility", "performedDate",
+		        "tutorName", "tutoredName", "cabinet"));
+
+		for (int code = 751; code <= 814; code++) {
+			columns.add(String.format("MTQ%08d", code));
+		}
+
+		columns.add("createdAt");
+		columns.add("MENTORSHIP_ID");
+
+		return columns.toArray(new String[columns.size()]);
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import mz.org.fgh.mentoring.core.report.ReportColumns;
+
+/**
+ * Row of the PMQ-TR HIV report, with the score of each section.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class PmqtrSessionRow {
+
+	private String district;
+
+	private String healthFacility;
+
+	private String performedDate;
+
+	private String tutorName;
+
+	private String tutoredName;
+
+	private String cabinet;
+
+	private int formacao;
+
+	private int instalacoes;
+
+	private int seguranca;
+
+	private int pretestagem;
+
+	private int testagem;
+
+	private int postestagem;
+
+	private int avaliacao;
+
+	private int total;
+
+	private String createdAt;
+
+	private long mentorship_id;
+
+	public PmqtrSessionRow() {
+	}
+
+	public PmqtrSessionRow(final Object[] row) {
+		this.district = ReportColumns.string(row, 0);
+		this.healthFacility = ReportColumns.string(row, 1);
+		this.performedDate = ReportColumns.string(row, 2);
+		this.tutorName = ReportColumns.string(row, 3);
+		this.tutoredName = ReportColumns.string(row, 4);
+		this.cabinet = ReportColumns.string(row, 5);
+		this.formacao = ReportColumns.intValue(row, 6);
+		this.instalacoes = ReportColumns.intValue(row, 7);
+		this.seguranca = ReportColumns.intValue(row, 8);
+		this.pretestagem = ReportColumns.intValue(row, 9);
+		this.testagem = ReportColumns.intValue(row, 10);
+		this.postestagem = ReportColumns.intValue(row, 11);
+		this.avaliacao = ReportColumns.intValue(row, 12);
+		this.total = ReportColumns.intValue(row, 13);
+		this.createdAt = ReportColumns.string(row, 14);
+		this.mentorship_id = ReportColumns.longValue(row, 15);
+	}
+
+	public String getDistrict() {
+		return this.district;
+	}
+
+	public String getHealthFacility() {
+		return this.healthFacility;
+	}
+
+	public String getPerformedDate() {
+		return this.performedDate;
+	}
+
+	public String getTutorName() {
+		return this.tutorName;
+	}
+
+	public String getTutoredName() {
+		return this.tutoredName;
+	}
+
+	public String getCabinet() {
+		return this.cabinet;
+	}
+
+	public int getFormacao() {
+		return this.formacao;
+	}
+
+	public int getInstalacoes() {
+		return this.instalacoes;
+	}
+
+	public int getSeguranca() {
+		return this.seguranca;
+	}
+
+	public int getPretestagem() {
+		return this.pretestagem;
+	}
+
+	public int getTestagem() {
+		return this.testagem;
+	}
+
+	public int getPostestagem() {
+		return this.postestagem;
+	}
+
+	public int getAvaliacao() {
+		return this.avaliacao;
+	}
+
+	public int getTotal() {
+		return this.total;
+	}
+
+	public String getCreatedAt() {
+		return this.createdAt;
+	}
+
+	public long getMentorship_id() {
+		return this.mentorship_id;
+	}
+}
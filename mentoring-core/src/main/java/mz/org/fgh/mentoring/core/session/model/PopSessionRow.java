@@ -0,0 +1,90 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import mz.org.fgh.mentoring.core.report.ReportColumns;
+
+/**
+ * Row of the POP indicators list.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class PopSessionRow {
+
+	private String district;
+
+	private String healthFacility;
+
+	private String performedDate;
+
+	private String tutorName;
+
+	private String formName;
+
+	private String elaborado;
+
+	private String aprovado;
+
+	private String revisado;
+
+	private String createdAt;
+
+	public PopSessionRow() {
+	}
+
+	public PopSessionRow(final Object[] row) {
+		this.district = ReportColumns.string(row, 0);
+		this.healthFacility = ReportColumns.string(row, 1);
+		this.performedDate = ReportColumns.string(row, 2);
+		this.tutorName = ReportColumns.string(row, 3);
+		this.formName = ReportColumns.string(row, 4);
+		this.elaborado = ReportColumns.string(row, 5);
+		this.aprovado = ReportColumns.string(row, 6);
+		this.revisado = ReportColumns.string(row, 7);
+		this.createdAt = ReportColumns.string(row, 8);
+	}
+
+	public String getDistrict() {
+		return this.district;
+	}
+
+	public String getHealthFacility() {
+		return this.healthFacility;
+	}
+
+	public String getPerformedDate() {
+		return this.performedDate;
+	}
+
+	public String getTutorName() {
+		return this.tutorName;
+	}
+
+	public String getFormName() {
+		return this.formName;
+	}
+
+	public String getElaborado() {
+		return this.elaborado;
+	}
+
+	public String getAprovado() {
+		return this.aprovado;
+	}
+
+	public String getRevisado() {
+		return this.revisado;
+	}
+
+	public String getCreatedAt() {
+		return this.createdAt;
+	}
+}
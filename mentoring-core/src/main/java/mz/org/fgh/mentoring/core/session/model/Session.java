@@ -14,6 +14,7 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.NamedQueries;
 import javax.persistence.NamedQuery;
 import javax.persistence.OneToMany;
@@ -39,14 +40,15 @@ import mz.org.fgh.mentoring.core.util.LocalDateTimeAdapter;
  *
  */
 @NamedQueries({
-        @NamedQuery(name = SessionDAO.QUERY_NAME.findNumberOfSessionsPerDistrict, query = SessionDAO.QUERY.findNumberOfSessionsPerDistrict),
-		@NamedQuery(name = SessionDAO.QUERY_NAME.findNumberOfSessionsOfTutorPerDistrict, query = SessionDAO.QUERY.findNumberOfSessionsOfTutorPerDistrict),
         @NamedQuery(name = SessionDAO.QUERY_NAME.findWithDuplicatedUuids, query = SessionDAO.QUERY.findWithDuplicatedUuids),
-        @NamedQuery(name = SessionDAO.QUERY_NAME.fetchSessionsByUuid, query = SessionDAO.QUERY.fetchSessionsByUuid) })
+        @NamedQuery(name = SessionDAO.QUERY_NAME.fetchSessionsByUuid, query = SessionDAO.QUERY.fetchSessionsByUuid),
+        @NamedQuery(name = SessionDAO.QUERY_NAME.findExistingUuids, query = SessionDAO.QUERY.findExistingUuids) })
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @Entity
-@Table(name = "SESSIONS")
+@Table(name = "SESSIONS", indexes = {
+        @Index(name = "IDX_SESSIONS_UUID_STATUS", columnList = "UUID, LIFE_CYCLE_STATUS"),
+        @Index(name = "IDX_SESSIONS_STATUS_DATE", columnList = "LIFE_CYCLE_STATUS, PERFORMED_DATE") })
 public class Session extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
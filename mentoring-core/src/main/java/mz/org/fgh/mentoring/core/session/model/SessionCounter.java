@@ -0,0 +1,129 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import java.time.LocalDate;
+import java.util.Calendar;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.UniqueConstraint;
+import javax.validation.constraints.NotNull;
+
+import mz.co.mozview.frameworks.core.model.GenericEntity;
+import mz.org.fgh.mentoring.core.location.model.District;
+import mz.org.fgh.mentoring.core.programmaticarea.model.ProgrammaticArea;
+import mz.org.fgh.mentoring.core.session.dao.SessionCounterDAO;
+import mz.org.fgh.mentoring.core.session.dao.SessionDAO;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+
+/**
+ * Mentorships and sessions of the active sessions of one tutor, district,
+ * programmatic area and month. The dashboard endpoints sum these rows instead
+ * of grouping MENTORSHIPS over the whole history on every refresh.
+ *
+ * The rows are written with plain SQL by {@link SessionCounterDAO} whenever a
+ * session is created or voided, and can be reconciled with the sessions at any
+ * time. A session is counted as a session only in the row of its first
+ * mentorship of the month, so it is never counted twice by the monthly sums.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@NamedQueries({
+        @NamedQuery(name = SessionDAO.QUERY_NAME.findNumberOfSessionsPerDistrict, query = SessionDAO.QUERY.findNumberOfSessionsPerDistrict),
+        @NamedQuery(name = SessionDAO.QUERY_NAME.findNumberOfSessionsOfTutorPerDistrict, query = SessionDAO.QUERY.findNumberOfSessionsOfTutorPerDistrict) })
+@Entity
+@Table(name = "SESSION_COUNTERS", uniqueConstraints = @UniqueConstraint(name = "UK_SESSION_COUNTERS_KEY", columnNames = {
+        "TUTOR_ID", "DISTRICT_ID", "PROGRAMMATIC_AREA_ID", "PERFORMED_MONTH" }), indexes = {
+                @Index(name = "IDX_SESSION_COUNTERS_PERFORMED_MONTH", columnList = "PERFORMED_MONTH") })
+public class SessionCounter extends GenericEntity {
+
+	private static final long serialVersionUID = 1L;
+
+	@NotNull
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "TUTOR_ID", nullable = false)
+	private Tutor tutor;
+
+	@NotNull
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "DISTRICT_ID", nullable = false)
+	private District district;
+
+	@NotNull
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "PROGRAMMATIC_AREA_ID", nullable = false)
+	private ProgrammaticArea programmaticArea;
+
+	@NotNull
+	@Column(name = "PERFORMED_MONTH", nullable = false)
+	private LocalDate performedMonth;
+
+	@NotNull
+	@Column(name = "MENTORSHIPS", nullable = false)
+	private Long mentorships;
+
+	@NotNull
+	@Column(name = "SESSIONS", nullable = false)
+	private Long sessions;
+
+	@NotNull
+	@Column(name = "TUTOR_SESSIONS", nullable = false)
+	private Long tutorSessions;
+
+	@Temporal(TemporalType.TIMESTAMP)
+	@Column(name = "LAST_CREATED_AT")
+	private Calendar lastCreatedAt;
+
+	public Tutor getTutor() {
+		return this.tutor;
+	}
+
+	public District getDistrict() {
+		return this.district;
+	}
+
+	public ProgrammaticArea getProgrammaticArea() {
+		return this.programmaticArea;
+	}
+
+	public LocalDate getPerformedMonth() {
+		return this.performedMonth;
+	}
+
+	public Long getMentorships() {
+		return this.mentorships;
+	}
+
+	/**
+	 * The sessions whose first mentorship of the month falls in this counter,
+	 * so the counters of a month add up to its distinct sessions.
+	 */
+	public Long getSessions() {
+		return this.sessions;
+	}
+
+	/**
+	 * The sessions whose first mentorship of the month by the tutor falls in
+	 * this counter, so the counters of a tutor and month add up to their
+	 * distinct sessions.
+	 */
+	public Long getTutorSessions() {
+		return this.tutorSessions;
+	}
+
+	public Calendar getLastCreatedAt() {
+		return this.lastCreatedAt;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Declarative definition of a province report indicator: the number of
+ * distinct sessions (or tutoreds) whose mentorships match the form codes,
+ * question codes, cabinets, health facility and answer predicate.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class SessionIndicatorDefinition {
+
+	private final String name;
+
+	private Set<String> formCodes = Collections.emptySet();
+
+	private Set<String> questionCodes = Collections.emptySet();
+
+	private Set<Long> cabinetIds = Collections.emptySet();
+
+	private Long healthFacilityId;
+
+	private AnswerPredicate answerPredicate = AnswerPredicate.NONE;
+
+	private boolean countTutoreds;
+
+	public SessionIndicatorDefinition(final String name) {
+		this.name = name;
+	}
+
+	public SessionIndicatorDefinition forms(final String... formCodes) {
+		this.formCodes = new HashSet<>(Arrays.asList(formCodes));
+		return this;
+	}
+
+	public SessionIndicatorDefinition questions(final AnswerPredicate answerPredicate,
+	        final String... questionCodes) {
+		this.answerPredicate = answerPredicate;
+		this.questionCodes = new HashSet<>(Arrays.asList(questionCodes));
+		return this;
+	}
+
+	public SessionIndicatorDefinition answers(final AnswerPredicate answerPredicate) {
+		this.answerPredicate = answerPredicate;
+		return this;
+	}
+
+	public SessionIndicatorDefinition cabinets(final Long... cabinetIds) {
+		this.cabinetIds = new HashSet<>(Arrays.asList(cabinetIds));
+		return this;
+	}
+
+	public SessionIndicatorDefinition healthFacility(final Long healthFacilityId) {
+		this.healthFacilityId = healthFacilityId;
+		return this;
+	}
+
+	public SessionIndicatorDefinition countTutoreds() {
+		this.countTutoreds = true;
+		return this;
+	}
+
+	public boolean matches(final String formCode, final Long cabinetId, final Long healthFacilityId,
+	        final Set<String> answeredCodes, final Set<String> competentCodes, final boolean competent,
+	        final boolean hasAnswers) {
+
+		if (!this.formCodes.contains(formCode)) {
+			return false;
+		}
+
+		if (!this.cabinetIds.isEmpty() && !this.cabinetIds.contains(cabinetId)) {
+			return false;
+		}
+
+		if (this.healthFacilityId != null && !this.healthFacilityId.equals(healthFacilityId)) {
+			return false;
+		}
+
+		switch (this.answerPredicate) {
+		case HAS_ANSWERS:
+			return hasAnswers;
+		case QUESTION_ANSWERED:
+			return competent && !Collections.disjoint(this.questionCodes, answeredCodes);
+		case QUESTION_COMPETENT:
+			return !Collections.disjoint(this.questionCodes, competentCodes);
+		default:
+			return true;
+		}
+	}
+
+	public String getName() {
+		return this.name;
+	}
+
+	public Set<String> getFormCodes() {
+		return this.formCodes;
+	}
+
+	public Set<String> getQuestionCodes() {
+		return this.questionCodes;
+	}
+
+	public boolean isCountTutoreds() {
+		return this.countTutoreds;
+	}
+}
@@ -0,0 +1,149 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Indicator definitions of the province reports, in the column order of the
+ * {@link NarrativeSessionRow} and {@link Cop20SessionRow} counters they fill.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public final class SessionIndicators {
+
+	public static final List<SessionIndicatorDefinition> NARRATIVE = Collections.unmodifiableList(Arrays.asList(
+	        new SessionIndicatorDefinition("preventionVCT").forms("MT00000034"),
+	        new SessionIndicatorDefinition("preventionPICT").forms("MT00000033"),
+	        new SessionIndicatorDefinition("preventionIndexCase").forms("MT00000033", "MT00000034")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000290"),
+	        new SessionIndicatorDefinition("preventionSaaj").forms("MT00000001", "MT00000033").cabinets(12L),
+	        new SessionIndicatorDefinition("preventionHtcLink").forms("MT00000033", "MT00000034")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000291", "MTQ00000292", "MTQ00000293"),
+	        new SessionIndicatorDefinition("preventionANC").forms("MT00000036", "MT00000038", "MT00000039"),
+	        new SessionIndicatorDefinition("preventionCPN").forms("MT00000001", "MT00000033").cabinets(4L),
+	        new SessionIndicatorDefinition("ctStiAdultsPrison").forms("MT00000035")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000312", "MTQ00000313", "MTQ00000314").healthFacility(128L),
+	        new SessionIndicatorDefinition("ctAdultsPrison").forms("MT00000035").healthFacility(128L),
+	        new SessionIndicatorDefinition("ctAdultsVLPrison").forms("MT00000035", "MT00000036", "MT00000037", "MT00000038", "MT00000039", "MT00000043")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000317", "MTQ00000318", "MTQ00000319", "MTQ00000521").healthFacility(128L),
+	        new SessionIndicatorDefinition("ctTbHivPrison").forms("MT00000035", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000307", "MTQ00000308", "MTQ00000309", "MTQ00000310", "MTQ00000311", "MTQ00000376").healthFacility(128L),
+	        new SessionIndicatorDefinition("ctApss").forms("MT00000040")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000417", "MTQ00000418", "MTQ00000419", "MTQ00000420", "MTQ00000421", "MTQ00000422", "MTQ00000423", "MTQ00000424", "MTQ00000425", "MTQ00000426", "MTQ00000427", "MTQ00000428", "MTQ00000429", "MTQ00000430", "MTQ00000431", "MTQ00000432", "MTQ00000433"),
+	        new SessionIndicatorDefinition("ctAdults").forms("MT00000035"),
+	        new SessionIndicatorDefinition("ctAdultsVL").forms("MT00000035")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000317", "MTQ00000318", "MTQ00000319"),
+	        new SessionIndicatorDefinition("ctInh").forms("MT00000035")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000328"),
+	        new SessionIndicatorDefinition("ctTbHiv").forms("MT00000035", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000307", "MTQ00000308", "MTQ00000309", "MTQ00000310", "MTQ00000311", "MTQ00000376"),
+	        new SessionIndicatorDefinition("ctNutrition").forms("MT00000035")
+	                .questions(AnswerPredicate.QUESTION_COMPETENT, "MTQ00000305", "MTQ00000306"),
+	        new SessionIndicatorDefinition("ctApssTutoreds").forms("MT00000040").countTutoreds(),
+	        new SessionIndicatorDefinition("ctApssSessions").forms("MT00000040"),
+	        new SessionIndicatorDefinition("ctEAC").forms("MT00000035", "MT00000043", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000332", "MTQ00000333", "MTQ00000361", "MTQ00000527"),
+	        new SessionIndicatorDefinition("ctMDC").forms("MT00000035", "MT00000037", "MT00000043")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000332", "MTQ00000333", "MTQ00000361", "MTQ00000527"),
+	        new SessionIndicatorDefinition("ctCervical").forms("MT00000038")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000400"),
+	        new SessionIndicatorDefinition("ctStiAdults").forms("MT00000035")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000312", "MTQ00000313", "MTQ00000314"),
+	        new SessionIndicatorDefinition("tbSessions").forms("MT00000035", "MT00000039", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000377", "MTQ00000307", "MTQ00000308", "MTQ00000309", "MTQ00000376"),
+	        new SessionIndicatorDefinition("tbSessionsCt").forms("MT00000035", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000310", "MTQ00000311", "MTQ00000308", "MTQ00000309"),
+	        new SessionIndicatorDefinition("tbInh").forms("MT00000039")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000403", "MTQ00000406", "MTQ00000356"),
+	        new SessionIndicatorDefinition("tbSessionsPediatric").forms("MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000310", "MTQ00000311", "MTQ00000308", "MTQ00000309", "MTQ00000376"),
+	        new SessionIndicatorDefinition("pediatricNutrition").forms("MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000305", "MTQ00000389", "MTQ00000306", "MTQ00000390", "MTQ00000391"),
+	        new SessionIndicatorDefinition("pediatricStarART").forms("MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000329", "MTQ00000392", "MTQ00000393"),
+	        new SessionIndicatorDefinition("pediatricAMA").forms("MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000330", "MTQ00000331", "MTQ00000332"),
+	        new SessionIndicatorDefinition("pediatricTB").forms("MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000308", "MTQ00000309", "MTQ00000310"),
+	        new SessionIndicatorDefinition("pediatricVL").forms("MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000317", "MTQ00000318", "MTQ00000319")));
+
+	public static final List<SessionIndicatorDefinition> NARRATIVE_COP20 = Collections.unmodifiableList(Arrays.asList(
+	        new SessionIndicatorDefinition("ind_11061").forms("MT00000034", "MT00000049").cabinets(14L),
+	        new SessionIndicatorDefinition("ind_11011").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000837", "MTQ00000838"),
+	        new SessionIndicatorDefinition("ind_11031").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000839", "MTQ00000898", "MTQ00000899", "MTQ00000900"),
+	        new SessionIndicatorDefinition("ind_11041").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000837", "MTQ00000838").cabinets(6L, 10L),
+	        new SessionIndicatorDefinition("ind_11043").forms("MT00000034", "MT00000049").cabinets(6L, 10L, 12L),
+	        new SessionIndicatorDefinition("ind_11073").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000895", "MTQ00000904"),
+	        new SessionIndicatorDefinition("ind_42").forms("MT00000034", "MT00000049").cabinets(12L),
+	        new SessionIndicatorDefinition("ind_10043").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000827", "MTQ00000833", "MTQ00000905", "MTQ00000909", "MTQ00000910"),
+	        new SessionIndicatorDefinition("ind_10045").forms("MT00000049", "MT00000035", "MT00000036", "MT00000038")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000832", "MTQ00000312", "MTQ00000313", "MTQ00000314", "MTQ00000344", "MTQ00000353").cabinets(12L),
+	        new SessionIndicatorDefinition("ind_04071").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000826", "MTQ00000834").cabinets(4L),
+	        new SessionIndicatorDefinition("ind_04073").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000839", "MTQ00000898", "MTQ00000899", "MTQ00000900").cabinets(4L, 5L, 22L),
+	        new SessionIndicatorDefinition("ind_04041").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000837", "MTQ00000906").cabinets(5L, 22L),
+	        new SessionIndicatorDefinition("ind_04077").forms("MT00000049").answers(AnswerPredicate.HAS_ANSWERS).cabinets(5L, 22L),
+	        new SessionIndicatorDefinition("ind_040708").forms("MT00000036", "MT00000038")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000317", "MTQ00000318", "MTQ00000319"),
+	        new SessionIndicatorDefinition("ind_04061").forms("MT00000047").cabinets(4L, 5L, 22L),
+	        new SessionIndicatorDefinition("ind_15051").forms("MT00000049")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000838"),
+	        new SessionIndicatorDefinition("ind_06044").forms("MT00000049", "MT00000035", "MT00000036", "MT00000038")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000832", "MTQ00000345"),
+	        new SessionIndicatorDefinition("ind_02041").forms("MT00000035", "MT00000036", "MT00000038", "MT00000043", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000329", "MTQ00000311", "MTQ00000512", "MTQ00000331"),
+	        new SessionIndicatorDefinition("ind_01102").forms("MT00000046", "MT00000047"),
+	        new SessionIndicatorDefinition("ind_01031").forms("MT00000035", "MT00000046", "MT00000043", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000332", "MTQ00000736", "MTQ00000527"),
+	        new SessionIndicatorDefinition("ind_01142").forms("MT00000035", "MT00000036", "MT00000038", "MT00000043", "MT00000037", "MT00000047")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000317", "MTQ00000318", "MTQ00000319", "MTQ00000680", "MTQ00000710", "MTQ00000711", "MTQ00000740", "MTQ00000521"),
+	        new SessionIndicatorDefinition("ind_02063").forms("MT00000035", "MT00000036", "MT00000038", "MT00000047").cabinets(12L),
+	        new SessionIndicatorDefinition("ind_01116").forms("MT00000035", "MT00000036", "MT00000038", "MT00000047").healthFacility(128L),
+	        new SessionIndicatorDefinition("ind_02071").forms("MT00000035", "MT00000047")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000341", "MTQ00000722", "MTQ00000723", "MTQ00000724", "MTQ00000725", "MTQ00000726"),
+	        new SessionIndicatorDefinition("ind_02021").forms("MT00000036", "MT00000038", "MT00000047")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000382", "MTQ00000341", "MTQ00000722", "MTQ00000723", "MTQ00000724", "MTQ00000725", "MTQ00000726").cabinets(4L, 5L, 22L),
+	        new SessionIndicatorDefinition("ind_02023").forms("MT00000036", "MT00000038", "MT00000047")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000382", "MTQ00000341", "MTQ00000722", "MTQ00000723", "MTQ00000724", "MTQ00000725", "MTQ00000726").cabinets(4L, 5L, 22L),
+	        new SessionIndicatorDefinition("ind_08051").forms("MT00000038")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000400"),
+	        new SessionIndicatorDefinition("ind_03029").forms("MT00000035", "MT00000036", "MT00000038", "MT00000037", "MT00000039")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000380", "MTQ00000509", "MTQ00000328"),
+	        new SessionIndicatorDefinition("ind_030211").forms("MT00000035", "MT00000036", "MT00000038", "MT00000037", "MT00000039")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000380", "MTQ00000509", "MTQ00000328"),
+	        new SessionIndicatorDefinition("ind_030213").forms("MT00000035", "MT00000036", "MT00000038", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000385", "MTQ00000335"),
+	        new SessionIndicatorDefinition("ind_03011").forms("MT00000035", "MT00000036", "MT00000038", "MT00000037", "MT00000039")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000380", "MTQ00000509", "MTQ00000328"),
+	        new SessionIndicatorDefinition("ind_03013").forms("MT00000035", "MT00000036", "MT00000038", "MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000385", "MTQ00000335"),
+	        new SessionIndicatorDefinition("ind_05012").forms("MT00000046")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000607", "MTQ00000639", "MTQ00000640", "MTQ00000641"),
+	        new SessionIndicatorDefinition("ind_05031").forms("MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000311", "MTQ00000329"),
+	        new SessionIndicatorDefinition("ind_05061").forms("MT00000037")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000332", "MTQ00000333"),
+	        new SessionIndicatorDefinition("ind_05052").forms("MT00000046"),
+	        new SessionIndicatorDefinition("ind_05054").forms("MT00000046")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000616"),
+	        new SessionIndicatorDefinition("ind_05057").forms("MT00000046")
+	                .questions(AnswerPredicate.QUESTION_ANSWERED, "MTQ00000607", "MTQ00000639", "MTQ00000640", "MTQ00000641"),
+	        new SessionIndicatorDefinition("ind_19051").forms("MT00000004", "MT00000005", "MT00000006", "MT00000007", "MT00000008", "MT00000009", "MT00000010", "MT00000011"),
+	        new SessionIndicatorDefinition("ind_19015").forms("MT00000010")));
+
+	private SessionIndicators() {
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * The per-session answer of a synchronisation, so a tablet knows which
+ * sessions it can mark as sent and which ones it has to fix.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class SessionSyncResult {
+
+	private String sessionUuid;
+
+	private SessionSyncStatus status;
+
+	private int mentorships;
+
+	private String message;
+
+	public SessionSyncResult() {
+	}
+
+	public SessionSyncResult(final String sessionUuid, final SessionSyncStatus status, final int mentorships,
+	        final String message) {
+		this.sessionUuid = sessionUuid;
+		this.status = status;
+		this.mentorships = mentorships;
+		this.message = message;
+	}
+
+	public static SessionSyncResult created(final Session session) {
+		return new SessionSyncResult(session.getUuid(), SessionSyncStatus.CREATED, session.getMentorships().size(),
+		        null);
+	}
+
+	public static SessionSyncResult duplicated(final Session session) {
+		return new SessionSyncResult(session.getUuid(), SessionSyncStatus.DUPLICATED, 0, null);
+	}
+
+	public static SessionSyncResult rejected(final Session session, final String message) {
+		return new SessionSyncResult(session.getUuid(), SessionSyncStatus.REJECTED, 0, message);
+	}
+
+	public String getSessionUuid() {
+		return this.sessionUuid;
+	}
+
+	public SessionSyncStatus getStatus() {
+		return this.status;
+	}
+
+	public int getMentorships() {
+		return this.mentorships;
+	}
+
+	public String getMessage() {
+		return this.message;
+	}
+}
@@ -0,0 +1,19 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+/**
+ * Outcome of synchronising one session uploaded by a tablet.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public enum SessionSyncStatus {
+
+	CREATED,
+
+	DUPLICATED,
+
+	REJECTED
+}
@@ -0,0 +1,35 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.session.model;
+
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import mz.org.fgh.mentoring.core.report.ReportColumns;
+
+/**
+ * Row of the HTS summary of a single tutored, as used by the mobile app.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+public class TutoredHtsSessionRow extends HtsSessionRow {
+
+	private long cabinetId;
+
+	public TutoredHtsSessionRow() {
+	}
+
+	public TutoredHtsSessionRow(final Object[] row) {
+		super(row, null);
+		this.cabinetId = ReportColumns.longValue(row, 14);
+	}
+
+	public long getCabinetId() {
+		return this.cabinetId;
+	}
+}
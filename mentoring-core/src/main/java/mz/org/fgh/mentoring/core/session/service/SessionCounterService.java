@@ -0,0 +1,21 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.session.service;
+
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface SessionCounterService {
+
+	String NAME = "mz.org.fgh.mentoring.core.session.service.SessionCounterService";
+
+	/**
+	 * Recomputes the whole SESSION_COUNTERS table from the active sessions and
+	 * returns how many rows it now holds.
+	 */
+	int reconcileCounters(final UserContext userContext);
+}
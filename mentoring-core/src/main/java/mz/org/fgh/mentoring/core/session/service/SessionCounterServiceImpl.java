@@ -0,0 +1,28 @@
+/**
+ *
+ */
+package mz.org.fgh.mentoring.core.session.service;
+
+import javax.inject.Inject;
+
+import org.springframework.stereotype.Service;
+
+import mz.co.mozview.frameworks.core.service.AbstractService;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.session.dao.SessionCounterDAO;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Service(SessionCounterService.NAME)
+public class SessionCounterServiceImpl extends AbstractService implements SessionCounterService {
+
+	@Inject
+	private SessionCounterDAO sessionCounterDAO;
+
+	@Override
+	public int reconcileCounters(final UserContext userContext) {
+		return this.sessionCounterDAO.rebuild(userContext.getUuid());
+	}
+}
@@ -13,9 +13,18 @@ import mz.org.fgh.mentoring.core.location.model.Cabinet;
 import mz.org.fgh.mentoring.core.location.model.District;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
 import mz.org.fgh.mentoring.core.programmaticarea.model.ProgrammaticArea;
+import mz.org.fgh.mentoring.core.report.ReportRowHandler;
+import mz.org.fgh.mentoring.core.session.model.Cop20SessionRow;
+import mz.org.fgh.mentoring.core.session.model.HtsSessionRow;
+import mz.org.fgh.mentoring.core.session.model.MonthlySessionRow;
+import mz.org.fgh.mentoring.core.session.model.NarrativeSessionRow;
 import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
+import mz.org.fgh.mentoring.core.session.model.PmqtrSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PopSessionRow;
 import mz.org.fgh.mentoring.core.session.model.Session;
 import mz.org.fgh.mentoring.core.session.model.SubmitedSessions;
+import mz.org.fgh.mentoring.core.session.model.TutoredHtsSessionRow;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
@@ -46,25 +55,34 @@ public interface SessionQueryService {
 	
 	//Custom Reports
 	
-	List<PerformedSession> findPerformedSessionsBySelectedFilterHTS(LocalDate startDate, LocalDate endDate);
+	List<HtsSessionRow> findPerformedSessionsBySelectedFilterHTS(LocalDate startDate, LocalDate endDate);
 	
-	List<PerformedSession> findPerformedSessionsBySelectedFilterNarrative(LocalDate startDate, LocalDate endDate);
+	List<NarrativeSessionRow> findPerformedSessionsBySelectedFilterNarrative(LocalDate startDate, LocalDate endDate);
 	
-	List<PerformedSession> findPerformedSessionsBySelectedFilterLast12Months();
+	List<MonthlySessionRow> findPerformedSessionsBySelectedFilterLast12Months();
 	
 	List<PerformedSession> findPerformedSessionsBySelectedFilterIndicators(LocalDate startDate, LocalDate endDate);
 	
-	List<PerformedSession> findPerformedSessionsBySelectedFilterIndicatorsList(LocalDate startDate, LocalDate endDate);
+	List<PopSessionRow> findPerformedSessionsBySelectedFilterIndicatorsList(LocalDate startDate, LocalDate endDate);
 	
-	List<PerformedSession> findPerformedSessionsBySelectedFilterHTS(LocalDate startDate, LocalDate endDate,String tutoredUuid);
+	List<TutoredHtsSessionRow> findPerformedSessionsBySelectedFilterHTS(LocalDate startDate, LocalDate endDate,String tutoredUuid);
 
-	List<PerformedSession> findPerformedSessionsBySelectedFilterPMQTR(LocalDate startDate, LocalDate endDate);
+	List<PmqtrSessionRow> findPerformedSessionsBySelectedFilterPMQTR(LocalDate startDate, LocalDate endDate);
 	
-	List<PerformedSession> findPerformedSessionsBySelectedFilterNarrativeCOP20(LocalDate startDate, LocalDate endDate);
+	List<Cop20SessionRow> findPerformedSessionsBySelectedFilterNarrativeCOP20(LocalDate startDate, LocalDate endDate);
 
 	List<PerformedSession> findPerformedSessionsBySelectedFilterPMQTRList(LocalDate startDate, LocalDate endDate);
 
-	List<PerformedSession> findPerformedSessionsBySelectedFilterLast12Months(String tutoruuid);
+	List<MonthlySessionRow> findPerformedSessionsBySelectedFilterLast12Months(String tutoruuid);
 
 	List<SubmitedSessions> findNumberOfSessionsPerDistrict(String tutoruuid, UserContext userContetx);
+
+	/**
+	 * Streams the report rows to the handler without loading them all in
+	 * memory.
+	 *
+	 * @return the number of rows exported
+	 */
+	long exportPerformedSessions(PerformedSessionExport export, LocalDate startDate, LocalDate endDate,
+	        ReportRowHandler handler);
 }
@@ -9,6 +9,7 @@ import java.util.List;
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
@@ -18,10 +19,22 @@ import mz.org.fgh.mentoring.core.location.model.Cabinet;
 import mz.org.fgh.mentoring.core.location.model.District;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
 import mz.org.fgh.mentoring.core.programmaticarea.model.ProgrammaticArea;
+import mz.org.fgh.mentoring.core.report.ReadOnlyReport;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+import mz.org.fgh.mentoring.core.report.ReportCache.Source;
 import mz.org.fgh.mentoring.core.session.dao.SessionDAO;
+import mz.org.fgh.mentoring.core.report.ReportRowHandler;
+import mz.org.fgh.mentoring.core.session.model.Cop20SessionRow;
+import mz.org.fgh.mentoring.core.session.model.HtsSessionRow;
+import mz.org.fgh.mentoring.core.session.model.MonthlySessionRow;
+import mz.org.fgh.mentoring.core.session.model.NarrativeSessionRow;
 import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
+import mz.org.fgh.mentoring.core.session.model.PmqtrSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PopSessionRow;
 import mz.org.fgh.mentoring.core.session.model.Session;
 import mz.org.fgh.mentoring.core.session.model.SubmitedSessions;
+import mz.org.fgh.mentoring.core.session.model.TutoredHtsSessionRow;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
@@ -33,24 +46,38 @@ public class SessionQueryServiceImpl implements SessionQueryService {
 
 	public static final String NAME = "mz.org.fgh.mentoring.core.session.service.SessionQueryServiceImpl";
 
+	private static final String PERFORMED_SESSIONS = "performed-sessions";
+
+	private static final String PERFORMED_SESSIONS_NARRATIVE = "performed-sessions-narrative";
+
+	private static final String PERFORMED_SESSIONS_COP20 = "performed-sessions-cop20";
+
 	@Inject
 	private SessionDAO sessionDAO;
 
+	@Inject
+	private ReportCache reportCache;
+
 	@Override
+	@ReadOnlyReport
 	public List<PerformedSession> findPerformedSessionsBySelectedFilter(final District distric,
 	        final HealthFacility healthFacility, final ProgrammaticArea programmaticArea, final Form form,
 	        final Tutor tutor, final Cabinet cabinet, final LocalDate startDate, final LocalDate endDate) {
 
-		return this.sessionDAO.findBySelectedFilter(distric, healthFacility, programmaticArea, form, tutor, cabinet,
-		        startDate, endDate, LifeCycleStatus.ACTIVE);
+		return this.reportCache.get(PERFORMED_SESSIONS, Source.MENTORSHIPS, startDate, endDate,
+		        () -> this.sessionDAO.findBySelectedFilter(distric, healthFacility, programmaticArea, form, tutor,
+		                cabinet, startDate, endDate, LifeCycleStatus.ACTIVE),
+		        distric, healthFacility, programmaticArea, form, tutor, cabinet);
 	}
 
 	@Override
+	@ReadOnlyReport
 	public List<SubmitedSessions> findNumberOfSessionsPerDistrict(final UserContext userContext) {
 		return this.sessionDAO.findNumberOfSessionsPerDistrict(LifeCycleStatus.ACTIVE);
 	}
 
 	@Override
+	@ReadOnlyReport
 	public List<PerformedSession> findPerformedSessionsByTutorAndForm(final Tutor tutor, final Form form,
 	        final LocalDate startDate, final LocalDate endDate) {
 
@@ -68,6 +95,7 @@ public class SessionQueryServiceImpl implements SessionQueryService {
 	}
 
 	@Override
+	@ReadOnlyReport
 	public List<PerformedSession> findPerformedSessionsBySelectedFilterList(final District distric,
 	        final HealthFacility healthFacility, final ProgrammaticArea programmaticArea, final Form form,
 	        final Tutor tutor, final Cabinet cabinet, final LocalDate startDate, final LocalDate endDate) {
@@ -77,69 +105,91 @@ public class SessionQueryServiceImpl implements SessionQueryService {
 	}
 
 	@Override
-	public List<PerformedSession> findPerformedSessionsBySelectedFilterHTS(LocalDate startDate, LocalDate endDate) {
+	@ReadOnlyReport
+	public List<HtsSessionRow> findPerformedSessionsBySelectedFilterHTS(LocalDate startDate, LocalDate endDate) {
 		
 		return this.sessionDAO.findBySelectedFilterHTS(startDate, endDate);
 	}
 
 	@Override
-	public List<PerformedSession> findPerformedSessionsBySelectedFilterNarrative(LocalDate startDate,
+	@ReadOnlyReport
+	public List<NarrativeSessionRow> findPerformedSessionsBySelectedFilterNarrative(LocalDate startDate,
 			LocalDate endDate) {
-		return this.sessionDAO.findBySelectedFilterNarrative(startDate, endDate);
+		return this.reportCache.get(PERFORMED_SESSIONS_NARRATIVE, Source.MENTORSHIPS, startDate, endDate,
+		        () -> this.sessionDAO.findBySelectedFilterNarrative(startDate, endDate));
 	}
 
 	@Override
-	public List<PerformedSession> findPerformedSessionsBySelectedFilterLast12Months() {
+	@ReadOnlyReport
+	public List<MonthlySessionRow> findPerformedSessionsBySelectedFilterLast12Months() {
 		return this.sessionDAO.findBySelectedFilterLast12Months();
 	}
 
 	@Override
+	@ReadOnlyReport
 	public List<PerformedSession> findPerformedSessionsByTutor(Tutor tutor, LocalDate startDate, LocalDate endDate) {
 		return this.sessionDAO.findByTutor(tutor, startDate, endDate);
 	}
 
 	@Override
+	@ReadOnlyReport
 	public List<PerformedSession> findPerformedSessionsBySelectedFilterIndicators(LocalDate startDate,
 			LocalDate endDate) {
 		return this.sessionDAO.findBySelectedFilterIndicators(startDate, endDate);
 	}
 
 	@Override
-	public List<PerformedSession> findPerformedSessionsBySelectedFilterIndicatorsList(LocalDate startDate,
+	@ReadOnlyReport
+	public List<PopSessionRow> findPerformedSessionsBySelectedFilterIndicatorsList(LocalDate startDate,
 			LocalDate endDate) {
 		return this.sessionDAO.findBySelectedFilterIndicatorsList(startDate, endDate);
 	}
 
 	@Override
-	public List<PerformedSession> findPerformedSessionsBySelectedFilterHTS(LocalDate startDate, LocalDate endDate,
+	@ReadOnlyReport
+	public List<TutoredHtsSessionRow> findPerformedSessionsBySelectedFilterHTS(LocalDate startDate, LocalDate endDate,
 			String tutoredUuid) {
 		return this.sessionDAO.findBySelectedFilterHTS(startDate, endDate, tutoredUuid);
 	}
 
 	@Override
-	public List<PerformedSession> findPerformedSessionsBySelectedFilterPMQTR(LocalDate startDate, LocalDate endDate) {
+	@ReadOnlyReport
+	public List<PmqtrSessionRow> findPerformedSessionsBySelectedFilterPMQTR(LocalDate startDate, LocalDate endDate) {
 		return this.sessionDAO.findBySelectedFilterPMQTR(startDate, endDate);
 	}
 
 	@Override
-	public List<PerformedSession> findPerformedSessionsBySelectedFilterNarrativeCOP20(LocalDate startDate,
+	@ReadOnlyReport
+	public List<Cop20SessionRow> findPerformedSessionsBySelectedFilterNarrativeCOP20(LocalDate startDate,
 			LocalDate endDate) {
-		return this.sessionDAO.findBySelectedFilterNarrativeCOP20(startDate, endDate);
+		return this.reportCache.get(PERFORMED_SESSIONS_COP20, Source.MENTORSHIPS, startDate, endDate,
+		        () -> this.sessionDAO.findBySelectedFilterNarrativeCOP20(startDate, endDate));
 	}
 
 	@Override
+	@ReadOnlyReport
 	public List<PerformedSession> findPerformedSessionsBySelectedFilterPMQTRList(LocalDate startDate,
 			LocalDate endDate) {
 		return this.sessionDAO.findBySelectedFilterPMQTRList(startDate, endDate);
 	}
 
 	@Override
-	public List<PerformedSession> findPerformedSessionsBySelectedFilterLast12Months(String tutoruuid) {
+	@ReadOnlyReport
+	public List<MonthlySessionRow> findPerformedSessionsBySelectedFilterLast12Months(String tutoruuid) {
 		return this.sessionDAO.findBySelectedFilterLast12Months(tutoruuid);
 	}
 
 	@Override
+	@ReadOnlyReport
 	public List<SubmitedSessions> findNumberOfSessionsPerDistrict(String tutoruuid, UserContext userContetx) {
 		return this.sessionDAO.findNumberOfSessionsPerDistrict(tutoruuid, LifeCycleStatus.ACTIVE);
 	}
+
+	@Override
+	@ReadOnlyReport
+	@Transactional(readOnly = true)
+	public long exportPerformedSessions(final PerformedSessionExport export, final LocalDate startDate,
+	        final LocalDate endDate, final ReportRowHandler handler) {
+		return this.sessionDAO.streamBySelectedFilter(export, startDate, endDate, handler);
+	}
 }
@@ -3,6 +3,8 @@
  */
 package mz.org.fgh.mentoring.core.session.service;
 
+import java.util.Collections;
+
 import javax.inject.Inject;
 
 import org.springframework.stereotype.Service;
@@ -10,6 +12,10 @@ import org.springframework.stereotype.Service;
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.mentorship.dao.MentorshipAnswerFactDAO;
+import mz.org.fgh.mentoring.core.report.ReportCache;
+import mz.org.fgh.mentoring.core.report.ReportCache.Source;
+import mz.org.fgh.mentoring.core.session.dao.SessionCounterDAO;
 import mz.org.fgh.mentoring.core.session.dao.SessionDAO;
 import mz.org.fgh.mentoring.core.session.model.Session;
 
@@ -23,15 +29,34 @@ public class SessionServiceImpl extends AbstractService implements SessionServic
 	@Inject
 	private SessionDAO sessionDAO;
 
+	@Inject
+	private SessionCounterDAO sessionCounterDAO;
+
+	@Inject
+	private MentorshipAnswerFactDAO mentorshipAnswerFactDAO;
+
+	@Inject
+	private ReportCache reportCache;
+
 	public static final String NAME = "mz.org.fgh.mentoring.core.session.service.SessionServiceImpl";
 
 	@Override
 	public Session createSession(final UserContext userContext, final Session session) throws BusinessException {
+		this.reportCache.changed(Source.MENTORSHIPS, session.getPerformedDate());
+
 		return this.sessionDAO.create(userContext.getUuid(), session);
 	}
 
 	@Override
 	public Session updateSession(final UserContext userContext, final Session session) throws BusinessException {
-		return this.sessionDAO.update(userContext.getUuid(), session);
+		final Session updated = this.sessionDAO.update(userContext.getUuid(), session);
+
+		// the session may have been voided or moved to another date
+		this.sessionCounterDAO.refresh(userContext.getUuid(), Collections.singletonList(updated.getId()));
+		this.mentorshipAnswerFactDAO.refreshBySessions(userContext.getUuid(),
+		        Collections.singletonList(updated.getId()));
+		this.reportCache.changed(Source.MENTORSHIPS);
+
+		return updated;
 	}
 }
@@ -0,0 +1,55 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.dao;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import mz.co.mozview.frameworks.core.dao.GenericDAO;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceiptStatus;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface SyncReceiptDAO extends GenericDAO<SyncReceipt, Long> {
+
+	String NAME = "mz.org.fgh.mentoring.core.sync.dao.SyncReceiptDAO";
+
+	class QUERY {
+		public static final String fetchByUuid = "SELECT DISTINCT r FROM SyncReceipt r LEFT JOIN FETCH r.sessions WHERE r.uuid = :uuid";
+		public static final String findByStatus = "SELECT r FROM SyncReceipt r WHERE r.status = :status ORDER BY r.createdAt";
+		public static final String findQueuedSessionUuids = "SELECT DISTINCT s.sessionUuid FROM SyncReceipt r INNER JOIN r.sessions s WHERE s.sessionUuid IN (:uuids) AND s.status IS NULL AND r.status IN (:statuses)";
+		public static final String claim = "UPDATE SyncReceipt r SET r.status = :newStatus, r.claimedAt = :claimedAt WHERE r.id = :id AND r.status = :status";
+		public static final String requeueClaimedBefore = "UPDATE SyncReceipt r SET r.status = :newStatus WHERE r.status = :status AND (r.claimedAt IS NULL OR r.claimedAt < :claimedBefore)";
+	}
+
+	class QUERY_NAME {
+		public static final String fetchByUuid = "SyncReceipt.fetchByUuid";
+		public static final String findByStatus = "SyncReceipt.findByStatus";
+		public static final String findQueuedSessionUuids = "SyncReceipt.findQueuedSessionUuids";
+		public static final String claim = "SyncReceipt.claim";
+		public static final String requeueClaimedBefore = "SyncReceipt.requeueClaimedBefore";
+	}
+
+	SyncReceipt fetchByUuid(final String uuid);
+
+	List<SyncReceipt> findByStatus(final SyncReceiptStatus status, final int maxResults);
+
+	List<String> findQueuedSessionUuids(final Collection<String> uuids);
+
+	/**
+	 * Moves a pending receipt to processing, recording when. Returns false
+	 * when another worker claimed it first.
+	 */
+	boolean claim(final Long id);
+
+	/**
+	 * Moves back to pending the receipts in processing that were claimed
+	 * before the given time.
+	 */
+	int requeueClaimedBefore(final LocalDateTime claimedBefore);
+}
@@ -0,0 +1,71 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.dao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javax.persistence.TypedQuery;
+
+import org.springframework.stereotype.Repository;
+
+import mz.co.mozview.frameworks.core.dao.GenericDAOImpl;
+import mz.co.mozview.frameworks.core.dao.ParamBuilder;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceiptStatus;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Repository(SyncReceiptDAO.NAME)
+public class SyncReceiptDAOImpl extends GenericDAOImpl<SyncReceipt, Long> implements SyncReceiptDAO {
+
+	@Override
+	public SyncReceipt fetchByUuid(final String uuid) {
+		return this.findSingleByNamedQuery(SyncReceiptDAO.QUERY_NAME.fetchByUuid,
+		        new ParamBuilder().add("uuid", uuid).process());
+	}
+
+	@Override
+	public List<SyncReceipt> findByStatus(final SyncReceiptStatus status, final int maxResults) {
+
+		final TypedQuery<SyncReceipt> query = this.findByQuery(SyncReceiptDAO.QUERY_NAME.findByStatus,
+		        new ParamBuilder().add("status", status).process());
+
+		return query.setMaxResults(maxResults).getResultList();
+	}
+
+	@Override
+	public List<String> findQueuedSessionUuids(final Collection<String> uuids) {
+
+		if (uuids.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		return this.getEntityManager().createNamedQuery(SyncReceiptDAO.QUERY_NAME.findQueuedSessionUuids, String.class)
+		        .setParameter("uuids", uuids)
+		        .setParameter("statuses", Arrays.asList(SyncReceiptStatus.PENDING, SyncReceiptStatus.PROCESSING))
+		        .getResultList();
+	}
+
+	@Override
+	public boolean claim(final Long id) {
+		return this.getEntityManager().createNamedQuery(SyncReceiptDAO.QUERY_NAME.claim).setParameter("id", id)
+		        .setParameter("status", SyncReceiptStatus.PENDING)
+		        .setParameter("newStatus", SyncReceiptStatus.PROCESSING)
+		        .setParameter("claimedAt", LocalDateTime.now()).executeUpdate() == 1;
+	}
+
+	@Override
+	public int requeueClaimedBefore(final LocalDateTime claimedBefore) {
+		return this.getEntityManager().createNamedQuery(SyncReceiptDAO.QUERY_NAME.requeueClaimedBefore)
+		        .setParameter("status", SyncReceiptStatus.PROCESSING)
+		        .setParameter("newStatus", SyncReceiptStatus.PENDING)
+		        .setParameter("claimedBefore", claimedBefore).executeUpdate();
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.Index;
+import javax.persistence.JoinColumn;
+import javax.persistence.Lob;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
+
+import mz.co.mozview.frameworks.core.model.GenericEntity;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.sync.dao.SyncReceiptDAO;
+import mz.org.fgh.mentoring.core.util.LocalDateTimeAdapter;
+
+/**
+ * A sessions upload accepted by the server but not yet synchronised. The raw
+ * payload is staged here so the HTTP request can return as soon as it is
+ * durably stored; its uuid is the receipt handed back to the tablet.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@NamedQueries({
+        @NamedQuery(name = SyncReceiptDAO.QUERY_NAME.fetchByUuid, query = SyncReceiptDAO.QUERY.fetchByUuid),
+        @NamedQuery(name = SyncReceiptDAO.QUERY_NAME.findByStatus, query = SyncReceiptDAO.QUERY.findByStatus),
+        @NamedQuery(name = SyncReceiptDAO.QUERY_NAME.findQueuedSessionUuids, query = SyncReceiptDAO.QUERY.findQueuedSessionUuids),
+        @NamedQuery(name = SyncReceiptDAO.QUERY_NAME.claim, query = SyncReceiptDAO.QUERY.claim),
+        @NamedQuery(name = SyncReceiptDAO.QUERY_NAME.requeueClaimedBefore, query = SyncReceiptDAO.QUERY.requeueClaimedBefore) })
+@XmlRootElement
+@XmlAccessorType(XmlAccessType.FIELD)
+@Entity
+@Table(name = "SYNC_RECEIPTS", indexes = {
+        @Index(name = "IDX_SYNC_RECEIPTS_STATUS", columnList = "STATUS, CREATED_AT") })
+public class SyncReceipt extends GenericEntity {
+
+	private static final long serialVersionUID = 1L;
+
+	@NotNull
+	@Enumerated(EnumType.STRING)
+	@Column(name = "STATUS", nullable = false, length = 20)
+	private SyncReceiptStatus status;
+
+	@XmlTransient
+	@NotNull
+	@Lob
+	@Column(name = "PAYLOAD", nullable = false)
+	private String payload;
+
+	@ElementCollection(fetch = FetchType.LAZY)
+	@CollectionTable(name = "SYNC_RECEIPT_SESSIONS", joinColumns = @JoinColumn(name = "SYNC_RECEIPT_ID"), indexes = {
+	        @Index(name = "IDX_SYNC_RECEIPT_SESSIONS_SESSION_UUID", columnList = "SESSION_UUID") })
+	private List<SyncReceiptSession> sessions = new ArrayList<>();
+
+	@Column(name = "ATTEMPTS", nullable = false)
+	private int attempts;
+
+	@Column(name = "MESSAGE")
+	private String message;
+
+	@XmlJavaTypeAdapter(LocalDateTimeAdapter.class)
+	@Column(name = "PROCESSED_AT")
+	private LocalDateTime processedAt;
+
+	@XmlJavaTypeAdapter(LocalDateTimeAdapter.class)
+	@Column(name = "CLAIMED_AT")
+	private LocalDateTime claimedAt;
+
+	public SyncReceipt() {
+	}
+
+	public SyncReceipt(final String payload) {
+		this.payload = payload;
+		this.status = SyncReceiptStatus.PENDING;
+	}
+
+	public SyncReceiptStatus getStatus() {
+		return this.status;
+	}
+
+	public void setStatus(final SyncReceiptStatus status) {
+		this.status = status;
+	}
+
+	public String getPayload() {
+		return this.payload;
+	}
+
+	public List<SyncReceiptSession> getSessions() {
+		return Collections.unmodifiableList(this.sessions);
+	}
+
+	public void addSession(final SyncReceiptSession session) {
+		this.sessions.add(session);
+	}
+
+	public int getAttempts() {
+		return this.attempts;
+	}
+
+	public String getMessage() {
+		return this.message;
+	}
+
+	public LocalDateTime getProcessedAt() {
+		return this.processedAt;
+	}
+
+	/**
+	 * When a worker last took the receipt from the queue.
+	 */
+	public LocalDateTime getClaimedAt() {
+		return this.claimedAt;
+	}
+
+	public void processed(final List<SessionSyncResult> results) {
+
+		for (final SessionSyncResult result : results) {
+			this.sessions.stream().filter(session -> session.getStatus() == null
+			        && session.getSessionUuid().equals(result.getSessionUuid())).findFirst()
+			        .ifPresent(session -> session.setResult(result));
+		}
+
+		this.status = SyncReceiptStatus.PROCESSED;
+		this.message = null;
+		this.processedAt = LocalDateTime.now();
+	}
+
+	public void failed(final String message, final int maxAttempts) {
+		this.attempts++;
+		this.message = message;
+		this.status = this.attempts < maxAttempts ? SyncReceiptStatus.PENDING : SyncReceiptStatus.FAILED;
+	}
+}
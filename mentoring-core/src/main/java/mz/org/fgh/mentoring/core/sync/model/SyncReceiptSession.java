@@ -0,0 +1,61 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.model;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncStatus;
+
+/**
+ * A session carried by a sync receipt. The status stays empty while the
+ * receipt waits in the queue.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Embeddable
+@XmlAccessorType(XmlAccessType.FIELD)
+public class SyncReceiptSession {
+
+	@Column(name = "SESSION_UUID", nullable = false, length = 50)
+	private String sessionUuid;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "STATUS", length = 20)
+	private SessionSyncStatus status;
+
+	@Column(name = "MESSAGE")
+	private String message;
+
+	public SyncReceiptSession() {
+	}
+
+	public SyncReceiptSession(final String sessionUuid, final SessionSyncStatus status) {
+		this.sessionUuid = sessionUuid;
+		this.status = status;
+	}
+
+	public String getSessionUuid() {
+		return this.sessionUuid;
+	}
+
+	public SessionSyncStatus getStatus() {
+		return this.status;
+	}
+
+	public String getMessage() {
+		return this.message;
+	}
+
+	public void setResult(final SessionSyncResult result) {
+		this.status = result.getStatus();
+		this.message = result.getMessage();
+	}
+}
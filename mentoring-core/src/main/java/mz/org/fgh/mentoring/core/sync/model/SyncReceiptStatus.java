@@ -0,0 +1,19 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.model;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public enum SyncReceiptStatus {
+
+	PENDING,
+
+	PROCESSING,
+
+	PROCESSED,
+
+	FAILED
+}
@@ -0,0 +1,30 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface SyncReceiptQueryService {
+
+	String NAME = "mz.org.fgh.mentoring.core.sync.service.SyncReceiptQueryService";
+
+	SyncReceipt findReceiptByUuid(UserContext userContext, String receiptUuid) throws BusinessException;
+
+	List<SyncReceipt> findPendingReceipts(int maxResults);
+
+	/**
+	 * The given session uuids that are already synchronised or waiting in the
+	 * queue.
+	 */
+	List<String> findReceivedSessionUuids(Collection<String> sessionUuids);
+}
@@ -0,0 +1,75 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.inject.Inject;
+import javax.persistence.NoResultException;
+
+import org.springframework.stereotype.Service;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.co.mozview.frameworks.core.util.PropertyValues;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.session.dao.SessionDAO;
+import mz.org.fgh.mentoring.core.sync.dao.SyncReceiptDAO;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceiptStatus;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Service(SyncReceiptQueryService.NAME)
+public class SyncReceiptQueryServiceImpl implements SyncReceiptQueryService {
+
+	@Inject
+	private SyncReceiptDAO syncReceiptDAO;
+
+	@Inject
+	private SessionDAO sessionDAO;
+
+	@Inject
+	private PropertyValues propertyValues;
+
+	@Override
+	public SyncReceipt findReceiptByUuid(final UserContext userContext, final String receiptUuid)
+	        throws BusinessException {
+
+		try {
+			return this.syncReceiptDAO.fetchByUuid(receiptUuid);
+		}
+		catch (final NoResultException e) {
+			throw new BusinessException(this.propertyValues.getPropValues("no.result.found"));
+		}
+	}
+
+	@Override
+	public List<SyncReceipt> findPendingReceipts(final int maxResults) {
+		return this.syncReceiptDAO.findByStatus(SyncReceiptStatus.PENDING, maxResults);
+	}
+
+	@Override
+	public List<String> findReceivedSessionUuids(final Collection<String> sessionUuids) {
+
+		if (sessionUuids.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		// a shortcut for the tablets that upload again, not a guard: two uploads
+		// of the same sessions at once are both queued, and the second stores
+		// them as duplicated when SessionDAO.createIfAbsent finds them
+		final Set<String> received = new LinkedHashSet<>(
+		        this.sessionDAO.findExistingUuids(sessionUuids, LifeCycleStatus.ACTIVE));
+		received.addAll(this.syncReceiptDAO.findQueuedSessionUuids(sessionUuids));
+
+		return new ArrayList<>(received);
+	}
+}
@@ -0,0 +1,45 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface SyncReceiptService {
+
+	String NAME = "mz.org.fgh.mentoring.core.sync.service.SyncReceiptService";
+
+	/**
+	 * Stages an upload for the sync workers. The already received sessions are
+	 * recorded as duplicated straight away, and a receipt with nothing left to
+	 * synchronise is stored as processed.
+	 */
+	SyncReceipt enqueueSessions(UserContext userContext, String payload, Collection<String> sessionUuids,
+	        Collection<String> receivedSessionUuids) throws BusinessException;
+
+	boolean claimReceipt(SyncReceipt syncReceipt);
+
+	SyncReceipt markAsProcessed(UserContext userContext, String receiptUuid, List<SessionSyncResult> results)
+	        throws BusinessException;
+
+	SyncReceipt markAsFailed(UserContext userContext, String receiptUuid, String message, int maxAttempts)
+	        throws BusinessException;
+
+	/**
+	 * Puts back in the queue the receipts claimed before the given time, whose
+	 * worker is taken to have stopped. Receipts claimed since are left to the
+	 * worker, on this node or another, still processing them.
+	 */
+	int requeueReceiptsClaimedBefore(LocalDateTime claimedBefore);
+}
@@ -0,0 +1,84 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.springframework.stereotype.Service;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.service.AbstractService;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncStatus;
+import mz.org.fgh.mentoring.core.sync.dao.SyncReceiptDAO;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceiptSession;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Service(SyncReceiptService.NAME)
+public class SyncReceiptServiceImpl extends AbstractService implements SyncReceiptService {
+
+	@Inject
+	private SyncReceiptDAO syncReceiptDAO;
+
+	@Inject
+	private SyncReceiptQueryService syncReceiptQueryService;
+
+	@Override
+	public SyncReceipt enqueueSessions(final UserContext userContext, final String payload,
+	        final Collection<String> sessionUuids, final Collection<String> receivedSessionUuids)
+	        throws BusinessException {
+
+		final SyncReceipt syncReceipt = new SyncReceipt(payload);
+
+		sessionUuids.forEach(sessionUuid -> syncReceipt.addSession(new SyncReceiptSession(sessionUuid, null)));
+		receivedSessionUuids.forEach(sessionUuid -> syncReceipt
+		        .addSession(new SyncReceiptSession(sessionUuid, SessionSyncStatus.DUPLICATED)));
+
+		if (sessionUuids.isEmpty()) {
+			syncReceipt.processed(new ArrayList<>());
+		}
+
+		return this.syncReceiptDAO.create(userContext.getUuid(), syncReceipt);
+	}
+
+	@Override
+	public boolean claimReceipt(final SyncReceipt syncReceipt) {
+		return this.syncReceiptDAO.claim(syncReceipt.getId());
+	}
+
+	@Override
+	public SyncReceipt markAsProcessed(final UserContext userContext, final String receiptUuid,
+	        final List<SessionSyncResult> results) throws BusinessException {
+
+		final SyncReceipt syncReceipt = this.syncReceiptQueryService.findReceiptByUuid(userContext, receiptUuid);
+		syncReceipt.processed(results);
+
+		return this.syncReceiptDAO.update(userContext.getUuid(), syncReceipt);
+	}
+
+	@Override
+	public SyncReceipt markAsFailed(final UserContext userContext, final String receiptUuid, final String message,
+	        final int maxAttempts) throws BusinessException {
+
+		final SyncReceipt syncReceipt = this.syncReceiptQueryService.findReceiptByUuid(userContext, receiptUuid);
+		syncReceipt.failed(message, maxAttempts);
+
+		return this.syncReceiptDAO.update(userContext.getUuid(), syncReceipt);
+	}
+
+	@Override
+	public int requeueReceiptsClaimedBefore(final LocalDateTime claimedBefore) {
+		return this.syncReceiptDAO.requeueClaimedBefore(claimedBefore);
+	}
+}
@@ -3,11 +3,15 @@
  */
 package mz.org.fgh.mentoring.core.tutor.dao;
 
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.career.model.CareerType;
+import mz.org.fgh.mentoring.core.search.IndexedName;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
@@ -25,12 +29,18 @@ public interface TutorDAO extends GenericDAO<Tutor, Long> {
 													"				INNER JOIN FETCH t.partner p " +
 													"WHERE t.uuid = :uuid";
 		public static final String fetchByEmail = "SELECT t FROM Tutor t INNER JOIN FETCH t.career INNER JOIN FETCH t.partner p WHERE t.email = :email AND t.lifeCycleStatus = :lifeCycleStatus";
+		public static final String fetchByUuids = "SELECT t FROM Tutor t INNER JOIN FETCH t.career INNER JOIN FETCH t.partner WHERE t.uuid IN (:uuids)";
+		public static final String findIndexedNames = "SELECT NEW mz.org.fgh.mentoring.core.search.IndexedName(t.id, t.name, t.surname) FROM Tutor t";
+		public static final String findIndexedNamesChangedSince = "SELECT NEW mz.org.fgh.mentoring.core.search.IndexedName(t.id, t.name, t.surname) FROM Tutor t WHERE t.createdAt > :since OR t.updatedAt > :since";
 	
 	}
 
 	class QUERY_NAME {
 		public static final String fetchByUuid = "Tutor.fetchByUuid";
 		public static final String fetchByEmail = "Tutor.findByEmail";
+		public static final String fetchByUuids = "Tutor.fetchByUuids";
+		public static final String findIndexedNames = "Tutor.findIndexedNames";
+		public static final String findIndexedNamesChangedSince = "Tutor.findIndexedNamesChangedSince";
 	}
 
 	List<Tutor> findBySelectedFilter(final String code, final String name, final String surname,
@@ -39,8 +49,27 @@ public interface TutorDAO extends GenericDAO<Tutor, Long> {
 	List<Tutor> findBySelectedFilter(final String code, final String name, final String surname,
 	        final String phoneNumber, final String partnerUuid, CareerType careerType, LifeCycleStatus lifeCycleStatus);
 
+	/**
+	 * Up to limit tutors of the filter ordered by name and id, after the given
+	 * name and id when they are given.
+	 */
+	List<Tutor> findPageBySelectedFilter(final String code, final String name, final String surname,
+	        final String phoneNumber, final String partnerUuid, CareerType careerType, LifeCycleStatus lifeCycleStatus,
+	        final String afterName, final Long afterId, final int limit);
+
 	Tutor fetchByUuid(final String uuid);
 
 	Tutor fecthByEmail(final String email, final LifeCycleStatus lifeCycleStatus);
 	
+	List<Tutor> fetchByUuids(Collection<String> uuids);
+
+	/**
+	 * The names of all the tutors, for the {@link NameSearchIndex}.
+	 */
+	List<IndexedName> findIndexedNames();
+
+	/**
+	 * The names of the tutors created or updated after since.
+	 */
+	List<IndexedName> findIndexedNamesChangedSince(final Calendar since);
 }
@@ -4,8 +4,11 @@
 package mz.org.fgh.mentoring.core.tutor.dao;
 
 import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
+import javax.inject.Inject;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -18,6 +21,9 @@ import mz.co.mozview.frameworks.core.dao.GenericDAOImpl;
 import mz.co.mozview.frameworks.core.dao.ParamBuilder;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.career.model.CareerType;
+import mz.org.fgh.mentoring.core.search.IndexedName;
+import mz.org.fgh.mentoring.core.search.NameField;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
 /**
@@ -27,72 +33,110 @@ import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 @Repository(TutorDAO.NAME)
 public class TutorDAOImpl extends GenericDAOImpl<Tutor, Long> implements TutorDAO {
 
+	@Inject
+	private NameSearchIndex nameSearchIndex;
+
 	@Override
 	public List<Tutor> findBySelectedFilter(final String code, final String name, final String surname,
 	        final String phoneNumber, final CareerType careerType, final LifeCycleStatus lifeCycleStatus) {
+		return this.findBySelectedFilter(code, name, surname, phoneNumber, null, careerType, lifeCycleStatus);
+	}
+
+	@Override
+	public Tutor fetchByUuid(final String uuid) {
+		return this.findSingleByNamedQuery(TutorDAO.QUERY_NAME.fetchByUuid,
+		        new ParamBuilder().add("uuid", uuid).process());
+	}
+
+	@Override
+	public Tutor fecthByEmail(final String email, final LifeCycleStatus lifeCycleStatus) {
+		return this.findSingleByNamedQuery(TutorDAO.QUERY_NAME.fetchByEmail,
+		        new ParamBuilder().add("email", email).add("lifeCycleStatus", lifeCycleStatus).process());
+	}
+
+	@Override
+	public List<Tutor> findBySelectedFilter(final String code, final String name, final String surname,
+	        final String phoneNumber, final String partnerUuid, final CareerType careerType,
+	        final LifeCycleStatus lifeCycleStatus) {
 
 		final CriteriaBuilder criteriaBuilder = this.getEntityManager().getCriteriaBuilder();
 		final CriteriaQuery<Tutor> createQuery = criteriaBuilder.createQuery(Tutor.class);
-		final Root<Tutor> root = createQuery.from(Tutor.class);
-		root.fetch("career");
-		root.fetch("partner");
+		final Root<Tutor> root = this.fetchRoot(createQuery);
 
-		createQuery.select(root);
+		final List<Predicate> predicates = this.predicates(criteriaBuilder, root, code, name, surname, phoneNumber,
+		        partnerUuid, careerType, lifeCycleStatus);
 
-		final List<Predicate> predicates = new ArrayList<>();
+		createQuery.where(predicates.toArray(new Predicate[predicates.size()]))
+		        .orderBy(criteriaBuilder.asc(root.get("name")));
 
-		if (code != null) {
-			predicates.add(criteriaBuilder.like(root.get("code"), "%" + code + "%"));
-		}
+		final TypedQuery<Tutor> query = this.getEntityManager().createQuery(createQuery);
 
-		if (name != null) {
-			predicates.add(criteriaBuilder.like(root.get("name"), "%" + name + "%"));
-		}
+		return query.getResultList();
+	}
 
-		if (surname != null) {
-			predicates.add(criteriaBuilder.like(root.get("surname"), "%" + surname + "%"));
-		}
+	@Override
+	public List<Tutor> findPageBySelectedFilter(final String code, final String name, final String surname,
+	        final String phoneNumber, final String partnerUuid, final CareerType careerType,
+	        final LifeCycleStatus lifeCycleStatus, final String afterName, final Long afterId, final int limit) {
 
-		if (careerType != null) {
-			predicates.add(criteriaBuilder.equal(root.get("career").get("careerType"), careerType));
-		}
-		if (phoneNumber != null) {
-			predicates.add(criteriaBuilder.equal(root.get("phoneNumber"), phoneNumber));
+		final CriteriaBuilder criteriaBuilder = this.getEntityManager().getCriteriaBuilder();
+		final CriteriaQuery<Tutor> createQuery = criteriaBuilder.createQuery(Tutor.class);
+		final Root<Tutor> root = this.fetchRoot(createQuery);
+
+		final List<Predicate> predicates = this.predicates(criteriaBuilder, root, code, name, surname, phoneNumber,
+		        partnerUuid, careerType, lifeCycleStatus);
+
+		if (afterName != null) {
+			predicates.add(criteriaBuilder.or(criteriaBuilder.greaterThan(root.<String> get("name"), afterName),
+			        criteriaBuilder.and(criteriaBuilder.equal(root.get("name"), afterName),
+			                criteriaBuilder.greaterThan(root.<Long> get("id"), afterId))));
 		}
 
-		predicates.add(criteriaBuilder.equal(root.get("lifeCycleStatus"), lifeCycleStatus));
 		createQuery.where(predicates.toArray(new Predicate[predicates.size()]))
-		        .orderBy(criteriaBuilder.asc(root.get("name")));
+		        .orderBy(criteriaBuilder.asc(root.get("name")), criteriaBuilder.asc(root.get("id")));
 
 		final TypedQuery<Tutor> query = this.getEntityManager().createQuery(createQuery);
 
-		return query.getResultList();
+		return query.setMaxResults(limit).getResultList();
 	}
 
 	@Override
-	public Tutor fetchByUuid(final String uuid) {
-		return this.findSingleByNamedQuery(TutorDAO.QUERY_NAME.fetchByUuid,
-		        new ParamBuilder().add("uuid", uuid).process());
+	public List<Tutor> fetchByUuids(final Collection<String> uuids) {
+
+		final TypedQuery<Tutor> query = this.findByQuery(TutorDAO.QUERY_NAME.fetchByUuids,
+		        new ParamBuilder().process());
+		query.setParameter("uuids", uuids);
+
+		return query.getResultList();
 	}
 
 	@Override
-	public Tutor fecthByEmail(final String email, final LifeCycleStatus lifeCycleStatus) {
-		return this.findSingleByNamedQuery(TutorDAO.QUERY_NAME.fetchByEmail,
-		        new ParamBuilder().add("email", email).add("lifeCycleStatus", lifeCycleStatus).process());
+	public List<IndexedName> findIndexedNames() {
+		return this.findByNamedQuery(TutorDAO.QUERY_NAME.findIndexedNames, new ParamBuilder().process(),
+		        IndexedName.class);
 	}
 
 	@Override
-	public List<Tutor> findBySelectedFilter(String code, String name, String surname, String phoneNumber,
-			String partnerUuid, CareerType careerType, LifeCycleStatus lifeCycleStatus) {
-		
-		final CriteriaBuilder criteriaBuilder = this.getEntityManager().getCriteriaBuilder();
-		final CriteriaQuery<Tutor> createQuery = criteriaBuilder.createQuery(Tutor.class);
+	public List<IndexedName> findIndexedNamesChangedSince(final Calendar since) {
+		return this.findByNamedQuery(TutorDAO.QUERY_NAME.findIndexedNamesChangedSince,
+		        new ParamBuilder().add("since", since).process(), IndexedName.class);
+	}
+
+	private Root<Tutor> fetchRoot(final CriteriaQuery<Tutor> createQuery) {
+
 		final Root<Tutor> root = createQuery.from(Tutor.class);
 		root.fetch("career");
 		root.fetch("partner");
 
 		createQuery.select(root);
 
+		return root;
+	}
+
+	private List<Predicate> predicates(final CriteriaBuilder criteriaBuilder, final Root<Tutor> root,
+	        final String code, final String name, final String surname, final String phoneNumber,
+	        final String partnerUuid, final CareerType careerType, final LifeCycleStatus lifeCycleStatus) {
+
 		final List<Predicate> predicates = new ArrayList<>();
 
 		if (code != null) {
@@ -100,31 +144,28 @@ public class TutorDAOImpl extends GenericDAOImpl<Tutor, Long> implements TutorDA
 		}
 
 		if (name != null) {
-			predicates.add(criteriaBuilder.like(root.get("name"), "%" + name + "%"));
+			predicates.add(this.nameSearchIndex.contains(criteriaBuilder, root, NameField.TUTOR_NAME, "name", name));
 		}
 
 		if (surname != null) {
-			predicates.add(criteriaBuilder.like(root.get("surname"), "%" + surname + "%"));
+			predicates.add(
+			        this.nameSearchIndex.contains(criteriaBuilder, root, NameField.TUTOR_SURNAME, "surname", surname));
 		}
 
 		if (careerType != null) {
 			predicates.add(criteriaBuilder.equal(root.get("career").get("careerType"), careerType));
 		}
+
 		if (phoneNumber != null) {
 			predicates.add(criteriaBuilder.equal(root.get("phoneNumber"), phoneNumber));
 		}
-		
+
 		if (partnerUuid != null) {
 			predicates.add(criteriaBuilder.equal(root.get("partner").get("uuid"), partnerUuid));
 		}
 
 		predicates.add(criteriaBuilder.equal(root.get("lifeCycleStatus"), lifeCycleStatus));
-		createQuery.where(predicates.toArray(new Predicate[predicates.size()]))
-		        .orderBy(criteriaBuilder.asc(root.get("name")));
 
-		final TypedQuery<Tutor> query = this.getEntityManager().createQuery(createQuery);
-
-		return query.getResultList();
+		return predicates;
 	}
-
 }
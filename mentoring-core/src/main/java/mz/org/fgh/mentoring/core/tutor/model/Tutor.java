@@ -6,6 +6,7 @@ package mz.org.fgh.mentoring.core.tutor.model;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.NamedQueries;
@@ -35,9 +36,14 @@ import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @NamedQueries({ @NamedQuery(name = TutorDAO.QUERY_NAME.fetchByUuid, query = TutorDAO.QUERY.fetchByUuid),
-	@NamedQuery(name = TutorDAO.QUERY_NAME.fetchByEmail, query = TutorDAO.QUERY.fetchByEmail)})
+	@NamedQuery(name = TutorDAO.QUERY_NAME.fetchByEmail, query = TutorDAO.QUERY.fetchByEmail),
+	@NamedQuery(name = TutorDAO.QUERY_NAME.fetchByUuids, query = TutorDAO.QUERY.fetchByUuids),
+	@NamedQuery(name = TutorDAO.QUERY_NAME.findIndexedNames, query = TutorDAO.QUERY.findIndexedNames),
+	@NamedQuery(name = TutorDAO.QUERY_NAME.findIndexedNamesChangedSince, query = TutorDAO.QUERY.findIndexedNamesChangedSince)})
 @Entity
-@Table(name = "TUTORS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }))
+@Table(name = "TUTORS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }), indexes = {
+        @Index(name = "IDX_TUTORS_UUID", columnList = "UUID"),
+        @Index(name = "IDX_TUTORS_STATUS_NAME", columnList = "LIFE_CYCLE_STATUS, NAME") })
 public class Tutor extends GenericEntity {
 
 	private static final long serialVersionUID = 1L;
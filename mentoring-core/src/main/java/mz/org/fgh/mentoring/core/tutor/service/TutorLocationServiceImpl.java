@@ -15,6 +15,7 @@ import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.service.AbstractService;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
 import mz.org.fgh.mentoring.core.tutor.dao.TutorLocationDAO;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 import mz.org.fgh.mentoring.core.tutor.model.TutorLocation;
@@ -31,6 +32,9 @@ public class TutorLocationServiceImpl extends AbstractService implements TutorLo
 	@Inject
 	private TutorLocationDAO tutorLocationDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
 	@Override
 	public List<TutorLocation> allocateTutorLocations(final UserContext userContext, final Tutor tutor, final List<HealthFacility> locations)
 			throws BusinessException {
@@ -47,6 +51,8 @@ public class TutorLocationServiceImpl extends AbstractService implements TutorLo
 			tutorLocations.add(tutorLocation);
 		});
 
+		this.metadataVersion.changed();
+
 		return tutorLocations;
 	}
 
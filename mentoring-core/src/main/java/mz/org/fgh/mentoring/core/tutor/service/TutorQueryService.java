@@ -9,6 +9,8 @@ import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.career.model.CareerType;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+import mz.org.fgh.mentoring.core.util.KeysetCursor;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
 
 /**
  * @author Eusebio Jose Maposse
@@ -24,6 +26,15 @@ public interface TutorQueryService {
 	List<Tutor> findTutorsBySelectedFilter(final UserContext userContext, final String code, final String name,
 	        final String surname, CareerType careerType, final String phoneNumber, final String partnerUuid) throws BusinessException;
 
+	/**
+	 * A page of the tutors of the filter ordered by name, starting after the
+	 * cursor of the previous page (the first page without one). The partner is
+	 * optional and the limit is kept within {@link KeysetPage#MAX_PAGE_SIZE}.
+	 */
+	KeysetPage<Tutor> findTutorPageBySelectedFilter(final UserContext userContext, final String code,
+	        final String name, final String surname, CareerType careerType, final String phoneNumber,
+	        final String partnerUuid, final KeysetCursor after, final Integer limit) throws BusinessException;
+
 	Tutor fetchTutorByUuid(final UserContext userContext, final String uuid) throws BusinessException;
 
 	Tutor fetchTutorByEmail(final UserContext userContext, final String email) throws BusinessException;
@@ -17,6 +17,8 @@ import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.career.model.CareerType;
 import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+import mz.org.fgh.mentoring.core.util.KeysetCursor;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
 
 /**
  * @author Eusebio Jose Maposse
@@ -73,4 +75,18 @@ public class TutorQueryServiceImpl implements TutorQueryService {
 		
 		return this.tutorDAO.findBySelectedFilter(code, name, surname, phoneNumber,partnerUuid , careerType, LifeCycleStatus.ACTIVE);
 	}
+
+	@Override
+	public KeysetPage<Tutor> findTutorPageBySelectedFilter(final UserContext userContext, final String code,
+	        final String name, final String surname, final CareerType careerType, final String phoneNumber,
+	        final String partnerUuid, final KeysetCursor after, final Integer limit) throws BusinessException {
+
+		final int pageSize = KeysetPage.pageSize(limit);
+
+		final List<Tutor> tutors = this.tutorDAO.findPageBySelectedFilter(code, name, surname, phoneNumber,
+		        partnerUuid, careerType, LifeCycleStatus.ACTIVE, after == null ? null : after.getValue(),
+		        after == null ? null : after.getId(), pageSize + 1);
+
+		return KeysetPage.of(tutors, pageSize, tutor -> new KeysetCursor(tutor.getName(), tutor.getId()));
+	}
 }
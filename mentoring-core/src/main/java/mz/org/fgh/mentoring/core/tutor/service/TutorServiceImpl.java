@@ -20,6 +20,8 @@ import mz.co.mozview.frameworks.core.util.StringNormalizer;
 import mz.co.mozview.frameworks.core.webservices.adapter.Entry;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.co.mozview.frameworks.core.webservices.service.ClientWS;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 
@@ -35,6 +37,12 @@ public class TutorServiceImpl extends AbstractService implements TutorService {
 	@Inject
 	private TutorDAO tutorDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
+	@Inject
+	private NameSearchIndex nameSearchIndex;
+
 	@Inject
 	private PropertyValues propertyValues;
 
@@ -55,7 +63,10 @@ public class TutorServiceImpl extends AbstractService implements TutorService {
 		tutor.setName(StringNormalizer.normalizeAndUppCase(tutor.getName()));
 		tutor.setSurname(StringNormalizer.normalizeAndUppCase(tutor.getSurname()));
 
-		return this.tutorDAO.create(userContext.getUuid(), tutor);
+		this.tutorDAO.create(userContext.getUuid(), tutor);
+		this.nameSearchIndex.indexTutor(tutor);
+
+		return tutor;
 	}
 
 	@Override
@@ -65,6 +76,8 @@ public class TutorServiceImpl extends AbstractService implements TutorService {
 		tutor.setSurname(StringNormalizer.normalizeAndUppCase(tutor.getSurname()));
 
 		this.tutorDAO.update(userContext.getUuid(), tutor);
+		this.metadataVersion.changed();
+		this.nameSearchIndex.indexTutor(tutor);
 
 		return tutor;
 	}
@@ -3,10 +3,14 @@
  */
 package mz.org.fgh.mentoring.core.tutored.dao;
 
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.dao.GenericDAO;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.org.fgh.mentoring.core.search.IndexedName;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 import mz.org.fgh.mentoring.core.tutored.model.Tutored;
 
 /**
@@ -20,6 +24,7 @@ public interface TutoredDAO extends GenericDAO<Tutored, Long> {
 
 	class QUERY {
 		public static final String fetchByUser = "SELECT t FROM Tutored t INNER JOIN FETCH t.career WHERE t.createdBy = :userUuid AND t.lifeCycleStatus = :lifeCycleStatus";
+		public static final String fetchChangedByUser = "SELECT t FROM Tutored t INNER JOIN FETCH t.career WHERE t.createdBy = :userUuid AND (t.createdAt > :since OR t.updatedAt > :since)";
 		public static final String findBySelectedFilterByTutor = "SELECT t FROM Tutored t INNER JOIN FETCH t.mentorships m INNER JOIN FETCH m.tutor tu " +
 				"WHERE tu.id = :tutorId " +
 				"AND t.code LIKE CONCAT('%', :code ,'%') " +
@@ -27,12 +32,19 @@ public interface TutoredDAO extends GenericDAO<Tutored, Long> {
 				"AND t.surname LIKE CONCAT('%', :surname,'%')" +
 				"AND t.phoneNumber LIKE CONCAT('%', :phoneNumber,'%') " +
 				"AND t.lifeCycleStatus = :lifeCycleStatus " ;
+		public static final String findByUuids = "SELECT t FROM Tutored t WHERE t.uuid IN (:uuids)";
+		public static final String findIndexedNames = "SELECT NEW mz.org.fgh.mentoring.core.search.IndexedName(t.id, t.name, t.surname) FROM Tutored t";
+		public static final String findIndexedNamesChangedSince = "SELECT NEW mz.org.fgh.mentoring.core.search.IndexedName(t.id, t.name, t.surname) FROM Tutored t WHERE t.createdAt > :since OR t.updatedAt > :since";
 
 	}
 
 	class QUERY_NAME {
 		public static final String fetchByUser = "Tutored.findByUser";
+		public static final String fetchChangedByUser = "Tutored.fetchChangedByUser";
 		public static final String findBySelectedFilterByTutor = "Tutored.findBySelectedFilterByTutor";
+		public static final String findByUuids = "Tutored.findByUuids";
+		public static final String findIndexedNames = "Tutored.findIndexedNames";
+		public static final String findIndexedNamesChangedSince = "Tutored.findIndexedNamesChangedSince";
 	}
 
 	List<Tutored> findBySelectedFilter(final String uuid, final String code, final String name, final String surname,
@@ -42,4 +54,22 @@ public interface TutoredDAO extends GenericDAO<Tutored, Long> {
 									   String phoneNumber, LifeCycleStatus lifeCycleStatus);
 
 	List<Tutored> fetchByUser(final String userUuid, final LifeCycleStatus lifeCycleStatus);
+
+	/**
+	 * The tutoreds of the user created or updated after since, whatever their
+	 * life cycle status.
+	 */
+	List<Tutored> fetchChangedByUser(final String userUuid, final Calendar since);
+
+	List<Tutored> findByUuids(Collection<String> uuids);
+
+	/**
+	 * The names of all the tutoreds, for the {@link NameSearchIndex}.
+	 */
+	List<IndexedName> findIndexedNames();
+
+	/**
+	 * The names of the tutoreds created or updated after since.
+	 */
+	List<IndexedName> findIndexedNamesChangedSince(final Calendar since);
 }
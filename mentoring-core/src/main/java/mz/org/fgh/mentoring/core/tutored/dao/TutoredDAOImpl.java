@@ -4,8 +4,11 @@
 package mz.org.fgh.mentoring.core.tutored.dao;
 
 import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
 import java.util.List;
 
+import javax.inject.Inject;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -17,6 +20,9 @@ import org.springframework.stereotype.Repository;
 import mz.co.mozview.frameworks.core.dao.GenericDAOImpl;
 import mz.co.mozview.frameworks.core.dao.ParamBuilder;
 import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
+import mz.org.fgh.mentoring.core.search.IndexedName;
+import mz.org.fgh.mentoring.core.search.NameField;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 import mz.org.fgh.mentoring.core.tutored.model.Tutored;
 
 /**
@@ -26,6 +32,9 @@ import mz.org.fgh.mentoring.core.tutored.model.Tutored;
 @Repository(TutoredDAO.NAME)
 public class TutoredDAOImpl extends GenericDAOImpl<Tutored, Long> implements TutoredDAO {
 
+	@Inject
+	private NameSearchIndex nameSearchIndex;
+
 	@Override
 	public List<Tutored> findBySelectedFilter(final String uuid, final String code, final String name,
 			final String surname, final String phoneNumber, final String tutored,
@@ -49,11 +58,12 @@ public class TutoredDAOImpl extends GenericDAOImpl<Tutored, Long> implements Tut
 		}
 
 		if (name != null) {
-			predicates.add(criteriaBuilder.like(root.get("name"), "%" + name + "%"));
+			predicates.add(this.nameSearchIndex.contains(criteriaBuilder, root, NameField.TUTORED_NAME, "name", name));
 		}
 
 		if (surname != null) {
-			predicates.add(criteriaBuilder.like(root.get("surname"), "%" + surname + "%"));
+			predicates.add(
+			        this.nameSearchIndex.contains(criteriaBuilder, root, NameField.TUTORED_SURNAME, "surname", surname));
 		}
 
 		if (phoneNumber != null) {
@@ -86,4 +96,31 @@ public class TutoredDAOImpl extends GenericDAOImpl<Tutored, Long> implements Tut
 				new ParamBuilder().add("userUuid", userUuid).add("lifeCycleStatus", lifeCycleStatus).process());
 	}
 
+	@Override
+	public List<Tutored> fetchChangedByUser(final String userUuid, final Calendar since) {
+		return this.findByNamedQuery(TutoredDAO.QUERY_NAME.fetchChangedByUser,
+				new ParamBuilder().add("userUuid", userUuid).add("since", since).process());
+	}
+
+	@Override
+	public List<Tutored> findByUuids(final Collection<String> uuids) {
+
+		final TypedQuery<Tutored> query = this.findByQuery(TutoredDAO.QUERY_NAME.findByUuids,
+		        new ParamBuilder().process());
+		query.setParameter("uuids", uuids);
+
+		return query.getResultList();
+	}
+
+	@Override
+	public List<IndexedName> findIndexedNames() {
+		return this.findByNamedQuery(TutoredDAO.QUERY_NAME.findIndexedNames, new ParamBuilder().process(),
+		        IndexedName.class);
+	}
+
+	@Override
+	public List<IndexedName> findIndexedNamesChangedSince(final Calendar since) {
+		return this.findByNamedQuery(TutoredDAO.QUERY_NAME.findIndexedNamesChangedSince,
+		        new ParamBuilder().add("since", since).process(), IndexedName.class);
+	}
 }
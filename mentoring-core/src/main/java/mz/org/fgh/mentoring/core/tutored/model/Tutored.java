@@ -32,9 +32,18 @@ import java.util.List;
 @XmlRootElement
 @XmlAccessorType(XmlAccessType.FIELD)
 @NamedQueries({@NamedQuery(name = TutoredDAO.QUERY_NAME.fetchByUser, query = TutoredDAO.QUERY.fetchByUser),
-		       @NamedQuery(name = TutoredDAO.QUERY_NAME.findBySelectedFilterByTutor, query = TutoredDAO.QUERY.findBySelectedFilterByTutor)})
+		       @NamedQuery(name = TutoredDAO.QUERY_NAME.fetchChangedByUser, query = TutoredDAO.QUERY.fetchChangedByUser),
+		       @NamedQuery(name = TutoredDAO.QUERY_NAME.findBySelectedFilterByTutor, query = TutoredDAO.QUERY.findBySelectedFilterByTutor),
+		       @NamedQuery(name = TutoredDAO.QUERY_NAME.findByUuids, query = TutoredDAO.QUERY.findByUuids),
+		       @NamedQuery(name = TutoredDAO.QUERY_NAME.findIndexedNames, query = TutoredDAO.QUERY.findIndexedNames),
+		       @NamedQuery(name = TutoredDAO.QUERY_NAME.findIndexedNamesChangedSince, query = TutoredDAO.QUERY.findIndexedNamesChangedSince)})
 @Entity
-@Table(name = "TUTOREDS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }))
+@Table(name = "TUTOREDS", uniqueConstraints = @UniqueConstraint(columnNames = { "CODE" }), indexes = {
+        @Index(name = "IDX_TUTOREDS_UUID", columnList = "UUID"),
+        @Index(name = "IDX_TUTOREDS_CREATED_BY_CREATED_AT", columnList = "CREATED_BY, CREATED_AT"),
+        @Index(name = "IDX_TUTOREDS_CREATED_BY_UPDATED_AT", columnList = "CREATED_BY, UPDATED_AT"),
+        @Index(name = "IDX_TUTOREDS_CREATED_AT", columnList = "CREATED_AT"),
+        @Index(name = "IDX_TUTOREDS_UPDATED_AT", columnList = "UPDATED_AT") })
 public class Tutored extends GenericEntity implements Versionable {
 
 	private static final long serialVersionUID = 1L;
@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.tutored.service;
 
+import java.util.Calendar;
 import java.util.List;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
@@ -26,4 +27,10 @@ public interface TutoredQueryService {
 	Tutored findTutoredByUuid(final UserContext userContext, final String uuid) throws BusinessException;
 
 	List<Tutored> findTutoredsByUser(final String userUuid);
+
+	/**
+	 * The tutoreds of the user created or updated after since, the inactivated
+	 * ones included.
+	 */
+	List<Tutored> findTutoredsByUserChangedSince(final String userUuid, final Calendar since);
 }
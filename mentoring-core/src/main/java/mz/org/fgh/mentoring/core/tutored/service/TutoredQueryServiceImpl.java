@@ -3,6 +3,7 @@
  */
 package mz.org.fgh.mentoring.core.tutored.service;
 
+import java.util.Calendar;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -48,4 +49,9 @@ public class TutoredQueryServiceImpl implements TutoredQueryService {
 	public List<Tutored> findTutoredsByUser(final String userUuid) {
 		return this.tutoredDAO.fetchByUser(userUuid, LifeCycleStatus.ACTIVE);
 	}
+
+	@Override
+	public List<Tutored> findTutoredsByUserChangedSince(final String userUuid, final Calendar since) {
+		return this.tutoredDAO.fetchChangedByUser(userUuid, since);
+	}
 }
@@ -15,6 +15,8 @@ import mz.co.mozview.frameworks.core.util.StringNormalizer;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.career.model.Career;
 import mz.org.fgh.mentoring.core.career.service.CareerQueryService;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
+import mz.org.fgh.mentoring.core.search.NameSearchIndex;
 import mz.org.fgh.mentoring.core.tutored.dao.TutoredDAO;
 import mz.org.fgh.mentoring.core.tutored.model.Tutored;
 
@@ -28,6 +30,12 @@ public class TutoredServiceImpl extends AbstractService implements TutoredServic
 	@Inject
 	private TutoredDAO tutoredDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
+	@Inject
+	private NameSearchIndex nameSearchIndex;
+
 	@Inject
 	private CareerQueryService careerQueryService;
 
@@ -40,7 +48,12 @@ public class TutoredServiceImpl extends AbstractService implements TutoredServic
 		tutored.setName(StringNormalizer.normalizeAndUppCase(tutored.getName()));
 		tutored.setSurname(StringNormalizer.normalizeAndUppCase(tutored.getSurname()));
 
-		return this.tutoredDAO.create(userContext.getUuid(), tutored);
+		this.metadataVersion.changed();
+
+		this.tutoredDAO.create(userContext.getUuid(), tutored);
+		this.nameSearchIndex.indexTutored(tutored);
+
+		return tutored;
 	}
 
 	@Override
@@ -50,6 +63,8 @@ public class TutoredServiceImpl extends AbstractService implements TutoredServic
 		tutored.setSurname(StringNormalizer.normalizeAndUppCase(tutored.getSurname()));
 
 		this.tutoredDAO.update(userContext.getUuid(), tutored);
+		this.metadataVersion.changed();
+		this.nameSearchIndex.indexTutored(tutored);
 
 		return tutored;
 	}
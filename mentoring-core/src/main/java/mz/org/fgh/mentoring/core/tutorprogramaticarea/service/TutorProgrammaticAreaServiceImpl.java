@@ -17,6 +17,7 @@ import mz.co.mozview.frameworks.core.util.RandomStringFactory;
 import mz.co.mozview.frameworks.core.webservices.adapter.Entry;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.co.mozview.frameworks.core.webservices.service.ClientWS;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 import mz.org.fgh.mentoring.core.tutor.service.TutorService;
 import mz.org.fgh.mentoring.core.tutorprogramaticarea.dao.TutorProgrammaticAreaDAO;
@@ -32,6 +33,9 @@ public class TutorProgrammaticAreaServiceImpl extends AbstractService implements
 	@Inject
 	private TutorProgrammaticAreaDAO tutorProgramaticAreaDAO;
 
+	@Inject
+	private MetadataVersion metadataVersion;
+
 	@Inject
 	private TutorProgrammaticAreaQueryService tutorProgrammaticAreaQueryService;
 
@@ -70,6 +74,7 @@ public class TutorProgrammaticAreaServiceImpl extends AbstractService implements
 
 		final TutorProgrammaticArea mapTutorProgramaticArea = this.tutorProgramaticAreaDAO.create(userContext.getUuid(),
 		        tutorProgramaticArea);
+		this.metadataVersion.changed();
 
 		if (tutorProgramaticArea.isMappedAsUser()) {
 			tutor.setAsUser();
@@ -115,6 +120,7 @@ public class TutorProgrammaticAreaServiceImpl extends AbstractService implements
 	@Override
 	public TutorProgrammaticArea updateTutorProgramaticArea(final UserContext userContext,
 	        final TutorProgrammaticArea tutorProgramaticArea) throws BusinessException {
+		this.metadataVersion.changed();
 		return this.tutorProgramaticAreaDAO.create(userContext.getUuid(), tutorProgramaticArea);
 	}
 
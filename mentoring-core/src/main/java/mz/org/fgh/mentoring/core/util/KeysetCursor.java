@@ -0,0 +1,65 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page in a list ordered by a value and the id:
+ * the next page starts right after it. It travels to the clients as an opaque
+ * token.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class KeysetCursor {
+
+	private static final String SEPARATOR = "|";
+
+	private final String value;
+
+	private final Long id;
+
+	public KeysetCursor(final String value, final Long id) {
+		this.value = value;
+		this.id = id;
+	}
+
+	/**
+	 * The cursor of a token made by {@link #encode()}, or null when there is no
+	 * token.
+	 *
+	 * @throws IllegalArgumentException
+	 *             when the token was not made by {@link #encode()}
+	 */
+	public static KeysetCursor decode(final String token) {
+
+		if (token == null || token.isEmpty()) {
+			return null;
+		}
+
+		final String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+		final int separator = decoded.lastIndexOf(SEPARATOR);
+
+		if (separator < 0) {
+			throw new IllegalArgumentException("Invalid cursor " + token);
+		}
+
+		return new KeysetCursor(decoded.substring(0, separator), Long.valueOf(decoded.substring(separator + 1)));
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+		        .encodeToString((this.value + SEPARATOR + this.id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public String getValue() {
+		return this.value;
+	}
+
+	public Long getId() {
+		return this.id;
+	}
+}
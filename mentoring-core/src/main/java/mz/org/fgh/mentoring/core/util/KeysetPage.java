@@ -0,0 +1,74 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a list read with keyset pagination, and the cursor of the next
+ * page when there is one.
+ *
+ * The DAOs read one row more than the page size, so whether there is a next
+ * page is known without counting the rows.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class KeysetPage<T> {
+
+	public static final int DEFAULT_PAGE_SIZE = 100;
+
+	public static final int MAX_PAGE_SIZE = 1000;
+
+	private final List<T> items;
+
+	private final KeysetCursor nextCursor;
+
+	public KeysetPage(final List<T> items, final KeysetCursor nextCursor) {
+		this.items = items;
+		this.nextCursor = nextCursor;
+	}
+
+	/**
+	 * The page of the rows read for a page of the given size, at most one more
+	 * than it.
+	 */
+	public static <T> KeysetPage<T> of(final List<T> rows, final int pageSize,
+	        final Function<T, KeysetCursor> cursorOf) {
+
+		if (rows.size() <= pageSize) {
+			return new KeysetPage<>(rows, null);
+		}
+
+		final List<T> items = new ArrayList<>(rows.subList(0, pageSize));
+
+		return new KeysetPage<>(items, cursorOf.apply(items.get(pageSize - 1)));
+	}
+
+	/**
+	 * The page size asked for, within the default and maximum ones.
+	 */
+	public static int pageSize(final Integer limit) {
+
+		if (limit == null || limit <= 0) {
+			return DEFAULT_PAGE_SIZE;
+		}
+
+		return Math.min(limit, MAX_PAGE_SIZE);
+	}
+
+	public List<T> getItems() {
+		return this.items;
+	}
+
+	public KeysetCursor getNextCursor() {
+		return this.nextCursor;
+	}
+
+	public boolean hasNext() {
+		return this.nextCursor != null;
+	}
+}
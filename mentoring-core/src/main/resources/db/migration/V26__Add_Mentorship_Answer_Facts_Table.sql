@@ -0,0 +1,39 @@
+
+-- MENTORSHIP_ANSWER_FACTS
+CREATE TABLE `MENTORSHIP_ANSWER_FACTS` (
+  `ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `CREATED_AT` datetime NOT NULL,
+  `CREATED_BY` VARCHAR(50) NOT NULL,
+  `LIFE_CYCLE_STATUS` VARCHAR(100) NOT NULL,
+  `UPDATED_AT` datetime DEFAULT NULL,
+  `UPDATED_BY` VARCHAR(50) DEFAULT NULL,
+  `UUID` VARCHAR(50) NOT NULL,
+  `MENTORSHIP_ID` bigint(20) NOT NULL,
+  `FORM_ID` bigint(20) NOT NULL,
+  `PERFORMED_DATE` date NOT NULL,
+  `ATTENDED` int(11) DEFAULT NULL,
+  `PREVIOUS` int(11) DEFAULT NULL,
+  `TESTED` int(11) DEFAULT NULL,
+  `POSITIVE` int(11) DEFAULT NULL,
+  `ENROLLED` int(11) DEFAULT NULL,
+  PRIMARY KEY (`ID`),
+  UNIQUE KEY `UK_MENTORSHIP_ANSWER_FACTS_MENTORSHIP_ID` (`MENTORSHIP_ID`),
+  KEY `IDX_MENTORSHIP_ANSWER_FACTS_FORM_DATE` (`FORM_ID`,`PERFORMED_DATE`),
+  CONSTRAINT `FK_MENTORSHIP_ANSWER_FACTS_MENTORSHIP_ID` FOREIGN KEY (`MENTORSHIP_ID`) REFERENCES `MENTORSHIPS` (`ID`),
+  CONSTRAINT `FK_MENTORSHIP_ANSWER_FACTS_FORM_ID` FOREIGN KEY (`FORM_ID`) REFERENCES `FORMS` (`ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+-- BACKFILL FROM THE EXISTING HTS ANSWERS
+INSERT INTO `MENTORSHIP_ANSWER_FACTS` (`CREATED_AT`, `CREATED_BY`, `LIFE_CYCLE_STATUS`, `UUID`, `MENTORSHIP_ID`, `FORM_ID`, `PERFORMED_DATE`, `ATTENDED`, `PREVIOUS`, `TESTED`, `POSITIVE`, `ENROLLED`)
+SELECT NOW(), m.CREATED_BY, 'ACTIVE', REPLACE(UUID(), '-', ''), m.ID, m.FORM_ID, COALESCE(s.PERFORMED_DATE, m.PERFORMED_DATE),
+  MAX(CASE WHEN q.CODE = 'MTQ00000588' THEN a.NUMERIC_VALUE END),
+  MAX(CASE WHEN q.CODE = 'MTQ00000589' THEN a.NUMERIC_VALUE END),
+  MAX(CASE WHEN q.CODE = 'MTQ00000590' THEN a.NUMERIC_VALUE END),
+  MAX(CASE WHEN q.CODE = 'MTQ00000591' THEN a.NUMERIC_VALUE END),
+  MAX(CASE WHEN q.CODE = 'MTQ00000592' THEN a.NUMERIC_VALUE END)
+FROM `MENTORSHIPS` m
+  INNER JOIN `ANSWERS` a ON a.MENTORSHIP_ID = m.ID
+  INNER JOIN `QUESTIONS` q ON a.QUESTION_ID = q.ID
+  LEFT JOIN `SESSIONS` s ON m.SESSION_ID = s.ID
+WHERE q.CODE IN ('MTQ00000588', 'MTQ00000589', 'MTQ00000590', 'MTQ00000591', 'MTQ00000592')
+GROUP BY m.ID, m.CREATED_BY, m.FORM_ID, s.PERFORMED_DATE, m.PERFORMED_DATE;
@@ -0,0 +1,30 @@
+
+-- SYNC_RECEIPTS
+CREATE TABLE `SYNC_RECEIPTS` (
+  `ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `CREATED_AT` datetime NOT NULL,
+  `CREATED_BY` VARCHAR(50) NOT NULL,
+  `LIFE_CYCLE_STATUS` VARCHAR(100) NOT NULL,
+  `UPDATED_AT` datetime DEFAULT NULL,
+  `UPDATED_BY` VARCHAR(50) DEFAULT NULL,
+  `UUID` VARCHAR(50) NOT NULL,
+  `STATUS` VARCHAR(20) NOT NULL,
+  `PAYLOAD` longtext NOT NULL,
+  `ATTEMPTS` int(11) NOT NULL DEFAULT 0,
+  `MESSAGE` VARCHAR(255) DEFAULT NULL,
+  `PROCESSED_AT` datetime DEFAULT NULL,
+  `CLAIMED_AT` datetime DEFAULT NULL,
+  PRIMARY KEY (`ID`),
+  UNIQUE KEY `UK_SYNC_RECEIPTS_UUID` (`UUID`),
+  KEY `IDX_SYNC_RECEIPTS_STATUS` (`STATUS`,`CREATED_AT`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+-- SYNC_RECEIPT_SESSIONS
+CREATE TABLE `SYNC_RECEIPT_SESSIONS` (
+  `SYNC_RECEIPT_ID` bigint(20) NOT NULL,
+  `SESSION_UUID` VARCHAR(50) NOT NULL,
+  `STATUS` VARCHAR(20) DEFAULT NULL,
+  `MESSAGE` VARCHAR(255) DEFAULT NULL,
+  KEY `IDX_SYNC_RECEIPT_SESSIONS_SESSION_UUID` (`SESSION_UUID`),
+  CONSTRAINT `FK_SYNC_RECEIPT_SESSIONS_SYNC_RECEIPT_ID` FOREIGN KEY (`SYNC_RECEIPT_ID`) REFERENCES `SYNC_RECEIPTS` (`ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
@@ -0,0 +1,44 @@
+
+-- VOID THE OLDER COPIES OF THE SESSIONS STORED MORE THAN ONCE, KEEPING THE LAST ONE
+CREATE TEMPORARY TABLE `DUPLICATED_SESSIONS` (
+  `ID` bigint(20) NOT NULL,
+  PRIMARY KEY (`ID`)
+) ENGINE=InnoDB;
+
+INSERT INTO `DUPLICATED_SESSIONS` (`ID`)
+SELECT s.ID
+FROM `SESSIONS` s
+  INNER JOIN (SELECT `UUID`, MAX(`ID`) AS LAST_ID
+              FROM `SESSIONS`
+              WHERE `LIFE_CYCLE_STATUS` = 'ACTIVE'
+              GROUP BY `UUID`
+              HAVING COUNT(*) > 1) d ON s.`UUID` = d.`UUID` AND s.ID <> d.LAST_ID
+WHERE s.`LIFE_CYCLE_STATUS` = 'ACTIVE';
+
+UPDATE `ANSWERS` a
+  INNER JOIN `MENTORSHIPS` m ON a.MENTORSHIP_ID = m.ID
+  INNER JOIN `DUPLICATED_SESSIONS` d ON m.SESSION_ID = d.ID
+SET a.LIFE_CYCLE_STATUS = 'INACTIVE', a.UPDATED_AT = NOW(), a.UPDATED_BY = 'V28'
+WHERE a.LIFE_CYCLE_STATUS = 'ACTIVE';
+
+UPDATE `MENTORSHIP_ANSWER_FACTS` f
+  INNER JOIN `MENTORSHIPS` m ON f.MENTORSHIP_ID = m.ID
+  INNER JOIN `DUPLICATED_SESSIONS` d ON m.SESSION_ID = d.ID
+SET f.LIFE_CYCLE_STATUS = 'INACTIVE', f.UPDATED_AT = NOW(), f.UPDATED_BY = 'V28'
+WHERE f.LIFE_CYCLE_STATUS = 'ACTIVE';
+
+UPDATE `MENTORSHIPS` m
+  INNER JOIN `DUPLICATED_SESSIONS` d ON m.SESSION_ID = d.ID
+SET m.LIFE_CYCLE_STATUS = 'INACTIVE', m.UPDATED_AT = NOW(), m.UPDATED_BY = 'V28'
+WHERE m.LIFE_CYCLE_STATUS = 'ACTIVE';
+
+UPDATE `SESSIONS` s
+  INNER JOIN `DUPLICATED_SESSIONS` d ON s.ID = d.ID
+SET s.LIFE_CYCLE_STATUS = 'INACTIVE', s.UPDATED_AT = NOW(), s.UPDATED_BY = 'V28';
+
+DROP TEMPORARY TABLE `DUPLICATED_SESSIONS`;
+
+-- ONLY ONE ACTIVE SESSION PER UUID, INACTIVE SESSIONS HAVE A NULL ACTIVE_UUID
+ALTER TABLE `SESSIONS`
+  ADD COLUMN `ACTIVE_UUID` VARCHAR(50) AS (IF(`LIFE_CYCLE_STATUS` = 'ACTIVE', `UUID`, NULL)) PERSISTENT,
+  ADD UNIQUE KEY `UK_SESSIONS_ACTIVE_UUID` (`ACTIVE_UUID`);
@@ -0,0 +1,41 @@
+
+-- INDICATOR_MONTHLY_ROLLUP
+CREATE TABLE `INDICATOR_MONTHLY_ROLLUP` (
+  `ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `CREATED_AT` datetime NOT NULL,
+  `CREATED_BY` VARCHAR(50) NOT NULL,
+  `LIFE_CYCLE_STATUS` VARCHAR(100) NOT NULL,
+  `UPDATED_AT` datetime DEFAULT NULL,
+  `UPDATED_BY` VARCHAR(50) DEFAULT NULL,
+  `UUID` VARCHAR(50) NOT NULL,
+  `DISTRICT_ID` bigint(20) NOT NULL,
+  `HEALTH_FACILITY_ID` bigint(20) NOT NULL,
+  `FORM_ID` bigint(20) NOT NULL,
+  `REFERRED_MONTH` date NOT NULL,
+  `COLLECTED` bigint(20) DEFAULT NULL,
+  `TRANSPORTED` bigint(20) DEFAULT NULL,
+  `REJECTED` bigint(20) DEFAULT NULL,
+  `RECEIVED` bigint(20) DEFAULT NULL,
+  PRIMARY KEY (`ID`),
+  UNIQUE KEY `UK_INDICATOR_MONTHLY_ROLLUP_KEY` (`HEALTH_FACILITY_ID`,`FORM_ID`,`REFERRED_MONTH`),
+  KEY `IDX_INDICATOR_MONTHLY_ROLLUP_DISTRICT_MONTH` (`DISTRICT_ID`,`REFERRED_MONTH`),
+  KEY `IDX_INDICATOR_MONTHLY_ROLLUP_MONTH` (`REFERRED_MONTH`),
+  CONSTRAINT `FK_INDICATOR_MONTHLY_ROLLUP_DISTRICT_ID` FOREIGN KEY (`DISTRICT_ID`) REFERENCES `DISTRICTS` (`ID`),
+  CONSTRAINT `FK_INDICATOR_MONTHLY_ROLLUP_HEALTH_FACILITY_ID` FOREIGN KEY (`HEALTH_FACILITY_ID`) REFERENCES `HEALTH_FACILITIES` (`ID`),
+  CONSTRAINT `FK_INDICATOR_MONTHLY_ROLLUP_FORM_ID` FOREIGN KEY (`FORM_ID`) REFERENCES `FORMS` (`ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+-- BACKFILL FROM THE ACTIVE SAMPLE INDICATORS
+INSERT INTO `INDICATOR_MONTHLY_ROLLUP` (`CREATED_AT`, `CREATED_BY`, `LIFE_CYCLE_STATUS`, `UUID`, `DISTRICT_ID`, `HEALTH_FACILITY_ID`, `FORM_ID`, `REFERRED_MONTH`, `COLLECTED`, `TRANSPORTED`, `REJECTED`, `RECEIVED`)
+SELECT NOW(), 'V29', 'ACTIVE', REPLACE(UUID(), '-', ''), hf.DISTRICT_ID, i.HEALTH_FACILITY_ID, i.FORM_ID, i.REFERRED_MONTH,
+  SUM(IF(q.UUID = 'a61fe6ce8d5b453ab6c2d7ebc3bedcfe', a.NUMERIC_VALUE, 0)),
+  SUM(IF(q.UUID = '9cc2cdd9a1bd41c2803725841ee1b15c', a.NUMERIC_VALUE, 0)),
+  SUM(IF(q.UUID = 'afd9e8aa511a4ea796f1f7126a9eca4f', a.NUMERIC_VALUE, 0)),
+  SUM(IF(q.UUID = '0dfc7d54c2c64c049f23d3ec49855a81', a.NUMERIC_VALUE, 0))
+FROM `ANSWERS` a
+  INNER JOIN `INDICATORS` i ON i.ID = a.INDICATOR_ID
+  INNER JOIN `HEALTH_FACILITIES` hf ON hf.ID = i.HEALTH_FACILITY_ID
+  INNER JOIN `QUESTIONS` q ON q.ID = a.QUESTION_ID
+WHERE i.LIFE_CYCLE_STATUS = 'ACTIVE'
+  AND q.UUID IN ('a61fe6ce8d5b453ab6c2d7ebc3bedcfe', '9cc2cdd9a1bd41c2803725841ee1b15c', 'afd9e8aa511a4ea796f1f7126a9eca4f', '0dfc7d54c2c64c049f23d3ec49855a81')
+GROUP BY hf.DISTRICT_ID, i.HEALTH_FACILITY_ID, i.FORM_ID, i.REFERRED_MONTH;
@@ -0,0 +1,37 @@
+
+-- SESSION_COUNTERS
+CREATE TABLE `SESSION_COUNTERS` (
+  `ID` bigint(20) NOT NULL AUTO_INCREMENT,
+  `CREATED_AT` datetime NOT NULL,
+  `CREATED_BY` VARCHAR(50) NOT NULL,
+  `LIFE_CYCLE_STATUS` VARCHAR(100) NOT NULL,
+  `UPDATED_AT` datetime DEFAULT NULL,
+  `UPDATED_BY` VARCHAR(50) DEFAULT NULL,
+  `UUID` VARCHAR(50) NOT NULL,
+  `TUTOR_ID` bigint(20) NOT NULL,
+  `DISTRICT_ID` bigint(20) NOT NULL,
+  `PROGRAMMATIC_AREA_ID` bigint(20) NOT NULL,
+  `PERFORMED_MONTH` date NOT NULL,
+  `MENTORSHIPS` bigint(20) NOT NULL,
+  `SESSIONS` bigint(20) NOT NULL,
+  `LAST_CREATED_AT` datetime DEFAULT NULL,
+  PRIMARY KEY (`ID`),
+  UNIQUE KEY `UK_SESSION_COUNTERS_KEY` (`TUTOR_ID`,`DISTRICT_ID`,`PROGRAMMATIC_AREA_ID`,`PERFORMED_MONTH`),
+  KEY `IDX_SESSION_COUNTERS_PERFORMED_MONTH` (`PERFORMED_MONTH`),
+  CONSTRAINT `FK_SESSION_COUNTERS_TUTOR_ID` FOREIGN KEY (`TUTOR_ID`) REFERENCES `TUTORS` (`ID`),
+  CONSTRAINT `FK_SESSION_COUNTERS_DISTRICT_ID` FOREIGN KEY (`DISTRICT_ID`) REFERENCES `DISTRICTS` (`ID`),
+  CONSTRAINT `FK_SESSION_COUNTERS_PROGRAMMATIC_AREA_ID` FOREIGN KEY (`PROGRAMMATIC_AREA_ID`) REFERENCES `PROGRAMMATIC_AREAS` (`ID`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8;
+
+-- BACKFILL FROM THE ACTIVE SESSIONS
+INSERT INTO `SESSION_COUNTERS` (`CREATED_AT`, `CREATED_BY`, `LIFE_CYCLE_STATUS`, `UUID`, `TUTOR_ID`, `DISTRICT_ID`, `PROGRAMMATIC_AREA_ID`, `PERFORMED_MONTH`, `MENTORSHIPS`, `SESSIONS`, `LAST_CREATED_AT`)
+SELECT NOW(), 'V30', 'ACTIVE', REPLACE(UUID(), '-', ''), m.TUTOR_ID, hf.DISTRICT_ID, f.PROGRAMMATIC_AREA_ID,
+  DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY),
+  COUNT(m.ID), COUNT(DISTINCT m.SESSION_ID), MAX(s.CREATED_AT)
+FROM `MENTORSHIPS` m
+  INNER JOIN `SESSIONS` s ON s.ID = m.SESSION_ID
+  INNER JOIN `HEALTH_FACILITIES` hf ON hf.ID = m.HEALTH_FACILITY_ID
+  INNER JOIN `FORMS` f ON f.ID = m.FORM_ID
+WHERE m.LIFE_CYCLE_STATUS = 'ACTIVE'
+  AND s.LIFE_CYCLE_STATUS = 'ACTIVE'
+GROUP BY m.TUTOR_ID, hf.DISTRICT_ID, f.PROGRAMMATIC_AREA_ID, DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY);
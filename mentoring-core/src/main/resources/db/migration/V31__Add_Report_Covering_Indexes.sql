@@ -0,0 +1,26 @@
+
+-- MENTORSHIPS: the report date range scans (HTS, PMQTR, narrative, COP20, per tutor) and the session counters refresh
+ALTER TABLE `MENTORSHIPS`
+  ADD KEY `IDX_MENTORSHIPS_STATUS_DATE_FORM` (`LIFE_CYCLE_STATUS`,`PERFORMED_DATE`,`FORM_ID`),
+  ADD KEY `IDX_MENTORSHIPS_TUTOR_DATE` (`TUTOR_ID`,`PERFORMED_DATE`,`LIFE_CYCLE_STATUS`,`FORM_ID`,`SESSION_ID`);
+
+-- ANSWERS: the per question lookups of a mentorship or an indicator, and the per question indicator pivots
+ALTER TABLE `ANSWERS`
+  ADD KEY `IDX_ANSWERS_MENTORSHIP_QUESTION` (`MENTORSHIP_ID`,`QUESTION_ID`),
+  ADD KEY `IDX_ANSWERS_INDICATOR_QUESTION` (`INDICATOR_ID`,`QUESTION_ID`),
+  ADD KEY `IDX_ANSWERS_QUESTION_INDICATOR` (`QUESTION_ID`,`INDICATOR_ID`,`BOOLEAN_VALUE`);
+
+-- SESSIONS: the synchronisation uuid checks, the duplicated uuid cleanup and the performed sessions date range
+ALTER TABLE `SESSIONS`
+  ADD KEY `IDX_SESSIONS_UUID_STATUS` (`UUID`,`LIFE_CYCLE_STATUS`),
+  ADD KEY `IDX_SESSIONS_STATUS_DATE` (`LIFE_CYCLE_STATUS`,`PERFORMED_DATE`);
+
+-- INDICATORS: the synchronisation and rollup key, and the POP report date range
+ALTER TABLE `INDICATORS`
+  ADD KEY `IDX_INDICATORS_HF_FORM_MONTH` (`HEALTH_FACILITY_ID`,`FORM_ID`,`REFERRED_MONTH`,`LIFE_CYCLE_STATUS`),
+  ADD KEY `IDX_INDICATORS_STATUS_DATE_FORM` (`LIFE_CYCLE_STATUS`,`PERFORMED_DATE`,`FORM_ID`);
+
+-- TUTORS AND TUTOREDS: the per tutor and per tutored reports filter them by uuid
+ALTER TABLE `TUTORS` ADD KEY `IDX_TUTORS_UUID` (`UUID`);
+
+ALTER TABLE `TUTOREDS` ADD KEY `IDX_TUTOREDS_UUID` (`UUID`);
@@ -0,0 +1,5 @@
+-- MENTORSHIPS: the mentorship search pages, newest first by performed date and id, with or without a life cycle status
+ALTER TABLE `MENTORSHIPS` ADD KEY `IDX_MENTORSHIPS_DATE` (`PERFORMED_DATE`);
+
+-- TUTORS: the tutor search pages, by name and id among the active tutors
+ALTER TABLE `TUTORS` ADD KEY `IDX_TUTORS_STATUS_NAME` (`LIFE_CYCLE_STATUS`,`NAME`);
@@ -0,0 +1,18 @@
+-- The metadata changes feed reads the rows created or updated after the last sync of a tablet: one index per
+-- timestamp, merged by the OR of the two conditions
+
+-- FORMS_QUESTIONS: the form questions of the tutor
+ALTER TABLE `FORMS_QUESTIONS` ADD KEY `IDX_FORMS_QUESTIONS_CREATED_AT` (`CREATED_AT`);
+ALTER TABLE `FORMS_QUESTIONS` ADD KEY `IDX_FORMS_QUESTIONS_UPDATED_AT` (`UPDATED_AT`);
+
+-- TUTOREDS: the tutoreds created by the tutor
+ALTER TABLE `TUTOREDS` ADD KEY `IDX_TUTOREDS_CREATED_BY_CREATED_AT` (`CREATED_BY`,`CREATED_AT`);
+ALTER TABLE `TUTOREDS` ADD KEY `IDX_TUTOREDS_CREATED_BY_UPDATED_AT` (`CREATED_BY`,`UPDATED_AT`);
+
+-- CABINETS
+ALTER TABLE `CABINETS` ADD KEY `IDX_CABINETS_CREATED_AT` (`CREATED_AT`);
+ALTER TABLE `CABINETS` ADD KEY `IDX_CABINETS_UPDATED_AT` (`UPDATED_AT`);
+
+-- FORM_TARGETS: the targets of the career of the tutor
+ALTER TABLE `FORM_TARGETS` ADD KEY `IDX_FORM_TARGETS_CREATED_AT` (`CREATED_AT`);
+ALTER TABLE `FORM_TARGETS` ADD KEY `IDX_FORM_TARGETS_UPDATED_AT` (`UPDATED_AT`);
@@ -0,0 +1,31 @@
+
+-- SESSION_COUNTERS: a session spanning several tutors, districts or programmatic areas was counted once in each of
+-- their rows, and again by the monthly sums. It is now counted only in the row of its first mentorship of the
+-- month (SESSIONS) and of its first mentorship of the month by each tutor (TUTOR_SESSIONS)
+ALTER TABLE `SESSION_COUNTERS` ADD COLUMN `TUTOR_SESSIONS` bigint(20) NOT NULL DEFAULT 0 AFTER `SESSIONS`;
+
+DELETE FROM `SESSION_COUNTERS`;
+
+INSERT INTO `SESSION_COUNTERS` (`CREATED_AT`, `CREATED_BY`, `LIFE_CYCLE_STATUS`, `UUID`, `TUTOR_ID`, `DISTRICT_ID`, `PROGRAMMATIC_AREA_ID`, `PERFORMED_MONTH`, `MENTORSHIPS`, `SESSIONS`, `TUTOR_SESSIONS`, `LAST_CREATED_AT`)
+SELECT NOW(), 'V34', 'ACTIVE', REPLACE(UUID(), '-', ''), m.TUTOR_ID, hf.DISTRICT_ID, f.PROGRAMMATIC_AREA_ID,
+  DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY),
+  COUNT(m.ID),
+  SUM(CASE WHEN m.ID = (SELECT MIN(o.ID) FROM `MENTORSHIPS` o
+    WHERE o.SESSION_ID = m.SESSION_ID AND o.LIFE_CYCLE_STATUS = 'ACTIVE'
+      AND o.PERFORMED_DATE >= DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY)
+      AND o.PERFORMED_DATE < DATE_ADD(DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY), INTERVAL 1 MONTH))
+    THEN 1 ELSE 0 END),
+  SUM(CASE WHEN m.ID = (SELECT MIN(o.ID) FROM `MENTORSHIPS` o
+    WHERE o.SESSION_ID = m.SESSION_ID AND o.LIFE_CYCLE_STATUS = 'ACTIVE'
+      AND o.PERFORMED_DATE >= DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY)
+      AND o.PERFORMED_DATE < DATE_ADD(DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY), INTERVAL 1 MONTH)
+      AND o.TUTOR_ID = m.TUTOR_ID)
+    THEN 1 ELSE 0 END),
+  MAX(s.CREATED_AT)
+FROM `MENTORSHIPS` m
+  INNER JOIN `SESSIONS` s ON s.ID = m.SESSION_ID
+  INNER JOIN `HEALTH_FACILITIES` hf ON hf.ID = m.HEALTH_FACILITY_ID
+  INNER JOIN `FORMS` f ON f.ID = m.FORM_ID
+WHERE m.LIFE_CYCLE_STATUS = 'ACTIVE'
+  AND s.LIFE_CYCLE_STATUS = 'ACTIVE'
+GROUP BY m.TUTOR_ID, hf.DISTRICT_ID, f.PROGRAMMATIC_AREA_ID, DATE_SUB(m.PERFORMED_DATE, INTERVAL DAYOFMONTH(m.PERFORMED_DATE) - 1 DAY);
@@ -0,0 +1,8 @@
+
+-- INDICATOR_MONTHLY_ROLLUP: the district was copied from the health facility when a row was written, so a facility
+-- moved to another district kept reporting under the old one. The reports now join it through HEALTH_FACILITIES
+ALTER TABLE `INDICATOR_MONTHLY_ROLLUP` DROP FOREIGN KEY `FK_INDICATOR_MONTHLY_ROLLUP_DISTRICT_ID`;
+
+ALTER TABLE `INDICATOR_MONTHLY_ROLLUP` DROP INDEX `IDX_INDICATOR_MONTHLY_ROLLUP_DISTRICT_MONTH`;
+
+ALTER TABLE `INDICATOR_MONTHLY_ROLLUP` DROP COLUMN `DISTRICT_ID`;
@@ -0,0 +1,5 @@
+
+-- The name search index reads again, every minute, the tutoreds created or updated since its previous read: one
+-- index per timestamp, merged by the OR of the two conditions. Tutors and health facilities are few enough to scan
+ALTER TABLE `TUTOREDS` ADD KEY `IDX_TUTOREDS_CREATED_AT` (`CREATED_AT`);
+ALTER TABLE `TUTOREDS` ADD KEY `IDX_TUTOREDS_UPDATED_AT` (`UPDATED_AT`);
@@ -0,0 +1,72 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.cache;
+
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.fixtureFactory.EntityFactory;
+import mz.org.fgh.mentoring.core.cache.model.CacheRegionStatistics;
+import mz.org.fgh.mentoring.core.cache.service.CacheStatisticsService;
+import mz.org.fgh.mentoring.core.career.model.Career;
+import mz.org.fgh.mentoring.core.career.service.CareerQueryService;
+import mz.org.fgh.mentoring.core.career.service.CareerService;
+import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
+import mz.org.fgh.mentoring.core.fixturefactory.CareerTemplate;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public class CacheStatisticsServiceTest extends AbstractSpringTest {
+
+	@Inject
+	private CareerService careerService;
+
+	@Inject
+	private CareerQueryService careerQueryService;
+
+	@Inject
+	private CacheStatisticsService cacheStatisticsService;
+
+	private Career career;
+
+	@Override
+	public void setUp() throws BusinessException {
+		this.career = EntityFactory.gimme(Career.class, CareerTemplate.VALID);
+		this.careerService.createCareer(this.getUserContext(), this.career);
+	}
+
+	@Test
+	public void shouldServeRepeatedLookupsFromTheQueryCache() throws BusinessException {
+
+		Assert.assertTrue(this.cacheStatisticsService.isStatisticsEnabled());
+
+		this.careerQueryService.findCarrerByuuid(this.getUserContext(), this.career.getUuid());
+		final long hits = this.findQueryStatistics().getHits();
+
+		final Career found = this.careerQueryService.findCarrerByuuid(this.getUserContext(), this.career.getUuid());
+
+		Assert.assertEquals(this.career.getId(), found.getId());
+		Assert.assertTrue(this.findQueryStatistics().getHits() > hits);
+	}
+
+	@Test(expected = BusinessException.class)
+	public void shouldNotFindUnknownCareer() throws BusinessException {
+		this.careerQueryService.findCarrerByuuid(this.getUserContext(), "unknown");
+	}
+
+	private CacheRegionStatistics findQueryStatistics() {
+
+		final List<CacheRegionStatistics> statistics = this.cacheStatisticsService.findCacheStatistics();
+
+		return statistics.stream().filter(region -> CacheStatisticsService.QUERIES.equals(region.getRegion()))
+		        .findFirst().get();
+	}
+}
@@ -25,6 +25,7 @@ import mz.org.fgh.mentoring.core.answer.model.Answer;
 import mz.org.fgh.mentoring.core.answer.model.NumericAnswer;
 import mz.org.fgh.mentoring.core.answer.service.AnswerService;
 import mz.org.fgh.mentoring.core.career.service.CareerService;
+import mz.org.fgh.mentoring.core.cleanup.service.DuplicateCleanupService;
 import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
 import mz.org.fgh.mentoring.core.fixturefactory.FormQuestionTemplate;
 import mz.org.fgh.mentoring.core.fixturefactory.IndicatorTemplate;
@@ -78,6 +79,9 @@ public class RemoveDuplicatedIndicatorsClientTest extends AbstractSpringTest {
 	@Inject
 	private QuestionCategoryService questionCategoryService;
 
+	@Inject
+	private DuplicateCleanupService duplicateCleanupService;
+
 	@Inject
 	private FormBuilder formBuilder;
 
@@ -187,12 +191,12 @@ public class RemoveDuplicatedIndicatorsClientTest extends AbstractSpringTest {
 	public void shouldRemoveDuplicatedIndicators() throws BusinessException {
 
 		final List<DuplicatedIndicator> duplicatedIndicators = this.indicatorQueryService.findDuplicatedIndicators();
-		this.client.setIndicatorQueryService(this.indicatorQueryService);
-		this.client.setIndicatorService(this.indicatorService);
-		this.client.setAnswerService(this.answerService);
+		this.client.setDuplicateCleanupService(this.duplicateCleanupService);
+		this.client.setChunkSize(3);
 
 		final int records = this.client.process(this.client);
 
 		Assert.assertEquals(duplicatedIndicators.size(), records);
+		Assert.assertTrue(this.indicatorQueryService.findDuplicatedIndicators().isEmpty());
 	}
 }
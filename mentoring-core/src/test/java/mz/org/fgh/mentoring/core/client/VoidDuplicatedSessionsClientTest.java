@@ -10,14 +10,11 @@ import org.junit.Test;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.fixtureFactory.EntityFactory;
-import mz.org.fgh.mentoring.core.answer.service.AnswerQueryService;
-import mz.org.fgh.mentoring.core.answer.service.AnswerService;
+import mz.org.fgh.mentoring.core.cleanup.service.DuplicateCleanupService;
 import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
 import mz.org.fgh.mentoring.core.fixturefactory.SessionTemplate;
 import mz.org.fgh.mentoring.core.mentorship.MentorshipBuilder;
-import mz.org.fgh.mentoring.core.mentorship.service.MentorshipService;
 import mz.org.fgh.mentoring.core.session.model.Session;
-import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
 import mz.org.fgh.mentoring.core.session.service.SessionService;
 
 /**
@@ -30,16 +27,7 @@ public class VoidDuplicatedSessionsClientTest extends AbstractSpringTest {
 	private SessionService sessionService;
 
 	@Inject
-	private MentorshipService mentorshipService;
-
-	@Inject
-	private SessionQueryService sessionQueryService;
-
-	@Inject
-	private AnswerService answerService;
-
-	@Inject
-	private AnswerQueryService answerQueryService;
+	private DuplicateCleanupService duplicateCleanupService;
 
 	@Inject
 	private MentorshipBuilder mentorshipBuilder;
@@ -64,14 +52,25 @@ public class VoidDuplicatedSessionsClientTest extends AbstractSpringTest {
 	public void shouldVoidSessionsWithDuplicatedUuid() throws BusinessException {
 		final VoidDuplicatedSessionsClient client = new VoidDuplicatedSessionsClient();
 
-		client.setSessionQueryService(this.sessionQueryService);
-		client.setSessionService(this.sessionService);
-		client.setMentorshipService(this.mentorshipService);
-		client.setAnswerQueryService(this.answerQueryService);
-		client.setAnswerService(this.answerService);
+		client.setDuplicateCleanupService(this.duplicateCleanupService);
+		client.setChunkSize(1);
+
+		final int records = client.process(client);
+
+		Assert.assertFalse(records == 0);
+		Assert.assertEquals(0, client.process(client));
+	}
+
+	@Test
+	public void shouldNotVoidSessionsOnDryRun() throws BusinessException {
+		final VoidDuplicatedSessionsClient client = new VoidDuplicatedSessionsClient();
+
+		client.setDuplicateCleanupService(this.duplicateCleanupService);
+		client.setDryRun(true);
 
 		final int records = client.process(client);
 
 		Assert.assertFalse(records == 0);
+		Assert.assertEquals(records, client.process(client));
 	}
 }
@@ -20,6 +20,9 @@ import mz.co.mozview.frameworks.core.fixtureFactory.LoaderFactory;
 import mz.co.mozview.frameworks.core.util.CleanDBUtil;
 import mz.co.mozview.frameworks.core.webservices.model.UnitWS;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.cache.service.CacheStatisticsService;
+import mz.org.fgh.mentoring.core.question.service.QuestionRegistry;
+import mz.org.fgh.mentoring.core.search.NameSearchIndexLoader;
 
 /**
  * @author Stélio Moiane
@@ -33,6 +36,15 @@ public abstract class AbstractSpringTest {
 	@Inject
 	private CleanDBUtil cleanDBUtil;
 
+	@Inject
+	private CacheStatisticsService cacheStatisticsService;
+
+	@Inject
+	private QuestionRegistry questionRegistry;
+
+	@Inject
+	private NameSearchIndexLoader nameSearchIndexLoader;
+
 	@BeforeClass
 	public static void setUpBeforeClass() {
 		RestAssured.port = 8081;
@@ -45,6 +57,9 @@ public abstract class AbstractSpringTest {
 	@After
 	public void tearDown() {
 		this.cleanDBUtil.cleanDB();
+		this.cacheStatisticsService.evictAll();
+		this.questionRegistry.refresh();
+		this.nameSearchIndexLoader.refresh();
 	}
 
 	public UserContext getUserContext() {
@@ -0,0 +1,34 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.config;
+
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+/**
+ * The test context pointed at the seeded database of the dockerised MySQL, see
+ * db-report-regression.properties. The schema comes from the Flyway migrations,
+ * never from hibernate.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Configuration
+@ComponentScan(basePackages = { "mz.co.mozview.frameworks.core", "mz.org.fgh.mentoring.core" })
+@Import({ DataSourceBean.class, EntityManagerBean.class, EmailBean.class })
+@EnableAspectJAutoProxy
+@EnableTransactionManagement
+@PropertySource("classpath:db-test.properties")
+@PropertySource("classpath:db-report-regression.properties")
+@EnableJpaRepositories(basePackages = "mz.org.fgh.mentoring.core", repositoryImplementationPostfix = "Helper")
+@Profile("report-regression")
+public class ApplicationContextReportRegression {
+
+}
@@ -21,10 +21,12 @@ import org.junit.Test;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.fixtureFactory.EntityFactory;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
 import mz.org.fgh.mentoring.core.answer.model.NumericAnswer;
 import mz.org.fgh.mentoring.core.career.service.CareerService;
 import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
+import mz.org.fgh.mentoring.core.fixturefactory.DistrictTemplate;
 import mz.org.fgh.mentoring.core.fixturefactory.FormQuestionTemplate;
 import mz.org.fgh.mentoring.core.fixturefactory.IndicatorTemplate;
 import mz.org.fgh.mentoring.core.fixturefactory.QuestionProcessor;
@@ -32,12 +34,18 @@ import mz.org.fgh.mentoring.core.fixturefactory.QuestionTemplate;
 import mz.org.fgh.mentoring.core.form.FormBuilder;
 import mz.org.fgh.mentoring.core.form.model.Form;
 import mz.org.fgh.mentoring.core.formquestion.model.FormQuestion;
+import mz.org.fgh.mentoring.core.indicator.dao.IndicatorMonthlyRollupDAO;
 import mz.org.fgh.mentoring.core.indicator.model.AnalysisTable;
 import mz.org.fgh.mentoring.core.indicator.model.DuplicatedIndicator;
 import mz.org.fgh.mentoring.core.indicator.model.Indicator;
+import mz.org.fgh.mentoring.core.indicator.model.IndicatorMonthlyRollup;
 import mz.org.fgh.mentoring.core.indicator.model.SampleIndicator;
+import mz.org.fgh.mentoring.core.indicator.service.IndicatorMonthlyRollupService;
 import mz.org.fgh.mentoring.core.indicator.service.IndicatorQueryService;
 import mz.org.fgh.mentoring.core.indicator.service.IndicatorService;
+import mz.org.fgh.mentoring.core.location.dao.HealthFacilityDAO;
+import mz.org.fgh.mentoring.core.location.model.District;
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
 import mz.org.fgh.mentoring.core.location.service.DistrictService;
 import mz.org.fgh.mentoring.core.location.service.HealthFacilityService;
 import mz.org.fgh.mentoring.core.question.model.Question;
@@ -66,6 +74,9 @@ public class IndicatorQueryServiceTest extends AbstractSpringTest {
 	@Inject
 	private HealthFacilityService heathFacilityService;
 
+	@Inject
+	private HealthFacilityDAO healthFacilityDAO;
+
 	@Inject
 	private IndicatorService indicatorService;
 
@@ -78,8 +89,16 @@ public class IndicatorQueryServiceTest extends AbstractSpringTest {
 	@Inject
 	private FormBuilder formBuilder;
 
+	@Inject
+	private IndicatorMonthlyRollupService indicatorMonthlyRollupService;
+
+	@Inject
+	private IndicatorMonthlyRollupDAO indicatorMonthlyRollupDAO;
+
 	private Indicator indicator;
 
+	private List<Answer> answers;
+
 	@Override
 	public void setUp() throws BusinessException {
 
@@ -91,8 +110,9 @@ public class IndicatorQueryServiceTest extends AbstractSpringTest {
 
 		final Form form = this.formBuilder.build();
 
-		this.indicatorService.createIndicator(this.getUserContext(), this.indicator, form,
-				this.getAnswers());
+		this.answers = this.getAnswers();
+
+		this.indicatorService.createIndicator(this.getUserContext(), this.indicator, form, this.answers);
 	}
 
 	private Set<FormQuestion> getFormQuestions() throws BusinessException {
@@ -212,4 +232,48 @@ public class IndicatorQueryServiceTest extends AbstractSpringTest {
 
 		Assert.assertFalse(analysisTables.isEmpty());
 	}
+
+	@Test
+	public void shouldKeepIndicatorMonthlyRollup() throws BusinessException {
+
+		final Long collected = this.answers.stream()
+				.filter(answer -> NUMBER_OF_COLLECTED_SAMPLES.getValue().equals(answer.getQuestion().getUuid()))
+				.map(answer -> ((NumericAnswer) answer).getNumericValue().longValue()).findFirst().get();
+
+		final IndicatorMonthlyRollup rollup = this.indicatorMonthlyRollupDAO.findByHealthFacilityFormAndReferredMonth(
+				this.indicator.getHealthFacility().getId(), this.indicator.getForm().getId(),
+				this.indicator.getReferredMonth(), LifeCycleStatus.ACTIVE);
+
+		Assert.assertEquals(collected, rollup.getCollected());
+
+		Assert.assertEquals(1, this.indicatorMonthlyRollupService.rebuildRollup(this.getUserContext()));
+
+		final IndicatorMonthlyRollup rebuilt = this.indicatorMonthlyRollupDAO.findByHealthFacilityFormAndReferredMonth(
+				this.indicator.getHealthFacility().getId(), this.indicator.getForm().getId(),
+				this.indicator.getReferredMonth(), LifeCycleStatus.ACTIVE);
+
+		Assert.assertEquals(collected, rebuilt.getCollected());
+	}
+
+	@Test
+	public void shouldReportTheIndicatorsUnderTheCurrentDistrictOfTheirHealthFacility() throws BusinessException {
+
+		final District oldDistrict = this.indicator.getHealthFacility().getDistrict();
+		final District newDistrict = EntityFactory.gimme(District.class, DistrictTemplate.VALID);
+		this.districtService.createDistrict(this.getUserContext(), newDistrict);
+
+		final HealthFacility healthFacility = this.indicator.getHealthFacility();
+		healthFacility.setDistrict(newDistrict);
+		this.healthFacilityDAO.update(this.getUserContext().getUuid(), healthFacility);
+
+		Assert.assertTrue(this.indicatorQueryService.findSampleIndicatorsBySelectedFilter(oldDistrict, null, null,
+				this.indicator.getReferredMonth(), this.indicator.getReferredMonth()).isEmpty());
+		Assert.assertEquals(1, this.indicatorQueryService.findSampleIndicatorsBySelectedFilter(newDistrict, null,
+				null, this.indicator.getReferredMonth(), this.indicator.getReferredMonth()).size());
+
+		Assert.assertTrue(this.indicatorQueryService.findAnalysisTableBySelectedFilter(oldDistrict,
+				this.indicator.getReferredMonth(), this.indicator.getReferredMonth()).isEmpty());
+		Assert.assertFalse(this.indicatorQueryService.findAnalysisTableBySelectedFilter(newDistrict,
+				this.indicator.getReferredMonth(), this.indicator.getReferredMonth()).isEmpty());
+	}
 }
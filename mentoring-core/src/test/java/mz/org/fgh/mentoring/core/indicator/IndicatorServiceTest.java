@@ -22,6 +22,7 @@ import mz.org.fgh.mentoring.core.fixturefactory.IndicatorTemplate;
 import mz.org.fgh.mentoring.core.form.FormBuilder;
 import mz.org.fgh.mentoring.core.form.model.Form;
 import mz.org.fgh.mentoring.core.indicator.model.Indicator;
+import mz.org.fgh.mentoring.core.indicator.model.IndicatorUpload;
 import mz.org.fgh.mentoring.core.indicator.service.IndicatorQueryService;
 import mz.org.fgh.mentoring.core.indicator.service.IndicatorService;
 import mz.org.fgh.mentoring.core.location.service.DistrictService;
@@ -127,4 +128,44 @@ public class IndicatorServiceTest extends AbstractSpringTest {
 
 		TestUtil.assertCreation(this.indicator);
 	}
+
+	@Test
+	public void shouldSynchronizeIndicatorsInBatch() throws BusinessException {
+
+		this.indicator.setForm(this.form);
+
+		final Answer answer = new BooleanAnswer();
+		answer.setQuestion(this.question);
+		answer.setValue(String.valueOf(Boolean.TRUE));
+
+		this.indicatorService.synchronizeIndicators(this.getUserContext(), this.indicator.getTutor(),
+				Arrays.asList(new IndicatorUpload(this.indicator, Arrays.asList(answer))));
+
+		TestUtil.assertCreation(this.indicator);
+		TestUtil.assertCreation(answer);
+
+		final Indicator sameMonth = EntityFactory.gimme(Indicator.class, IndicatorTemplate.VALID);
+		sameMonth.setForm(this.form);
+		sameMonth.setHealthFacility(this.indicator.getHealthFacility());
+		sameMonth.setReferredMonth(this.indicator.getReferredMonth());
+
+		final Answer answerUpdated = new BooleanAnswer();
+		answerUpdated.setQuestion(this.question);
+		answerUpdated.setValue(String.valueOf(Boolean.FALSE));
+
+		this.indicatorService.synchronizeIndicators(this.getUserContext(), this.indicator.getTutor(),
+				Arrays.asList(new IndicatorUpload(sameMonth, Arrays.asList(answerUpdated))));
+
+		final List<Indicator> foundIndicators = this.indicatorQueryService
+				.findIndicatorsByHealthFacilityFormAndReferredMonth(this.indicator.getHealthFacility(), this.form,
+						this.indicator.getReferredMonth());
+
+		Assert.assertEquals(1, foundIndicators.size());
+		Assert.assertEquals(this.indicator.getId(), foundIndicators.get(0).getId());
+
+		for (final Answer answerFound : foundIndicators.get(0).getAnswers()) {
+			TestUtil.assertUpdate(answerFound);
+			Assert.assertEquals(answerUpdated.getValue(), answerFound.getValue());
+		}
+	}
 }
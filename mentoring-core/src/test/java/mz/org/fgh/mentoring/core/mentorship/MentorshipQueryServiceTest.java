@@ -18,6 +18,8 @@ import mz.org.fgh.mentoring.core.fixturefactory.MentorshipTemplate;
 import mz.org.fgh.mentoring.core.mentorship.model.IterationType;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
 import mz.org.fgh.mentoring.core.mentorship.service.MentorshipQueryService;
+import mz.org.fgh.mentoring.core.util.KeysetCursor;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
 
 /**
  * @author Stélio Moiane
@@ -140,4 +142,30 @@ public class MentorshipQueryServiceTest extends AbstractSpringTest {
 
 		Assert.assertTrue(mentorshipList.isEmpty());
 	}
+
+	@Test
+	public void fetchPageBySelectedFilterShouldContinueFromTheCursor() throws BusinessException {
+
+		this.mentorshipBuilder.mentorship().withPerformedDate(MentorshipTemplate.DATE_MAY_12_2018).build();
+		this.mentorshipBuilder.mentorship().withPerformedDate(MentorshipTemplate.DATE_MAY_20_2018).build();
+		this.mentorshipBuilder.mentorship().withPerformedDate(MentorshipTemplate.DATE_MAY_20_2018).build();
+
+		final KeysetPage<Mentorship> firstPage = this.mentorshipQueryService.fetchPageBySelectedFilter(
+				this.getUserContext(), null, null, null, null, null, null, null, LifeCycleStatus.ACTIVE.toString(),
+				MentorshipTemplate.DATE_MAY_12_2018, MentorshipTemplate.DATE_MAY_20_2018, null, 2);
+
+		Assert.assertEquals(2, firstPage.getItems().size());
+		Assert.assertTrue(firstPage.hasNext());
+		Assert.assertEquals(MentorshipTemplate.DATE_MAY_20_2018, firstPage.getItems().get(0).getPerformedDate());
+		Assert.assertEquals(MentorshipTemplate.DATE_MAY_20_2018, firstPage.getItems().get(1).getPerformedDate());
+
+		final KeysetPage<Mentorship> secondPage = this.mentorshipQueryService.fetchPageBySelectedFilter(
+				this.getUserContext(), null, null, null, null, null, null, null, LifeCycleStatus.ACTIVE.toString(),
+				MentorshipTemplate.DATE_MAY_12_2018, MentorshipTemplate.DATE_MAY_20_2018,
+				KeysetCursor.decode(firstPage.getNextCursor().encode()), 2);
+
+		Assert.assertEquals(1, secondPage.getItems().size());
+		Assert.assertFalse(secondPage.hasNext());
+		Assert.assertEquals(MentorshipTemplate.DATE_MAY_12_2018, secondPage.getItems().get(0).getPerformedDate());
+	}
 }
\ No newline at end of file
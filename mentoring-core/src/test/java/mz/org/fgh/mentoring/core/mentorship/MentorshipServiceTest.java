@@ -4,7 +4,11 @@
 package mz.org.fgh.mentoring.core.mentorship;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -15,26 +19,38 @@ import org.junit.Test;
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.fixtureFactory.EntityFactory;
 import mz.co.mozview.frameworks.core.fixtureFactory.util.TestUtil;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
+import mz.org.fgh.mentoring.core.answer.model.NumericAnswer;
 import mz.org.fgh.mentoring.core.answer.model.TextAnswer;
+import mz.org.fgh.mentoring.core.answer.service.AnswerService;
 import mz.org.fgh.mentoring.core.career.service.CareerService;
 import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
 import mz.org.fgh.mentoring.core.fixturefactory.MentorshipProcessor;
 import mz.org.fgh.mentoring.core.fixturefactory.MentorshipTemplate;
+import mz.org.fgh.mentoring.core.fixturefactory.QuestionTemplate;
 import mz.org.fgh.mentoring.core.fixturefactory.SessionTemplate;
 import mz.org.fgh.mentoring.core.form.FormBuilder;
+import mz.org.fgh.mentoring.core.form.model.Form;
 import mz.org.fgh.mentoring.core.form.service.FormService;
 import mz.org.fgh.mentoring.core.location.service.CabinetService;
 import mz.org.fgh.mentoring.core.location.service.DistrictService;
 import mz.org.fgh.mentoring.core.location.service.HealthFacilityService;
+import mz.org.fgh.mentoring.core.mentorship.dao.MentorshipAnswerFactDAO;
 import mz.org.fgh.mentoring.core.mentorship.dao.MentorshipDAO;
+import mz.org.fgh.mentoring.core.mentorship.model.HtsQuestion;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.mentorship.model.MentorshipAnswerFact;
 import mz.org.fgh.mentoring.core.mentorship.service.MentorshipService;
 import mz.org.fgh.mentoring.core.partner.service.PartnerService;
 import mz.org.fgh.mentoring.core.programmaticarea.service.ProgrammaticAreaService;
+import mz.org.fgh.mentoring.core.question.model.Question;
 import mz.org.fgh.mentoring.core.question.service.QuestionCategoryService;
 import mz.org.fgh.mentoring.core.question.service.QuestionService;
+import mz.org.fgh.mentoring.core.session.dao.SessionDAO;
 import mz.org.fgh.mentoring.core.session.model.Session;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncStatus;
 import mz.org.fgh.mentoring.core.tutor.service.TutorService;
 import mz.org.fgh.mentoring.core.tutored.service.TutoredService;
 
@@ -57,6 +73,15 @@ public class MentorshipServiceTest extends AbstractSpringTest {
 	@Inject
 	private MentorshipDAO mentorshipDAO;
 
+	@Inject
+	private MentorshipAnswerFactDAO mentorshipAnswerFactDAO;
+
+	@Inject
+	private SessionDAO sessionDAO;
+
+	@Inject
+	private AnswerService answerService;
+
 	@Inject
 	private QuestionService questionService;
 
@@ -119,6 +144,44 @@ public class MentorshipServiceTest extends AbstractSpringTest {
 		TestUtil.assertCreation(this.mentorship);
 	}
 
+	@Test
+	public void shouldCreateAnswerFactForHtsMentorship() throws BusinessException {
+
+		this.mentorship.addAnswer(this.createHtsAnswer(HtsQuestion.ATTENDED, "12"));
+		this.mentorship.addAnswer(this.createHtsAnswer(HtsQuestion.POSITIVE, "3"));
+
+		this.mentorshipService.createMentorship(this.getUserContext(), this.mentorship);
+
+		final MentorshipAnswerFact answerFact = this.mentorshipAnswerFactDAO
+		        .findByMentorshipUuid(this.mentorship.getUuid(), LifeCycleStatus.ACTIVE);
+
+		TestUtil.assertCreation(answerFact);
+		Assert.assertEquals(Integer.valueOf(12), answerFact.getAttended());
+		Assert.assertEquals(Integer.valueOf(3), answerFact.getPositive());
+		Assert.assertNull(answerFact.getTested());
+	}
+
+	@Test
+	public void shouldRefreshAnswerFactWhenTheMentorshipChanges() throws BusinessException {
+
+		final Answer attended = this.createHtsAnswer(HtsQuestion.ATTENDED, "12");
+		this.mentorship.addAnswer(attended);
+
+		this.mentorshipService.createMentorship(this.getUserContext(), this.mentorship);
+
+		attended.setValue("20");
+		this.answerService.updateAnswer(this.getUserContext(), attended);
+
+		this.mentorship.setPerformedDate(this.mentorship.getPerformedDate().minusDays(1));
+		this.mentorshipService.updateMentorship(this.getUserContext(), this.mentorship);
+
+		final MentorshipAnswerFact answerFact = this.mentorshipAnswerFactDAO
+		        .findByMentorshipUuid(this.mentorship.getUuid(), LifeCycleStatus.ACTIVE);
+
+		Assert.assertEquals(Integer.valueOf(20), answerFact.getAttended());
+		Assert.assertEquals(this.mentorship.getPerformedDate(), answerFact.getPerformedDate());
+	}
+
 	@Ignore
 	@Test
 	public void shouldUpdateMentorship() throws BusinessException {
@@ -150,6 +213,8 @@ public class MentorshipServiceTest extends AbstractSpringTest {
 
 		sessions = this.mentorshipService.synchronizeMentorships(this.getUserContext(), sessions);
 
+		final Set<String> codes = new HashSet<>();
+
 		sessions.forEach(session -> {
 			TestUtil.assertCreation(session);
 
@@ -157,8 +222,83 @@ public class MentorshipServiceTest extends AbstractSpringTest {
 
 			session.getMentorships().forEach(mentorship -> {
 				TestUtil.assertCreation(mentorship);
+				Assert.assertTrue(codes.add(mentorship.getCode()));
 				mentorship.getAnswers().forEach(answer -> TestUtil.assertCreation(answer));
 			});
 		});
 	}
+
+	@Test
+	public void shouldStoreNoSessionOfAnUploadWithARejectedOne() throws BusinessException {
+
+		final List<Session> sessions = EntityFactory.gimme(Session.class, 2, SessionTemplate.VALID,
+				new MentorshipProcessor(this.getUserContext(), this.formService, this.careerService,
+						this.programmaticAreaService, this.districtService, this.heathFacilityService,
+						this.questionService, this.tutorService, this.tutoredService, this.cabinetService,
+						this.questionCategoryService, this.partnerService));
+
+		final Form unknownForm = new Form();
+		unknownForm.setUuid(UUID.randomUUID().toString().replace("-", ""));
+		sessions.get(1).getMentorships().get(0).setForm(unknownForm);
+
+		try {
+			this.mentorshipService.synchronizeMentorships(this.getUserContext(), sessions);
+			Assert.fail("The upload should have been rejected");
+		}
+		catch (final BusinessException e) {
+			final Set<String> uuids = sessions.stream().map(Session::getUuid).collect(Collectors.toSet());
+			Assert.assertTrue(this.sessionDAO.findExistingUuids(uuids, LifeCycleStatus.ACTIVE).isEmpty());
+		}
+	}
+
+	@Test(expected = BusinessException.class)
+	public void shouldFailToSynchronizeMentorshipsReferringToUnknownForms() throws BusinessException {
+
+		final List<Session> sessions = EntityFactory.gimme(Session.class, 2, SessionTemplate.VALID,
+				new MentorshipProcessor(this.getUserContext(), this.formService, this.careerService,
+						this.programmaticAreaService, this.districtService, this.heathFacilityService,
+						this.questionService, this.tutorService, this.tutoredService, this.cabinetService,
+						this.questionCategoryService, this.partnerService));
+
+		final Form unknownForm = new Form();
+		unknownForm.setUuid(UUID.randomUUID().toString().replace("-", ""));
+		sessions.get(1).getMentorships().get(0).setForm(unknownForm);
+
+		this.mentorshipService.synchronizeMentorships(this.getUserContext(), sessions);
+	}
+
+	@Test
+	public void shouldReportDuplicatedSessionsWhenSynchronizingTwice() throws BusinessException {
+
+		final List<Session> sessions = EntityFactory.gimme(Session.class, 3, SessionTemplate.VALID,
+				new MentorshipProcessor(this.getUserContext(), this.formService, this.careerService,
+						this.programmaticAreaService, this.districtService, this.heathFacilityService,
+						this.questionService, this.tutorService, this.tutoredService, this.cabinetService,
+						this.questionCategoryService, this.partnerService));
+
+		final List<SessionSyncResult> created = this.mentorshipService.synchronizeSessions(this.getUserContext(),
+		        sessions);
+		final List<SessionSyncResult> duplicated = this.mentorshipService.synchronizeSessions(this.getUserContext(),
+		        sessions);
+
+		Assert.assertEquals(sessions.size(), created.size());
+		created.forEach(result -> Assert.assertEquals(SessionSyncStatus.CREATED, result.getStatus()));
+		duplicated.forEach(result -> Assert.assertEquals(SessionSyncStatus.DUPLICATED, result.getStatus()));
+	}
+
+	private Answer createHtsAnswer(final HtsQuestion htsQuestion, final String value) throws BusinessException {
+
+		final Question question = EntityFactory.gimme(Question.class, QuestionTemplate.NUMERIC_QUESTION);
+		this.questionCategoryService.createQuestionCategory(this.getUserContext(), question.getQuestionsCategory());
+		this.questionService.createQuestion(this.getUserContext(), question);
+
+		question.setCode(htsQuestion.getCode());
+		this.questionService.updateQuestion(this.getUserContext(), question);
+
+		final Answer answer = new NumericAnswer();
+		answer.setQuestion(question);
+		answer.setValue(value);
+
+		return answer;
+	}
 }
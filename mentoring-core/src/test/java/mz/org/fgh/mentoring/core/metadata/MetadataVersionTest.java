@@ -0,0 +1,60 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.metadata;
+
+import javax.inject.Inject;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.fixtureFactory.EntityFactory;
+import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
+import mz.org.fgh.mentoring.core.fixturefactory.CabinetTemplate;
+import mz.org.fgh.mentoring.core.location.model.Cabinet;
+import mz.org.fgh.mentoring.core.location.service.CabinetQueryService;
+import mz.org.fgh.mentoring.core.location.service.CabinetService;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public class MetadataVersionTest extends AbstractSpringTest {
+
+	@Inject
+	private MetadataVersion metadataVersion;
+
+	@Inject
+	private CabinetService cabinetService;
+
+	@Inject
+	private CabinetQueryService cabinetQueryService;
+
+	private Cabinet cabinet;
+
+	@Override
+	public void setUp() throws BusinessException {
+		this.cabinet = EntityFactory.gimme(Cabinet.class, CabinetTemplate.VALID);
+	}
+
+	@Test
+	public void shouldChangeVersionWhenMetadataIsWritten() throws BusinessException {
+
+		final long version = this.metadataVersion.current();
+
+		this.cabinetService.createCabinet(this.getUserContext(), this.cabinet);
+
+		Assert.assertNotEquals(version, this.metadataVersion.current());
+	}
+
+	@Test
+	public void shouldKeepVersionWhenMetadataIsRead() throws BusinessException {
+
+		final long version = this.metadataVersion.current();
+
+		this.cabinetQueryService.findAllCabinets();
+
+		Assert.assertEquals(version, this.metadataVersion.current());
+	}
+}
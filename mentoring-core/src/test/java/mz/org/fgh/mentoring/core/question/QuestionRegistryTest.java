@@ -0,0 +1,86 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.question;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.junit.Test;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.fixtureFactory.EntityFactory;
+import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
+import mz.org.fgh.mentoring.core.fixturefactory.QuestionTemplate;
+import mz.org.fgh.mentoring.core.question.model.Question;
+import mz.org.fgh.mentoring.core.question.model.QuestionType;
+import mz.org.fgh.mentoring.core.question.service.QuestionCategoryService;
+import mz.org.fgh.mentoring.core.question.service.QuestionRegistry;
+import mz.org.fgh.mentoring.core.question.service.QuestionService;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public class QuestionRegistryTest extends AbstractSpringTest {
+
+	@Inject
+	private QuestionRegistry questionRegistry;
+
+	@Inject
+	private QuestionService questionService;
+
+	@Inject
+	private QuestionCategoryService questionCategoryService;
+
+	private Question question;
+
+	@Override
+	public void setUp() throws BusinessException {
+		this.question = EntityFactory.gimme(Question.class, QuestionTemplate.NUMERIC_QUESTION);
+		this.questionCategoryService.createQuestionCategory(this.getUserContext(),
+		        this.question.getQuestionsCategory());
+		this.questionService.createQuestion(this.getUserContext(), this.question);
+	}
+
+	@Test
+	public void shouldFindCreatedQuestion() throws BusinessException {
+
+		final Question found = this.questionRegistry.findQuestionByUuid(this.getUserContext(),
+		        this.question.getUuid());
+
+		assertEquals(this.question.getId(), found.getId());
+		assertEquals(QuestionType.NUMERIC, found.getQuestionType());
+		assertEquals(this.question.getQuestionsCategory().getUuid(), found.getQuestionsCategory().getUuid());
+		assertEquals(this.question.getId(), this.questionRegistry.findQuestionIdByCode(this.question.getCode()));
+		assertNotNull(this.questionRegistry.findQuestionById(this.question.getId()));
+	}
+
+	@Test
+	public void shouldSeeUpdatedQuestion() throws BusinessException {
+
+		this.question.setQuestion("updated question");
+		this.questionService.updateQuestion(this.getUserContext(), this.question);
+
+		assertEquals("UPDATED QUESTION",
+		        this.questionRegistry.findQuestionById(this.question.getId()).getQuestion());
+	}
+
+	@Test
+	public void shouldLeaveOutUnknownQuestions() {
+
+		final Map<String, Question> questions = this.questionRegistry
+		        .findQuestionsByUuids(Arrays.asList(this.question.getUuid(), "unknown"));
+
+		assertEquals(1, questions.size());
+		assertTrue(questions.containsKey(this.question.getUuid()));
+		assertNull(this.questionRegistry.findQuestionIdByCode("unknown"));
+	}
+}
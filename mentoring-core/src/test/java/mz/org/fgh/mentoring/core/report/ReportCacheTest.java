@@ -0,0 +1,151 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.org.fgh.mentoring.core.cache.model.ReportCacheStatistics;
+import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
+import mz.org.fgh.mentoring.core.location.model.District;
+import mz.org.fgh.mentoring.core.report.ReportCache.Source;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public class ReportCacheTest extends AbstractSpringTest {
+
+	private static final String REPORT = "performed-sessions";
+
+	private static final String SAMPLES = "sample-indicators";
+
+	private static final LocalDate JANUARY = LocalDate.of(2026, 1, 1);
+
+	private static final LocalDate MARCH = LocalDate.of(2026, 3, 31);
+
+	@Inject
+	private ReportCache reportCache;
+
+	private District district;
+
+	private AtomicInteger loads;
+
+	private Object replicaLag;
+
+	@Override
+	public void setUp() throws BusinessException {
+
+		this.district = new District();
+		this.district.setUuid("7E4C4EB2B3F64A9CA43F7A5E5B7D1C20");
+
+		this.loads = new AtomicInteger();
+
+		// the loaders below read no replica, so the changes of the previous
+		// tests need no time to reach them
+		this.replicaLag = ReflectionTestUtils.getField(this.reportCache, "replicaLag");
+		ReflectionTestUtils.setField(this.reportCache, "replicaLag", 0L);
+	}
+
+	@Override
+	public void tearDown() {
+		ReflectionTestUtils.setField(this.reportCache, "replicaLag", this.replicaLag);
+		super.tearDown();
+	}
+
+	@Test
+	public void shouldAnswerTheSameFilterFromTheCache() throws BusinessException {
+
+		final List<String> loaded = this.getReport(REPORT, JANUARY, MARCH, this.district, null);
+
+		final District sameDistrict = new District();
+		sameDistrict.setUuid(this.district.getUuid().toLowerCase());
+
+		final List<String> cached = this.getReport(REPORT, JANUARY, MARCH, sameDistrict, null);
+
+		Assert.assertEquals(1, this.loads.get());
+		Assert.assertSame(loaded, cached);
+
+		this.getReport(REPORT, JANUARY, MARCH, null, null);
+
+		Assert.assertEquals(2, this.loads.get());
+	}
+
+	@Test
+	public void shouldDropOnlyTheResultsWhoseRangeContainsTheChangedDate() throws BusinessException {
+
+		this.getReport(REPORT, JANUARY, MARCH, this.district);
+		this.getReport(REPORT, MARCH.plusDays(1), null, this.district);
+		this.getSamples(JANUARY, MARCH);
+
+		this.reportCache.changed(Source.MENTORSHIPS, Arrays.asList(JANUARY.plusDays(10), JANUARY.minusYears(1)));
+
+		this.getReport(REPORT, JANUARY, MARCH, this.district);
+		this.getReport(REPORT, MARCH.plusDays(1), null, this.district);
+		this.getSamples(JANUARY, MARCH);
+
+		Assert.assertEquals(4, this.loads.get());
+
+		this.reportCache.changed(Source.INDICATORS);
+
+		this.getReport(REPORT, MARCH.plusDays(1), null, this.district);
+		this.getSamples(JANUARY, MARCH);
+
+		Assert.assertEquals(5, this.loads.get());
+	}
+
+	@Test
+	public void shouldNotKeepAResultLoadedWhileTheReplicaMayLagBehindAChange() throws BusinessException {
+
+		ReflectionTestUtils.setField(this.reportCache, "replicaLag", 60000L);
+
+		this.reportCache.changed(Source.MENTORSHIPS, MARCH);
+
+		this.getReport(REPORT, JANUARY, MARCH, this.district);
+		this.getReport(REPORT, JANUARY, MARCH, this.district);
+
+		Assert.assertEquals(2, this.loads.get());
+	}
+
+	@Test
+	public void shouldCountTheReadsOfEachReport() throws BusinessException {
+
+		this.getReport(REPORT, JANUARY, MARCH, this.district);
+		this.getReport(REPORT, JANUARY, MARCH, this.district);
+		this.getReport(REPORT, JANUARY, MARCH, this.district);
+		this.reportCache.changed(Source.MENTORSHIPS, MARCH);
+
+		final ReportCacheStatistics statistics = this.reportCache.getStatistics().stream()
+		        .filter(report -> REPORT.equals(report.getReport())).findFirst().get();
+
+		Assert.assertEquals(2, statistics.getHits());
+		Assert.assertEquals(1, statistics.getMisses());
+		Assert.assertEquals(2d / 3, statistics.getHitRate(), 0.001);
+		Assert.assertEquals(1, statistics.getInvalidations());
+		Assert.assertEquals(0, statistics.getEntries());
+	}
+
+	private List<String> getReport(final String report, final LocalDate startDate, final LocalDate endDate,
+	        final Object... filter) throws BusinessException {
+
+		return this.reportCache.get(report, Source.MENTORSHIPS, startDate, endDate, this::load, filter);
+	}
+
+	private List<String> getSamples(final LocalDate startDate, final LocalDate endDate) throws BusinessException {
+		return this.reportCache.get(SAMPLES, Source.INDICATORS, startDate, endDate, this::load, this.district);
+	}
+
+	private List<String> load() throws BusinessException {
+		return Arrays.asList("result " + this.loads.incrementAndGet());
+	}
+}
@@ -0,0 +1,590 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import br.com.six2six.fixturefactory.Fixture;
+import mz.co.mozview.frameworks.core.fixtureFactory.LoaderFactory;
+import mz.org.fgh.mentoring.core.answer.model.BooleanAnswer;
+import mz.org.fgh.mentoring.core.answer.model.NumericAnswer;
+import mz.org.fgh.mentoring.core.answer.model.TextAnswer;
+import mz.org.fgh.mentoring.core.fixturefactory.DistrictTemplate;
+import mz.org.fgh.mentoring.core.fixturefactory.HealthFacilityTemplate;
+import mz.org.fgh.mentoring.core.fixturefactory.TutorTemplate;
+import mz.org.fgh.mentoring.core.fixturefactory.TutoredTemplate;
+import mz.org.fgh.mentoring.core.indicator.model.SampleQuestion;
+import mz.org.fgh.mentoring.core.location.model.District;
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.mentorship.model.Door;
+import mz.org.fgh.mentoring.core.mentorship.model.IterationType;
+import mz.org.fgh.mentoring.core.mentorship.model.TimeOfDay;
+import mz.org.fgh.mentoring.core.session.model.SessionStatus;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+import mz.org.fgh.mentoring.core.tutored.model.Tutored;
+
+/**
+ * Seeds a migrated database with a synthetic data set shaped like the
+ * production one: the reference data every report joins to, and sessions,
+ * mentorships, answers and indicators spread over the three years before the
+ * given day.
+ *
+ * The reference data grows with the number of sessions, up to the health
+ * facilities of the whole country, and the people and places take their names
+ * from the fixture templates. A few tutors do most of the sessions, each in a
+ * handful of neighbouring health facilities and with the same group of
+ * tutoreds, and a mentorship answers every question of its form. The same seed
+ * and day always produce the same ids, uuids and facts; only the names drawn
+ * by the templates change between runs.
+ *
+ * The rows are written with batched JDBC statements and explicit ids, with the
+ * foreign key checks off; with rewriteBatchedStatements on the connection the
+ * batches go as multi-row inserts, so ten million answers load in minutes.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class ReportDataSeeder {
+
+	private static final String TEMPLATES = "mz.org.fgh.mentoring.core.fixturefactory";
+
+	private static final String SYNTHETIC_DISTRICT = "DISTRITO SINTETICO ";
+
+	private static final String CREATED_BY = "682eb67387a84d54b9adf93247aefb55";
+
+	private static final String HTS_FORM = "MT00000045";
+
+	private static final String[] INDICATOR_BOOLEAN_QUESTIONS = { "MTQ00000274", "MTQ00000275", "MTQ00000276" };
+
+	private static final String[] TEXT_VALUES = { "COMPETENTE", "NAO SATISFATORIO", "NA" };
+
+	private static final int MONTHS = 36;
+
+	private static final int BATCH_SIZE = 1000;
+
+	private static final int PROGRAMMATIC_AREAS = 5;
+
+	private static final int FORMS = 60;
+
+	private static final int INDICATOR_FORMS = 6;
+
+	private static final int QUESTIONS = 960;
+
+	private static final int QUESTIONS_PER_FORM = 16;
+
+	private static final int CABINETS = 15;
+
+	private static final int NATIONAL_HEALTH_FACILITIES = 1600;
+
+	private static final int HEALTH_FACILITIES_PER_DISTRICT = 10;
+
+	private static final int SESSIONS_PER_HEALTH_FACILITY = 250;
+
+	private static final int TUTORS = 400;
+
+	private static final int SESSIONS_PER_TUTOR = 250;
+
+	private static final int TUTOREDS = 8000;
+
+	private static final int SESSIONS_PER_TUTORED = 25;
+
+	private static final int TUTOREDS_PER_TUTOR = 40;
+
+	private final Random random;
+
+	private final LocalDate today;
+
+	private Connection connection;
+
+	private List<Long> healthFacilityIds;
+
+	private List<Long> mentoringFormIds;
+
+	private List<Long> indicatorFormIds;
+
+	private Long htsFormId;
+
+	private List<Long> textQuestionIds;
+
+	private List<Long> booleanQuestionIds;
+
+	private List<Long> sampleQuestionIds;
+
+	private Map<Long, List<Long>> formQuestionIds;
+
+	private List<Long> cabinetIds;
+
+	private List<Long> tutorIds;
+
+	private List<Long> tutoredIds;
+
+	public ReportDataSeeder(final long seed, final LocalDate today) {
+		this.random = new Random(seed);
+		this.today = today;
+	}
+
+	public void seed(final Connection connection, final int sessions, final int indicators) throws SQLException {
+		this.connection = connection;
+
+		final boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+
+		this.execute("SET foreign_key_checks = 0");
+		this.execute("SET unique_checks = 0");
+
+		LoaderFactory.loadTemplates(TEMPLATES);
+
+		try {
+			this.seedReferenceData(sessions);
+			this.seedSessions(sessions);
+			this.seedIndicators(indicators);
+		}
+		finally {
+			this.execute("SET unique_checks = 1");
+			this.execute("SET foreign_key_checks = 1");
+			connection.commit();
+			connection.setAutoCommit(autoCommit);
+		}
+
+		for (final String table : new String[] { "SESSIONS", "MENTORSHIPS", "ANSWERS", "MENTORSHIP_ANSWER_FACTS",
+		        "INDICATORS", "TUTORS", "TUTOREDS" }) {
+			this.execute("ANALYZE TABLE " + table);
+		}
+	}
+
+	private void seedReferenceData(final int sessions) throws SQLException {
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT IGNORE INTO PROGRAMMATIC_AREAS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, CODE, NAME) VALUES (NOW(), ?, 'ACTIVE', ?, ?, ?)")) {
+
+			for (int i = 1; i <= PROGRAMMATIC_AREAS; i++) {
+				this.set(statement, CREATED_BY, this.uuid(), String.format("SYNPA%02d", i), "AREA PROGRAMATICA " + i);
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+
+		final List<Long> programmaticAreaIds = this.ids("SELECT ID FROM PROGRAMMATIC_AREAS ORDER BY ID");
+
+		// the forms of the older migrations point at a programmatic area that
+		// was never inserted, and would drop out of every inner join
+		try (PreparedStatement statement = this.prepare(
+		        "UPDATE FORMS f LEFT JOIN PROGRAMMATIC_AREAS p ON p.ID = f.PROGRAMMATIC_AREA_ID SET f.PROGRAMMATIC_AREA_ID = ? WHERE p.ID IS NULL")) {
+			statement.setLong(1, programmaticAreaIds.get(0));
+			statement.executeUpdate();
+		}
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT IGNORE INTO FORMS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, CODE, DESCRIPTION, NAME, PROGRAMMATIC_AREA_ID, FORM_TYPE, TARGET_PATIENT, TARGET_FILE) VALUES (NOW(), ?, 'ACTIVE', ?, ?, ?, ?, ?, ?, 1, 1)")) {
+
+			for (int i = 1; i <= FORMS; i++) {
+				final boolean indicators = i > FORMS - INDICATOR_FORMS;
+				final String name = indicators ? "PROCEDIMENTO OPERACIONAL " + i : "FORMULARIO " + i;
+
+				this.set(statement, CREATED_BY, this.uuid(), String.format("MT%08d", i), name, name,
+				        programmaticAreaIds.get(i % programmaticAreaIds.size()),
+				        indicators ? "INDICATORS" : "MENTORING");
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+
+		this.mentoringFormIds = this.ids("SELECT ID FROM FORMS WHERE FORM_TYPE <> 'INDICATORS' ORDER BY ID");
+		this.indicatorFormIds = this.ids("SELECT ID FROM FORMS WHERE FORM_TYPE = 'INDICATORS' ORDER BY ID");
+		this.htsFormId = this.ids("SELECT ID FROM FORMS WHERE CODE = '" + HTS_FORM + "'").get(0);
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT IGNORE INTO QUESTIONS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, CODE, QUESTION, QUESTION_TYPE) VALUES (NOW(), ?, 'ACTIVE', ?, ?, ?, ?)")) {
+
+			for (int i = 1; i <= QUESTIONS; i++) {
+				final String code = String.format("MTQ%08d", i);
+				final boolean bool = this.isIndicatorBooleanQuestion(code);
+
+				this.set(statement, CREATED_BY, this.uuid(), code, "PERGUNTA " + i,
+				        bool ? BooleanAnswer.NAME : TextAnswer.NAME);
+				statement.addBatch();
+			}
+
+			int code = QUESTIONS;
+			for (final SampleQuestion sampleQuestion : SampleQuestion.values()) {
+				this.set(statement, CREATED_BY, sampleQuestion.getValue(), String.format("MTQ%08d", ++code),
+				        sampleQuestion.name(), NumericAnswer.NAME);
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+
+		this.textQuestionIds = this.ids("SELECT ID FROM QUESTIONS WHERE QUESTION_TYPE = 'TEXT' ORDER BY ID");
+		this.booleanQuestionIds = this.ids("SELECT ID FROM QUESTIONS WHERE CODE IN ('"
+		        + String.join("', '", INDICATOR_BOOLEAN_QUESTIONS) + "') ORDER BY CODE");
+
+		this.sampleQuestionIds = new ArrayList<>();
+		for (final SampleQuestion sampleQuestion : SampleQuestion.values()) {
+			this.sampleQuestionIds
+			        .add(this.ids("SELECT ID FROM QUESTIONS WHERE UUID = '" + sampleQuestion.getValue() + "'").get(0));
+		}
+
+		this.seedFormQuestions();
+
+		final List<Long> careerIds = this.ids("SELECT ID FROM CARRERS ORDER BY ID");
+
+		this.seedHealthFacilities(sessions);
+		this.healthFacilityIds = this.ids("SELECT ID FROM HEALTH_FACILITIES WHERE LIFE_CYCLE_STATUS = 'ACTIVE' ORDER BY ID");
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT INTO CABINETS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, NAME) VALUES (NOW(), ?, 'ACTIVE', ?, ?)")) {
+
+			for (int i = this.ids("SELECT ID FROM CABINETS").size() + 1; i <= CABINETS; i++) {
+				this.set(statement, CREATED_BY, this.uuid(), "SECTOR " + i);
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+		this.cabinetIds = this.ids("SELECT ID FROM CABINETS ORDER BY ID");
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT IGNORE INTO TUTORS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, CODE, NAME, PHONE_NUMBER, SURNAME, CARRER_ID, EMAIL, IS_USER) VALUES (NOW(), ?, 'ACTIVE', ?, ?, ?, ?, ?, ?, ?, 0)")) {
+
+			for (int i = 1; i <= Math.max(TUTORS, sessions / SESSIONS_PER_TUTOR); i++) {
+				final Tutor tutor = Fixture.from(Tutor.class).gimme(TutorTemplate.VALID);
+
+				this.set(statement, CREATED_BY, this.uuid(), String.format("SYNT%05d", i), tutor.getName(),
+				        tutor.getPhoneNumber(), tutor.getSurname(), this.any(careerIds),
+				        (i + "." + tutor.getEmail()).toLowerCase());
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+		this.tutorIds = this.ids("SELECT ID FROM TUTORS WHERE CODE LIKE 'SYNT%' ORDER BY ID");
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT IGNORE INTO TUTOREDS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, CODE, NAME, PHONE_NUMBER, SURNAME, CARRER_ID, EMAIL, VERSION) VALUES (NOW(), ?, 'ACTIVE', ?, ?, ?, ?, ?, ?, ?, 0)")) {
+
+			for (int i = 1; i <= Math.max(TUTOREDS, sessions / SESSIONS_PER_TUTORED); i++) {
+				final Tutored tutored = Fixture.from(Tutored.class).gimme(TutoredTemplate.VALID);
+
+				this.set(statement, CREATED_BY, this.uuid(), String.format("SYND%06d", i), tutored.getName(),
+				        tutored.getPhoneNumber(), tutored.getSurname(), this.any(careerIds),
+				        (i + "." + tutored.getEmail()).toLowerCase());
+				statement.addBatch();
+
+				if (i % BATCH_SIZE == 0) {
+					statement.executeBatch();
+				}
+			}
+			statement.executeBatch();
+		}
+		this.tutoredIds = this.ids("SELECT ID FROM TUTOREDS WHERE CODE LIKE 'SYND%' ORDER BY ID");
+
+		this.connection.commit();
+	}
+
+	/**
+	 * Gives every form without questions sixteen of the text questions, or the
+	 * sample and boolean questions for the indicator forms.
+	 */
+	private void seedFormQuestions() throws SQLException {
+
+		final List<Long> indicatorQuestionIds = new ArrayList<>(this.sampleQuestionIds);
+		indicatorQuestionIds.addAll(this.booleanQuestionIds);
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT INTO FORMS_QUESTIONS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, MANDATORY, APPLICABLE, FORM_ID, QUESTION_ID, SEQUENCE) VALUES (NOW(), ?, 'ACTIVE', ?, 1, 0, ?, ?, ?)")) {
+
+			for (final Long formId : this.ids(
+			        "SELECT f.ID FROM FORMS f WHERE NOT EXISTS (SELECT 1 FROM FORMS_QUESTIONS fq WHERE fq.FORM_ID = f.ID) ORDER BY f.ID")) {
+
+				final List<Long> questionIds = new ArrayList<>();
+
+				if (this.indicatorFormIds.contains(formId)) {
+					questionIds.addAll(indicatorQuestionIds);
+				}
+				else {
+					for (int k = 0; k < QUESTIONS_PER_FORM; k++) {
+						questionIds.add(this.textQuestionIds
+						        .get((int) ((formId * QUESTIONS_PER_FORM + k) % this.textQuestionIds.size())));
+					}
+				}
+
+				for (int k = 0; k < questionIds.size(); k++) {
+					this.set(statement, CREATED_BY, this.uuid(), formId, questionIds.get(k), k + 1);
+					statement.addBatch();
+				}
+			}
+			statement.executeBatch();
+		}
+
+		this.formQuestionIds = new HashMap<>();
+
+		try (Statement statement = this.connection.createStatement();
+		        ResultSet resultSet = statement.executeQuery(
+		                "SELECT fq.FORM_ID, fq.QUESTION_ID FROM FORMS_QUESTIONS fq INNER JOIN QUESTIONS q ON q.ID = fq.QUESTION_ID "
+		                        + "WHERE q.QUESTION_TYPE = 'TEXT' ORDER BY fq.FORM_ID, fq.SEQUENCE, fq.ID")) {
+			while (resultSet.next()) {
+				this.formQuestionIds.computeIfAbsent(resultSet.getLong(1), formId -> new ArrayList<>())
+				        .add(resultSet.getLong(2));
+			}
+		}
+	}
+
+	/**
+	 * Adds districts of ten health facilities until there is a health facility
+	 * for every 250 sessions, up to the number in the country.
+	 */
+	private void seedHealthFacilities(final int sessions) throws SQLException {
+
+		final int missing = Math.min(NATIONAL_HEALTH_FACILITIES, sessions / SESSIONS_PER_HEALTH_FACILITY)
+		        - this.ids("SELECT ID FROM HEALTH_FACILITIES").size();
+
+		if (missing <= 0) {
+			return;
+		}
+
+		final int existing = this.ids("SELECT ID FROM DISTRICTS WHERE DISTRICT LIKE '" + SYNTHETIC_DISTRICT + "%'")
+		        .size();
+		final int districts = (missing + HEALTH_FACILITIES_PER_DISTRICT - 1) / HEALTH_FACILITIES_PER_DISTRICT;
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT INTO DISTRICTS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, DISTRICT, PROVINCE) VALUES (NOW(), ?, 'ACTIVE', ?, ?, ?)")) {
+
+			for (int i = existing + 1; i <= existing + districts; i++) {
+				final District district = Fixture.from(District.class).gimme(DistrictTemplate.VALID);
+
+				this.set(statement, CREATED_BY, this.uuid(), String.format(SYNTHETIC_DISTRICT + "%03d", i),
+				        district.getProvince().name());
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+
+		final List<Long> districtIds = this.ids(
+		        "SELECT ID FROM DISTRICTS WHERE DISTRICT LIKE '" + SYNTHETIC_DISTRICT + "%' ORDER BY ID");
+
+		try (PreparedStatement statement = this.prepare(
+		        "INSERT INTO HEALTH_FACILITIES (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, HEALTH_FACILITY, DISTRICT_ID) VALUES (NOW(), ?, 'ACTIVE', ?, ?, ?)")) {
+
+			for (int i = 0; i < missing; i++) {
+				final HealthFacility healthFacility = Fixture.from(HealthFacility.class)
+				        .gimme(HealthFacilityTemplate.VALID);
+
+				this.set(statement, CREATED_BY, this.uuid(), healthFacility.getHealthFacility() + " " + (i + 1),
+				        districtIds.get(existing + i / HEALTH_FACILITIES_PER_DISTRICT));
+				statement.addBatch();
+			}
+			statement.executeBatch();
+		}
+	}
+
+	private void seedSessions(final int sessions) throws SQLException {
+
+		long sessionId = this.nextId("SESSIONS");
+		long mentorshipId = this.nextId("MENTORSHIPS");
+
+		try (PreparedStatement session = this.prepare(
+		        "INSERT INTO SESSIONS (ID, CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, START_DATE, END_DATE, PERFORMED_DATE, STATUS, REASON) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'NA')");
+		        PreparedStatement mentorship = this.prepare(
+		                "INSERT INTO MENTORSHIPS (ID, CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, CODE, START_DATE, END_DATE, FORM_ID, HEALTH_FACILITY_ID, TUTOR_ID, TUTORED_ID, PERFORMED_DATE, SESSION_ID, CABINET_ID, ITERATION_TYPE, ITERATION_NUMBER, TIME_OF_DAY, DOOR) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		        PreparedStatement answer = this.prepare(
+		                "INSERT INTO ANSWERS (TYPE, CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, TEXT_VALUE, FORM_ID, MENTORSHIP_ID, QUESTION_ID) VALUES ('TEXT', ?, ?, ?, ?, ?, ?, ?, ?)");
+		        PreparedStatement fact = this.prepare(
+		                "INSERT INTO MENTORSHIP_ANSWER_FACTS (CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, MENTORSHIP_ID, FORM_ID, PERFORMED_DATE, ATTENDED, PREVIOUS, TESTED, POSITIVE, ENROLLED) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+			for (int i = 1; i <= sessions; i++, sessionId++) {
+
+				final LocalDate performedDate = this.today.minusDays(this.random.nextInt(MONTHS * 30));
+				final LocalDateTime startDate = performedDate.atTime(8 + this.random.nextInt(8), 0);
+				final Timestamp createdAt = Timestamp.valueOf(startDate.plusDays(this.random.nextInt(5)));
+				final String lifeCycleStatus = this.random.nextInt(50) == 0 ? "INACTIVE" : "ACTIVE";
+
+				final int tutor = this.skewed(this.tutorIds.size());
+				final Long tutorId = this.tutorIds.get(tutor);
+				// a tutor mentors in a handful of neighbouring health facilities
+				final Long healthFacilityId = this.healthFacilityIds
+				        .get((tutor * 3 + this.random.nextInt(3)) % this.healthFacilityIds.size());
+
+				this.set(session, sessionId, createdAt, CREATED_BY, lifeCycleStatus, this.uuid(),
+				        Timestamp.valueOf(startDate), Timestamp.valueOf(startDate.plusHours(2)),
+				        Date.valueOf(performedDate), this.random.nextInt(10) == 0 ? SessionStatus.INCOMPLETE.name()
+				                : SessionStatus.COMPLETE.name());
+				session.addBatch();
+
+				final int mentorships = 1 + this.random.nextInt(3);
+				for (int j = 1; j <= mentorships; j++, mentorshipId++) {
+
+					final Long formId = this.random.nextInt(4) == 0 ? this.htsFormId
+					        : this.mentoringFormIds.get(this.skewed(this.mentoringFormIds.size()));
+					final Long tutoredId = this.tutoredIds.get(
+					        (tutor * TUTOREDS_PER_TUTOR + this.random.nextInt(TUTOREDS_PER_TUTOR)) % this.tutoredIds.size());
+
+					this.set(mentorship, mentorshipId, createdAt, CREATED_BY, lifeCycleStatus, this.uuid(),
+					        String.format("SYNM%010d", mentorshipId), Timestamp.valueOf(startDate),
+					        Timestamp.valueOf(startDate.plusMinutes(40)), formId, healthFacilityId, tutorId,
+					        tutoredId, Date.valueOf(performedDate), sessionId, this.any(this.cabinetIds),
+					        this.any(IterationType.values()).name(), j, this.any(TimeOfDay.values()).name(),
+					        this.any(Door.values()).name());
+					mentorship.addBatch();
+
+					for (final Long questionId : this.formQuestionIds.getOrDefault(formId,
+					        this.textQuestionIds.subList(0, QUESTIONS_PER_FORM))) {
+						this.set(answer, createdAt, CREATED_BY, lifeCycleStatus, this.uuid(), this.any(TEXT_VALUES),
+						        formId, mentorshipId, questionId);
+						answer.addBatch();
+					}
+
+					if (formId.equals(this.htsFormId)) {
+						final int attended = 5 + this.random.nextInt(40);
+						final int tested = this.random.nextInt(attended + 1);
+						final int positive = this.random.nextInt(tested / 5 + 1);
+
+						this.set(fact, createdAt, CREATED_BY, lifeCycleStatus, this.uuid(), mentorshipId, formId,
+						        Date.valueOf(performedDate), attended, this.random.nextInt(attended + 1), tested,
+						        positive, this.random.nextInt(positive + 1));
+						fact.addBatch();
+					}
+				}
+
+				if (i % BATCH_SIZE == 0) {
+					this.executeBatches(session, mentorship, answer, fact);
+				}
+			}
+
+			this.executeBatches(session, mentorship, answer, fact);
+		}
+	}
+
+	private void seedIndicators(final int indicators) throws SQLException {
+
+		final LocalDate thisMonth = this.today.withDayOfMonth(1);
+		final int healthFacilities = this.healthFacilityIds.size();
+		final int forms = this.indicatorFormIds.size();
+
+		long indicatorId = this.nextId("INDICATORS");
+
+		try (PreparedStatement indicator = this.prepare(
+		        "INSERT INTO INDICATORS (ID, CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, CODE, PERFORMED_DATE, REFERRED_MONTH, FORM_ID, HEALTH_FACILITY_ID, TUTOR_ID) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+		        PreparedStatement answer = this.prepare(
+		                "INSERT INTO ANSWERS (TYPE, CREATED_AT, CREATED_BY, LIFE_CYCLE_STATUS, UUID, BOOLEAN_VALUE, NUMERIC_VALUE, FORM_ID, INDICATOR_ID, QUESTION_ID) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+			for (int i = 0; i < indicators; i++, indicatorId++) {
+
+				// every health facility reports every form once a month
+				final Long healthFacilityId = this.healthFacilityIds.get(i % healthFacilities);
+				final Long formId = this.indicatorFormIds.get(i / healthFacilities % forms);
+				final LocalDate referredMonth = thisMonth.minusMonths(1 + i / (healthFacilities * forms) % MONTHS);
+				final Timestamp performedDate = Timestamp
+				        .valueOf(referredMonth.plusMonths(1).plusDays(this.random.nextInt(20)).atTime(10, 0));
+				final String lifeCycleStatus = this.random.nextInt(100) == 0 ? "INACTIVE" : "ACTIVE";
+
+				this.set(indicator, indicatorId, performedDate, CREATED_BY, lifeCycleStatus, this.uuid(),
+				        String.format("SYNI%010d", indicatorId), performedDate, Date.valueOf(referredMonth), formId,
+				        healthFacilityId, this.any(this.tutorIds));
+				indicator.addBatch();
+
+				final int collected = 20 + this.random.nextInt(200);
+				final int transported = collected - this.random.nextInt(collected / 10 + 1);
+				final int rejected = this.random.nextInt(transported / 20 + 1);
+				final int received = transported - rejected - this.random.nextInt(transported / 10 + 1);
+				final int[] samples = { collected, transported, rejected, Math.max(received, 0) };
+
+				for (int k = 0; k < samples.length; k++) {
+					this.set(answer, NumericAnswer.NAME, performedDate, CREATED_BY, lifeCycleStatus, this.uuid(), null,
+					        samples[k], formId, indicatorId, this.sampleQuestionIds.get(k));
+					answer.addBatch();
+				}
+
+				for (final Long questionId : this.booleanQuestionIds) {
+					this.set(answer, BooleanAnswer.NAME, performedDate, CREATED_BY, lifeCycleStatus, this.uuid(),
+					        this.random.nextBoolean(), null, formId, indicatorId, questionId);
+					answer.addBatch();
+				}
+
+				if ((i + 1) % BATCH_SIZE == 0) {
+					this.executeBatches(indicator, answer);
+				}
+			}
+
+			this.executeBatches(indicator, answer);
+		}
+	}
+
+	private boolean isIndicatorBooleanQuestion(final String code) {
+		for (final String question : INDICATOR_BOOLEAN_QUESTIONS) {
+			if (question.equals(code)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void executeBatches(final PreparedStatement... statements) throws SQLException {
+		for (final PreparedStatement statement : statements) {
+			statement.executeBatch();
+		}
+		this.connection.commit();
+	}
+
+	private long nextId(final String table) throws SQLException {
+		return this.ids("SELECT COALESCE(MAX(ID), 0) + 1 FROM " + table).get(0);
+	}
+
+	private List<Long> ids(final String sql) throws SQLException {
+		final List<Long> ids = new ArrayList<>();
+
+		try (Statement statement = this.connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+			while (resultSet.next()) {
+				ids.add(resultSet.getLong(1));
+			}
+		}
+		return ids;
+	}
+
+	private void execute(final String sql) throws SQLException {
+		try (Statement statement = this.connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	private PreparedStatement prepare(final String sql) throws SQLException {
+		return this.connection.prepareStatement(sql);
+	}
+
+	private void set(final PreparedStatement statement, final Object... values) throws SQLException {
+		for (int i = 0; i < values.length; i++) {
+			statement.setObject(i + 1, values[i]);
+		}
+	}
+
+	private <T> T any(final List<T> values) {
+		return values.get(this.random.nextInt(values.size()));
+	}
+
+	/**
+	 * An index below size, the lower ones far more often than the higher ones.
+	 */
+	private int skewed(final int size) {
+		return (int) (size * Math.pow(this.random.nextDouble(), 2));
+	}
+
+	private <T> T any(final T[] values) {
+		return values[this.random.nextInt(values.length)];
+	}
+
+	private String uuid() {
+		return new UUID(this.random.nextLong(), this.random.nextLong()).toString().replace("-", "");
+	}
+}
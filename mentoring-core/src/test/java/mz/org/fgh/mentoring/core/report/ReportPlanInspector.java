@@ -0,0 +1,98 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Captures the statements a report sends to MySQL through the general query
+ * log, which records them with their parameters inlined, and explains every
+ * select among them. A plan is flagged when it reads a whole base table bigger
+ * than the given number of rows.
+ *
+ * The general log is server wide, so this is only meant for the dedicated
+ * regression database.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class ReportPlanInspector {
+
+	private final Connection connection;
+
+	private final long maxScannedRows;
+
+	public ReportPlanInspector(final Connection connection, final long maxScannedRows) {
+		this.connection = connection;
+		this.maxScannedRows = maxScannedRows;
+	}
+
+	public void start() throws SQLException {
+		this.execute("SET GLOBAL general_log = 'OFF'");
+		this.execute("SET GLOBAL log_output = 'TABLE'");
+		this.execute("TRUNCATE TABLE mysql.general_log");
+		this.execute("SET GLOBAL general_log = 'ON'");
+	}
+
+	public List<String> stop() throws SQLException {
+		this.execute("SET GLOBAL general_log = 'OFF'");
+
+		final Set<String> selects = new LinkedHashSet<>();
+
+		try (Statement statement = this.connection.createStatement();
+		        ResultSet resultSet = statement.executeQuery(
+		                "SELECT CONVERT(argument USING utf8) FROM mysql.general_log WHERE command_type IN ('Query', 'Execute') ORDER BY event_time")) {
+
+			while (resultSet.next()) {
+				final String sql = resultSet.getString(1).trim();
+				final String lowerCase = sql.toLowerCase(Locale.ROOT);
+
+				if (lowerCase.startsWith("select") && lowerCase.contains(" from ")
+				        && !lowerCase.contains("general_log")) {
+					selects.add(sql);
+				}
+			}
+		}
+
+		return new ArrayList<>(selects);
+	}
+
+	/**
+	 * @return a description of every full scan found in the plan of the
+	 *         statement, empty when the plan is fine
+	 */
+	public List<String> explain(final String sql) throws SQLException {
+		final List<String> fullScans = new ArrayList<>();
+
+		try (Statement statement = this.connection.createStatement();
+		        ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+
+			while (resultSet.next()) {
+				final String table = resultSet.getString("table");
+				final long rows = resultSet.getLong("rows");
+
+				if ("ALL".equals(resultSet.getString("type")) && rows > this.maxScannedRows && table != null
+				        && !table.startsWith("<")) {
+					fullScans.add(table + " (" + rows + " rows)");
+				}
+			}
+		}
+
+		return fullScans;
+	}
+
+	private void execute(final String sql) throws SQLException {
+		try (Statement statement = this.connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.time.LocalDate;
+
+import javax.inject.Inject;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.org.fgh.mentoring.core.cache.model.ReportQueryStatistics;
+import mz.org.fgh.mentoring.core.cache.service.CacheStatisticsService;
+import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
+import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public class ReportQueryRegistryTest extends AbstractSpringTest {
+
+	private static final String REPORT = "findBySelectedFilterPMQTR";
+
+	@Inject
+	private ReportQueryRegistry reportQueryRegistry;
+
+	@Inject
+	private SessionQueryService sessionQueryService;
+
+	@Inject
+	private CacheStatisticsService cacheStatisticsService;
+
+	@Override
+	public void setUp() throws BusinessException {
+	}
+
+	@Test
+	public void shouldReuseTheSameStatementForDifferentDateRanges() {
+
+		this.sessionQueryService.findPerformedSessionsBySelectedFilterPMQTR(LocalDate.now().minusMonths(3),
+		        LocalDate.now());
+		final String statement = this.reportQueryRegistry.getStatements().get(REPORT);
+
+		this.sessionQueryService.findPerformedSessionsBySelectedFilterPMQTR(LocalDate.now().minusYears(1),
+		        LocalDate.now().minusMonths(6));
+
+		Assert.assertSame(statement, this.reportQueryRegistry.getStatements().get(REPORT));
+		Assert.assertFalse(statement.contains(LocalDate.now().toString()));
+
+		final ReportStatistics statistics = this.reportQueryRegistry.getStatistics().stream()
+		        .filter(report -> REPORT.equals(report.getReport())).findFirst().get();
+
+		Assert.assertTrue(statistics.getExecutions() >= 2);
+
+		final ReportQueryStatistics exposed = this.cacheStatisticsService.findReportQueryStatistics().stream()
+		        .filter(report -> REPORT.equals(report.getReport())).findFirst().get();
+
+		Assert.assertEquals(statistics.getExecutions(), exposed.getExecutions());
+		Assert.assertEquals(statistics.getMaxMillis(), exposed.getMaxMillis());
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public class ReportRoutingDataSourceTest {
+
+	private static final long MAX_LAG = 30;
+
+	private StubDataSource primary;
+
+	private StubDataSource replica;
+
+	private Object secondsBehindMaster;
+
+	private ReportRoutingDataSource routingDataSource;
+
+	@Before
+	public void setUp() {
+
+		final ResultSet replicaStatus = stub(ResultSet.class, (proxy, method, args) -> {
+			switch (method.getName()) {
+			case "next":
+				return true;
+			case "getObject":
+				return "Seconds_Behind_Master".equals(args[0]) ? this.secondsBehindMaster : null;
+			default:
+				return null;
+			}
+		});
+
+		final Statement statement = stub(Statement.class, (proxy, method, args) -> {
+			if ("executeQuery".equals(method.getName()) && "SHOW SLAVE STATUS".equals(args[0])) {
+				return replicaStatus;
+			}
+			return null;
+		});
+
+		this.primary = new StubDataSource(stub(Connection.class, (proxy, method, args) -> null));
+		this.replica = new StubDataSource(stub(Connection.class,
+		        (proxy, method, args) -> "createStatement".equals(method.getName()) ? statement : null));
+
+		this.routingDataSource = new ReportRoutingDataSource(this.primary, this.replica, MAX_LAG);
+	}
+
+	@Test
+	public void shouldReadOnlyTheReportsFromTheReplica() throws SQLException {
+
+		this.secondsBehindMaster = 2L;
+		this.routingDataSource.checkReplica();
+
+		assertTrue(this.routingDataSource.isReplicaAvailable());
+		assertSame(this.primary.connection, this.routingDataSource.getConnection());
+		assertSame(this.replica.connection, this.getReportConnection());
+	}
+
+	@Test
+	public void shouldReadTheReportsFromThePrimaryWhileTheReplicaLags() throws SQLException {
+
+		this.secondsBehindMaster = MAX_LAG + 1;
+		this.routingDataSource.checkReplica();
+
+		assertFalse(this.routingDataSource.isReplicaAvailable());
+		assertSame(this.primary.connection, this.getReportConnection());
+
+		this.secondsBehindMaster = null;
+		this.routingDataSource.checkReplica();
+
+		assertFalse(this.routingDataSource.isReplicaAvailable());
+		assertSame(this.primary.connection, this.getReportConnection());
+	}
+
+	@Test
+	public void shouldFallBackToThePrimaryWhenTheReplicaIsUnreachable() throws SQLException {
+
+		this.secondsBehindMaster = 0L;
+		this.routingDataSource.checkReplica();
+
+		this.replica.failure = new SQLException("Connection refused");
+
+		assertSame(this.primary.connection, this.getReportConnection());
+		assertFalse(this.routingDataSource.isReplicaAvailable());
+	}
+
+	private Connection getReportConnection() throws SQLException {
+
+		final boolean reporting = ReportRoutingDataSource.startReport();
+
+		try {
+			return this.routingDataSource.getConnection();
+		}
+		finally {
+			ReportRoutingDataSource.endReport(reporting);
+		}
+	}
+
+	private static <T> T stub(final Class<T> type, final InvocationHandler handler) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+
+	private static final class StubDataSource extends AbstractDataSource {
+
+		private final Connection connection;
+
+		private SQLException failure;
+
+		private StubDataSource(final Connection connection) {
+			this.connection = connection;
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+
+			if (this.failure != null) {
+				throw this.failure;
+			}
+
+			return this.connection;
+		}
+
+		@Override
+		public Connection getConnection(final String username, final String password) throws SQLException {
+			return this.getConnection();
+		}
+	}
+}
@@ -0,0 +1,385 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.report;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.config.ApplicationContextReportRegression;
+import mz.org.fgh.mentoring.core.form.dao.FormDAO;
+import mz.org.fgh.mentoring.core.form.model.Form;
+import mz.org.fgh.mentoring.core.indicator.service.IndicatorMonthlyRollupService;
+import mz.org.fgh.mentoring.core.indicator.service.IndicatorQueryService;
+import mz.org.fgh.mentoring.core.location.dao.DistrictDAO;
+import mz.org.fgh.mentoring.core.location.dao.HealthFacilityDAO;
+import mz.org.fgh.mentoring.core.location.model.District;
+import mz.org.fgh.mentoring.core.location.model.HealthFacility;
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
+import mz.org.fgh.mentoring.core.session.service.SessionCounterService;
+import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
+import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
+import mz.org.fgh.mentoring.core.tutor.model.Tutor;
+
+/**
+ * Runs every report of {@link SessionQueryService} and
+ * {@link IndicatorQueryService} against a production sized data set and fails
+ * when one of them takes longer than its latency budget, or when the plan of
+ * one of its statements reads a whole big table.
+ *
+ * It needs the dockerised MySQL and is skipped otherwise:
+ *
+ * <pre>
+ * docker-compose -f docker-compose.test.yml up -d mysql-mentoring-test
+ * mvn test -Dtest=SlowReportRegressionTest -Dreport.regression=true
+ * </pre>
+ *
+ * The database is migrated with Flyway and seeded by {@link ReportDataSeeder}
+ * the first time, then reused. The scale, the budgets and the scan threshold
+ * can be tuned with the system properties below, e.g.
+ * -Dreport.regression.budget.hts=500.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = ApplicationContextReportRegression.class)
+@ActiveProfiles("report-regression")
+public class SlowReportRegressionTest {
+
+	private static final String ENABLED = "report.regression";
+
+	private static final long SEED = 20190101L;
+
+	private static final int RUNS = 3;
+
+	private static final long DEFAULT_BUDGET = Long.getLong("report.regression.budget", 2000L);
+
+	private static final long MAX_SCANNED_ROWS = Long.getLong("report.regression.scan.rows", 10000L);
+
+	private static boolean prepared;
+
+	@Inject
+	private DataSource dataSource;
+
+	@Inject
+	private SessionQueryService sessionQueryService;
+
+	@Inject
+	private IndicatorQueryService indicatorQueryService;
+
+	@Inject
+	private SessionCounterService sessionCounterService;
+
+	@Inject
+	private IndicatorMonthlyRollupService indicatorMonthlyRollupService;
+
+	@Inject
+	private DistrictDAO districtDAO;
+
+	@Inject
+	private HealthFacilityDAO healthFacilityDAO;
+
+	@Inject
+	private FormDAO formDAO;
+
+	@Inject
+	private TutorDAO tutorDAO;
+
+	private Connection connection;
+
+	private ReportPlanInspector reportPlanInspector;
+
+	private final LocalDate endDate = LocalDate.now();
+
+	private final LocalDate startDate = this.endDate.minusMonths(12);
+
+	private District district;
+
+	private HealthFacility healthFacility;
+
+	private Form form;
+
+	private Form indicatorForm;
+
+	private Tutor tutor;
+
+	private String tutoredUuid;
+
+	@FunctionalInterface
+	private interface Report {
+
+		Object run() throws Exception;
+	}
+
+	@BeforeClass
+	public static void setUpBeforeClass() {
+		Assume.assumeTrue("Set -D" + ENABLED + "=true to run against the dockerised MySQL", Boolean.getBoolean(ENABLED));
+	}
+
+	@Before
+	public void setUp() throws SQLException {
+		this.connection = this.dataSource.getConnection();
+		this.reportPlanInspector = new ReportPlanInspector(this.connection, MAX_SCANNED_ROWS);
+
+		if (!prepared) {
+			this.prepareDatabase();
+			prepared = true;
+		}
+
+		this.tutor = this.tutorDAO.findById(this.longValue(
+		        "SELECT TUTOR_ID FROM MENTORSHIPS GROUP BY TUTOR_ID ORDER BY COUNT(*) DESC, TUTOR_ID LIMIT 1"));
+		this.healthFacility = this.healthFacilityDAO.findById(this.longValue(
+		        "SELECT HEALTH_FACILITY_ID FROM MENTORSHIPS WHERE TUTOR_ID = " + this.tutor.getId() + " LIMIT 1"));
+		this.district = this.districtDAO.findById(this.longValue(
+		        "SELECT DISTRICT_ID FROM HEALTH_FACILITIES WHERE ID = " + this.healthFacility.getId()));
+		this.form = this.formDAO.findById(this.longValue("SELECT ID FROM FORMS WHERE CODE = 'MT00000045'"));
+		this.indicatorForm = this.formDAO
+		        .findById(this.longValue("SELECT ID FROM FORMS WHERE FORM_TYPE = 'INDICATORS' ORDER BY ID LIMIT 1"));
+		this.tutoredUuid = this.stringValue(
+		        "SELECT t.UUID FROM MENTORSHIPS m INNER JOIN TUTOREDS t ON t.ID = m.TUTORED_ID WHERE m.FORM_ID = "
+		                + this.form.getId() + " LIMIT 1");
+	}
+
+	@After
+	public void tearDown() throws SQLException {
+		if (this.connection != null) {
+			this.connection.close();
+		}
+	}
+
+	@Test
+	public void performedSessionsBySelectedFilter() throws Exception {
+		this.assertReport("performed-sessions", () -> this.sessionQueryService.findPerformedSessionsBySelectedFilter(
+		        this.district, null, null, null, null, null, this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsBySelectedFilterList() throws Exception {
+		this.assertReport("performed-sessions-list",
+		        () -> this.sessionQueryService.findPerformedSessionsBySelectedFilterList(this.district, null, null,
+		                null, null, null, this.startDate, this.endDate));
+	}
+
+	@Test
+	public void numberOfSessionsPerDistrict() throws Exception {
+		this.assertReport("sessions-per-district",
+		        () -> this.sessionQueryService.findNumberOfSessionsPerDistrict(this.getUserContext()));
+	}
+
+	@Test
+	public void numberOfSessionsOfTutorPerDistrict() throws Exception {
+		this.assertReport("tutor-sessions-per-district", () -> this.sessionQueryService
+		        .findNumberOfSessionsPerDistrict(this.tutor.getUuid(), this.getUserContext()));
+	}
+
+	@Test
+	public void performedSessionsByTutorAndForm() throws Exception {
+		this.assertReport("tutor-form-sessions", () -> this.sessionQueryService
+		        .findPerformedSessionsByTutorAndForm(this.tutor, this.form, this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsByTutor() throws Exception {
+		this.assertReport("tutor-sessions",
+		        () -> this.sessionQueryService.findPerformedSessionsByTutor(this.tutor, this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsHTS() throws Exception {
+		this.assertReport("hts", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterHTS(this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsHTSOfTutored() throws Exception {
+		this.assertReport("tutored-hts", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterHTS(this.startDate, this.endDate, this.tutoredUuid));
+	}
+
+	@Test
+	public void performedSessionsNarrative() throws Exception {
+		this.assertReport("narrative", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterNarrative(this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsNarrativeCOP20() throws Exception {
+		this.assertReport("cop20", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterNarrativeCOP20(this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsLast12Months() throws Exception {
+		this.assertReport("last-12-months",
+		        () -> this.sessionQueryService.findPerformedSessionsBySelectedFilterLast12Months());
+	}
+
+	@Test
+	public void performedSessionsOfTutorLast12Months() throws Exception {
+		this.assertReport("tutor-last-12-months", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterLast12Months(this.tutor.getUuid()));
+	}
+
+	@Test
+	public void performedSessionsIndicators() throws Exception {
+		this.assertReport("indicators", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterIndicators(this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsIndicatorsList() throws Exception {
+		this.assertReport("indicators-list", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterIndicatorsList(this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsPMQTR() throws Exception {
+		this.assertReport("pmqtr", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterPMQTR(this.startDate, this.endDate));
+	}
+
+	@Test
+	public void performedSessionsPMQTRList() throws Exception {
+		this.assertReport("pmqtr-list", () -> this.sessionQueryService
+		        .findPerformedSessionsBySelectedFilterPMQTRList(this.startDate, this.endDate));
+	}
+
+	@Test
+	public void sessionsWithDuplicatedUuids() throws Exception {
+		this.assertReport("duplicated-sessions", () -> this.sessionQueryService.findSessionsWithDuplicatedUuids());
+	}
+
+	@Test
+	public void exportPerformedSessions() throws Exception {
+		for (final PerformedSessionExport export : PerformedSessionExport.values()) {
+			this.assertReport("export-" + export.getFileName(), () -> this.sessionQueryService
+			        .exportPerformedSessions(export, this.startDate, this.endDate, row -> {
+			        }));
+		}
+	}
+
+	@Test
+	public void sampleIndicatorsBySelectedFilter() throws Exception {
+		this.assertReport("sample-indicators", () -> this.indicatorQueryService
+		        .findSampleIndicatorsBySelectedFilter(this.district, null, null, this.startDate, this.endDate));
+	}
+
+	@Test
+	public void indicatorsByHealthFacilityFormAndReferredMonth() throws Exception {
+		this.assertReport("indicators-of-month",
+		        () -> this.indicatorQueryService.findIndicatorsByHealthFacilityFormAndReferredMonth(
+		                this.healthFacility, this.indicatorForm, this.endDate.withDayOfMonth(1).minusMonths(1)));
+	}
+
+	@Test
+	public void duplicatedIndicators() throws Exception {
+		this.assertReport("duplicated-indicators", () -> this.indicatorQueryService.findDuplicatedIndicators());
+	}
+
+	@Test
+	public void analysisTableBySelectedFilter() throws Exception {
+		this.assertReport("analysis-table", () -> this.indicatorQueryService
+		        .findAnalysisTableBySelectedFilter(this.district, this.startDate, this.endDate));
+	}
+
+	private void assertReport(final String name, final Report report) throws Exception {
+
+		// warms the caches and the connection up
+		report.run();
+
+		this.reportPlanInspector.start();
+		report.run();
+		final List<String> statements = this.reportPlanInspector.stop();
+
+		Assert.assertFalse(name + " sent no statement to the database", statements.isEmpty());
+
+		final List<String> fullScans = new ArrayList<>();
+		for (final String statement : statements) {
+			for (final String fullScan : this.reportPlanInspector.explain(statement)) {
+				fullScans.add(fullScan + " in " + statement);
+			}
+		}
+
+		Assert.assertTrue(name + " reads whole tables: " + fullScans, fullScans.isEmpty());
+
+		final long[] millis = new long[RUNS];
+		for (int i = 0; i < RUNS; i++) {
+			final long start = System.nanoTime();
+			report.run();
+			millis[i] = (System.nanoTime() - start) / 1_000_000;
+		}
+		Arrays.sort(millis);
+
+		final long median = millis[RUNS / 2];
+		final long budget = Long.getLong("report.regression.budget." + name, DEFAULT_BUDGET);
+
+		Assert.assertTrue(name + " took " + median + " ms, over its budget of " + budget + " ms", median <= budget);
+	}
+
+	private void prepareDatabase() throws SQLException {
+
+		final Flyway flyway = new Flyway();
+
+		flyway.setBaselineOnMigrate(Boolean.TRUE);
+		flyway.setLocations("classpath:/db/migration");
+		flyway.setValidateOnMigrate(Boolean.FALSE);
+		flyway.setDataSource(this.dataSource);
+		flyway.setTable("schema_version");
+
+		if (Boolean.getBoolean("report.regression.clean")) {
+			flyway.clean();
+		}
+		flyway.migrate();
+
+		if (this.longValue("SELECT COUNT(*) FROM SESSIONS") == 0) {
+			new ReportDataSeeder(SEED, LocalDate.now()).seed(this.connection,
+			        Integer.getInteger("report.regression.sessions", 100000),
+			        Integer.getInteger("report.regression.indicators", 20000));
+		}
+
+		this.sessionCounterService.reconcileCounters(this.getUserContext());
+		this.indicatorMonthlyRollupService.rebuildRollup(this.getUserContext());
+	}
+
+	private Long longValue(final String sql) throws SQLException {
+		return Long.valueOf(this.stringValue(sql));
+	}
+
+	private String stringValue(final String sql) throws SQLException {
+		try (Statement statement = this.connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+			resultSet.next();
+			return resultSet.getString(1);
+		}
+	}
+
+	private UserContext getUserContext() {
+		final UserContext context = new UserContext();
+		context.setUuid("682eb67387a84d54b9adf93247aefb55");
+		context.setId(1L);
+
+		return context;
+	}
+}
@@ -4,7 +4,11 @@
 package mz.org.fgh.mentoring.core.session;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -13,13 +17,24 @@ import org.junit.Test;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.fixtureFactory.EntityFactory;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
 import mz.org.fgh.mentoring.core.fixturefactory.SessionTemplate;
+import mz.org.fgh.mentoring.core.form.dao.FormDAO;
+import mz.org.fgh.mentoring.core.form.model.Form;
 import mz.org.fgh.mentoring.core.mentorship.MentorshipBuilder;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.mentorship.service.MentorshipService;
+import mz.org.fgh.mentoring.core.question.model.Question;
+import mz.org.fgh.mentoring.core.question.service.QuestionService;
+import mz.org.fgh.mentoring.core.session.model.Cop20SessionRow;
+import mz.org.fgh.mentoring.core.session.model.MonthlySessionRow;
+import mz.org.fgh.mentoring.core.session.model.NarrativeSessionRow;
 import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
 import mz.org.fgh.mentoring.core.session.model.Session;
 import mz.org.fgh.mentoring.core.session.model.SubmitedSessions;
+import mz.org.fgh.mentoring.core.session.service.SessionCounterService;
 import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
 import mz.org.fgh.mentoring.core.session.service.SessionService;
 
@@ -38,6 +53,18 @@ public class SessionQueryServiceTest extends AbstractSpringTest {
 	@Inject
 	private MentorshipBuilder mentorshipBuilder;
 
+	@Inject
+	private SessionCounterService sessionCounterService;
+
+	@Inject
+	private MentorshipService mentorshipService;
+
+	@Inject
+	private FormDAO formDAO;
+
+	@Inject
+	private QuestionService questionService;
+
 	private Session session;
 
 	private Mentorship mentorship;
@@ -118,6 +145,97 @@ public class SessionQueryServiceTest extends AbstractSpringTest {
 		Assert.assertEquals(this.session.getPerformedDate(), startDate);
 	}
 
+	@Test
+	public void shouldFindPerformedSessionsByTutor() {
+
+		final LocalDate startDate = LocalDate.now();
+		final LocalDate endDate = LocalDate.now();
+
+		final List<PerformedSession> performedSessions = this.sessionQueryService
+				.findPerformedSessionsByTutor(this.mentorship.getTutor(), startDate, endDate);
+
+		Assert.assertEquals(1, performedSessions.size());
+		Assert.assertEquals(this.mentorship.getForm().getName(), performedSessions.get(0).getFormName());
+		Assert.assertEquals(Long.valueOf(1), performedSessions.get(0).getTotalPerformed());
+	}
+
+	@Test
+	public void shouldFindPerformedSessionsByNarrative() throws BusinessException {
+
+		final LocalDate startDate = LocalDate.now();
+		final LocalDate endDate = LocalDate.now();
+
+		this.setFormCode(this.mentorship, "MT00000034");
+		this.setQuestionCode(this.mentorship, "MTQ00000290");
+
+		final Mentorship pict = this.createMentorshipInNewSession(LocalDate.now());
+		this.setFormCode(pict, "MT00000033");
+
+		final Mentorship anc = this.createMentorshipInNewSession(LocalDate.now().minusMonths(1));
+		this.setFormCode(anc, "MT00000036");
+
+		final List<NarrativeSessionRow> performedSessions = this.sessionQueryService
+				.findPerformedSessionsBySelectedFilterNarrative(startDate, endDate);
+
+		final Set<String> provinces = this.provinces(this.mentorship, pict, anc);
+
+		Assert.assertEquals(provinces.size(), performedSessions.size());
+
+		performedSessions.forEach(performedSession -> {
+			Assert.assertTrue(provinces.contains(performedSession.getDistrict()));
+			Assert.assertEquals(1, performedSession.getPreventionVCT());
+			Assert.assertEquals(1, performedSession.getPreventionPICT());
+			Assert.assertEquals(1, performedSession.getPreventionIndexCase());
+			Assert.assertEquals(0, performedSession.getPreventionANC());
+		});
+	}
+
+	@Test
+	public void shouldFindPerformedSessionsByNarrativeCOP20() throws BusinessException {
+
+		final LocalDate startDate = LocalDate.now();
+		final LocalDate endDate = LocalDate.now();
+
+		this.setFormCode(this.mentorship, "MT00000010");
+
+		final Mentorship other = this.createMentorshipInNewSession(LocalDate.now());
+		this.setFormCode(other, "MT00000004");
+
+		final Mentorship outOfRange = this.createMentorshipInNewSession(LocalDate.now().plusDays(1));
+		this.setFormCode(outOfRange, "MT00000005");
+
+		final List<Cop20SessionRow> performedSessions = this.sessionQueryService
+				.findPerformedSessionsBySelectedFilterNarrativeCOP20(startDate, endDate);
+
+		final Set<String> provinces = this.provinces(this.mentorship, other, outOfRange);
+
+		Assert.assertEquals(provinces.size(), performedSessions.size());
+
+		performedSessions.forEach(performedSession -> {
+			Assert.assertTrue(provinces.contains(performedSession.getDistrict()));
+			Assert.assertEquals(1, performedSession.getInd_19015());
+			Assert.assertEquals(2, performedSession.getInd_19051());
+		});
+	}
+
+	@Test
+	public void shouldExportPerformedSessionsRowByRow() {
+
+		final LocalDate startDate = LocalDate.now().minusDays(1);
+		final LocalDate endDate = LocalDate.now().plusDays(1);
+
+		for (final PerformedSessionExport export : PerformedSessionExport.values()) {
+
+			final List<Object[]> rows = new ArrayList<>();
+
+			final long exported = this.sessionQueryService.exportPerformedSessions(export, startDate, endDate,
+			        rows::add);
+
+			Assert.assertEquals(rows.size(), exported);
+			rows.forEach(row -> Assert.assertEquals(export.getColumns().size(), row.length));
+		}
+	}
+
 	@Test
 	public void shouldFindSessionsWithDuplicatedUuid() throws BusinessException {
 
@@ -139,4 +257,110 @@ public class SessionQueryServiceTest extends AbstractSpringTest {
 		final List<Session> sessions = this.sessionQueryService.fetchSessionsByUuid(this.session.getUuid());
 		Assert.assertFalse(sessions.isEmpty());
 	}
+
+	@Test
+	public void shouldKeepSessionCounters() throws BusinessException {
+
+		final List<SubmitedSessions> submitedSessions = this.sessionQueryService
+				.findNumberOfSessionsPerDistrict(this.getUserContext());
+
+		Assert.assertEquals(1, submitedSessions.size());
+		Assert.assertEquals(Long.valueOf(1), submitedSessions.get(0).getTotalSubmited());
+		Assert.assertEquals(1, this.sessionQueryService
+				.findPerformedSessionsBySelectedFilterLast12Months(this.mentorship.getTutor().getUuid()).size());
+
+		this.session.setLifeCycleStatus(LifeCycleStatus.INACTIVE);
+		this.sessionService.updateSession(this.getUserContext(), this.session);
+
+		Assert.assertTrue(this.sessionQueryService.findNumberOfSessionsPerDistrict(this.getUserContext()).isEmpty());
+		Assert.assertTrue(this.sessionQueryService.findPerformedSessionsBySelectedFilterLast12Months().isEmpty());
+
+		this.session.setLifeCycleStatus(LifeCycleStatus.ACTIVE);
+		this.sessionService.updateSession(this.getUserContext(), this.session);
+
+		Assert.assertEquals(1, this.sessionCounterService.reconcileCounters(this.getUserContext()));
+		Assert.assertEquals(1, this.sessionQueryService.findNumberOfSessionsPerDistrict(this.getUserContext()).size());
+	}
+
+	@Test
+	public void shouldCountASessionOnceInTheMonthlyCounters() throws BusinessException {
+
+		// another tutor, district and programmatic area in the same session
+		final Mentorship other = this.mentorshipBuilder.mentorship().withSession(this.session).build();
+
+		final List<MonthlySessionRow> months = this.sessionQueryService
+				.findPerformedSessionsBySelectedFilterLast12Months();
+
+		Assert.assertEquals(1, months.size());
+		Assert.assertEquals(1, months.get(0).getTotalPerformed());
+		Assert.assertEquals(1, this.sessionQueryService
+				.findPerformedSessionsBySelectedFilterLast12Months(other.getTutor().getUuid()).get(0)
+				.getTotalPerformed());
+
+		other.setPerformedDate(other.getPerformedDate().minusMonths(1));
+		this.mentorshipService.updateMentorship(this.getUserContext(), other);
+
+		final List<MonthlySessionRow> moved = this.sessionQueryService
+				.findPerformedSessionsBySelectedFilterLast12Months();
+
+		Assert.assertEquals(2, moved.size());
+		moved.forEach(month -> Assert.assertEquals(1, month.getTotalPerformed()));
+	}
+
+	@Test
+	public void shouldSelectTheHtsMentorshipsByTheDateOfTheirSession() throws BusinessException {
+
+		final LocalDate today = LocalDate.now();
+		final LocalDate twoMonthsAgo = today.minusMonths(2);
+
+		final Mentorship hts = this.createMentorshipInNewSession(twoMonthsAgo);
+		this.setFormCode(hts, "MT00000045");
+
+		final String tutored = hts.getTutored().getUuid();
+
+		Assert.assertEquals(1, this.sessionQueryService.findPerformedSessionsBySelectedFilterHTS(today, today).size());
+		Assert.assertEquals(1,
+				this.sessionQueryService.findPerformedSessionsBySelectedFilterHTS(today, today, tutored).size());
+
+		Assert.assertTrue(
+				this.sessionQueryService.findPerformedSessionsBySelectedFilterHTS(twoMonthsAgo, twoMonthsAgo).isEmpty());
+		Assert.assertTrue(this.sessionQueryService
+				.findPerformedSessionsBySelectedFilterHTS(twoMonthsAgo, twoMonthsAgo, tutored).isEmpty());
+	}
+
+	private Mentorship createMentorshipInNewSession(final LocalDate performedDate) throws BusinessException {
+
+		final Session session = EntityFactory.gimme(Session.class, SessionTemplate.VALID);
+		this.sessionService.createSession(this.getUserContext(), session);
+
+		return this.mentorshipBuilder.mentorship().withSession(session).withPerformedDate(performedDate).build();
+	}
+
+	/**
+	 * The indicators select the mentorships by the code of their form.
+	 */
+	private void setFormCode(final Mentorship mentorship, final String code) throws BusinessException {
+
+		final Form form = mentorship.getForm();
+		form.setCode(code);
+
+		this.formDAO.update(this.getUserContext().getUuid(), form);
+	}
+
+	private void setQuestionCode(final Mentorship mentorship, final String code) throws BusinessException {
+
+		final Question question = mentorship.getForm().getFormQuestions().iterator().next().getQuestion();
+		question.setCode(code);
+
+		this.questionService.updateQuestion(this.getUserContext(), question);
+	}
+
+	/**
+	 * The province reports have a row per province with a district.
+	 */
+	private Set<String> provinces(final Mentorship... mentorships) {
+		return Arrays.stream(mentorships)
+				.map(mentorship -> mentorship.getHealthFacility().getDistrict().getProvince().name())
+				.collect(Collectors.toSet());
+	}
 }
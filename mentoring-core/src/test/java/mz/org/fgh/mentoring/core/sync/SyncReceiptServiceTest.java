@@ -0,0 +1,106 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.core.sync;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.inject.Inject;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.fixtureFactory.util.TestUtil;
+import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncStatus;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceiptStatus;
+import mz.org.fgh.mentoring.core.sync.service.SyncReceiptQueryService;
+import mz.org.fgh.mentoring.core.sync.service.SyncReceiptService;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public class SyncReceiptServiceTest extends AbstractSpringTest {
+
+	private static final String PAYLOAD = "<mentorshipBeanResource/>";
+
+	@Inject
+	private SyncReceiptService syncReceiptService;
+
+	@Inject
+	private SyncReceiptQueryService syncReceiptQueryService;
+
+	@Override
+	public void setUp() throws BusinessException {
+	}
+
+	@Test
+	public void shouldEnqueueSessions() throws BusinessException {
+
+		final SyncReceipt syncReceipt = this.syncReceiptService.enqueueSessions(this.getUserContext(), PAYLOAD,
+		        Arrays.asList("queued-session"), Arrays.asList("received-session"));
+
+		TestUtil.assertCreation(syncReceipt);
+		Assert.assertEquals(SyncReceiptStatus.PENDING, syncReceipt.getStatus());
+		Assert.assertEquals(2, syncReceipt.getSessions().size());
+	}
+
+	@Test
+	public void shouldFindSessionsWaitingInTheQueueAsReceived() throws BusinessException {
+
+		this.syncReceiptService.enqueueSessions(this.getUserContext(), PAYLOAD, Arrays.asList("queued-session"),
+		        Collections.emptyList());
+
+		final List<String> received = this.syncReceiptQueryService
+		        .findReceivedSessionUuids(Arrays.asList("queued-session", "new-session"));
+
+		Assert.assertEquals(Arrays.asList("queued-session"), received);
+	}
+
+	@Test
+	public void shouldRecordTheSessionResultsWhenProcessed() throws BusinessException {
+
+		final SyncReceipt syncReceipt = this.syncReceiptService.enqueueSessions(this.getUserContext(), PAYLOAD,
+		        Arrays.asList("queued-session"), Collections.emptyList());
+
+		Assert.assertTrue(this.syncReceiptService.claimReceipt(syncReceipt));
+		Assert.assertFalse(this.syncReceiptService.claimReceipt(syncReceipt));
+
+		this.syncReceiptService.markAsProcessed(this.getUserContext(), syncReceipt.getUuid(), Arrays
+		        .asList(new SessionSyncResult("queued-session", SessionSyncStatus.CREATED, 1, null)));
+
+		final SyncReceipt processed = this.syncReceiptQueryService.findReceiptByUuid(this.getUserContext(),
+		        syncReceipt.getUuid());
+
+		Assert.assertEquals(SyncReceiptStatus.PROCESSED, processed.getStatus());
+		Assert.assertEquals(SessionSyncStatus.CREATED, processed.getSessions().get(0).getStatus());
+		Assert.assertTrue(this.syncReceiptQueryService.findReceivedSessionUuids(Arrays.asList("queued-session"))
+		        .isEmpty());
+	}
+
+	@Test
+	public void shouldRequeueOnlyTheReceiptsClaimedBeforeTheLease() throws BusinessException {
+
+		final SyncReceipt syncReceipt = this.syncReceiptService.enqueueSessions(this.getUserContext(), PAYLOAD,
+		        Arrays.asList("queued-session"), Collections.emptyList());
+
+		Assert.assertTrue(this.syncReceiptService.claimReceipt(syncReceipt));
+
+		this.syncReceiptService.requeueReceiptsClaimedBefore(LocalDateTime.now().minusMinutes(10));
+
+		Assert.assertEquals(SyncReceiptStatus.PROCESSING, this.syncReceiptQueryService
+		        .findReceiptByUuid(this.getUserContext(), syncReceipt.getUuid()).getStatus());
+
+		this.syncReceiptService.requeueReceiptsClaimedBefore(LocalDateTime.now().plusMinutes(1));
+
+		Assert.assertEquals(SyncReceiptStatus.PENDING, this.syncReceiptQueryService
+		        .findReceiptByUuid(this.getUserContext(), syncReceipt.getUuid()).getStatus());
+	}
+}
@@ -3,8 +3,11 @@ package mz.org.fgh.mentoring.core.tutor;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 
@@ -19,9 +22,13 @@ import mz.org.fgh.mentoring.core.career.model.CareerType;
 import mz.org.fgh.mentoring.core.career.service.CareerService;
 import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
 import mz.org.fgh.mentoring.core.fixturefactory.TutorTemplate;
+import mz.org.fgh.mentoring.core.search.NameSearchIndexLoader;
+import mz.org.fgh.mentoring.core.tutor.dao.TutorDAO;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 import mz.org.fgh.mentoring.core.tutor.service.TutorQueryService;
 import mz.org.fgh.mentoring.core.tutor.service.TutorService;
+import mz.org.fgh.mentoring.core.util.KeysetCursor;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
 
 /**
  * @author Stélio Moiane
@@ -40,6 +47,12 @@ public class TutorQueryServiceTest extends AbstractSpringTest {
 	@Inject
 	private TutorQueryService tutorQueryService;
 
+	@Inject
+	private TutorDAO tutorDAO;
+
+	@Inject
+	private NameSearchIndexLoader nameSearchIndexLoader;
+
 	@Override
 	public void setUp() throws BusinessException {
 
@@ -68,6 +81,53 @@ public class TutorQueryServiceTest extends AbstractSpringTest {
 		}
 	}
 
+	@Test
+	public void shouldFindTutorPagesBySelectedFilter() throws BusinessException {
+
+		final Tutor newTutor = EntityFactory.gimme(Tutor.class, TutorTemplate.VALID);
+		this.carrerService.createCareer(this.getUserContext(), newTutor.getCareer());
+		this.tutorService.createTutor(this.getUserContext(), newTutor);
+
+		final List<Tutor> tutors = this.tutorQueryService.findTutorsBySelectedFilter(this.getUserContext(), null, null,
+		        null, null, null);
+
+		final List<Tutor> pagedTutors = new ArrayList<>();
+		KeysetCursor cursor = null;
+
+		do {
+			final KeysetPage<Tutor> page = this.tutorQueryService.findTutorPageBySelectedFilter(this.getUserContext(),
+			        null, null, null, null, null, null, cursor, 1);
+
+			assertTrue(page.getItems().size() <= 1);
+			pagedTutors.addAll(page.getItems());
+			cursor = page.getNextCursor();
+		}
+		while (cursor != null);
+
+		assertEquals(tutors.size(), pagedTutors.size());
+		assertEquals(tutors.stream().map(Tutor::getUuid).collect(Collectors.toSet()),
+		        pagedTutors.stream().map(Tutor::getUuid).collect(Collectors.toSet()));
+	}
+
+	@Test
+	public void shouldFindTutorRenamedOutsideTheServicesOnceTheIndexReloads() throws BusinessException {
+
+		// as written by another node, which does not reach the index of this one
+		this.tutor.setName("Zacarias");
+		this.tutorDAO.update(this.getUserContext().getUuid(), this.tutor);
+
+		assertTrue(this.tutorQueryService
+		        .findTutorsBySelectedFilter(this.getUserContext(), null, "Zacarias", null, null, null).isEmpty());
+
+		this.nameSearchIndexLoader.refreshChanged();
+
+		final List<Tutor> tutors = this.tutorQueryService.findTutorsBySelectedFilter(this.getUserContext(), null,
+		        "Zacarias", null, null, null);
+
+		assertEquals(1, tutors.size());
+		assertEquals(this.tutor.getUuid(), tutors.get(0).getUuid());
+	}
+
 	@Test
 	public void shouldFetchTutorByUuid() throws BusinessException {
 		final String uuid = this.tutor.getUuid();
@@ -2,7 +2,9 @@ package mz.org.fgh.mentoring.core.tutored;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Calendar;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -11,6 +13,7 @@ import org.junit.Test;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.fixtureFactory.EntityFactory;
+import mz.co.mozview.frameworks.core.util.LifeCycleStatus;
 import mz.co.mozview.frameworks.core.util.StringNormalizer;
 import mz.org.fgh.mentoring.core.career.service.CareerService;
 import mz.org.fgh.mentoring.core.config.AbstractSpringTest;
@@ -59,6 +62,50 @@ public class TutoredQueryServiceTest extends AbstractSpringTest {
 		}
 	}*/
 
+	@Test
+	public void shouldFindTutoredsByPartOfTheNameIgnoringAccentsAndCase() throws BusinessException {
+
+		List<Tutored> tutoreds = this.tutoredQueryService.findTutoredsBySelectedFilter(this.getUserContext(), null,
+				null, null, "apóss", null, null);
+
+		assertEquals(1, tutoreds.size());
+		assertEquals(this.tutored.getUuid(), tutoreds.get(0).getUuid());
+
+		tutoreds = this.tutoredQueryService.findTutoredsBySelectedFilter(this.getUserContext(), null, null, "josé",
+				null, null, null);
+
+		assertEquals(1, tutoreds.size());
+
+		tutoreds = this.tutoredQueryService.findTutoredsBySelectedFilter(this.getUserContext(), null, null, null,
+				"Mapusse", null, null);
+
+		assertTrue(tutoreds.isEmpty());
+	}
+
+	@Test
+	public void shouldFindTutoredsChangedSinceIncludingInactivatedOnes() throws BusinessException {
+
+		final Calendar anHourAgo = Calendar.getInstance();
+		anHourAgo.add(Calendar.HOUR, -1);
+
+		final Calendar inAnHour = Calendar.getInstance();
+		inAnHour.add(Calendar.HOUR, 1);
+
+		assertEquals(1, this.tutoredQueryService
+				.findTutoredsByUserChangedSince(this.getUserContext().getUuid(), anHourAgo).size());
+		assertTrue(this.tutoredQueryService.findTutoredsByUserChangedSince(this.getUserContext().getUuid(), inAnHour)
+				.isEmpty());
+
+		this.tutored.setLifeCycleStatus(LifeCycleStatus.INACTIVE);
+		this.tutoredService.updateTutored(this.getUserContext(), this.tutored);
+
+		final List<Tutored> tutoreds = this.tutoredQueryService
+				.findTutoredsByUserChangedSince(this.getUserContext().getUuid(), anHourAgo);
+
+		assertEquals(1, tutoreds.size());
+		assertEquals(LifeCycleStatus.INACTIVE, tutoreds.get(0).getLifeCycleStatus());
+	}
+
 	@Test
 	public void shouldFetchTutoredsByUser() {
 
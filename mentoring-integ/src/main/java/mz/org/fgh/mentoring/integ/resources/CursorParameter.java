@@ -0,0 +1,91 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import com.sun.jersey.api.JResponse;
+import com.sun.jersey.api.JResponse.JResponseBuilder;
+
+import mz.org.fgh.mentoring.core.util.KeysetCursor;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
+
+/**
+ * The cursor query parameter of the paged searches. A page is answered with
+ * its items and, when there are more, the cursor of the next page in the
+ * X-Next-Cursor header; the client passes it back as the cursor parameter.
+ * A search given neither a cursor nor a limit answers its first page, of the
+ * default page size.
+ *
+ * Clients written before the paging, which read the whole list in one
+ * response, opt out of it with unpaged=true. The opt-out takes no cursor
+ * and no limit.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public final class CursorParameter {
+
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	public static final String UNPAGED_PARAMETER = "unpaged";
+
+	private CursorParameter() {
+	}
+
+	/**
+	 * Whether the client opted out of the paging, which it cannot do while
+	 * also giving a cursor or a limit.
+	 */
+	public static boolean isUnpaged(final boolean unpaged, final String cursor, final Integer limit) {
+
+		if (unpaged && (cursor != null || limit != null)) {
+			throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST)
+			        .entity(UNPAGED_PARAMETER + " parameter cannot be given with a cursor or a limit").build());
+		}
+
+		return unpaged;
+	}
+
+	public static KeysetCursor fromParameter(final String cursor) {
+		return fromParameter(cursor, value -> value);
+	}
+
+	/**
+	 * The cursor of the parameter, whose value must also be accepted by the
+	 * given parser.
+	 */
+	public static KeysetCursor fromParameter(final String cursor, final Function<String, ?> valueParser) {
+
+		try {
+			final KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+
+			if (keysetCursor != null) {
+				valueParser.apply(keysetCursor.getValue());
+			}
+
+			return keysetCursor;
+		}
+		catch (final RuntimeException e) {
+			throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST)
+			        .entity("cursor parameter should be the " + NEXT_CURSOR_HEADER + " header of the previous page")
+			        .build());
+		}
+	}
+
+	public static <T> JResponse<List<T>> ok(final KeysetPage<T> page) {
+
+		final JResponseBuilder<List<T>> response = JResponse.ok(page.getItems());
+
+		if (page.hasNext()) {
+			response.header(NEXT_CURSOR_HEADER, page.getNextCursor().encode());
+		}
+
+		return response.build();
+	}
+}
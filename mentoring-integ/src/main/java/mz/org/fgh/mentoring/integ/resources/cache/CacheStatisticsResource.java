@@ -0,0 +1,45 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.cache;
+
+import java.util.List;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import com.sun.jersey.api.JResponse;
+
+import mz.org.fgh.mentoring.core.cache.model.CacheRegionStatistics;
+import mz.org.fgh.mentoring.core.cache.model.ReportCacheStatistics;
+import mz.org.fgh.mentoring.core.cache.model.ReportQueryStatistics;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public interface CacheStatisticsResource {
+
+	String NAME = "mz.org.fgh.mentoring.integ.resources.cache.CacheStatisticsResource";
+
+	/**
+	 * Answers 503 while {@code db.hibernate.generate_statistics} is off, rather
+	 * than a list of counters stuck at zero.
+	 */
+	@GET
+	@Path("statistics")
+	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+	JResponse<List<CacheRegionStatistics>> findCacheStatistics();
+
+	@GET
+	@Path("reports")
+	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+	JResponse<List<ReportCacheStatistics>> findReportCacheStatistics();
+
+	@GET
+	@Path("report-queries")
+	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+	JResponse<List<ReportQueryStatistics>> findReportQueryStatistics();
+}
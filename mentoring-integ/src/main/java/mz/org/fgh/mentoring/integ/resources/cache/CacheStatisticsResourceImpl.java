@@ -0,0 +1,54 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.cache;
+
+import java.util.List;
+
+import javax.inject.Inject;
+import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.springframework.stereotype.Service;
+
+import com.sun.jersey.api.JResponse;
+
+import mz.org.fgh.mentoring.core.cache.model.CacheRegionStatistics;
+import mz.org.fgh.mentoring.core.cache.model.ReportCacheStatistics;
+import mz.org.fgh.mentoring.core.cache.model.ReportQueryStatistics;
+import mz.org.fgh.mentoring.core.cache.service.CacheStatisticsService;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+@Service(CacheStatisticsResource.NAME)
+@Path("cache")
+public class CacheStatisticsResourceImpl implements CacheStatisticsResource {
+
+	@Inject
+	private CacheStatisticsService cacheStatisticsService;
+
+	@Override
+	public JResponse<List<CacheRegionStatistics>> findCacheStatistics() {
+
+		if (!this.cacheStatisticsService.isStatisticsEnabled()) {
+			throw new WebApplicationException(Response.status(Response.Status.SERVICE_UNAVAILABLE)
+			        .entity("cache statistics are disabled, start the server with -Ddb.hibernate.generate_statistics=true")
+			        .build());
+		}
+
+		return JResponse.ok(this.cacheStatisticsService.findCacheStatistics()).build();
+	}
+
+	@Override
+	public JResponse<List<ReportCacheStatistics>> findReportCacheStatistics() {
+		return JResponse.ok(this.cacheStatisticsService.findReportCacheStatistics()).build();
+	}
+
+	@Override
+	public JResponse<List<ReportQueryStatistics>> findReportQueryStatistics() {
+		return JResponse.ok(this.cacheStatisticsService.findReportQueryStatistics()).build();
+	}
+}
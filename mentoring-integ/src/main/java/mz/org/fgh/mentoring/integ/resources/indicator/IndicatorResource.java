@@ -18,6 +18,7 @@ import com.sun.jersey.api.JResponse;
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.org.fgh.mentoring.core.indicator.model.AnalysisTable;
 import mz.org.fgh.mentoring.core.indicator.model.SampleIndicator;
+import mz.org.fgh.mentoring.integ.resources.util.SyncWireFormat;
 
 /**
  * @author Stélio Moiane
@@ -29,8 +30,8 @@ public interface IndicatorResource {
 
 	@POST
 	@Path("sync")
-	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	@Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, SyncWireFormat.MEDIA_TYPE })
+	@Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, SyncWireFormat.MEDIA_TYPE })
 	JResponse<IndicatorBeanResource> synchronizeIndicators(final IndicatorBeanResource indicatorBeanResource)
 	        throws BusinessException;
 
@@ -17,17 +17,14 @@ import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
 import mz.org.fgh.mentoring.core.answer.model.AnswerHelper;
-import mz.org.fgh.mentoring.core.form.model.Form;
-import mz.org.fgh.mentoring.core.form.service.FormQueryService;
 import mz.org.fgh.mentoring.core.indicator.model.AnalysisTable;
 import mz.org.fgh.mentoring.core.indicator.model.Indicator;
+import mz.org.fgh.mentoring.core.indicator.model.IndicatorUpload;
 import mz.org.fgh.mentoring.core.indicator.model.SampleIndicator;
 import mz.org.fgh.mentoring.core.indicator.service.IndicatorQueryService;
 import mz.org.fgh.mentoring.core.indicator.service.IndicatorService;
-import mz.org.fgh.mentoring.core.location.model.HealthFacility;
-import mz.org.fgh.mentoring.core.location.service.HealthFacilityQueryService;
 import mz.org.fgh.mentoring.core.question.model.Question;
-import mz.org.fgh.mentoring.core.question.service.QuestionQueryService;
+import mz.org.fgh.mentoring.core.question.service.QuestionRegistry;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 import mz.org.fgh.mentoring.core.tutor.service.TutorQueryService;
 
@@ -46,13 +43,7 @@ public class IndicatorResourceImpl implements IndicatorResource {
 	private TutorQueryService tutorQueryService;
 
 	@Inject
-	private FormQueryService formQueryService;
-
-	@Inject
-	private HealthFacilityQueryService healthFacilityQueryService;
-
-	@Inject
-	private QuestionQueryService questionQueryService;
+	private QuestionRegistry questionRegistry;
 
 	@Inject
 	private IndicatorQueryService indicatorQueryService;
@@ -61,24 +52,16 @@ public class IndicatorResourceImpl implements IndicatorResource {
 	public JResponse<IndicatorBeanResource> synchronizeIndicators(final IndicatorBeanResource resource)
 	        throws BusinessException {
 
-		for (final IndicatorHelper indicatorHelper : resource.getIndicators()) {
-
-			final Indicator indicator = indicatorHelper.getIndicator();
-
-			final Tutor tutor = this.getTutor(resource);
-
-			final Form form = this.getForm(resource.getUserContext(), indicator);
-
-			final HealthFacility healthFacility = this.getHealthFaclity(resource.getUserContext(), indicator);
+		final UserContext userContext = resource.getUserContext();
+		final List<IndicatorUpload> uploads = new ArrayList<>();
 
-			indicator.setTutor(tutor);
-			indicator.setHealthFacility(healthFacility);
+		for (final IndicatorHelper indicatorHelper : resource.getIndicators()) {
 
 			final List<Answer> answers = new ArrayList<>();
 
 			for (final AnswerHelper answerHelper : indicatorHelper.getAnswerHelpers()) {
 
-				final Question question = this.questionQueryService.findQuestionByUuid(resource.getUserContext(),
+				final Question question = this.questionRegistry.findQuestionByUuid(userContext,
 				        answerHelper.getQuestionUuid());
 				final Answer answer = question.getQuestionType().getAnswer();
 				answer.setQuestion(question);
@@ -87,7 +70,13 @@ public class IndicatorResourceImpl implements IndicatorResource {
 				answers.add(answer);
 			}
 
-			this.indicatorService.synchronizeIndicator(resource.getUserContext(), indicator, form, answers);
+			uploads.add(new IndicatorUpload(indicatorHelper.getIndicator(), answers));
+		}
+
+		final List<Indicator> indicators = this.indicatorService.synchronizeIndicators(userContext,
+		        this.getTutor(resource), uploads);
+
+		for (final Indicator indicator : indicators) {
 			resource.addIndicatorUuid(indicator.getUuid());
 		}
 
@@ -95,16 +84,6 @@ public class IndicatorResourceImpl implements IndicatorResource {
 		return JResponse.ok(resource).build();
 	}
 
-	private HealthFacility getHealthFaclity(final UserContext userContext, final Indicator indicator)
-	        throws BusinessException {
-		return this.healthFacilityQueryService.findHealthFacilityByUuid(userContext,
-		        indicator.getHealthFacility().getUuid());
-	}
-
-	private Form getForm(final UserContext userContext, final Indicator indicator) throws BusinessException {
-		return this.formQueryService.findFormByUuid(userContext, indicator.getForm().getUuid());
-	}
-
 	private Tutor getTutor(final IndicatorBeanResource indicatorBeanResource) throws BusinessException {
 
 		final UserContext userContext = indicatorBeanResource.getUserContext();
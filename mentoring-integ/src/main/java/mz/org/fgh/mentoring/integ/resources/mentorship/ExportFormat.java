@@ -0,0 +1,50 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.mentorship;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public enum ExportFormat {
+
+	JSON(MediaType.APPLICATION_JSON, "json"),
+
+	CSV("text/csv", "csv");
+
+	public static final String DEFAULT = "json";
+
+	private final String mediaType;
+
+	private final String extension;
+
+	private ExportFormat(final String mediaType, final String extension) {
+		this.mediaType = mediaType;
+		this.extension = extension;
+	}
+
+	public static ExportFormat fromParameter(final String format) {
+
+		for (final ExportFormat exportFormat : values()) {
+			if (exportFormat.extension.equalsIgnoreCase(format)) {
+				return exportFormat;
+			}
+		}
+
+		throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST)
+		        .entity("format parameter should be one of json, csv").build());
+	}
+
+	public String getMediaType() {
+		return this.mediaType;
+	}
+
+	public String getExtension() {
+		return this.extension;
+	}
+}
@@ -4,8 +4,12 @@
 package mz.org.fgh.mentoring.integ.resources.mentorship;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlAccessType;
@@ -16,6 +20,8 @@ import mz.co.mozview.frameworks.core.webservices.model.UserContext;
 import mz.org.fgh.mentoring.core.answer.model.Answer;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
 import mz.org.fgh.mentoring.core.session.model.Session;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncStatus;
 import mz.org.fgh.mentoring.integ.resources.mentorship.dto.SessionDTO;
 
 /**
@@ -34,6 +40,8 @@ public class MentorshipBeanResource {
 
 	private List<String> sessionUuids;
 
+	private List<SessionSyncResult> results;
+
 	public MentorshipBeanResource() {
 	}
 
@@ -73,12 +81,43 @@ public class MentorshipBeanResource {
 		}).collect(Collectors.toList());
 	}
 
-	public void setSessionUuids() {
-		this.sessionUuids = this.sessions.stream().map(sessionDTO -> sessionDTO.getSession().getUuid())
-		        .collect(Collectors.toList());
+	public Set<String> getUploadedSessionUuids() {
+
+		if (this.sessions == null) {
+			return new LinkedHashSet<>();
+		}
+
+		return this.sessions.stream().map(sessionDTO -> sessionDTO.getSession().getUuid())
+		        .collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Drops the given sessions, and repeated copies of the same session, from
+	 * the upload.
+	 */
+	public void removeSessions(final Collection<String> sessionUuids) {
+
+		if (this.sessions == null) {
+			return;
+		}
+
+		final Set<String> keptSessionUuids = new HashSet<>();
+
+		this.sessions.removeIf(sessionDTO -> sessionUuids.contains(sessionDTO.getSession().getUuid())
+		        || !keptSessionUuids.add(sessionDTO.getSession().getUuid()));
+	}
+
+	public void setResults(final List<SessionSyncResult> results) {
+		this.results = results;
+		this.sessionUuids = results.stream().filter(result -> result.getStatus() != SessionSyncStatus.REJECTED)
+		        .map(SessionSyncResult::getSessionUuid).collect(Collectors.toList());
 		this.sessions = null;
 	}
 
+	public List<SessionSyncResult> getResults() {
+		return Collections.unmodifiableList(this.results);
+	}
+
 	public List<String> getSessionUuids() {
 		return Collections.unmodifiableList(this.sessionUuids);
 	}
@@ -7,13 +7,23 @@ import java.util.List;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 import com.sun.jersey.api.JResponse;
 
 import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
+import mz.org.fgh.mentoring.core.session.model.Cop20SessionRow;
+import mz.org.fgh.mentoring.core.session.model.HtsSessionRow;
+import mz.org.fgh.mentoring.core.session.model.MonthlySessionRow;
+import mz.org.fgh.mentoring.core.session.model.NarrativeSessionRow;
 import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+import mz.org.fgh.mentoring.core.session.model.PmqtrSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PopSessionRow;
 import mz.org.fgh.mentoring.core.session.model.SubmitedSessions;
+import mz.org.fgh.mentoring.core.session.model.TutoredHtsSessionRow;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+import mz.org.fgh.mentoring.integ.resources.util.SyncWireFormat;
 
 /**
  * @author Stélio Moiane
@@ -42,7 +52,16 @@ public interface MentorshipResource {
 	 *            Optional date string of the form "YYYY-mm-dd" e.g "2018-12-31"
 	 * @param performedEndDate
 	 *            Optional date string of the form "YYYY-mm-dd" e.g "2018-12-31"
-	 * @return
+	 * @param cursor
+	 *            Optional X-Next-Cursor header of the previous page
+	 * @param limit
+	 *            Optional page size, 1000 at most; 100 when not given
+	 * @param unpaged
+	 *            Optional, true to read all the mentorships in one response,
+	 *            for the clients that do not follow the cursor; it takes no
+	 *            cursor and no limit
+	 * @return The page of mentorships, newest first, or all of them by code
+	 *         when unpaged
 	 * @throws BusinessException
 	 */
 	@GET
@@ -54,15 +73,35 @@ public interface MentorshipResource {
 	        @QueryParam("iterationNumber") final Integer iterationNumber,
 	        @QueryParam("lifeCycleStatus") final String lifeCycleStatus,
 	        @QueryParam("performedStartDate") final String performedStartDate,
-	        @QueryParam("performedEndDate") final String performedEndDate) throws BusinessException;
+	        @QueryParam("performedEndDate") final String performedEndDate, @QueryParam("cursor") final String cursor,
+	        @QueryParam("limit") final Integer limit, @QueryParam("unpaged") final boolean unpaged)
+	        throws BusinessException;
 
 	@POST
 	@Path("sync")
-	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	@Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, SyncWireFormat.MEDIA_TYPE })
+	@Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, SyncWireFormat.MEDIA_TYPE })
 	public JResponse<MentorshipBeanResource> synchronizeMentorships(final MentorshipBeanResource mentorshipBeanResource)
 	        throws BusinessException;
 
+	/**
+	 * Stages the upload and returns its receipt right away; the sessions are
+	 * synchronised in the background. Poll {@code sync/{receipt}} for the
+	 * per-session results.
+	 */
+	@POST
+	@Path("sync/queue")
+	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+	@Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, SyncWireFormat.MEDIA_TYPE })
+	public JResponse<SyncReceipt> enqueueMentorships(final MentorshipBeanResource mentorshipBeanResource)
+	        throws BusinessException;
+
+	@GET
+	@Path("sync/{receipt}")
+	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+	public JResponse<SyncReceipt> findSyncReceipt(@PathParam("receipt") final String receipt)
+	        throws BusinessException;
+
 	@GET
 	@Path("sessions")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
@@ -116,7 +155,7 @@ public interface MentorshipResource {
 	@GET
 	@Path("performed-sessions-hts")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	public JResponse<List<PerformedSession>> findPerformedSessionsHTS(@QueryParam("startDate") String startDate,
+	public JResponse<List<HtsSessionRow>> findPerformedSessionsHTS(@QueryParam("startDate") String startDate,
 	        @QueryParam("endDate") String endDate) throws BusinessException;
 	
 	/**
@@ -129,7 +168,7 @@ public interface MentorshipResource {
 	@GET
 	@Path("performed-sessions-narrative")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	public JResponse<List<PerformedSession>> findPerformedSessionsNarrative(@QueryParam("startDate") String startDate,
+	public JResponse<List<NarrativeSessionRow>> findPerformedSessionsNarrative(@QueryParam("startDate") String startDate,
 	        @QueryParam("endDate") String endDate) throws BusinessException;
 	
 	/**
@@ -140,12 +179,12 @@ public interface MentorshipResource {
 	@GET
 	@Path("performed-sessions-months")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	public JResponse<List<PerformedSession>> findPerformedSessionsLast12Months() throws BusinessException;
+	public JResponse<List<MonthlySessionRow>> findPerformedSessionsLast12Months() throws BusinessException;
 
 	@GET
 	@Path("performed-sessions-months/{tutoruuid}")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	public JResponse<List<PerformedSession>> findPerformedSessionsLast12Months(@PathParam("tutoruuid") String tutoruuid) throws BusinessException;
+	public JResponse<List<MonthlySessionRow>> findPerformedSessionsLast12Months(@PathParam("tutoruuid") String tutoruuid) throws BusinessException;
 
 	@GET
 	@Path("performed-sessions-indicators")
@@ -156,25 +195,25 @@ public interface MentorshipResource {
 	@GET
 	@Path("performed-sessions-indicators-list")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	public JResponse<List<PerformedSession>> findPerformedSessionsIndicatorsList(@QueryParam("startDate") String startDate,
+	public JResponse<List<PopSessionRow>> findPerformedSessionsIndicatorsList(@QueryParam("startDate") String startDate,
 	        @QueryParam("endDate") String endDate) throws BusinessException;
 	
 	@GET
 	@Path("performed-sessions-hts-tutored")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	public JResponse<List<PerformedSession>> findPerformedSessionsHTS(@QueryParam("startDate") String startDate,
+	public JResponse<List<TutoredHtsSessionRow>> findPerformedSessionsHTS(@QueryParam("startDate") String startDate,
 	        @QueryParam("endDate") String endDate, @QueryParam("tutoredUuid") String tutoredUuid) throws BusinessException;
 
 	@GET
 	@Path("performed-sessions-pmqtr")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	public JResponse<List<PerformedSession>> findPerformedSessionsPMQTR(@QueryParam("startDate") String startDate,
+	public JResponse<List<PmqtrSessionRow>> findPerformedSessionsPMQTR(@QueryParam("startDate") String startDate,
 	        @QueryParam("endDate") String endDate) throws BusinessException;
 	
 	@GET
 	@Path("performed-sessions-narrative-cop20")
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-	public JResponse<List<PerformedSession>> findPerformedSessionsNarrativeCOP20(@QueryParam("startDate") String startDate,
+	public JResponse<List<Cop20SessionRow>> findPerformedSessionsNarrativeCOP20(@QueryParam("startDate") String startDate,
 	        @QueryParam("endDate") String endDate) throws BusinessException;
 	
 	@GET
@@ -182,6 +221,25 @@ public interface MentorshipResource {
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
 	public JResponse<List<PerformedSession>> findPerformedSessionsPMQTRList(@QueryParam("startDate") String startDate,
 	        @QueryParam("endDate") String endDate) throws BusinessException;
-	
-	
+
+	@GET
+	@Path("performed-sessions-hts/export")
+	@Produces({ MediaType.APPLICATION_JSON, "text/csv" })
+	public Response exportPerformedSessionsHTS(@QueryParam("startDate") String startDate,
+	        @QueryParam("endDate") String endDate,
+	        @QueryParam("format") @DefaultValue(ExportFormat.DEFAULT) String format) throws BusinessException;
+
+	@GET
+	@Path("performed-sessions-pmqtr-list/export")
+	@Produces({ MediaType.APPLICATION_JSON, "text/csv" })
+	public Response exportPerformedSessionsPMQTRList(@QueryParam("startDate") String startDate,
+	        @QueryParam("endDate") String endDate,
+	        @QueryParam("format") @DefaultValue(ExportFormat.DEFAULT) String format) throws BusinessException;
+
+	@GET
+	@Path("performed-sessions-indicators-list/export")
+	@Produces({ MediaType.APPLICATION_JSON, "text/csv" })
+	public Response exportPerformedSessionsIndicatorsList(@QueryParam("startDate") String startDate,
+	        @QueryParam("endDate") String endDate,
+	        @QueryParam("format") @DefaultValue(ExportFormat.DEFAULT) String format) throws BusinessException;
 }
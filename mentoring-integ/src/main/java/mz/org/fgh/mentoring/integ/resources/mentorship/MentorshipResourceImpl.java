@@ -6,6 +6,7 @@ package mz.org.fgh.mentoring.integ.resources.mentorship;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Set;
 
 import javax.inject.Inject;
 import javax.ws.rs.Path;
@@ -20,10 +21,23 @@ import mz.co.mozview.frameworks.core.exception.BusinessException;
 import mz.org.fgh.mentoring.core.mentorship.model.Mentorship;
 import mz.org.fgh.mentoring.core.mentorship.service.MentorshipQueryService;
 import mz.org.fgh.mentoring.core.mentorship.service.MentorshipService;
+import mz.org.fgh.mentoring.core.session.model.Cop20SessionRow;
+import mz.org.fgh.mentoring.core.session.model.HtsSessionRow;
+import mz.org.fgh.mentoring.core.session.model.MonthlySessionRow;
+import mz.org.fgh.mentoring.core.session.model.NarrativeSessionRow;
 import mz.org.fgh.mentoring.core.session.model.PerformedSession;
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
+import mz.org.fgh.mentoring.core.session.model.PmqtrSessionRow;
+import mz.org.fgh.mentoring.core.session.model.PopSessionRow;
 import mz.org.fgh.mentoring.core.session.model.SubmitedSessions;
+import mz.org.fgh.mentoring.core.session.model.TutoredHtsSessionRow;
 import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+import mz.org.fgh.mentoring.core.sync.service.SyncReceiptQueryService;
+import mz.org.fgh.mentoring.core.sync.service.SyncReceiptService;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
 import mz.org.fgh.mentoring.integ.resources.AbstractResource;
+import mz.org.fgh.mentoring.integ.resources.CursorParameter;
 import mz.org.fgh.mentoring.integ.resources.mentorship.dto.SessionDTO;
 
 /**
@@ -43,6 +57,12 @@ public class MentorshipResourceImpl extends AbstractResource implements Mentorsh
 	@Inject
 	private SessionQueryService sessionQueryService;
 
+	@Inject
+	private SyncReceiptService syncReceiptService;
+
+	@Inject
+	private SyncReceiptQueryService syncReceiptQueryService;
+
 	@Override
 	public JResponse<Mentorship> createMentorshipProcess(final MentorshipBeanResource mentorshipBeanResource)
 	        throws BusinessException {
@@ -56,8 +76,8 @@ public class MentorshipResourceImpl extends AbstractResource implements Mentorsh
 	@Override
 	public JResponse<List<Mentorship>> findBySelectedFilter(final String code, final String tutor, final String tutored,
 	        final String form, final String healthFacility, final String iterationType, final Integer iterationNumber,
-	        final String lifeCycleStatus, final String performedStartDate, final String performedEndDate)
-	        throws BusinessException {
+	        final String lifeCycleStatus, final String performedStartDate, final String performedEndDate,
+	        final String cursor, final Integer limit, final boolean unpaged) throws BusinessException {
 
 		LocalDate performedStartDateParam = null;
 		LocalDate performedEndDateParam = null;
@@ -82,23 +102,53 @@ public class MentorshipResourceImpl extends AbstractResource implements Mentorsh
 			}
 		}
 
-		final List<Mentorship> mentorships = this.mentorshipQueryService.fetchBySelectedFilter(this.getUserContetx(),
-		        code, tutor, tutored, form, healthFacility, iterationType, iterationNumber, lifeCycleStatus,
-		        performedStartDateParam, performedEndDateParam);
+		if (CursorParameter.isUnpaged(unpaged, cursor, limit)) {
+			return JResponse.ok(this.mentorshipQueryService.fetchBySelectedFilter(this.getUserContetx(), code, tutor,
+			        tutored, form, healthFacility, iterationType, iterationNumber, lifeCycleStatus,
+			        performedStartDateParam, performedEndDateParam)).build();
+		}
 
-		return JResponse.ok(mentorships).build();
+		final KeysetPage<Mentorship> mentorships = this.mentorshipQueryService.fetchPageBySelectedFilter(
+		        this.getUserContetx(), code, tutor, tutored, form, healthFacility, iterationType, iterationNumber,
+		        lifeCycleStatus, performedStartDateParam, performedEndDateParam,
+		        CursorParameter.fromParameter(cursor, LocalDate::parse), limit);
+
+		return CursorParameter.ok(mentorships);
 	}
 
 	@Override
 	public JResponse<MentorshipBeanResource> synchronizeMentorships(final MentorshipBeanResource resource)
 	        throws BusinessException {
 
-		this.mentorshipService.synchronizeMentorships(resource.getUserContext(), resource.getSessions());
-		resource.setSessionUuids();
+		resource.setResults(
+		        this.mentorshipService.synchronizeSessions(resource.getUserContext(), resource.getSessions()));
 
 		return JResponse.ok(resource).build();
 	}
 
+	@Override
+	public JResponse<SyncReceipt> enqueueMentorships(final MentorshipBeanResource resource) throws BusinessException {
+
+		final Set<String> sessionUuids = resource.getUploadedSessionUuids();
+		final List<String> receivedSessionUuids = this.syncReceiptQueryService.findReceivedSessionUuids(sessionUuids);
+
+		resource.removeSessions(receivedSessionUuids);
+		sessionUuids.removeAll(receivedSessionUuids);
+
+		final SyncReceipt syncReceipt = this.syncReceiptService.enqueueSessions(resource.getUserContext(),
+		        MentorshipSyncPayload.write(resource), sessionUuids, receivedSessionUuids);
+
+		return JResponse.<SyncReceipt> status(Response.Status.ACCEPTED).entity(syncReceipt).build();
+	}
+
+	@Override
+	public JResponse<SyncReceipt> findSyncReceipt(final String receipt) throws BusinessException {
+
+		final SyncReceipt syncReceipt = this.syncReceiptQueryService.findReceiptByUuid(this.getUserContetx(), receipt);
+
+		return JResponse.ok(syncReceipt).build();
+	}
+
 	@Override
 	public JResponse<List<SubmitedSessions>> findSubmitedSessions() throws BusinessException {
 
@@ -161,39 +211,39 @@ public class MentorshipResourceImpl extends AbstractResource implements Mentorsh
 	}
 
 	
-	public JResponse<List<PerformedSession>> findPerformedSessionsHTS(String startDate,
+	public JResponse<List<HtsSessionRow>> findPerformedSessionsHTS(String startDate,
 			String endDate) throws BusinessException {
 
 		final SessionDTO sessionDTO = new SessionDTO(startDate, endDate);
 
-		final List<PerformedSession> performedSessions = this.sessionQueryService
+		final List<HtsSessionRow> performedSessions = this.sessionQueryService
 		        .findPerformedSessionsBySelectedFilterHTS(sessionDTO.getStartDate(), sessionDTO.getEndDate());
 
 		return JResponse.ok(performedSessions).build();
 	}
 
 	@Override
-	public JResponse<List<PerformedSession>> findPerformedSessionsNarrative(String startDate, String endDate)
+	public JResponse<List<NarrativeSessionRow>> findPerformedSessionsNarrative(String startDate, String endDate)
 			throws BusinessException {
 		
 		final SessionDTO sessionDTO = new SessionDTO(startDate, endDate);
 
-		final List<PerformedSession> performedSessions = this.sessionQueryService
+		final List<NarrativeSessionRow> performedSessions = this.sessionQueryService
 		        .findPerformedSessionsBySelectedFilterNarrative(sessionDTO.getStartDate(), sessionDTO.getEndDate());
 
 		return JResponse.ok(performedSessions).build();
 	}
 
 	@Override
-	public JResponse<List<PerformedSession>> findPerformedSessionsLast12Months() throws BusinessException {
-		final List<PerformedSession> performedSessions = this.sessionQueryService
+	public JResponse<List<MonthlySessionRow>> findPerformedSessionsLast12Months() throws BusinessException {
+		final List<MonthlySessionRow> performedSessions = this.sessionQueryService
 		        .findPerformedSessionsBySelectedFilterLast12Months();
 		return JResponse.ok(performedSessions).build();
 	}
 
 	@Override
-	public JResponse<List<PerformedSession>> findPerformedSessionsLast12Months(String tutoruuid) throws BusinessException {
-		final List<PerformedSession> performedSessions = this.sessionQueryService.findPerformedSessionsBySelectedFilterLast12Months(tutoruuid);
+	public JResponse<List<MonthlySessionRow>> findPerformedSessionsLast12Months(String tutoruuid) throws BusinessException {
+		final List<MonthlySessionRow> performedSessions = this.sessionQueryService.findPerformedSessionsBySelectedFilterLast12Months(tutoruuid);
 		return JResponse.ok(performedSessions).build();
 	}
 
@@ -220,45 +270,45 @@ public class MentorshipResourceImpl extends AbstractResource implements Mentorsh
 	}
 
 	@Override
-	public JResponse<List<PerformedSession>> findPerformedSessionsIndicatorsList(String startDate, String endDate)
+	public JResponse<List<PopSessionRow>> findPerformedSessionsIndicatorsList(String startDate, String endDate)
 			throws BusinessException {
 		final SessionDTO sessionDTO = new SessionDTO(startDate, endDate);
 
-		final List<PerformedSession> performedSessions = this.sessionQueryService
+		final List<PopSessionRow> performedSessions = this.sessionQueryService
 		        .findPerformedSessionsBySelectedFilterIndicatorsList(sessionDTO.getStartDate(), sessionDTO.getEndDate());
 
 		return JResponse.ok(performedSessions).build();
 	}
 
 	@Override
-	public JResponse<List<PerformedSession>> findPerformedSessionsHTS(String startDate, String endDate,
+	public JResponse<List<TutoredHtsSessionRow>> findPerformedSessionsHTS(String startDate, String endDate,
 			String tutoredUuid) throws BusinessException {
 		
 		final SessionDTO sessionDTO = new SessionDTO(startDate, endDate);
 
-		final List<PerformedSession> performedSessions = this.sessionQueryService
+		final List<TutoredHtsSessionRow> performedSessions = this.sessionQueryService
 		        .findPerformedSessionsBySelectedFilterHTS(sessionDTO.getStartDate(), sessionDTO.getEndDate(), tutoredUuid);
 
 		return JResponse.ok(performedSessions).build();
 	}
 
 	@Override
-	public JResponse<List<PerformedSession>> findPerformedSessionsPMQTR(String startDate, String endDate)
+	public JResponse<List<PmqtrSessionRow>> findPerformedSessionsPMQTR(String startDate, String endDate)
 			throws BusinessException {
 		final SessionDTO sessionDTO = new SessionDTO(startDate, endDate);
 
-		final List<PerformedSession> performedSessions = this.sessionQueryService
+		final List<PmqtrSessionRow> performedSessions = this.sessionQueryService
 		        .findPerformedSessionsBySelectedFilterPMQTR(sessionDTO.getStartDate(), sessionDTO.getEndDate());
 
 		return JResponse.ok(performedSessions).build();
 	}
 
 	@Override
-	public JResponse<List<PerformedSession>> findPerformedSessionsNarrativeCOP20(String startDate, String endDate)
+	public JResponse<List<Cop20SessionRow>> findPerformedSessionsNarrativeCOP20(String startDate, String endDate)
 			throws BusinessException {
 		final SessionDTO sessionDTO = new SessionDTO(startDate, endDate);
 
-		final List<PerformedSession> performedSessions = this.sessionQueryService
+		final List<Cop20SessionRow> performedSessions = this.sessionQueryService
 		        .findPerformedSessionsBySelectedFilterNarrativeCOP20(sessionDTO.getStartDate(), sessionDTO.getEndDate());
 
 		return JResponse.ok(performedSessions).build();
@@ -274,4 +324,36 @@ public class MentorshipResourceImpl extends AbstractResource implements Mentorsh
 
 		return JResponse.ok(performedSessions).build();
 	}
+
+	@Override
+	public Response exportPerformedSessionsHTS(final String startDate, final String endDate, final String format)
+	        throws BusinessException {
+		return this.export(PerformedSessionExport.HTS, startDate, endDate, format);
+	}
+
+	@Override
+	public Response exportPerformedSessionsPMQTRList(final String startDate, final String endDate,
+	        final String format) throws BusinessException {
+		return this.export(PerformedSessionExport.PMQTR_LIST, startDate, endDate, format);
+	}
+
+	@Override
+	public Response exportPerformedSessionsIndicatorsList(final String startDate, final String endDate,
+	        final String format) throws BusinessException {
+		return this.export(PerformedSessionExport.INDICATORS_LIST, startDate, endDate, format);
+	}
+
+	private Response export(final PerformedSessionExport export, final String startDate, final String endDate,
+	        final String format) {
+
+		final ExportFormat exportFormat = ExportFormat.fromParameter(format);
+		final SessionDTO sessionDTO = new SessionDTO(startDate, endDate);
+
+		return Response
+		        .ok(new PerformedSessionExportOutput(this.sessionQueryService, export, exportFormat,
+		                sessionDTO.getStartDate(), sessionDTO.getEndDate()), exportFormat.getMediaType())
+		        .header("Content-Disposition",
+		                "attachment; filename=\"" + export.getFileName() + "." + exportFormat.getExtension() + "\"")
+		        .build();
+	}
 }
@@ -0,0 +1,59 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.mentorship;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+/**
+ * Reads and writes the sessions upload staged in a sync receipt. It uses the
+ * same JAXB mapping Jersey binds the request with, so the worker sees exactly
+ * what the tablet sent.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public final class MentorshipSyncPayload {
+
+	private static final JAXBContext CONTEXT = createContext();
+
+	private MentorshipSyncPayload() {
+	}
+
+	public static String write(final MentorshipBeanResource resource) {
+
+		try {
+			final StringWriter writer = new StringWriter();
+			CONTEXT.createMarshaller().marshal(resource, writer);
+
+			return writer.toString();
+		}
+		catch (final JAXBException e) {
+			throw new IllegalStateException("Unable to stage the sessions upload", e);
+		}
+	}
+
+	public static MentorshipBeanResource read(final String payload) {
+
+		try {
+			return (MentorshipBeanResource) CONTEXT.createUnmarshaller().unmarshal(new StringReader(payload));
+		}
+		catch (final JAXBException e) {
+			throw new IllegalStateException("Unable to read the staged sessions upload", e);
+		}
+	}
+
+	private static JAXBContext createContext() {
+
+		try {
+			return JAXBContext.newInstance(MentorshipBeanResource.class);
+		}
+		catch (final JAXBException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.mentorship;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.co.mozview.frameworks.core.webservices.model.UserContext;
+import mz.org.fgh.mentoring.core.mentorship.service.MentorshipService;
+import mz.org.fgh.mentoring.core.session.model.SessionSyncResult;
+import mz.org.fgh.mentoring.core.sync.model.SyncReceipt;
+import mz.org.fgh.mentoring.core.sync.service.SyncReceiptQueryService;
+import mz.org.fgh.mentoring.core.sync.service.SyncReceiptService;
+
+/**
+ * Drains the sync receipts staged by {@code POST /mentorships/sync/queue}. A
+ * single poller claims up to {@code sync.batch.size} pending receipts and
+ * hands them to a fixed pool of {@code sync.workers} threads, waiting for the
+ * batch before polling again, so the queue never holds more database
+ * connections than the pool size.
+ *
+ * Every poll also puts back in the queue the receipts claimed more than
+ * {@code sync.claim.lease} seconds ago, by a node that stopped while
+ * processing them. The lease must outlast the processing of a receipt; should
+ * one be taken again while still processed, its sessions are stored once and
+ * reported as duplicated the second time.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component
+public class MentorshipSyncWorker {
+
+	private static final Logger LOGGER = Logger.getLogger(MentorshipSyncWorker.class.getName());
+
+	@Inject
+	private Environment environment;
+
+	@Inject
+	private MentorshipService mentorshipService;
+
+	@Inject
+	private SyncReceiptService syncReceiptService;
+
+	@Inject
+	private SyncReceiptQueryService syncReceiptQueryService;
+
+	private ScheduledExecutorService poller;
+
+	private ExecutorService workers;
+
+	private int batchSize;
+
+	private int maxAttempts;
+
+	private long claimLease;
+
+	@PostConstruct
+	public void start() {
+
+		final int poolSize = this.environment.getProperty("sync.workers", Integer.class, 2);
+		final long pollInterval = this.environment.getProperty("sync.poll.interval", Long.class, 5L);
+		this.batchSize = this.environment.getProperty("sync.batch.size", Integer.class, 10);
+		this.maxAttempts = this.environment.getProperty("sync.max.attempts", Integer.class, 3);
+		this.claimLease = this.environment.getProperty("sync.claim.lease", Long.class, 600L);
+
+		this.workers = Executors.newFixedThreadPool(poolSize);
+		this.poller = Executors.newSingleThreadScheduledExecutor();
+		this.poller.scheduleWithFixedDelay(this::drain, pollInterval, pollInterval, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		this.poller.shutdownNow();
+		this.workers.shutdown();
+		this.workers.awaitTermination(30, TimeUnit.SECONDS);
+	}
+
+	private void drain() {
+
+		try {
+			final int requeued = this.syncReceiptService
+			        .requeueReceiptsClaimedBefore(LocalDateTime.now().minusSeconds(this.claimLease));
+
+			if (requeued > 0) {
+				LOGGER.info(requeued + " interrupted sync receipt(s) were put back in the queue");
+			}
+
+			final List<Callable<Void>> tasks = new ArrayList<>();
+
+			for (final SyncReceipt syncReceipt : this.syncReceiptQueryService.findPendingReceipts(this.batchSize)) {
+
+				if (this.syncReceiptService.claimReceipt(syncReceipt)) {
+					tasks.add(() -> {
+						this.process(syncReceipt);
+						return null;
+					});
+				}
+			}
+
+			this.workers.invokeAll(tasks);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (final RuntimeException e) {
+			// an exception would cancel the schedule, the next poll retries
+			LOGGER.log(Level.SEVERE, "Unable to poll the sync receipts", e);
+		}
+	}
+
+	/**
+	 * Synchronises the sessions of the receipt as the user who uploaded them,
+	 * whatever context the payload carries.
+	 */
+	private void process(final SyncReceipt syncReceipt) {
+
+		final UserContext userContext = new UserContext();
+		userContext.setUuid(syncReceipt.getCreatedBy());
+
+		try {
+			final MentorshipBeanResource resource = MentorshipSyncPayload.read(syncReceipt.getPayload());
+
+			final List<SessionSyncResult> results = this.mentorshipService
+			        .synchronizeSessions(userContext, resource.getSessions());
+
+			this.syncReceiptService.markAsProcessed(userContext, syncReceipt.getUuid(), results);
+		}
+		catch (final BusinessException | RuntimeException e) {
+			LOGGER.log(Level.WARNING, "Unable to synchronise the sync receipt " + syncReceipt.getUuid(), e);
+			this.markAsFailed(userContext, syncReceipt, e);
+		}
+	}
+
+	private void markAsFailed(final UserContext userContext, final SyncReceipt syncReceipt, final Exception cause) {
+
+		try {
+			this.syncReceiptService.markAsFailed(userContext, syncReceipt.getUuid(), cause.getMessage(),
+			        this.maxAttempts);
+		}
+		catch (final BusinessException | RuntimeException e) {
+			LOGGER.log(Level.SEVERE, "Unable to record the failure of the sync receipt " + syncReceipt.getUuid(), e);
+		}
+	}
+}
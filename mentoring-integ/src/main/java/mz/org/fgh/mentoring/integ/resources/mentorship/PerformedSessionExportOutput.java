@@ -0,0 +1,168 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.mentorship;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.ws.rs.core.StreamingOutput;
+
+import mz.org.fgh.mentoring.core.session.model.PerformedSessionExport;
+import mz.org.fgh.mentoring.core.session.service.SessionQueryService;
+
+/**
+ * Writes a performed session report straight to the response while the rows
+ * are scrolled from the database, as a JSON array of objects keyed by column
+ * name or as CSV with a header line.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public class PerformedSessionExportOutput implements StreamingOutput {
+
+	private final SessionQueryService sessionQueryService;
+
+	private final PerformedSessionExport export;
+
+	private final ExportFormat format;
+
+	private final LocalDate startDate;
+
+	private final LocalDate endDate;
+
+	public PerformedSessionExportOutput(final SessionQueryService sessionQueryService,
+	        final PerformedSessionExport export, final ExportFormat format, final LocalDate startDate,
+	        final LocalDate endDate) {
+		this.sessionQueryService = sessionQueryService;
+		this.export = export;
+		this.format = format;
+		this.startDate = startDate;
+		this.endDate = endDate;
+	}
+
+	@Override
+	public void write(final OutputStream output) throws IOException {
+
+		final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+		final List<String> columns = this.export.getColumns();
+
+		if (ExportFormat.CSV.equals(this.format)) {
+			this.writeCsvRow(writer, columns.toArray());
+			this.sessionQueryService.exportPerformedSessions(this.export, this.startDate, this.endDate,
+			        row -> this.writeCsvRow(writer, row));
+		}
+		else {
+			writer.write('[');
+			final boolean[] first = { true };
+			this.sessionQueryService.exportPerformedSessions(this.export, this.startDate, this.endDate, row -> {
+				if (!first[0]) {
+					writer.write(',');
+				}
+				first[0] = false;
+				this.writeJsonObject(writer, columns, row);
+			});
+			writer.write(']');
+		}
+
+		writer.flush();
+	}
+
+	private void writeCsvRow(final Writer writer, final Object[] row) throws IOException {
+
+		for (int i = 0; i < row.length; i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+
+			if (row[i] == null) {
+				continue;
+			}
+
+			final String value = row[i].toString();
+
+			if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+			        || value.indexOf('\r') >= 0) {
+				writer.write('"');
+				writer.write(value.replace("\"", "\"\""));
+				writer.write('"');
+			}
+			else {
+				writer.write(value);
+			}
+		}
+
+		writer.write("\r\n");
+	}
+
+	private void writeJsonObject(final Writer writer, final List<String> columns, final Object[] row)
+	        throws IOException {
+
+		writer.write('{');
+
+		for (int i = 0; i < columns.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+
+			this.writeJsonString(writer, columns.get(i));
+			writer.write(':');
+
+			final Object value = i < row.length ? row[i] : null;
+
+			if (value == null) {
+				writer.write("null");
+			}
+			else if (value instanceof Number) {
+				writer.write(value.toString());
+			}
+			else {
+				this.writeJsonString(writer, value.toString());
+			}
+		}
+
+		writer.write('}');
+	}
+
+	private void writeJsonString(final Writer writer, final String value) throws IOException {
+
+		writer.write('"');
+
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+
+			switch (c) {
+			case '"':
+				writer.write("\\\"");
+				break;
+			case '\\':
+				writer.write("\\\\");
+				break;
+			case '\n':
+				writer.write("\\n");
+				break;
+			case '\r':
+				writer.write("\\r");
+				break;
+			case '\t':
+				writer.write("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					writer.write(String.format("\\u%04x", (int) c));
+				}
+				else {
+					writer.write(c);
+				}
+			}
+		}
+
+		writer.write('"');
+	}
+}
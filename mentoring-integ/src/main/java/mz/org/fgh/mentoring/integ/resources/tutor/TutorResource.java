@@ -39,8 +39,9 @@ public interface TutorResource {
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
 	public JResponse<List<Tutor>> findTutors(@QueryParam("code") final String code,
 			@QueryParam("name") final String name, @QueryParam("surname") final String surname,
-			@QueryParam("careerType") final CareerType careerType, @QueryParam("phoneNumber") final String phoneNumber)
-			throws BusinessException;
+			@QueryParam("careerType") final CareerType careerType, @QueryParam("phoneNumber") final String phoneNumber,
+			@QueryParam("cursor") final String cursor, @QueryParam("limit") final Integer limit,
+			@QueryParam("unpaged") final boolean unpaged) throws BusinessException;
 
 	@GET
 	@Path("tutor-partner")
@@ -48,7 +49,9 @@ public interface TutorResource {
 	public JResponse<List<Tutor>> findTutors(@QueryParam("code") final String code,
 			@QueryParam("name") final String name, @QueryParam("surname") final String surname,
 			@QueryParam("careerType") final CareerType careerType, @QueryParam("phoneNumber") final String phoneNumber,
-			@QueryParam("partnerUuid") final String partnerUuid) throws BusinessException;
+			@QueryParam("partnerUuid") final String partnerUuid, @QueryParam("cursor") final String cursor,
+			@QueryParam("limit") final Integer limit, @QueryParam("unpaged") final boolean unpaged)
+			throws BusinessException;
 
 	@PUT
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
@@ -79,5 +82,7 @@ public interface TutorResource {
 	public JResponse<List<Tutor>> fetchTutorsForUserPartner(@QueryParam("code") final String code,
 			@QueryParam("name") final String name, @QueryParam("surname") final String surname,
 			@QueryParam("careerType") final CareerType careerType, @QueryParam("phoneNumber") final String phoneNumber,
-			@QueryParam("userUuid") final String userUuid) throws BusinessException;
+			@QueryParam("userUuid") final String userUuid, @QueryParam("cursor") final String cursor,
+			@QueryParam("limit") final Integer limit, @QueryParam("unpaged") final boolean unpaged)
+			throws BusinessException;
 }
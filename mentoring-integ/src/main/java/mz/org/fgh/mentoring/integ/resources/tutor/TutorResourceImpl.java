@@ -26,7 +26,9 @@ import mz.org.fgh.mentoring.core.tutor.model.TutorLocation;
 import mz.org.fgh.mentoring.core.tutor.service.TutorLocationService;
 import mz.org.fgh.mentoring.core.tutor.service.TutorQueryService;
 import mz.org.fgh.mentoring.core.tutor.service.TutorService;
+import mz.org.fgh.mentoring.core.util.KeysetPage;
 import mz.org.fgh.mentoring.integ.resources.AbstractResource;
+import mz.org.fgh.mentoring.integ.resources.CursorParameter;
 
 /**
  * @author Stélio Moiane
@@ -61,12 +63,18 @@ public class TutorResourceImpl extends AbstractResource implements TutorResource
 
 	@Override
 	public JResponse<List<Tutor>> findTutors(final String code, final String name, final String surname,
-			final CareerType careerType, final String phoneNumber) throws BusinessException {
+			final CareerType careerType, final String phoneNumber, final String cursor, final Integer limit,
+			final boolean unpaged) throws BusinessException {
 
-		final List<Tutor> tutors = this.tutorQueryService.findTutorsBySelectedFilter(this.getUserContetx(), code, name,
-				surname, careerType, phoneNumber);
+		if (CursorParameter.isUnpaged(unpaged, cursor, limit)) {
+			return JResponse.ok(this.tutorQueryService.findTutorsBySelectedFilter(this.getUserContetx(), code, name,
+					surname, careerType, phoneNumber)).build();
+		}
+
+		final KeysetPage<Tutor> tutors = this.tutorQueryService.findTutorPageBySelectedFilter(this.getUserContetx(),
+				code, name, surname, careerType, phoneNumber, null, CursorParameter.fromParameter(cursor), limit);
 
-		return JResponse.ok(tutors).build();
+		return CursorParameter.ok(tutors);
 	}
 
 	@Override
@@ -110,18 +118,25 @@ public class TutorResourceImpl extends AbstractResource implements TutorResource
 
 	@Override
 	public JResponse<List<Tutor>> findTutors(String code, String name, String surname, CareerType careerType,
-			String phoneNumber, String partnerUuid) throws BusinessException {
+			String phoneNumber, String partnerUuid, String cursor, Integer limit, boolean unpaged)
+			throws BusinessException {
 
-		final List<Tutor> tutors = this.tutorQueryService.findTutorsBySelectedFilter(this.getUserContetx(), code, name,
-				surname, careerType, phoneNumber, partnerUuid);
+		if (CursorParameter.isUnpaged(unpaged, cursor, limit)) {
+			return JResponse.ok(this.tutorQueryService.findTutorsBySelectedFilter(this.getUserContetx(), code, name,
+					surname, careerType, phoneNumber, partnerUuid)).build();
+		}
 
-		return JResponse.ok(tutors).build();
+		final KeysetPage<Tutor> tutors = this.tutorQueryService.findTutorPageBySelectedFilter(this.getUserContetx(),
+				code, name, surname, careerType, phoneNumber, partnerUuid, CursorParameter.fromParameter(cursor), limit);
+
+		return CursorParameter.ok(tutors);
 
 	}
 
 	@Override
 	public JResponse<List<Tutor>> fetchTutorsForUserPartner(String code, String name, String surname,
-			CareerType careerType, String phoneNumber, String userUuid) throws BusinessException {
+			CareerType careerType, String phoneNumber, String userUuid, String cursor, Integer limit,
+			boolean unpaged) throws BusinessException {
 
 		final Tutor tutor = this.tutorQueryService.fetchTutorByUuid(this.getUserContetx(), userUuid);
 
@@ -129,10 +144,16 @@ public class TutorResourceImpl extends AbstractResource implements TutorResource
 
 		String partnerUuid = partner.getUuid();
 
-		final List<Tutor> tutors = this.tutorQueryService.findTutorsBySelectedFilter(this.getUserContetx(), code, name,
-				surname, careerType, StringUtils.isEmpty(phoneNumber) ? null : phoneNumber, partnerUuid);
+		if (CursorParameter.isUnpaged(unpaged, cursor, limit)) {
+			return JResponse.ok(this.tutorQueryService.findTutorsBySelectedFilter(this.getUserContetx(), code, name,
+					surname, careerType, StringUtils.isEmpty(phoneNumber) ? null : phoneNumber, partnerUuid)).build();
+		}
+
+		final KeysetPage<Tutor> tutors = this.tutorQueryService.findTutorPageBySelectedFilter(this.getUserContetx(),
+				code, name, surname, careerType, StringUtils.isEmpty(phoneNumber) ? null : phoneNumber, partnerUuid,
+				CursorParameter.fromParameter(cursor), limit);
 
-		return JResponse.ok(tutors).build();
+		return CursorParameter.ok(tutors);
 	}
 
 }
@@ -39,6 +39,10 @@ public class Metadata {
 
 	private List<FormTarget> formTargets;
 
+	private Long syncedAt;
+
+	private List<String> failures;
+
 	public Metadata() {
 	}
 
@@ -89,4 +93,28 @@ public class Metadata {
 	public List<FormTarget> getFormTargets() {
 		return this.formTargets;
 	}
+
+	/**
+	 * Watermark of this metadata, in milliseconds since the epoch: the since of
+	 * the next {@link MetadataResource#loadMetadataChanges(String, String)}.
+	 */
+	public Long getSyncedAt() {
+		return this.syncedAt;
+	}
+
+	public void setSyncedAt(final Long syncedAt) {
+		this.syncedAt = syncedAt;
+	}
+
+	/**
+	 * The parts that could not be loaded and are left null, or
+	 * <code>null</code> when the metadata is complete.
+	 */
+	public List<String> getFailures() {
+		return this.failures;
+	}
+
+	public void setFailures(final List<String> failures) {
+		this.failures = failures;
+	}
 }
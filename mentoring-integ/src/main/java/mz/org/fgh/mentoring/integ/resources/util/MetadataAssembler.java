@@ -0,0 +1,180 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+
+/**
+ * Runs the independent queries of a metadata bundle at the same time, so
+ * building it takes as long as the slowest query instead of all of them.
+ *
+ * Each query runs in its own read-only transaction on a pool of
+ * {@code metadata.workers} threads, which also bounds the database
+ * connections taken by metadata loads however many tablets log in at once.
+ * When {@code metadata.queue} queries are already waiting for the pool, the
+ * request thread runs the query itself. A query still running after
+ * {@code metadata.query.timeout} seconds, counted from the start of the
+ * assembly, is cancelled; it and the queries that failed are reported by
+ * {@link Assembly#getFailures()}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component
+public class MetadataAssembler {
+
+	private static final Logger LOGGER = Logger.getLogger(MetadataAssembler.class.getName());
+
+	@Inject
+	private Environment environment;
+
+	@Inject
+	private PlatformTransactionManager transactionManager;
+
+	private ThreadPoolExecutor workers;
+
+	private TransactionTemplate transaction;
+
+	private long timeout;
+
+	@PostConstruct
+	public void start() {
+
+		final int poolSize = this.environment.getProperty("metadata.workers", Integer.class, 4);
+		final int queueSize = this.environment.getProperty("metadata.queue", Integer.class, 100);
+		final int timeoutSeconds = this.environment.getProperty("metadata.query.timeout", Integer.class, 30);
+
+		this.timeout = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+
+		this.transaction = new TransactionTemplate(this.transactionManager);
+		this.transaction.setReadOnly(true);
+		this.transaction.setTimeout(timeoutSeconds);
+
+		this.workers = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+		        new ArrayBlockingQueue<>(queueSize), new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	@PreDestroy
+	public void stop() throws InterruptedException {
+		this.workers.shutdownNow();
+		this.workers.awaitTermination(30, TimeUnit.SECONDS);
+	}
+
+	public Assembly assemble() {
+		return new Assembly(System.currentTimeMillis() + this.timeout);
+	}
+
+	public interface MetadataQuery<T> {
+
+		T load() throws BusinessException;
+	}
+
+	/**
+	 * The queries of one metadata bundle.
+	 */
+	public class Assembly {
+
+		private final long deadline;
+
+		private final List<String> failures = new ArrayList<>();
+
+		private Assembly(final long deadline) {
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Starts the query, named after the part of the metadata it loads.
+		 */
+		public <T> Part<T> submit(final String name, final MetadataQuery<T> query) {
+
+			final Future<T> future = MetadataAssembler.this.workers
+			        .submit(() -> MetadataAssembler.this.transaction.execute(status -> {
+				        try {
+					        return query.load();
+				        }
+				        catch (final BusinessException e) {
+					        throw new IllegalStateException(e.getMessage(), e);
+				        }
+			        }));
+
+			return new Part<>(this, name, future);
+		}
+
+		/**
+		 * Names of the parts that failed or timed out, empty when the metadata is
+		 * complete.
+		 */
+		public List<String> getFailures() {
+			return this.failures;
+		}
+
+		private <T> T await(final Part<T> part) {
+
+			try {
+				return part.future.get(Math.max(0, this.deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+			}
+			catch (final TimeoutException e) {
+				part.future.cancel(true);
+				LOGGER.warning("The metadata " + part.name + " timed out");
+			}
+			catch (final ExecutionException e) {
+				LOGGER.log(Level.WARNING, "Unable to load the metadata " + part.name, e.getCause());
+			}
+			catch (final InterruptedException e) {
+				part.future.cancel(true);
+				Thread.currentThread().interrupt();
+			}
+
+			this.failures.add(part.name);
+
+			return null;
+		}
+	}
+
+	/**
+	 * A query of an {@link Assembly}.
+	 */
+	public static class Part<T> {
+
+		private final Assembly assembly;
+
+		private final String name;
+
+		private final Future<T> future;
+
+		private Part(final Assembly assembly, final String name, final Future<T> future) {
+			this.assembly = assembly;
+			this.name = name;
+			this.future = future;
+		}
+
+		/**
+		 * Waits for the result of the query, or <code>null</code> when it failed
+		 * or did not finish before the timeout.
+		 */
+		public T get() {
+			return this.assembly.await(this);
+		}
+	}
+}
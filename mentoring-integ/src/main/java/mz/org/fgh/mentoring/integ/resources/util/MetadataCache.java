@@ -0,0 +1,145 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.inject.Inject;
+import javax.ws.rs.core.EntityTag;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import mz.co.mozview.frameworks.core.exception.BusinessException;
+import mz.org.fgh.mentoring.core.metadata.MetadataVersion;
+
+/**
+ * Keeps the metadata bundle of each tutor, tagged with the metadata version it
+ * was built from. An entry is rebuilt once the core services report a change
+ * through {@link MetadataVersion}, or after {@code metadata.cache.ttl}
+ * seconds to pick up changes made outside the application. Metadata with
+ * failed parts is not kept. At most {@code metadata.cache.size} tutors are
+ * kept, the least recently read going first, as the tutor uuid comes from the
+ * client.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Component
+public class MetadataCache {
+
+	@Inject
+	private MetadataVersion metadataVersion;
+
+	@Inject
+	private Environment environment;
+
+	private final LinkedHashMap<String, CachedMetadata> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long ttl;
+
+	private int size;
+
+	@PostConstruct
+	public void init() {
+		this.ttl = TimeUnit.SECONDS.toMillis(this.environment.getProperty("metadata.cache.ttl", Long.class, 3600L));
+		this.size = this.environment.getProperty("metadata.cache.size", Integer.class, 1000);
+	}
+
+	public CachedMetadata get(final String tutorUuid, final MetadataLoader loader) throws BusinessException {
+
+		final CachedMetadata cached;
+
+		synchronized (this) {
+			cached = this.entries.get(tutorUuid);
+		}
+
+		final long version = this.metadataVersion.current();
+		final long now = System.currentTimeMillis();
+
+		if (cached != null && cached.version == version && now - cached.builtAt < this.ttl) {
+			return cached;
+		}
+
+		// the version is read before loading, so a change committed meanwhile
+		// leaves this entry already stale
+		final CachedMetadata loaded = new CachedMetadata(loader.load(), version, now);
+
+		// metadata missing parts is served once and loaded again next time
+		if (loaded.metadata.getFailures() == null) {
+
+			synchronized (this) {
+				this.entries.put(tutorUuid, loaded);
+				this.evictEldest();
+			}
+		}
+
+		return loaded;
+	}
+
+	private void evictEldest() {
+
+		final Iterator<CachedMetadata> iterator = this.entries.values().iterator();
+
+		while (this.entries.size() > this.size) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	public interface MetadataLoader {
+
+		Metadata load() throws BusinessException;
+	}
+
+	public static class CachedMetadata {
+
+		private final Metadata metadata;
+
+		private final long version;
+
+		private final long builtAt;
+
+		private final EntityTag tag;
+
+		CachedMetadata(final Metadata metadata, final long version, final long builtAt) {
+			this.metadata = metadata;
+			this.version = version;
+			this.builtAt = builtAt;
+			this.tag = new EntityTag(Long.toHexString(version) + "-" + Long.toHexString(builtAt));
+		}
+
+		public Metadata getMetadata() {
+			return this.metadata;
+		}
+
+		public EntityTag getTag() {
+			return this.tag;
+		}
+
+		/**
+		 * Whether an {@code If-None-Match} header value names this entry.
+		 */
+		public boolean matches(final String ifNoneMatch) {
+
+			if (ifNoneMatch == null) {
+				return false;
+			}
+
+			for (final String value : ifNoneMatch.split(",")) {
+
+				final String tag = value.trim();
+
+				if ("*".equals(tag) || this.tag.toString().equals(tag.startsWith("W/") ? tag.substring(2) : tag)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+	}
+}
@@ -4,9 +4,12 @@
 package mz.org.fgh.mentoring.integ.resources.util;
 
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 
 import com.sun.jersey.api.JResponse;
@@ -21,11 +24,30 @@ public interface MetadataResource {
 
 	String NAME = "mz.org.fgh.mentoring.integ.resources.util.MetadataResource";
 
+	/**
+	 * Answers 304 when {@code If-None-Match} carries the ETag of the current
+	 * metadata of the tutor. When some of its parts cannot be loaded they are
+	 * left null and named in failures, without a syncedAt.
+	 */
 	@GET
 	@Produces({ MediaType.APPLICATION_JSON })
 	@Path("{uuid}")
-	JResponse<Metadata> loadMetadata(@PathParam("uuid") final String uuid) throws BusinessException;
+	JResponse<Metadata> loadMetadata(@PathParam("uuid") final String uuid,
+	        @HeaderParam(HttpHeaders.IF_NONE_MATCH) final String ifNoneMatch) throws BusinessException;
 	
+	/**
+	 * The metadata of the tutor that changed since the syncedAt of a previous
+	 * load. The form questions, tutoreds, cabinets and form targets are only the
+	 * ones created or updated since then, the inactivated ones included so the
+	 * tablet can drop them; the health facilities, careers and settings come in
+	 * full.
+	 */
+	@GET
+	@Produces({ MediaType.APPLICATION_JSON })
+	@Path("{uuid}/changes")
+	JResponse<Metadata> loadMetadataChanges(@PathParam("uuid") final String uuid,
+	        @QueryParam("since") final String since) throws BusinessException;
+
 	@GET
 	@Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
 	@Path("/cabinets")
@@ -3,10 +3,16 @@
  */
 package mz.org.fgh.mentoring.integ.resources.util;
 
+import java.util.Calendar;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import javax.inject.Inject;
 import javax.ws.rs.Path;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.CacheControl;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
 
 import org.springframework.stereotype.Service;
 
@@ -29,6 +35,9 @@ import mz.org.fgh.mentoring.core.setting.service.SettingService;
 import mz.org.fgh.mentoring.core.tutor.model.Tutor;
 import mz.org.fgh.mentoring.core.tutored.model.Tutored;
 import mz.org.fgh.mentoring.core.tutored.service.TutoredQueryService;
+import mz.org.fgh.mentoring.integ.resources.util.MetadataAssembler.Assembly;
+import mz.org.fgh.mentoring.integ.resources.util.MetadataAssembler.Part;
+import mz.org.fgh.mentoring.integ.resources.util.MetadataCache.CachedMetadata;
 
 /**
  * @author Stélio Moiane
@@ -38,6 +47,14 @@ import mz.org.fgh.mentoring.core.tutored.service.TutoredQueryService;
 @Path("metadata")
 public class MetadataResourceImpl implements MetadataResource {
 
+	/**
+	 * A row written by a transaction still open while the metadata is read has
+	 * an earlier timestamp than the read. Placing the watermark this much before
+	 * the read sends such rows again in the next changes instead of missing
+	 * them.
+	 */
+	private static final long SYNC_OVERLAP = TimeUnit.MINUTES.toMillis(5);
+
 	@Inject
 	private HealthFacilityQueryService healthFacilityQueryService;
 
@@ -59,34 +76,111 @@ public class MetadataResourceImpl implements MetadataResource {
 	@Inject
 	private SettingService settingService;
 
+	@Inject
+	private MetadataCache metadataCache;
+
+	@Inject
+	private MetadataAssembler metadataAssembler;
+
 	@Override
-	public JResponse<Metadata> loadMetadata(final String uuid) throws BusinessException {
+	public JResponse<Metadata> loadMetadata(final String uuid, final String ifNoneMatch) throws BusinessException {
 
-		final UserContext userContext = new UserContext();
-		userContext.setUuid(uuid);
+		final CachedMetadata cached = this.metadataCache.get(uuid, () -> this.buildMetadata(uuid, null));
 
-		final List<HealthFacility> healthFacilities = this.healthFacilityQueryService
-				.fetchAllHealthFacilitiesOfTutor(userContext);
+		final CacheControl cacheControl = new CacheControl();
+		cacheControl.setNoCache(true);
+		cacheControl.setPrivate(true);
 
-		final List<Career> careers = this.careerQueryService.findAllCareers(userContext);
+		if (cached.matches(ifNoneMatch)) {
+			return JResponse.<Metadata> status(Status.NOT_MODIFIED).tag(cached.getTag()).cacheControl(cacheControl)
+			        .build();
+		}
 
-		final List<FormQuestion> formQuestions = this.formQuestionQueryService.fetchFormQuestionsByTutor(userContext);
+		return JResponse.ok(cached.getMetadata()).tag(cached.getTag()).cacheControl(cacheControl).build();
+	}
 
-		final List<Tutored> tutoreds = this.tutoredQueryService.findTutoredsByUser(userContext.getUuid());
+	@Override
+	public JResponse<Metadata> loadMetadataChanges(final String uuid, final String since) throws BusinessException {
 
-		final List<Cabinet> cabinets = this.cabinetQueryService.findAllCabinets();
+		final Metadata metadata = this.buildMetadata(uuid, this.changedSince(since));
 
-		final List<Setting> settings = this.settingService.findSettingByTutor(userContext);
+		final CacheControl cacheControl = new CacheControl();
+		cacheControl.setNoStore(true);
+		cacheControl.setPrivate(true);
+
+		return JResponse.ok(metadata).cacheControl(cacheControl).build();
+	}
+
+	private Calendar changedSince(final String since) {
+
+		try {
+			final Calendar changedSince = Calendar.getInstance();
+			changedSince.setTimeInMillis(Long.parseLong(since));
+
+			return changedSince;
+		}
+		catch (final NumberFormatException e) {
+			throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST)
+			        .entity("since parameter should be the syncedAt of a previous metadata load").build());
+		}
+	}
+
+	/**
+	 * The metadata of the tutor, with only the form questions, tutoreds, cabinets
+	 * and form targets changed since the given time when there is one. The
+	 * queries run at the same time; when any of them fails its part is left
+	 * null, the failure is reported and there is no syncedAt, so the tablet
+	 * keeps its previous one.
+	 */
+	private Metadata buildMetadata(final String uuid, final Calendar changedSince) {
+
+		final long syncedAt = System.currentTimeMillis() - SYNC_OVERLAP;
+
+		final UserContext userContext = new UserContext();
+		userContext.setUuid(uuid);
 
 		final Tutor tutor = new Tutor();
 		tutor.setUuid(uuid);
 
-		final List<FormTarget> formTargets = this.formTargetQueryService.findFormTargetByTutor(tutor);
+		final Assembly assembly = this.metadataAssembler.assemble();
+
+		final Part<List<HealthFacility>> healthFacilities = assembly.submit("healthFacilities",
+		        () -> this.healthFacilityQueryService.fetchAllHealthFacilitiesOfTutor(userContext));
+
+		final Part<List<Career>> careers = assembly.submit("careers",
+		        () -> this.careerQueryService.findAllCareers(userContext));
+
+		final Part<List<FormQuestion>> formQuestions = assembly.submit("formQuestions",
+		        () -> changedSince == null ? this.formQuestionQueryService.fetchFormQuestionsByTutor(userContext)
+		                : this.formQuestionQueryService.fetchFormQuestionsByTutorChangedSince(userContext,
+		                        changedSince));
+
+		final Part<List<Tutored>> tutoreds = assembly.submit("tutoreds",
+		        () -> changedSince == null ? this.tutoredQueryService.findTutoredsByUser(uuid)
+		                : this.tutoredQueryService.findTutoredsByUserChangedSince(uuid, changedSince));
+
+		final Part<List<Cabinet>> cabinets = assembly.submit("cabinets",
+		        () -> changedSince == null ? this.cabinetQueryService.findAllCabinets()
+		                : this.cabinetQueryService.findCabinetsChangedSince(changedSince));
+
+		final Part<List<Setting>> settings = assembly.submit("settings",
+		        () -> this.settingService.findSettingByTutor(userContext));
+
+		final Part<List<FormTarget>> formTargets = assembly.submit("formTargets",
+		        () -> changedSince == null ? this.formTargetQueryService.findFormTargetByTutor(tutor)
+		                : this.formTargetQueryService.findFormTargetByTutorChangedSince(tutor, changedSince));
+
+		final Metadata metadata = new Metadata(healthFacilities.get(), careers.get(), formQuestions.get(),
+		        tutoreds.get(), cabinets.get(), settings.get(), formTargets.get());
 
-		final Metadata metadata = new Metadata(healthFacilities, careers, formQuestions, tutoreds, cabinets, settings,
-				formTargets);
+		if (assembly.getFailures().isEmpty()) {
+			metadata.setSyncedAt(syncedAt);
+		}
+		else {
+			metadata.setFailures(assembly.getFailures());
+		}
 
-		return JResponse.ok(metadata).build();
+		return metadata;
 	}
 
 	@Override
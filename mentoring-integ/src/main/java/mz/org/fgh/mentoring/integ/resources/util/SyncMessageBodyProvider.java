@@ -0,0 +1,94 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlRootElement;
+
+/**
+ * Reads and writes the JAXB bound entities in the {@link SyncWireFormat}, for
+ * the resources accepting {@value SyncWireFormat#MEDIA_TYPE}.
+ *
+ * @author Stélio Moiane
+ *
+ */
+@Provider
+@Consumes(SyncWireFormat.MEDIA_TYPE)
+@Produces(SyncWireFormat.MEDIA_TYPE)
+public class SyncMessageBodyProvider implements MessageBodyReader<Object>, MessageBodyWriter<Object> {
+
+	private final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean isReadable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+	        final MediaType mediaType) {
+		return type.isAnnotationPresent(XmlRootElement.class);
+	}
+
+	@Override
+	public Object readFrom(final Class<Object> type, final Type genericType, final Annotation[] annotations,
+	        final MediaType mediaType, final MultivaluedMap<String, String> httpHeaders,
+	        final InputStream entityStream) {
+
+		try {
+			return SyncWireFormat.read(this.getContext(type), type, entityStream);
+		}
+		catch (final SyncWireFormat.PayloadTooLargeException e) {
+			throw new WebApplicationException(e,
+			        Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE).entity(e.getMessage()).build());
+		}
+		catch (final IOException e) {
+			throw new WebApplicationException(e, Response.status(Response.Status.BAD_REQUEST)
+			        .entity("the body should be a " + SyncWireFormat.MEDIA_TYPE + " payload").build());
+		}
+	}
+
+	@Override
+	public boolean isWriteable(final Class<?> type, final Type genericType, final Annotation[] annotations,
+	        final MediaType mediaType) {
+		return type.isAnnotationPresent(XmlRootElement.class);
+	}
+
+	@Override
+	public long getSize(final Object entity, final Class<?> type, final Type genericType,
+	        final Annotation[] annotations, final MediaType mediaType) {
+		return -1;
+	}
+
+	@Override
+	public void writeTo(final Object entity, final Class<?> type, final Type genericType,
+	        final Annotation[] annotations, final MediaType mediaType, final MultivaluedMap<String, Object> httpHeaders,
+	        final OutputStream entityStream) throws IOException {
+		SyncWireFormat.write(this.getContext(type), entity, entityStream);
+	}
+
+	private JAXBContext getContext(final Class<?> type) {
+		return this.contexts.computeIfAbsent(type, key -> {
+			try {
+				return JAXBContext.newInstance(key);
+			}
+			catch (final JAXBException e) {
+				throw new IllegalStateException("Unable to bind " + key.getName(), e);
+			}
+		});
+	}
+}
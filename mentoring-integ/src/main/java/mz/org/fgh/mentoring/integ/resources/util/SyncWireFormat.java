@@ -0,0 +1,558 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.resources.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.UnmarshallerHandler;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * The {@value #MEDIA_TYPE} encoding of the sync uploads, a compact
+ * alternative to their JSON and XML.
+ *
+ * The payload is bound with the same JAXB mapping as the XML, but the
+ * elements, attributes and texts are written as binary tokens instead of
+ * markup, gzipped. Every string is length prefixed and kept in a dictionary
+ * the first time it is written; afterwards it is written as its index in the
+ * dictionary. So the element names, and the uuids of the questions, forms and
+ * health facilities repeated on every answer and mentorship, travel once per
+ * upload and then as one or two bytes.
+ *
+ * @author Stélio Moiane
+ *
+ */
+public final class SyncWireFormat {
+
+	public static final String MEDIA_TYPE = "application/x-mentoring-sync";
+
+	private static final int MAGIC = 0x4D53594E;
+
+	private static final int VERSION = 1;
+
+	private static final int END_DOCUMENT = 0;
+
+	private static final int START_ELEMENT = 1;
+
+	private static final int END_ELEMENT = 2;
+
+	private static final int TEXT = 3;
+
+	private static final int START_PREFIX_MAPPING = 4;
+
+	private static final int END_PREFIX_MAPPING = 5;
+
+	/**
+	 * A string written in full and not kept in the dictionary.
+	 */
+	private static final int LITERAL = 0;
+
+	/**
+	 * A string written in full and added to the dictionary; bigger values are
+	 * the index of a string already in the dictionary, plus two.
+	 */
+	private static final int NEW_ENTRY = 1;
+
+	/**
+	 * Longer texts, as the free text answers, are unlikely to repeat.
+	 */
+	private static final int MAX_ENTRY_LENGTH = 64;
+
+	/**
+	 * No name nor value longer than this, in bytes, is kept in the dictionary,
+	 * so the dictionary kept while reading stays small.
+	 */
+	private static final int MAX_ENTRY_BYTES = 256;
+
+	private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+	/**
+	 * The bytes of all the strings kept in both dictionaries.
+	 */
+	private static final int MAX_DICTIONARY_BYTES = 1 << 20;
+
+	private static final int MAX_STRING_LENGTH = 1 << 20;
+
+	/**
+	 * The most bytes read once the payload is inflated, so a small gzipped
+	 * upload cannot make the server read gigabytes.
+	 */
+	private static final long MAX_PAYLOAD_BYTES = 32L << 20;
+
+	private static final int MAX_DEPTH = 256;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private SyncWireFormat() {
+	}
+
+	public static void write(final JAXBContext context, final Object entity, final OutputStream outputStream)
+	        throws IOException {
+
+		final GZIPOutputStream gzip = new GZIPOutputStream(outputStream, BUFFER_SIZE);
+		final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(gzip, BUFFER_SIZE));
+
+		output.writeInt(MAGIC);
+		output.writeByte(VERSION);
+
+		try {
+			context.createMarshaller().marshal(entity, new Encoder(output));
+		}
+		catch (final JAXBException e) {
+			throw new IOException("Unable to write the sync payload", e);
+		}
+
+		output.flush();
+		gzip.finish();
+	}
+
+	public static <T> T read(final JAXBContext context, final Class<T> type, final InputStream inputStream)
+	        throws IOException {
+
+		final DataInputStream input = new DataInputStream(new BufferedInputStream(
+		        new LimitedInputStream(new GZIPInputStream(inputStream, BUFFER_SIZE), MAX_PAYLOAD_BYTES), BUFFER_SIZE));
+
+		if (input.readInt() != MAGIC || input.readUnsignedByte() != VERSION) {
+			throw new IOException("Not a sync payload of version " + VERSION);
+		}
+
+		try {
+			final UnmarshallerHandler handler = context.createUnmarshaller().getUnmarshallerHandler();
+			new Decoder(input).replay(handler);
+
+			final Object result = handler.getResult();
+
+			return type.cast(result instanceof JAXBElement ? ((JAXBElement<?>) result).getValue() : result);
+		}
+		catch (final JAXBException | SAXException | ClassCastException e) {
+			throw new IOException("Unable to read the sync payload", e);
+		}
+	}
+
+	/**
+	 * Writes the events of the JAXB marshaller.
+	 */
+	private static class Encoder extends DefaultHandler {
+
+		private final DataOutputStream output;
+
+		private final Map<String, Integer> names = new HashMap<>();
+
+		private final Map<String, Integer> values = new HashMap<>();
+
+		private final StringBuilder text = new StringBuilder();
+
+		private int dictionaryBytes;
+
+		Encoder(final DataOutputStream output) {
+			this.output = output;
+		}
+
+		@Override
+		public void startPrefixMapping(final String prefix, final String uri) throws SAXException {
+			try {
+				this.writeText();
+				this.output.writeByte(START_PREFIX_MAPPING);
+				this.writeName(prefix);
+				this.writeName(uri);
+			}
+			catch (final IOException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		@Override
+		public void endPrefixMapping(final String prefix) throws SAXException {
+			try {
+				this.writeText();
+				this.output.writeByte(END_PREFIX_MAPPING);
+				this.writeName(prefix);
+			}
+			catch (final IOException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		@Override
+		public void startElement(final String uri, final String localName, final String qName,
+		        final Attributes attributes) throws SAXException {
+			try {
+				this.writeText();
+				this.output.writeByte(START_ELEMENT);
+				this.writeName(uri);
+				this.writeName(localName);
+				this.writeName(qName);
+
+				writeSize(this.output, attributes.getLength());
+
+				for (int i = 0; i < attributes.getLength(); i++) {
+					this.writeName(attributes.getURI(i));
+					this.writeName(attributes.getLocalName(i));
+					this.writeName(attributes.getQName(i));
+					this.writeName(attributes.getType(i));
+					this.writeValue(attributes.getValue(i));
+				}
+			}
+			catch (final IOException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		@Override
+		public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+			try {
+				this.writeText();
+				this.output.writeByte(END_ELEMENT);
+			}
+			catch (final IOException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		@Override
+		public void characters(final char[] characters, final int start, final int length) {
+			this.text.append(characters, start, length);
+		}
+
+		@Override
+		public void endDocument() throws SAXException {
+			try {
+				this.writeText();
+				this.output.writeByte(END_DOCUMENT);
+			}
+			catch (final IOException e) {
+				throw new SAXException(e);
+			}
+		}
+
+		/**
+		 * The marshaller may split a text in several calls, it is written once
+		 * whole.
+		 */
+		private void writeText() throws IOException {
+
+			if (this.text.length() == 0) {
+				return;
+			}
+
+			this.output.writeByte(TEXT);
+			this.writeValue(this.text.toString());
+			this.text.setLength(0);
+		}
+
+		private void writeName(final String name) throws IOException {
+			this.writeString(this.names, name == null ? "" : name, true);
+		}
+
+		private void writeValue(final String value) throws IOException {
+			this.writeString(this.values, value, value.length() <= MAX_ENTRY_LENGTH);
+		}
+
+		private void writeString(final Map<String, Integer> dictionary, final String string, final boolean keep)
+		        throws IOException {
+
+			final Integer index = dictionary.get(string);
+
+			if (index != null) {
+				writeSize(this.output, index + 2);
+				return;
+			}
+
+			final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+			if (keep && bytes.length <= MAX_ENTRY_BYTES && dictionary.size() < MAX_DICTIONARY_SIZE
+			        && this.dictionaryBytes + bytes.length <= MAX_DICTIONARY_BYTES) {
+				dictionary.put(string, dictionary.size());
+				this.dictionaryBytes += bytes.length;
+				writeSize(this.output, NEW_ENTRY);
+			}
+			else {
+				writeSize(this.output, LITERAL);
+			}
+
+			writeSize(this.output, bytes.length);
+			this.output.write(bytes);
+		}
+	}
+
+	/**
+	 * Replays the written events on the JAXB unmarshaller.
+	 */
+	private static class Decoder {
+
+		private final DataInputStream input;
+
+		private final List<String> names = new ArrayList<>();
+
+		private final List<String> values = new ArrayList<>();
+
+		private final Deque<String[]> elements = new ArrayDeque<>();
+
+		private int dictionaryBytes;
+
+		Decoder(final DataInputStream input) {
+			this.input = input;
+		}
+
+		void replay(final UnmarshallerHandler handler) throws IOException, SAXException {
+
+			handler.startDocument();
+
+			while (true) {
+
+				final int token = this.input.readUnsignedByte();
+
+				switch (token) {
+				case START_ELEMENT:
+					this.startElement(handler);
+					break;
+
+				case END_ELEMENT:
+					if (this.elements.isEmpty()) {
+						throw new IOException("Unexpected end of element in the sync payload");
+					}
+
+					final String[] element = this.elements.pop();
+					handler.endElement(element[0], element[1], element[2]);
+					break;
+
+				case TEXT:
+					final char[] text = this.readValue().toCharArray();
+					handler.characters(text, 0, text.length);
+					break;
+
+				case START_PREFIX_MAPPING:
+					handler.startPrefixMapping(this.readName(), this.readName());
+					break;
+
+				case END_PREFIX_MAPPING:
+					handler.endPrefixMapping(this.readName());
+					break;
+
+				case END_DOCUMENT:
+					if (!this.elements.isEmpty()) {
+						throw new IOException("Unexpected end of the sync payload");
+					}
+
+					handler.endDocument();
+					return;
+
+				default:
+					throw new IOException("Unknown token " + token + " in the sync payload");
+				}
+			}
+		}
+
+		private void startElement(final UnmarshallerHandler handler) throws IOException, SAXException {
+
+			if (this.elements.size() == MAX_DEPTH) {
+				throw new IOException("The sync payload is nested deeper than " + MAX_DEPTH + " elements");
+			}
+
+			final String[] element = { this.readName(), this.readName(), this.readName() };
+
+			final AttributesImpl attributes = new AttributesImpl();
+			final int length = readSize(this.input);
+
+			for (int i = 0; i < length; i++) {
+				attributes.addAttribute(this.readName(), this.readName(), this.readName(), this.readName(),
+				        this.readValue());
+			}
+
+			this.elements.push(element);
+			handler.startElement(element[0], element[1], element[2], attributes);
+		}
+
+		private String readName() throws IOException {
+			return this.readString(this.names);
+		}
+
+		private String readValue() throws IOException {
+			return this.readString(this.values);
+		}
+
+		private String readString(final List<String> dictionary) throws IOException {
+
+			final int entry = readSize(this.input);
+
+			if (entry > NEW_ENTRY) {
+
+				if (entry - 2 >= dictionary.size()) {
+					throw new IOException("Unknown string " + (entry - 2) + " in the sync payload");
+				}
+
+				return dictionary.get(entry - 2);
+			}
+
+			final int length = readSize(this.input);
+
+			if (length > MAX_STRING_LENGTH) {
+				throw new IOException("String of " + length + " bytes in the sync payload");
+			}
+
+			if (entry == NEW_ENTRY) {
+
+				if (length > MAX_ENTRY_BYTES) {
+					throw new IOException("Dictionary string of " + length + " bytes in the sync payload");
+				}
+
+				if (dictionary.size() == MAX_DICTIONARY_SIZE) {
+					throw new IOException("More than " + MAX_DICTIONARY_SIZE + " strings in the sync payload");
+				}
+
+				if (this.dictionaryBytes + length > MAX_DICTIONARY_BYTES) {
+					throw new IOException(
+					        "More than " + MAX_DICTIONARY_BYTES + " bytes of strings in the sync payload");
+				}
+			}
+
+			final byte[] bytes = new byte[length];
+			this.input.readFully(bytes);
+
+			final String string = new String(bytes, StandardCharsets.UTF_8);
+
+			if (entry == NEW_ENTRY) {
+				dictionary.add(string);
+				this.dictionaryBytes += length;
+			}
+
+			return string;
+		}
+	}
+
+	/**
+	 * Thrown when the inflated payload is bigger than the server reads.
+	 */
+	public static class PayloadTooLargeException extends IOException {
+
+		private static final long serialVersionUID = 1L;
+
+		PayloadTooLargeException(final long limit) {
+			super("The sync payload is bigger than " + limit + " bytes once inflated");
+		}
+	}
+
+	/**
+	 * Fails with a {@link PayloadTooLargeException} once more than the limit
+	 * is read.
+	 */
+	private static class LimitedInputStream extends FilterInputStream {
+
+		private final long limit;
+
+		private long count;
+
+		LimitedInputStream(final InputStream input, final long limit) {
+			super(input);
+			this.limit = limit;
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			final int b = super.read();
+
+			if (b != -1) {
+				this.count(1);
+			}
+
+			return b;
+		}
+
+		@Override
+		public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+
+			final int read = super.read(bytes, offset, length);
+
+			if (read > 0) {
+				this.count(read);
+			}
+
+			return read;
+		}
+
+		@Override
+		public long skip(final long n) throws IOException {
+
+			final long skipped = super.skip(n);
+			this.count(skipped);
+
+			return skipped;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private void count(final long bytes) throws PayloadTooLargeException {
+
+			this.count += bytes;
+
+			if (this.count > this.limit) {
+				throw new PayloadTooLargeException(this.limit);
+			}
+		}
+	}
+
+	/**
+	 * Writes a non negative int in as few bytes as it needs, seven bits each.
+	 */
+	private static void writeSize(final DataOutputStream output, final int size) throws IOException {
+
+		int value = size;
+
+		while ((value & ~0x7F) != 0) {
+			output.writeByte(value & 0x7F | 0x80);
+			value >>>= 7;
+		}
+
+		output.writeByte(value);
+	}
+
+	private static int readSize(final DataInputStream input) throws IOException {
+
+		int size = 0;
+
+		for (int shift = 0; shift < 32; shift += 7) {
+
+			final int b = input.readUnsignedByte();
+			size |= (b & 0x7F) << shift;
+
+			if ((b & 0x80) == 0) {
+
+				if (size < 0) {
+					break;
+				}
+
+				return size;
+			}
+		}
+
+		throw new IOException("Malformed size in the sync payload");
+	}
+}
@@ -4,12 +4,17 @@
 package mz.org.fgh.mentoring.integ.mentorship;
 
 import static com.jayway.restassured.RestAssured.given;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashSet;
 
 import javax.inject.Inject;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
 
 import org.glassfish.grizzly.http.server.HttpServer;
 import org.junit.Test;
@@ -41,6 +46,7 @@ import mz.org.fgh.mentoring.integ.config.IntegAbstractSpringTest;
 import mz.org.fgh.mentoring.integ.resources.mentorship.MentorshipBeanResource;
 import mz.org.fgh.mentoring.integ.resources.mentorship.MentorshipHelper;
 import mz.org.fgh.mentoring.integ.resources.mentorship.dto.SessionDTO;
+import mz.org.fgh.mentoring.integ.resources.util.SyncWireFormat;
 import mz.org.fgh.mentoring.integ.util.Server;
 
 /**
@@ -119,6 +125,34 @@ public class MentorshipResourseTest extends IntegAbstractSpringTest {
 	@Test
 	public void shouldSyncMentorshipProcess() {
 
+		final MentorshipBeanResource resource = this.createMentorshipBeanResource();
+
+		final Response post = given().contentType("application/xml").body(resource).when()
+		        .post("/services/mentorships/sync");
+
+		assertNotNull(post);
+	}
+
+	@Test
+	public void shouldSyncMentorshipProcessInTheSyncWireFormat() throws IOException, JAXBException {
+
+		final JAXBContext context = JAXBContext.newInstance(MentorshipBeanResource.class);
+
+		final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		SyncWireFormat.write(context, this.createMentorshipBeanResource(), payload);
+
+		final Response post = given().contentType(SyncWireFormat.MEDIA_TYPE).accept(SyncWireFormat.MEDIA_TYPE)
+		        .body(payload.toByteArray()).when().post("/services/mentorships/sync");
+
+		final MentorshipBeanResource synced = SyncWireFormat.read(context, MentorshipBeanResource.class,
+		        post.asInputStream());
+
+		assertEquals(1, synced.getResults().size());
+		assertEquals(this.session.getUuid(), synced.getResults().get(0).getSessionUuid());
+	}
+
+	private MentorshipBeanResource createMentorshipBeanResource() {
+
 		final MentorshipBeanResource resource = new MentorshipBeanResource();
 
 		final SessionDTO sessionDTO = new SessionDTO();
@@ -141,10 +175,7 @@ public class MentorshipResourseTest extends IntegAbstractSpringTest {
 
 		resource.setUserContext(context);
 
-		final Response post = given().contentType("application/xml").body(resource).when()
-		        .post("/services/mentorships/sync");
-
-		assertNotNull(post);
+		return resource;
 	}
 
 	@Override
@@ -0,0 +1,104 @@
+/*
+ * Friends in Global Health - FGH © 2016
+ */
+package mz.org.fgh.mentoring.integ.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.annotation.XmlAccessType;
+import javax.xml.bind.annotation.XmlAccessorType;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import mz.org.fgh.mentoring.integ.resources.util.SyncWireFormat;
+import mz.org.fgh.mentoring.integ.resources.util.SyncWireFormat.PayloadTooLargeException;
+
+/**
+ * @author Stélio Moiane
+ *
+ */
+public class SyncWireFormatTest {
+
+	private JAXBContext context;
+
+	@Before
+	public void setUp() throws JAXBException {
+		this.context = JAXBContext.newInstance(Note.class);
+	}
+
+	@Test
+	public void shouldReadWhatItWrites() throws IOException {
+
+		final Note note = new Note();
+		note.lines = Arrays.asList("first", "second", "first");
+
+		final Note read = this.readBack(note);
+
+		assertEquals(note.lines, read.lines);
+	}
+
+	@Test(expected = PayloadTooLargeException.class)
+	public void shouldRefuseAPayloadTooLargeOnceInflated() throws IOException {
+
+		final char[] line = new char[1 << 20];
+		Arrays.fill(line, 'a');
+
+		final Note note = new Note();
+		note.lines = new ArrayList<>();
+
+		for (int i = 0; i < 40; i++) {
+			note.lines.add(new String(line));
+		}
+
+		this.readBack(note);
+	}
+
+	@Test(expected = IOException.class)
+	public void shouldRefuseADictionaryStringTooLong() throws IOException {
+
+		final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+
+		try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(payload))) {
+			output.writeInt(0x4D53594E);
+			output.writeByte(1);
+
+			// a start element whose uri is a new dictionary string of 300 bytes
+			output.writeByte(1);
+			output.writeByte(1);
+			output.write(new byte[] { (byte) 0xAC, 0x02 });
+			output.write(new byte[300]);
+		}
+
+		SyncWireFormat.read(this.context, Note.class, new ByteArrayInputStream(payload.toByteArray()));
+	}
+
+	private Note readBack(final Note note) throws IOException {
+
+		final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		SyncWireFormat.write(this.context, note, payload);
+
+		return SyncWireFormat.read(this.context, Note.class, new ByteArrayInputStream(payload.toByteArray()));
+	}
+
+	@XmlRootElement
+	@XmlAccessorType(XmlAccessType.FIELD)
+	public static class Note {
+
+		@XmlElement(name = "line")
+		private List<String> lines;
+	}
+}
@@ -37,5 +37,9 @@ else
 
 fi
 
+if [ -n "$MYSQL_REPLICATE_FROM" ]; then
+	/usr/bin/replicate &
+fi
+
 echo 'Starting server'
-exec /usr/bin/mysqld --user=root --console
\ No newline at end of file
+exec /usr/bin/mysqld --user=root --console "$@"
\ No newline at end of file